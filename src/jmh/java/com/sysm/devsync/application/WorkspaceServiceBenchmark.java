@@ -0,0 +1,72 @@
+package com.sysm.devsync.application;
+
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.domain.models.to.UserTO;
+import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
+import com.sysm.devsync.domain.persistence.UserPersistencePort;
+import com.sysm.devsync.domain.persistence.WorkspacePersistencePort;
+import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceResponse;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * {@link WorkspaceService#getAllWorkspaces} without the database: merges the project counts into a
+ * page of workspaces. The ports are stub-only mocks, they record no invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkspaceServiceBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private WorkspaceService workspaceService;
+    private SearchQuery query;
+
+    @Setup
+    public void setUp() {
+        List<Workspace> workspaces = new ArrayList<>(pageSize);
+        List<KeyValue> counts = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            var workspace = Workspace.build(UUID.randomUUID().toString(), Instant.now(), Instant.now(),
+                    "Workspace " + i, "Description", false, UserTO.of("owner"), Set.of());
+            workspaces.add(workspace);
+            counts.add(new KeyValue(workspace.getId(), (long) i));
+        }
+
+        var workspacePersistence = mock(WorkspacePersistencePort.class, withSettings().stubOnly());
+        var projectPersistence = mock(ProjectPersistencePort.class, withSettings().stubOnly());
+        when(workspacePersistence.findAll(any())).thenReturn(new Pagination<>(0, pageSize, pageSize, workspaces));
+        when(projectPersistence.countProjectsByWorkspaceIdIn(anyList())).thenReturn(counts);
+
+        workspaceService = new WorkspaceService(workspacePersistence,
+                mock(UserPersistencePort.class, withSettings().stubOnly()), projectPersistence);
+        query = SearchQuery.of(Page.of(0, pageSize), Map.of());
+    }
+
+    @Benchmark
+    public Pagination<WorkspaceResponse> getAllWorkspaces() {
+        return workspaceService.getAllWorkspaces(query);
+    }
+}
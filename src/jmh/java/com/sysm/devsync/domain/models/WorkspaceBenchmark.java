@@ -0,0 +1,50 @@
+package com.sysm.devsync.domain.models;
+
+import com.sysm.devsync.domain.models.to.UserTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Workspace#getMembersId()} copies the member ids on every call, it is on the path of every
+ * membership check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkspaceBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int members;
+
+    private Workspace workspace;
+    private String lastMemberId;
+
+    @Setup
+    public void setUp() {
+        Set<UserTO> users = new HashSet<>();
+        for (int i = 0; i < members; i++) {
+            lastMemberId = UUID.randomUUID().toString();
+            users.add(UserTO.of(lastMemberId));
+        }
+        workspace = Workspace.build(UUID.randomUUID().toString(), Instant.now(), Instant.now(),
+                "Workspace", "Description", false, UserTO.of(UUID.randomUUID().toString()), users);
+    }
+
+    @Benchmark
+    public Set<String> getMembersId() {
+        return workspace.getMembersId();
+    }
+
+    @Benchmark
+    public boolean isMember() {
+        return workspace.getMembersId().contains(lastMemberId);
+    }
+}
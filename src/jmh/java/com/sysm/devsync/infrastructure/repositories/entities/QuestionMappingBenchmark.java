@@ -0,0 +1,52 @@
+package com.sysm.devsync.infrastructure.repositories.entities;
+
+import com.sysm.devsync.domain.enums.QuestionStatus;
+import com.sysm.devsync.domain.models.Question;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping between {@link Question} and {@link QuestionJpaEntity}, done for every question read or
+ * written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionMappingBenchmark {
+
+    @Param({"0", "5", "50"})
+    private int tags;
+
+    private Question question;
+    private QuestionJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        Set<String> tagIds = new HashSet<>();
+        for (int i = 0; i < tags; i++) {
+            tagIds.add(UUID.randomUUID().toString());
+        }
+        question = Question.build(UUID.randomUUID().toString(), Instant.now(), Instant.now(),
+                "How to map a ManyToMany relation?", "Description", tagIds,
+                UUID.randomUUID().toString(), UUID.randomUUID().toString(), QuestionStatus.OPEN);
+        entity = QuestionJpaEntity.fromModel(question);
+    }
+
+    @Benchmark
+    public QuestionJpaEntity fromModel() {
+        return QuestionJpaEntity.fromModel(question);
+    }
+
+    @Benchmark
+    public Question toModel() {
+        return QuestionJpaEntity.toModel(entity);
+    }
+}
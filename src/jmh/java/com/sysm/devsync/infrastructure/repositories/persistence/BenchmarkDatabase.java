@@ -0,0 +1,84 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
+import com.sysm.devsync.infrastructure.repositories.QuestionJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.QuestionJpaEntity;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The persistence layer on an embedded H2 built by the migrations, so queries run against the
+ * production indexes. Caches are off, every read reaches the database.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(basePackageClasses = QuestionJpaEntity.class)
+@EnableJpaRepositories(basePackageClasses = QuestionJpaRepository.class)
+@ComponentScan(basePackageClasses = QuestionPersistence.class)
+@Import(AggregateCaches.class)
+class BenchmarkDatabase {
+
+    // Rows are spread over this many projects, a project filter selects 1% of them
+    static final int PROJECTS = 100;
+
+    static ConfigurableApplicationContext start(String name) {
+        return new SpringApplicationBuilder(BenchmarkDatabase.class)
+                .web(WebApplicationType.NONE)
+                .profiles("tests")
+                .bannerMode(Banner.Mode.OFF)
+                // Arguments, they take precedence over the profile
+                .run("--database.url=jdbc:h2:mem:" + name + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--database.flyway_enabled=true",
+                        "--database.hibernate_ddl_auto=validate",
+                        "--log.level_root=WARN");
+    }
+
+    /**
+     * Inserts the given number of questions and of notes, with one author, one workspace and
+     * {@link #PROJECTS} projects. Rows are generated by the database, seeding a million takes
+     * seconds.
+     */
+    static void seed(ConfigurableApplicationContext context, int rows) {
+        // The pool hands out connections without auto-commit
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> insert(context.getBean(JdbcTemplate.class), rows));
+        context.getBean(JdbcTemplate.class).execute("ANALYZE");
+    }
+
+    private static void insert(JdbcTemplate jdbc, int rows) {
+        jdbc.update("""
+                INSERT INTO users (id, name, email, role, created_at, updated_at)
+                VALUES ('author', 'Author', 'author@example.com', 'MEMBER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)""");
+        jdbc.update("""
+                INSERT INTO workspaces (id, name, description, is_private, owner_id, created_at, updated_at)
+                VALUES ('workspace', 'Workspace', 'Description', FALSE, 'author', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)""");
+        jdbc.update("""
+                INSERT INTO projects (id, name, workspace_id, created_at, updated_at)
+                SELECT 'project-' || n, 'Project ' || n, 'workspace', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?) AS r (n)""", PROJECTS);
+        jdbc.update("""
+                INSERT INTO questions (id, title, description, status, project_id, author_id, created_at, updated_at)
+                SELECT 'question-' || n, 'Question ' || n, 'Description of question ' || n,
+                       CASE MOD(n, 3) WHEN 0 THEN 'OPEN' WHEN 1 THEN 'RESOLVED' ELSE 'CLOSED' END,
+                       'project-' || (MOD(n, ?) + 1), 'author',
+                       DATEADD('SECOND', n, TIMESTAMP WITH TIME ZONE '2024-01-01 00:00:00+00'),
+                       DATEADD('SECOND', n, TIMESTAMP WITH TIME ZONE '2024-01-01 00:00:00+00')
+                FROM SYSTEM_RANGE(1, ?) AS r (n)""", PROJECTS, rows);
+        jdbc.update("""
+                INSERT INTO notes (id, title, content, version, project_id, author_id, created_at, updated_at)
+                SELECT 'note-' || n, 'Note ' || n, 'Content of note ' || n, 1,
+                       'project-' || (MOD(n, ?) + 1), 'author',
+                       DATEADD('SECOND', n, TIMESTAMP WITH TIME ZONE '2024-01-01 00:00:00+00'),
+                       DATEADD('SECOND', n, TIMESTAMP WITH TIME ZONE '2024-01-01 00:00:00+00')
+                FROM SYSTEM_RANGE(1, ?) AS r (n)""", PROJECTS, rows);
+    }
+}
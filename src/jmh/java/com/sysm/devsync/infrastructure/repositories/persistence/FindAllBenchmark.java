@@ -0,0 +1,87 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.models.Question;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end searches of questions and notes, from the search query to the mapped page, against
+ * seeded tables. Each table size runs in its own fork with its own database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FindAllBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private QuestionPersistence questionPersistence;
+    private NotePersistence notePersistence;
+
+    private final SearchQuery firstPage = SearchQuery.of(Page.of(0, 20), Map.of());
+    private final SearchQuery newestFirst = SearchQuery.of(Page.of(0, 20, "updatedAt", "desc"), Map.of());
+    private final SearchQuery deepPage = SearchQuery.of(Page.of(200, 20, "updatedAt", "desc"), Map.of());
+    private final SearchQuery byProject = SearchQuery.of(Page.of(0, 20), Map.of("projectId", "project-7"));
+    private final SearchQuery byProjectAndStatus = SearchQuery.of(Page.of(0, 20), Map.of("projectId", "project-7", "status", "OPEN"));
+    private final SearchQuery byTitle = SearchQuery.of(Page.of(0, 20), Map.of("title", "question 4242"));
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkDatabase.start("find-all-" + rows);
+        BenchmarkDatabase.seed(context, rows);
+        questionPersistence = context.getBean(QuestionPersistence.class);
+        notePersistence = context.getBean(NotePersistence.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Pagination<Question> questionsFirstPage() {
+        return questionPersistence.findAll(firstPage);
+    }
+
+    @Benchmark
+    public Pagination<Question> questionsNewestFirst() {
+        return questionPersistence.findAll(newestFirst);
+    }
+
+    @Benchmark
+    public Pagination<Question> questionsDeepPage() {
+        return questionPersistence.findAll(deepPage);
+    }
+
+    @Benchmark
+    public Pagination<Question> questionsByProject() {
+        return questionPersistence.findAll(byProject);
+    }
+
+    @Benchmark
+    public Pagination<Question> questionsByProjectAndStatus() {
+        return questionPersistence.findAll(byProjectAndStatus);
+    }
+
+    @Benchmark
+    public Pagination<Question> questionsByTitle() {
+        return questionPersistence.findAll(byTitle);
+    }
+
+    @Benchmark
+    public Pagination<Note> notesByProject() {
+        return notePersistence.findAll(byProject);
+    }
+}
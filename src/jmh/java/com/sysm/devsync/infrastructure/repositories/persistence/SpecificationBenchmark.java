@@ -0,0 +1,66 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.enums.QueryType;
+import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.infrastructure.repositories.entities.QuestionJpaEntity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AbstractPersistence#buildSpecification} turned into a predicate, the part of every search
+ * that runs before the query reaches the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationBenchmark {
+
+    @Param({"0", "1", "4"})
+    private int terms;
+
+    private ConfigurableApplicationContext context;
+    private QuestionPersistence questionPersistence;
+    private CriteriaBuilder criteriaBuilder;
+    private SearchQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkDatabase.start("specification");
+        questionPersistence = context.getBean(QuestionPersistence.class);
+        criteriaBuilder = context.getBean(EntityManagerFactory.class).getCriteriaBuilder();
+
+        var all = List.of("projectId", "project-7", "status", "OPEN", "title", "spring", "authorId", "author");
+        Map<String, String> selected = new LinkedHashMap<>();
+        for (int i = 0; i < terms; i++) {
+            selected.put(all.get(2 * i), all.get(2 * i + 1));
+        }
+        // Paging keys are in the terms of a request and filtered out by the specification
+        selected.put("pageNumber", "0");
+        selected.put("pageSize", "20");
+        query = SearchQuery.of(Page.of(0, 20), QueryType.AND, selected);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Predicate buildSpecification() {
+        var criteriaQuery = criteriaBuilder.createQuery(QuestionJpaEntity.class);
+        var root = criteriaQuery.from(QuestionJpaEntity.class);
+        return questionPersistence.buildSpecification(query).toPredicate(root, criteriaQuery, criteriaBuilder);
+    }
+}
@@ -0,0 +1,183 @@
+package com.sysm.devsync.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays the {@link Workload} against a running application and reports the latency of every
+ * operation, to size the Tomcat workers and the connection pool.
+ * <p>
+ * Without {@code --rate} the model is closed: every worker sends its next request as soon as the
+ * previous one is answered, so the concurrency is the number of requests in flight. A stall then
+ * also holds back the requests that would have run into it, and the percentiles understate it.
+ * With {@code --rate} the model is open: requests are due on a fixed schedule of that many per
+ * second whatever happened to the earlier ones, at most {@code --concurrency} in flight, and each
+ * latency is measured from the time its request was due. Time spent waiting to be sent counts.
+ * <p>
+ * Requests due or answered during the warmup are not measured.
+ * Start the application with {@code --spring.profiles.active=development,loadtest} first, then:
+ * <pre>
+ * mvn -Pload-test verify -Dload.args="--concurrency=64 --duration=120"
+ * mvn -Pload-test verify -Dload.args="--rate=500 --concurrency=256 --duration=120"
+ * </pre>
+ * Arguments: {@code --base-url}, {@code --concurrency}, {@code --rate} in requests per second,
+ * {@code --warmup} and {@code --duration} in seconds, {@code --skew}, {@code --seed} and
+ * {@code --report}, the JSON file to write.
+ */
+public final class LoadDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private LoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        var settings = new Report.Settings(
+                options.getOrDefault("base-url", "http://localhost:8081/dev-sync/api"),
+                Integer.parseInt(options.getOrDefault("concurrency", "32")),
+                Double.parseDouble(options.getOrDefault("rate", "0")),
+                Long.parseLong(options.getOrDefault("warmup", "10")),
+                Long.parseLong(options.getOrDefault("duration", "60")),
+                Double.parseDouble(options.getOrDefault("skew", "1.1")),
+                Long.parseLong(options.getOrDefault("seed", "42")));
+
+        var objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            var workload = Workload.discover(client, settings.baseUrl(), objectMapper, settings.skew());
+            long measureFrom = System.nanoTime() + Duration.ofSeconds(settings.warmupSeconds()).toNanos();
+            long measureUntil = measureFrom + Duration.ofSeconds(settings.durationSeconds()).toNanos();
+            List<Future<Map<String, Recorder>>> results = new ArrayList<>();
+            if (settings.rate() > 0) {
+                System.out.printf("Sending %.1f requests/s, at most %d in flight, for %ds after a %ds warmup against %s%n",
+                        settings.rate(), settings.concurrency(), settings.durationSeconds(), settings.warmupSeconds(), settings.baseUrl());
+                var random = new Random(settings.seed());
+                results.add(workers.submit(() -> runOpen(client, workload, random, settings.rate(), settings.concurrency(),
+                        measureFrom, measureUntil)));
+            } else {
+                System.out.printf("Running %d workers for %ds after a %ds warmup against %s%n",
+                        settings.concurrency(), settings.durationSeconds(), settings.warmupSeconds(), settings.baseUrl());
+                for (int i = 0; i < settings.concurrency(); i++) {
+                    var random = new Random(settings.seed() + i);
+                    results.add(workers.submit(() -> run(client, workload, random, measureFrom, measureUntil)));
+                }
+            }
+
+            Map<String, Recorder> recorders = new HashMap<>();
+            for (Future<Map<String, Recorder>> result : results) {
+                result.get().forEach((name, recorder) -> recorders.computeIfAbsent(name, n -> new Recorder()).merge(recorder));
+            }
+
+            var report = Report.of(settings, recorders, settings.durationSeconds());
+            report.print(System.out);
+            if (options.containsKey("report")) {
+                Path path = Path.of(options.get("report"));
+                Files.createDirectories(path.toAbsolutePath().getParent());
+                objectMapper.writeValue(path.toFile(), report);
+                System.out.println("Report written to " + path);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static Map<String, Recorder> run(HttpClient client, Workload workload, Random random,
+                                             long measureFrom, long measureUntil) throws InterruptedException {
+        Map<String, Recorder> recorders = new HashMap<>();
+        while (true) {
+            Workload.Operation operation = workload.next(random);
+            var request = operation.request().apply(random);
+            long start = System.nanoTime();
+            if (start >= measureUntil) {
+                return recorders;
+            }
+            boolean error;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                error = response.statusCode() >= 400;
+            } catch (IOException e) {
+                error = true;
+            }
+            long end = System.nanoTime();
+            if (start >= measureFrom && end <= measureUntil) {
+                recorders.computeIfAbsent(operation.name(), name -> new Recorder()).record(end - start, error);
+            }
+        }
+    }
+
+    /**
+     * Sends the requests on their schedule from a single thread. A request waiting for a free slot is
+     * sent late, but its latency still starts when it was due.
+     */
+    private static Map<String, Recorder> runOpen(HttpClient client, Workload workload, Random random, double rate,
+                                                 int maxInFlight, long measureFrom, long measureUntil) throws InterruptedException {
+        Map<String, Recorder> recorders = new HashMap<>();
+        var inFlight = new Semaphore(maxInFlight);
+        long start = System.nanoTime();
+        for (long sent = 0; ; sent++) {
+            long due = start + Math.round(sent * 1_000_000_000d / rate);
+            if (due >= measureUntil) {
+                break;
+            }
+            for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+
+            Workload.Operation operation = workload.next(random);
+            var request = operation.request().apply(random);
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                long end = System.nanoTime();
+                if (due >= measureFrom) {
+                    boolean error = failure != null || response.statusCode() >= 400;
+                    synchronized (recorders) {
+                        recorders.computeIfAbsent(operation.name(), name -> new Recorder()).record(end - due, error);
+                    }
+                }
+                inFlight.release();
+            });
+        }
+        // Requests due before the end are measured however long they take, up to their timeout
+        if (!inFlight.tryAcquire(maxInFlight, DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            System.out.println("Requests still in flight after " + DRAIN_TIMEOUT.toSeconds() + "s are not reported");
+        }
+        synchronized (recorders) {
+            return new HashMap<>(recorders);
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
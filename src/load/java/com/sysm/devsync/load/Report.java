@@ -0,0 +1,71 @@
+package com.sysm.devsync.load;
+
+import java.io.PrintStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a run: throughput, errors and latency percentiles for every operation and for the
+ * whole mix. Latencies are in milliseconds, throughput in requests per second.
+ */
+record Report(Settings settings, Summary total, List<Summary> operations) {
+
+    static Report of(Settings settings, Map<String, Recorder> recorders, double seconds) {
+        var all = new Recorder();
+        recorders.values().forEach(all::merge);
+        List<Summary> operations = recorders.entrySet().stream()
+                .map(entry -> Summary.of(entry.getKey(), entry.getValue(), seconds))
+                .sorted(Comparator.comparingDouble(Summary::throughput).reversed())
+                .toList();
+        return new Report(settings, Summary.of("TOTAL", all, seconds), operations);
+    }
+
+    void print(PrintStream out) {
+        String format = "%-40s %9s %7s %9s %9s %9s %9s %9s%n";
+        out.printf(format, "operation", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        operations.forEach(summary -> summary.print(out, format));
+        total.print(out, format);
+    }
+
+    /**
+     * @param rate requests per second of an open model run, 0 for a closed model
+     */
+    record Settings(String baseUrl, int concurrency, double rate, long warmupSeconds, long durationSeconds,
+                    double skew, long seed) {
+    }
+
+    record Summary(String operation, int requests, int errors, double throughput,
+                   double p50, double p95, double p99, double max) {
+
+        static Summary of(String operation, Recorder recorder, double seconds) {
+            long[] sorted = recorder.sorted();
+            return new Summary(operation, recorder.count(), recorder.errors(), round(recorder.count() / seconds),
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 95)), millis(percentile(sorted, 99)),
+                    millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        }
+
+        private void print(PrintStream out, String format) {
+            out.printf(format, operation, requests, errors, throughput, p50, p95, p99, max);
+        }
+
+        /**
+         * Nearest rank: the smallest latency at least the given share of the requests did not exceed.
+         */
+        private static long percentile(long[] sorted, int percent) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        private static double millis(long nanos) {
+            return round(nanos / 1_000_000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
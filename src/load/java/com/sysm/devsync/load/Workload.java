@@ -0,0 +1,175 @@
+package com.sysm.devsync.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sysm.devsync.infrastructure.seed.ZipfSampler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * The mix of requests replayed by the {@link LoadDriver}, roughly what the clients send: mostly
+ * reads of popular questions and notes, listings and searches, some writes.
+ * <p>
+ * Requests name existing aggregates, read from the listings before the run. Popular ones are
+ * requested more often, with the same skew as the generated data.
+ */
+final class Workload {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final int SAMPLE_SIZE = 1000;
+
+    private final String baseUrl;
+    private final List<Operation> operations = new ArrayList<>();
+    private final int totalWeight;
+
+    private final Pool workspaces;
+    private final Pool projects;
+    private final Pool questions;
+    private final Pool notes;
+    private final Pool tags;
+    private final Pool users;
+
+    private Workload(String baseUrl, double skew,
+                     List<String> workspaces, List<String> projects, List<String> questions,
+                     List<String> notes, List<String> tags, List<String> users) {
+        this.baseUrl = baseUrl;
+        this.workspaces = new Pool(workspaces, skew);
+        this.projects = new Pool(projects, skew);
+        this.questions = new Pool(questions, skew);
+        this.notes = new Pool(notes, skew);
+        this.tags = new Pool(tags, skew);
+        this.users = new Pool(users, skew);
+        define();
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    /**
+     * Reads a sample of the existing aggregates through the listings.
+     */
+    static Workload discover(HttpClient client, String baseUrl, ObjectMapper objectMapper, double skew)
+            throws IOException, InterruptedException {
+        return new Workload(baseUrl, skew,
+                sample(client, baseUrl, objectMapper, "/workspaces"),
+                sample(client, baseUrl, objectMapper, "/projects"),
+                sample(client, baseUrl, objectMapper, "/questions"),
+                sample(client, baseUrl, objectMapper, "/notes"),
+                sample(client, baseUrl, objectMapper, "/tags"),
+                sample(client, baseUrl, objectMapper, "/users"));
+    }
+
+    Operation next(Random random) {
+        int pick = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            pick -= operation.weight();
+            if (pick < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Weights changed during the run");
+    }
+
+    List<Operation> operations() {
+        return operations;
+    }
+
+    private void define() {
+        // Reads
+        read("GET /questions", 10, r -> "/questions?pageSize=20");
+        read("GET /questions?projectId", 8, r -> "/questions?pageSize=20&projectId=" + projects.pick(r));
+        read("GET /questions?tagsId", 3, r -> "/questions?pageSize=20&tagsId=" + tags.pick(r));
+        read("GET /questions?q", 4, r -> "/questions?pageSize=20&q=lorem+" + r.nextInt(10000));
+        read("GET /questions/{id}", 14, r -> "/questions/" + questions.pick(r));
+        read("GET /answers/questions/{id}", 8, r -> "/answers/questions/" + questions.pick(r));
+        read("GET /comments/target/QUESTION/{id}", 6, r -> "/comments/target/QUESTION/" + questions.pick(r));
+        read("GET /notes?projectId", 6, r -> "/notes?pageSize=20&projectId=" + projects.pick(r));
+        read("GET /notes/{id}", 8, r -> "/notes/" + notes.pick(r));
+        read("GET /workspaces", 3, r -> "/workspaces?pageSize=20");
+        read("GET /workspaces/{id}", 4, r -> "/workspaces/" + workspaces.pick(r));
+        read("GET /projects?workspaceId", 3, r -> "/projects?pageSize=20&workspaceId=" + workspaces.pick(r));
+        read("GET /projects/{id}", 4, r -> "/projects/" + projects.pick(r));
+        read("GET /tags", 3, r -> "/tags?pageSize=50");
+        read("GET /users/{id}", 3, r -> "/users/" + users.pick(r));
+        read("GET /sync", 2, r -> "/sync?limit=100");
+
+        // Writes
+        write("POST /questions", 3, r -> post("/questions", """
+                {"title": "Load question %d", "description": "Asked during a load test", "projectId": "%s"}
+                """.formatted(r.nextInt(), projects.pick(r))));
+        write("POST /answers/questions/{id}", 3, r -> post("/answers/questions/" + questions.pick(r), """
+                {"content": "Answered during a load test %d"}
+                """.formatted(r.nextInt())));
+        write("POST /comments", 4, r -> post("/comments", """
+                {"targetType": "QUESTION", "targetId": "%s", "content": "Commented during a load test %d"}
+                """.formatted(questions.pick(r), r.nextInt())));
+        write("POST /notes", 1, r -> post("/notes", """
+                {"title": "Load note %d", "content": "Written during a load test", "projectId": "%s"}
+                """.formatted(r.nextInt(), projects.pick(r))));
+        write("POST /questions/{id}/tags/{tagId}", 1, r -> request("/questions/" + questions.pick(r) + "/tags/" + tags.pick(r))
+                .POST(HttpRequest.BodyPublishers.noBody()).build());
+    }
+
+    private void read(String name, int weight, Function<Random, String> path) {
+        operations.add(new Operation(name, weight, r -> request(path.apply(r)).GET().build()));
+    }
+
+    private void write(String name, int weight, Function<Random, HttpRequest> request) {
+        operations.add(new Operation(name, weight, request));
+    }
+
+    private HttpRequest post(String path, String json) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+    }
+
+    private static List<String> sample(HttpClient client, String baseUrl, ObjectMapper objectMapper, String path)
+            throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + path + "?pageSize=" + SAMPLE_SIZE + "&countType=none"))
+                .timeout(TIMEOUT)
+                .GET()
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " answered " + response.statusCode() + ": " + response.body());
+        }
+        List<String> ids = new ArrayList<>();
+        JsonNode items = objectMapper.readTree(response.body()).path("items");
+        items.forEach(item -> ids.add(item.path("id").asText()));
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("GET " + path + " returned nothing, start the application with the loadtest profile");
+        }
+        return ids;
+    }
+
+    record Operation(String name, int weight, Function<Random, HttpRequest> request) {
+    }
+
+    private static final class Pool {
+
+        private final List<String> ids;
+        private final ZipfSampler sampler;
+
+        private Pool(List<String> ids, double skew) {
+            this.ids = ids;
+            this.sampler = new ZipfSampler(ids.size(), skew);
+        }
+
+        String pick(Random random) {
+            return ids.get(sampler.next(random));
+        }
+    }
+}
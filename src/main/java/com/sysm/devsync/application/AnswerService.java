@@ -6,23 +6,34 @@ import com.sysm.devsync.domain.NotFoundException;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Answer;
+import com.sysm.devsync.domain.persistence.ActivityPort;
 import com.sysm.devsync.domain.persistence.AnswerPersistencePort;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
 import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
 import com.sysm.devsync.domain.persistence.UserPersistencePort;
 
+
 public class AnswerService {
 
     private final AnswerPersistencePort answerPersistence;
     private final QuestionPersistencePort questionPersistence;
     private final UserPersistencePort userPersistencePort;
+    private final SearchIndexPort searchIndex;
+    private final ActivityPort activity;
 
     public AnswerService(AnswerPersistencePort answerPersistence,
                          QuestionPersistencePort questionPersistence,
-                         UserPersistencePort userPersistencePort) {
+                         UserPersistencePort userPersistencePort,
+                         SearchIndexPort searchIndex,
+                         ActivityPort activity) {
         this.answerPersistence = answerPersistence;
         this.questionPersistence = questionPersistence;
         this.userPersistencePort = userPersistencePort;
+        this.searchIndex = searchIndex;
+        this.activity = activity;
     }
 
     public CreateResponse createAnswer(AnswerCreateUpdate answerCreateUpdate, String questionId, String authorId) {
@@ -43,41 +54,63 @@ public class AnswerService {
         );
 
         answerPersistence.create(answer);
+        indexAnswer(answer);
+        activity.answerChanged(Kind.CREATED, answer.getId(), answer.getQuestionId());
 
         return new CreateResponse(answer.getId());
     }
 
     public void updateAnswer(String answerId, AnswerCreateUpdate answerUpdate) {
+        updateAnswer(answerId, answerUpdate, null);
+    }
+
+    public void updateAnswer(String answerId, AnswerCreateUpdate answerUpdate, Integer expectedVersion) {
         var answer = answerPersistence.findById(answerId)
                 .orElseThrow(() -> new NotFoundException("Answer not found", answerId));
+        answer.checkVersion(expectedVersion);
 
         answer.update(answerUpdate.content());
         answerPersistence.update(answer);
+        indexAnswer(answer);
+        activity.answerChanged(Kind.UPDATED, answer.getId(), answer.getQuestionId());
     }
 
     public void acceptAnswer(String answerId) {
+        acceptAnswer(answerId, null);
+    }
+
+    public void acceptAnswer(String answerId, Integer expectedVersion) {
         var answer = answerPersistence.findById(answerId)
                 .orElseThrow(() -> new NotFoundException("Answer not found", answerId));
+        answer.checkVersion(expectedVersion);
 
         answer.accept();
         answerPersistence.update(answer);
+        activity.answerChanged(Kind.UPDATED, answer.getId(), answer.getQuestionId());
     }
 
     public void rejectAnswer(String answerId) {
+        rejectAnswer(answerId, null);
+    }
+
+    public void rejectAnswer(String answerId, Integer expectedVersion) {
         var answer = answerPersistence.findById(answerId)
                 .orElseThrow(() -> new NotFoundException("Answer not found", answerId));
+        answer.checkVersion(expectedVersion);
 
         answer.reject();
         answerPersistence.update(answer);
+        activity.answerChanged(Kind.UPDATED, answer.getId(), answer.getQuestionId());
     }
 
     public void deleteAnswer(String answerId) {
-        var exist = answerPersistence.existsById(answerId);
-        if (!exist) {
-            throw new NotFoundException("Answer not found", answerId);
-        }
+        // Doubles as the existence check, the question is no longer known once the answer is gone
+        var questionId = answerPersistence.findQuestionId(answerId)
+                .orElseThrow(() -> new NotFoundException("Answer not found", answerId));
 
         answerPersistence.deleteById(answerId);
+        searchIndex.remove(TargetType.ANSWER, answerId);
+        activity.answerChanged(Kind.DELETED, answerId, questionId);
     }
 
     public Answer getAnswerById(String answerId) {
@@ -98,7 +131,19 @@ public class AnswerService {
         if (query == null) {
             throw new IllegalArgumentException("Invalid query parameters");
         }
+        if (query.hasFullText()) {
+            return searchAnswers(query);
+        }
         return answerPersistence.findAll(query);
     }
 
+    private Pagination<Answer> searchAnswers(SearchQuery query) {
+        return searchIndex.search(TargetType.ANSWER, query.fullText(), query.fullTextScope("questionId"), query.page())
+                .resolve(answerPersistence::findAllByIds, Answer::getId);
+    }
+
+    private void indexAnswer(Answer answer) {
+        searchIndex.index(TargetType.ANSWER, answer.getId(), answer.getQuestionId(), answer.getContent());
+    }
+
 }
@@ -9,6 +9,7 @@ import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Comment;
 import com.sysm.devsync.domain.persistence.*;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
 
 public class CommentService {
 
@@ -17,14 +18,17 @@ public class CommentService {
     private final QuestionPersistencePort questionPersistence;
     private final AnswerPersistencePort answerPersistence;
     private final UserPersistencePort userPersistence;
+    private final ActivityPort activity;
 
     public CommentService(CommentPersistencePort commentPersistence, NotePersistencePort notePersistence,
-                          QuestionPersistencePort questionPersistence, AnswerPersistencePort answerPersistence, UserPersistencePort userPersistence) {
+                          QuestionPersistencePort questionPersistence, AnswerPersistencePort answerPersistence, UserPersistencePort userPersistence,
+                          ActivityPort activity) {
         this.commentPersistence = commentPersistence;
         this.notePersistence = notePersistence;
         this.questionPersistence = questionPersistence;
         this.answerPersistence = answerPersistence;
         this.userPersistence = userPersistence;
+        this.activity = activity;
     }
 
     public CreateResponse createComment(CommentCreateUpdate commentCreate, String authorId){
@@ -44,24 +48,31 @@ public class CommentService {
         );
 
         commentPersistence.create(comment);
+        activity.commentChanged(Kind.CREATED, comment.getId(), comment.getTargetType(), comment.getTargetId());
         return new CreateResponse(comment.getId());
 
     }
 
     public void updateComment(String commentId, CommentCreateUpdate commentUpdate) {
+        updateComment(commentId, commentUpdate, null);
+    }
+
+    public void updateComment(String commentId, CommentCreateUpdate commentUpdate, Integer expectedVersion) {
         var comment = commentPersistence.findById(commentId)
                 .orElseThrow(() -> new NotFoundException("Comment not found", commentId));
+        comment.checkVersion(expectedVersion);
 
         comment.update(commentUpdate.content());
         commentPersistence.update(comment);
+        activity.commentChanged(Kind.UPDATED, comment.getId(), comment.getTargetType(), comment.getTargetId());
     }
 
     public void deleteComment(String commentId) {
-        var exist = commentPersistence.existsById(commentId);
-        if (!exist) {
-            throw new NotFoundException("Comment not found", commentId);
-        }
+        // The target is no longer known once the comment is gone
+        var comment = commentPersistence.findById(commentId)
+                .orElseThrow(() -> new NotFoundException("Comment not found", commentId));
         commentPersistence.deleteById(commentId);
+        activity.commentChanged(Kind.DELETED, commentId, comment.getTargetType(), comment.getTargetId());
     }
 
     public Comment getCommentById(String commentId) {
@@ -0,0 +1,266 @@
+package com.sysm.devsync.application;
+
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.models.Question;
+import com.sysm.devsync.domain.persistence.NotePersistencePort;
+import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
+import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
+import com.sysm.devsync.domain.persistence.TagPersistencePort;
+import com.sysm.devsync.domain.persistence.UserPersistencePort;
+import com.sysm.devsync.infrastructure.controllers.dto.request.ContentImport;
+import com.sysm.devsync.infrastructure.controllers.dto.response.ImportError;
+import com.sysm.devsync.infrastructure.controllers.dto.response.ImportResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Imports questions and notes in bulk.
+ * <p>
+ * Records are processed in batches: the project, author and tag references of a batch are checked
+ * with one query per kind, every id seen is remembered for the following batches, and the valid
+ * records are inserted with batched JDBC statements. A record that fails is reported with its line
+ * number and does not stop the import.
+ */
+public class ImportService {
+
+    public static final String QUESTION = "question";
+    public static final String NOTE = "note";
+    // First line of a project export, it describes the target of the records and is not imported
+    public static final String PROJECT = "project";
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final QuestionPersistencePort questionPersistence;
+    private final NotePersistencePort notePersistence;
+    private final ProjectPersistencePort projectPersistence;
+    private final UserPersistencePort userPersistence;
+    private final TagPersistencePort tagPersistence;
+    private final SearchIndexPort searchIndex;
+    private final int batchSize;
+
+    public ImportService(QuestionPersistencePort questionPersistence,
+                         NotePersistencePort notePersistence,
+                         ProjectPersistencePort projectPersistence,
+                         UserPersistencePort userPersistence,
+                         TagPersistencePort tagPersistence,
+                         SearchIndexPort searchIndex,
+                         int batchSize) {
+        this.questionPersistence = questionPersistence;
+        this.notePersistence = notePersistence;
+        this.projectPersistence = projectPersistence;
+        this.userPersistence = userPersistence;
+        this.tagPersistence = tagPersistence;
+        this.searchIndex = searchIndex;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports the records of the lines, blank lines and project lines are skipped.
+     *
+     * @param parser          turns a line into a record, throwing for a malformed one
+     * @param defaultAuthorId author of the records that do not name one
+     */
+    public ImportResponse importContent(Stream<String> lines, Function<String, ContentImport> parser, String defaultAuthorId) {
+        var run = new ImportRun(defaultAuthorId);
+        var batch = new ArrayList<Pending>(batchSize);
+
+        long lineNumber = 0;
+        Iterator<String> iterator = lines.iterator();
+        while (iterator.hasNext()) {
+            String line = iterator.next();
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                ContentImport record = parser.apply(line);
+                if (!PROJECT.equals(record.type())) {
+                    batch.add(new Pending(lineNumber, record));
+                }
+            } catch (RuntimeException e) {
+                run.fail(lineNumber, "Malformed record: " + e.getMessage());
+            }
+            if (batch.size() == batchSize) {
+                importBatch(batch, run);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, run);
+        }
+        return run.response();
+    }
+
+    private void importBatch(List<Pending> batch, ImportRun run) {
+        run.prefetch(batch);
+
+        var questions = new ArrayList<Question>();
+        var questionLines = new ArrayList<Long>();
+        var notes = new ArrayList<Note>();
+        var noteLines = new ArrayList<Long>();
+
+        for (Pending pending : batch) {
+            ContentImport record = pending.record();
+            String authorId = run.authorOf(record);
+            String error = run.checkReferences(record, authorId);
+            if (error != null) {
+                run.fail(pending.line(), error);
+                continue;
+            }
+            try {
+                if (QUESTION.equals(record.type())) {
+                    var question = Question.create(record.title(), record.description(), record.projectId(), authorId);
+                    tagsOf(record).forEach(question::addTag);
+                    questions.add(question);
+                    questionLines.add(pending.line());
+                } else {
+                    var note = Note.create(record.title(), record.content(), record.projectId(), authorId);
+                    tagsOf(record).forEach(note::addTag);
+                    notes.add(note);
+                    noteLines.add(pending.line());
+                }
+            } catch (IllegalArgumentException e) {
+                run.fail(pending.line(), e.getMessage());
+            }
+        }
+
+        if (insert(questions, questionLines, questionPersistence::createAll, run)) {
+            for (Question question : questions) {
+                searchIndex.index(TargetType.QUESTION, question.getId(), question.getProjectId(),
+                        question.getTitle(), question.getDescription());
+                question.getTagsId().forEach(tagPersistence::incrementUse);
+            }
+        }
+        if (insert(notes, noteLines, notePersistence::createAll, run)) {
+            for (Note note : notes) {
+                searchIndex.index(TargetType.NOTE, note.getId(), note.getProjectId(), note.getTitle(), note.getContent());
+                note.getTagsId().forEach(tagPersistence::incrementUse);
+            }
+        }
+    }
+
+    private static <T> boolean insert(List<T> models, List<Long> lines, Consumer<List<T>> creator, ImportRun run) {
+        if (models.isEmpty()) {
+            return false;
+        }
+        try {
+            creator.accept(models);
+            run.imported += models.size();
+            return true;
+        } catch (RuntimeException e) {
+            // The batch is one transaction, none of its records were stored
+            lines.forEach(line -> run.fail(line, "Insert failed: " + e.getMessage()));
+            return false;
+        }
+    }
+
+    private static Set<String> tagsOf(ContentImport record) {
+        return record.tagsId() == null ? Set.of() : record.tagsId();
+    }
+
+    private record Pending(long line, ContentImport record) {
+    }
+
+    /**
+     * State of one import: the counters, the first errors and the ids already known to exist or not.
+     */
+    private final class ImportRun {
+
+        private final String defaultAuthorId;
+        private final IdSet projects = new IdSet(projectPersistence::findExistingIds);
+        private final IdSet users = new IdSet(userPersistence::findExistingIds);
+        private final IdSet tags = new IdSet(tagPersistence::findExistingIds);
+        private final List<ImportError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        private ImportRun(String defaultAuthorId) {
+            this.defaultAuthorId = defaultAuthorId;
+        }
+
+        private String authorOf(ContentImport record) {
+            return record.authorId() != null && !record.authorId().isBlank() ? record.authorId() : defaultAuthorId;
+        }
+
+        private void prefetch(List<Pending> batch) {
+            projects.resolve(batch.stream().map(pending -> pending.record().projectId()));
+            users.resolve(batch.stream().map(pending -> authorOf(pending.record())));
+            tags.resolve(batch.stream().flatMap(pending -> tagsOf(pending.record()).stream()));
+        }
+
+        private String checkReferences(ContentImport record, String authorId) {
+            if (!QUESTION.equals(record.type()) && !NOTE.equals(record.type())) {
+                return "Unknown record type '" + record.type() + "', expected '" + QUESTION + "' or '" + NOTE + "'";
+            }
+            if (record.projectId() == null || !projects.exists(record.projectId())) {
+                return "Project not found: " + record.projectId();
+            }
+            if (authorId == null || !users.exists(authorId)) {
+                return "User not found: " + authorId;
+            }
+            for (String tagId : tagsOf(record)) {
+                if (!tags.exists(tagId)) {
+                    return "Tag not found: " + tagId;
+                }
+            }
+            return null;
+        }
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportError(line, message));
+            }
+        }
+
+        private ImportResponse response() {
+            // Malformed lines are reported while reading, the others when their batch is processed
+            errors.sort(Comparator.comparingLong(ImportError::line));
+            return new ImportResponse(imported, failed, List.copyOf(errors));
+        }
+    }
+
+    /**
+     * Ids of one kind known to exist or not, so each id is looked up once per import.
+     */
+    private static final class IdSet {
+
+        private final Function<Collection<String>, Set<String>> finder;
+        private final Set<String> existing = new HashSet<>();
+        private final Set<String> missing = new HashSet<>();
+
+        private IdSet(Function<Collection<String>, Set<String>> finder) {
+            this.finder = finder;
+        }
+
+        private void resolve(Stream<String> ids) {
+            Set<String> unknown = new HashSet<>();
+            ids.filter(Objects::nonNull)
+                    .filter(id -> !existing.contains(id) && !missing.contains(id))
+                    .forEach(unknown::add);
+            if (unknown.isEmpty()) {
+                return;
+            }
+            Set<String> found = finder.apply(unknown);
+            existing.addAll(found);
+            unknown.removeAll(found);
+            missing.addAll(unknown);
+        }
+
+        private boolean exists(String id) {
+            return existing.contains(id);
+        }
+    }
+}
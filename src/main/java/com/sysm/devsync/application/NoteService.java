@@ -4,27 +4,39 @@ import com.sysm.devsync.domain.NotFoundException;
 import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.request.NoteCreateUpdate;
 import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.Revision;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.persistence.ActivityPort;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
 import com.sysm.devsync.domain.persistence.NotePersistencePort;
 import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
 import com.sysm.devsync.domain.persistence.TagPersistencePort;
 import com.sysm.devsync.domain.persistence.UserPersistencePort;
 
+import java.util.Optional;
+
 public class NoteService {
 
     private final NotePersistencePort notePersistence;
     private final ProjectPersistencePort projectPersistence;
     private final UserPersistencePort userPersistence;
     private final TagPersistencePort tagPersistence;
+    private final SearchIndexPort searchIndex;
+    private final ActivityPort activity;
 
     public NoteService(NotePersistencePort notePersistence, ProjectPersistencePort projectPersistence,
-                       UserPersistencePort userPersistence, TagPersistencePort tagPersistence) {
+                       UserPersistencePort userPersistence, TagPersistencePort tagPersistence,
+                       SearchIndexPort searchIndex, ActivityPort activity) {
         this.notePersistence = notePersistence;
         this.projectPersistence = projectPersistence;
         this.userPersistence = userPersistence;
         this.tagPersistence = tagPersistence;
+        this.searchIndex = searchIndex;
+        this.activity = activity;
     }
 
     public CreateResponse createNote(NoteCreateUpdate noteCreateUpdate, String authorId) {
@@ -47,12 +59,19 @@ public class NoteService {
         );
 
         notePersistence.create(note);
+        indexNote(note);
+        activity.noteChanged(Kind.CREATED, note.getId(), note.getProjectId());
         return new CreateResponse(note.getId());
     }
 
     public void updateNote(String noteId, NoteCreateUpdate noteUpdate) {
+        updateNote(noteId, noteUpdate, null);
+    }
+
+    public void updateNote(String noteId, NoteCreateUpdate noteUpdate, Integer expectedVersion) {
         var note = notePersistence.findById(noteId)
                 .orElseThrow(() -> new NotFoundException("Note not found", noteId));
+        note.checkVersion(expectedVersion);
 
         note.update(
                 noteUpdate.title(),
@@ -60,15 +79,24 @@ public class NoteService {
         );
 
         notePersistence.update(note);
+        indexNote(note);
+        activity.noteChanged(Kind.UPDATED, note.getId(), note.getProjectId());
     }
 
     public void updateNoteContent(String noteId, NoteCreateUpdate noteUpdate) {
+        updateNoteContent(noteId, noteUpdate, null);
+    }
+
+    public void updateNoteContent(String noteId, NoteCreateUpdate noteUpdate, Integer expectedVersion) {
         var note = notePersistence.findById(noteId)
                 .orElseThrow(() -> new NotFoundException("Note not found", noteId));
+        note.checkVersion(expectedVersion);
 
         note.updateContent(noteUpdate.content());
 
         notePersistence.update(note);
+        indexNote(note);
+        activity.noteChanged(Kind.UPDATED, note.getId(), note.getProjectId());
     }
 
     public void addTagToNote(String noteId, String tagId) {
@@ -79,9 +107,14 @@ public class NoteService {
         if (!exists) {
             throw new NotFoundException("Tag not found", tagId);
         }
+        if (note.getTagsId().contains(tagId)) {
+            return;
+        }
 
         note.addTag(tagId);
         notePersistence.update(note);
+        tagPersistence.incrementUse(tagId);
+        activity.noteChanged(Kind.UPDATED, note.getId(), note.getProjectId());
     }
 
     public void removeTagFromNote(String noteId, String tagId) {
@@ -92,19 +125,24 @@ public class NoteService {
         if (!exists) {
             throw new NotFoundException("Tag not found", tagId);
         }
+        if (!note.getTagsId().contains(tagId)) {
+            return;
+        }
 
         note.removeTag(tagId);
         notePersistence.update(note);
+        tagPersistence.decrementUse(tagId);
+        activity.noteChanged(Kind.UPDATED, note.getId(), note.getProjectId());
     }
 
     public void deleteNote(String noteId) {
-        var exists = notePersistence.existsById(noteId);
-
-        if (!exists) {
-            throw new NotFoundException("Note not found", noteId);
-        }
+        // Doubles as the existence check, the project is no longer known once the note is gone
+        var projectId = notePersistence.findProjectId(noteId)
+                .orElseThrow(() -> new NotFoundException("Note not found", noteId));
 
         notePersistence.deleteById(noteId);
+        searchIndex.remove(TargetType.NOTE, noteId);
+        activity.noteChanged(Kind.DELETED, noteId, projectId);
     }
 
     public Note getNoteById(String noteId) {
@@ -112,10 +150,21 @@ public class NoteService {
                 .orElseThrow(() -> new NotFoundException("Note not found", noteId));
     }
 
+    /**
+     * Version and update time of the note, empty when it does not exist. Cheaper than
+     * {@link #getNoteById} for clients checking whether their copy is still current.
+     */
+    public Optional<Revision> getNoteRevision(String noteId) {
+        return notePersistence.findRevision(noteId);
+    }
+
     public Pagination<Note> getAllNotes(SearchQuery query) {
         if (query == null) {
             throw new IllegalArgumentException("Invalid query parameters");
         }
+        if (query.hasFullText()) {
+            return searchNotes(query);
+        }
         return notePersistence.findAll(query);
     }
 
@@ -128,4 +177,13 @@ public class NoteService {
         return notePersistence.findAllByProjectId(page, projectId);
     }
 
+    private Pagination<Note> searchNotes(SearchQuery query) {
+        return searchIndex.search(TargetType.NOTE, query.fullText(), query.fullTextScope("projectId"), query.page())
+                .resolve(notePersistence::findAllByIds, Note::getId);
+    }
+
+    private void indexNote(Note note) {
+        searchIndex.index(TargetType.NOTE, note.getId(), note.getProjectId(), note.getTitle(), note.getContent());
+    }
+
 }
@@ -7,17 +7,23 @@ import com.sysm.devsync.infrastructure.controllers.dto.request.ProjectCreateUpda
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.persistence.ProjectExportPort;
 import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
 import com.sysm.devsync.domain.persistence.WorkspacePersistencePort;
 
+import java.util.function.Consumer;
+
 public class ProjectService {
 
     private final ProjectPersistencePort projectPersistence;
     private final WorkspacePersistencePort workspacePersistence;
+    private final ProjectExportPort projectExport;
 
-    public ProjectService(ProjectPersistencePort projectPersistence, WorkspacePersistencePort workspacePersistence) {
+    public ProjectService(ProjectPersistencePort projectPersistence, WorkspacePersistencePort workspacePersistence,
+                          ProjectExportPort projectExport) {
         this.projectPersistence = projectPersistence;
         this.workspacePersistence = workspacePersistence;
+        this.projectExport = projectExport;
     }
 
     public CreateResponse createProject(ProjectCreateUpdate projectCreateUpdate) {
@@ -37,8 +43,13 @@ public class ProjectService {
     }
 
     public void updateProject(String projectId, ProjectCreateUpdate projectUpdate) {
+        updateProject(projectId, projectUpdate, null);
+    }
+
+    public void updateProject(String projectId, ProjectCreateUpdate projectUpdate, Integer expectedVersion) {
         var project = projectPersistence.findById(projectId)
                 .orElseThrow(() -> new NotFoundException("Project not found", projectId));
+        project.checkVersion(expectedVersion);
 
         project.update(
                 projectUpdate.name(),
@@ -49,9 +60,14 @@ public class ProjectService {
     }
 
     public void changeWorkspace(String projectId, String workspaceId) {
+        changeWorkspace(projectId, workspaceId, null);
+    }
+
+    public void changeWorkspace(String projectId, String workspaceId, Integer expectedVersion) {
 
         var project = projectPersistence.findById(projectId)
                 .orElseThrow(() -> new NotFoundException("Project not found", projectId));
+        project.checkVersion(expectedVersion);
 
         var exist = workspacePersistence.existsById(workspaceId);
         if (!exist) {
@@ -75,6 +91,18 @@ public class ProjectService {
                 .orElseThrow(() -> new NotFoundException("Project not found", projectId));
     }
 
+    /**
+     * Checks the project up front, so a missing one fails before anything is written, and returns
+     * the export to run against the sink once the response is streaming.
+     */
+    public Consumer<ProjectExportPort.Sink> exportProject(String projectId) {
+        var project = getProjectById(projectId);
+        return sink -> {
+            sink.project(project);
+            projectExport.export(projectId, sink);
+        };
+    }
+
     public Pagination<Project> getAllProjects(SearchQuery query) {
         return projectPersistence.findAll(query);
     }
@@ -2,33 +2,38 @@ package com.sysm.devsync.application;
 
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.persistence.*;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
 import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.request.QuestionCreateUpdate;
 import com.sysm.devsync.domain.NotFoundException;
 import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.Revision;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.enums.QuestionStatus;
 import com.sysm.devsync.domain.models.Question;
 
+import java.util.Optional;
+
 public class QuestionService {
 
     private final QuestionPersistencePort questionPersistence;
     private final ProjectPersistencePort projectPersistence;
     private final TagPersistencePort tagPersistence;
     private final UserPersistencePort userPersistence;
-    private final CommentPersistencePort commentPersistence;
-    private final AnswerPersistencePort answerPersistence;
+    private final SearchIndexPort searchIndex;
+    private final ActivityPort activity;
 
 
     public QuestionService(QuestionPersistencePort questionPersistence, ProjectPersistencePort projectPersistence,
-                           TagPersistencePort tagPersistence, UserPersistencePort userPersistence, CommentPersistencePort commentPersistence, AnswerPersistencePort answerPersistence) {
+                           TagPersistencePort tagPersistence, UserPersistencePort userPersistence,
+                           SearchIndexPort searchIndex, ActivityPort activity) {
         this.questionPersistence = questionPersistence;
         this.projectPersistence = projectPersistence;
         this.tagPersistence = tagPersistence;
         this.userPersistence = userPersistence;
-        this.commentPersistence = commentPersistence;
-        this.answerPersistence = answerPersistence;
+        this.searchIndex = searchIndex;
+        this.activity = activity;
     }
 
     public CreateResponse createQuestion(QuestionCreateUpdate questionCreateUpdate, String authorId) {
@@ -50,12 +55,19 @@ public class QuestionService {
         );
 
         questionPersistence.create(question);
+        indexQuestion(question);
+        activity.questionChanged(Kind.CREATED, question.getId(), question.getProjectId());
         return new CreateResponse(question.getId());
     }
 
     public void updateQuestion(String questionId, QuestionCreateUpdate questionUpdate) {
+        updateQuestion(questionId, questionUpdate, null);
+    }
+
+    public void updateQuestion(String questionId, QuestionCreateUpdate questionUpdate, Integer expectedVersion) {
         var question = questionPersistence.findById(questionId)
                 .orElseThrow(() -> new NotFoundException("Question not found", questionId));
+        question.checkVersion(expectedVersion);
 
         question.update(
                 questionUpdate.title(),
@@ -63,15 +75,23 @@ public class QuestionService {
         );
 
         questionPersistence.update(question);
+        indexQuestion(question);
+        activity.questionChanged(Kind.UPDATED, question.getId(), question.getProjectId());
     }
 
     public void updateQuestionStatus(String questionId, QuestionStatus questionUpdate) {
+        updateQuestionStatus(questionId, questionUpdate, null);
+    }
+
+    public void updateQuestionStatus(String questionId, QuestionStatus questionUpdate, Integer expectedVersion) {
         var question = questionPersistence.findById(questionId)
                 .orElseThrow(() -> new NotFoundException("Question not found", questionId));
+        question.checkVersion(expectedVersion);
 
         question.changeStatus(questionUpdate);
 
         questionPersistence.update(question);
+        activity.questionChanged(Kind.UPDATED, question.getId(), question.getProjectId());
     }
 
     public void addTagToQuestion(String questionId, String tagId) {
@@ -89,6 +109,7 @@ public class QuestionService {
         question.addTag(tagId);
         questionPersistence.update(question);
         tagPersistence.incrementUse(tagId);
+        activity.questionChanged(Kind.UPDATED, question.getId(), question.getProjectId());
     }
 
     public void removeTagFromQuestion(String questionId, String tagId) {
@@ -107,21 +128,20 @@ public class QuestionService {
         question.removeTag(tagId);
         questionPersistence.update(question);
         tagPersistence.decrementUse(tagId);
+        activity.questionChanged(Kind.UPDATED, question.getId(), question.getProjectId());
     }
 
     public void deleteQuestion(String questionId) {
-        var exist = questionPersistence.existsById(questionId);
-        if (!exist) {
-            throw new NotFoundException("Question not found", questionId);
-        }
-
-        //Explicitly delete associated Comments
-        commentPersistence.deleteAllByTargetTypeAndTargetId(TargetType.QUESTION, questionId);
+        // Doubles as the existence check, the project is no longer known once the question is gone
+        var projectId = questionPersistence.findProjectId(questionId)
+                .orElseThrow(() -> new NotFoundException("Question not found", questionId));
 
-        //Explicitly delete associated Answers
-        answerPersistence.deleteAllByQuestionId(questionId);
+        // Answers, comments and tag links go with the question in one transaction
+        questionPersistence.deleteWithDependents(questionId);
 
-        questionPersistence.deleteById(questionId);
+        searchIndex.removeByScope(TargetType.ANSWER, questionId);
+        searchIndex.remove(TargetType.QUESTION, questionId);
+        activity.questionChanged(Kind.DELETED, questionId, projectId);
     }
 
     public Question getQuestionById(String questionId) {
@@ -129,6 +149,14 @@ public class QuestionService {
                 .orElseThrow(() -> new NotFoundException("Question not found", questionId));
     }
 
+    /**
+     * Version and update time of the question, empty when it does not exist. Cheaper than
+     * {@link #getQuestionById} for clients checking whether their copy is still current.
+     */
+    public Optional<Revision> getQuestionRevision(String questionId) {
+        return questionPersistence.findRevision(questionId);
+    }
+
     public Pagination<Question> getAllQuestions(Page page, String projectId) {
         var projectExist = projectPersistence.existsById(projectId);
         if (!projectExist) {
@@ -142,7 +170,20 @@ public class QuestionService {
         if (query == null) {
             throw new IllegalArgumentException("Invalid query parameters");
         }
+        if (query.hasFullText()) {
+            return searchQuestions(query);
+        }
         return questionPersistence.findAll(query);
     }
 
+    private Pagination<Question> searchQuestions(SearchQuery query) {
+        return searchIndex.search(TargetType.QUESTION, query.fullText(), query.fullTextScope("projectId"), query.page())
+                .resolve(questionPersistence::findAllByIds, Question::getId);
+    }
+
+    private void indexQuestion(Question question) {
+        searchIndex.index(TargetType.QUESTION, question.getId(), question.getProjectId(),
+                question.getTitle(), question.getDescription());
+    }
+
 }
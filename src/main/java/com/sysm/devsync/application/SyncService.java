@@ -0,0 +1,105 @@
+package com.sysm.devsync.application;
+
+import com.sysm.devsync.domain.BusinessException;
+import com.sysm.devsync.domain.enums.AggregateType;
+import com.sysm.devsync.domain.models.AbstractModel;
+import com.sysm.devsync.domain.persistence.AnswerPersistencePort;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Change;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
+import com.sysm.devsync.domain.persistence.CommentPersistencePort;
+import com.sysm.devsync.domain.persistence.NotePersistencePort;
+import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the changes of questions, answers, comments and notes since a cursor, so a client can
+ * keep a local copy up to date without reloading it.
+ * <p>
+ * Changes are only read up to the settle time before now. A transaction stamps its rows before it
+ * commits, so the most recent timestamps may still belong to uncommitted rows: a cursor that moved
+ * past them would skip those rows once they commit. Writers stamp their rows inside the transaction
+ * and roll back rather than commit later than the settle time after their first stamp, so every
+ * row older than the settle time is either committed or gone.
+ */
+public class SyncService {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final ChangeFeedPort changeFeed;
+    private final QuestionPersistencePort questionPersistence;
+    private final AnswerPersistencePort answerPersistence;
+    private final CommentPersistencePort commentPersistence;
+    private final NotePersistencePort notePersistence;
+    private final Duration settleTime;
+
+    public SyncService(ChangeFeedPort changeFeed,
+                       QuestionPersistencePort questionPersistence,
+                       AnswerPersistencePort answerPersistence,
+                       CommentPersistencePort commentPersistence,
+                       NotePersistencePort notePersistence,
+                       Duration settleTime) {
+        this.changeFeed = changeFeed;
+        this.questionPersistence = questionPersistence;
+        this.answerPersistence = answerPersistence;
+        this.commentPersistence = commentPersistence;
+        this.notePersistence = notePersistence;
+        this.settleTime = settleTime;
+    }
+
+    /**
+     * Reads the next changes after the cursor, with the current state of each created or updated
+     * aggregate. A change whose aggregate is gone by now is left out, its deletion follows.
+     *
+     * @param cursor the cursor of the previous batch, null or blank to start from the beginning
+     */
+    public Batch getChanges(String cursor, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        var changes = changeFeed.readChanges(cursor, Instant.now().minus(settleTime), limit);
+
+        Map<AggregateType, List<String>> idsByType = changes.changes().stream()
+                .filter(change -> change.kind() != Kind.DELETED)
+                .collect(Collectors.groupingBy(Change::type, () -> new EnumMap<>(AggregateType.class),
+                        Collectors.mapping(Change::id, Collectors.toList())));
+        Map<String, AbstractModel> models = new HashMap<>();
+        idsByType.forEach((type, ids) -> load(type, ids).forEach(model -> models.put(model.getId(), model)));
+
+        List<Entry> entries = new ArrayList<>(changes.changes().size());
+        for (Change change : changes.changes()) {
+            if (change.kind() == Kind.DELETED) {
+                entries.add(new Entry(change, null));
+            } else if (models.containsKey(change.id())) {
+                entries.add(new Entry(change, models.get(change.id())));
+            }
+        }
+        return new Batch(entries, changes.cursor(), changes.hasMore());
+    }
+
+    private List<? extends AbstractModel> load(AggregateType type, List<String> ids) {
+        return switch (type) {
+            case QUESTION -> questionPersistence.findAllByIds(ids);
+            case ANSWER -> answerPersistence.findAllByIds(ids);
+            case COMMENT -> commentPersistence.findAllByIds(ids);
+            case NOTE -> notePersistence.findAllByIds(ids);
+        };
+    }
+
+    /**
+     * @param model the aggregate as it is now, null for a deletion
+     */
+    public record Entry(Change change, AbstractModel model) {
+    }
+
+    public record Batch(List<Entry> entries, String cursor, boolean hasMore) {
+    }
+}
@@ -34,8 +34,13 @@ public class TagService {
     }
 
     public void updateTag(String tagId, TagCreateUpdate tagCreateUpdate) {
+        updateTag(tagId, tagCreateUpdate, null);
+    }
+
+    public void updateTag(String tagId, TagCreateUpdate tagCreateUpdate, Integer expectedVersion) {
         Tag tag = tagPersistence.findById(tagId)
                 .orElseThrow(() -> new NotFoundException("Tag not found", tagId));
+        tag.checkVersion(expectedVersion);
 
         tag.update(tagCreateUpdate.name(), tagCreateUpdate.color());
 
@@ -28,8 +28,13 @@ public class UserService {
     }
 
     public void updateUser(String userId, UserCreateUpdate userUpdate) {
+        updateUser(userId, userUpdate, null);
+    }
+
+    public void updateUser(String userId, UserCreateUpdate userUpdate, Integer expectedVersion) {
         User user = userPersistence.findById(userId)
                 .orElseThrow(() -> new NotFoundException("User not found", userId));
+        user.checkVersion(expectedVersion);
 
         user.update(
                 userUpdate.name(),
@@ -45,8 +50,13 @@ public class UserService {
     }
 
     public void updateUserPatch(String userId, UserCreateUpdate userUpdate) {
+        updateUserPatch(userId, userUpdate, null);
+    }
+
+    public void updateUserPatch(String userId, UserCreateUpdate userUpdate, Integer expectedVersion) {
         User user = userPersistence.findById(userId)
                 .orElseThrow(() -> new NotFoundException("User not found", userId));
+        user.checkVersion(expectedVersion);
 
         if (StringUtils.hasText(userUpdate.name())) {
             user.updateName(userUpdate.name());
@@ -2,23 +2,31 @@ package com.sysm.devsync.application;
 
 import com.sysm.devsync.domain.BusinessException;
 import com.sysm.devsync.domain.NotFoundException;
+import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.models.to.UserTO;
 import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
 import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceCreateUpdate;
 import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.Revision;
 import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.models.Workspace;
 import com.sysm.devsync.domain.persistence.UserPersistencePort;
 import com.sysm.devsync.domain.persistence.WorkspacePersistencePort;
+import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceMembersChangeResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceResponse;
 import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 public class WorkspaceService {
 
+    static final int MAX_BULK_MEMBERS = 10_000;
+
     private final WorkspacePersistencePort workspacePersistence;
     private final UserPersistencePort userPersistence;
     private final ProjectPersistencePort projectPersistence; // <-- ADDED
@@ -48,8 +56,13 @@ public class WorkspaceService {
     }
 
     public void updateWorkspace(String workspaceId, WorkspaceCreateUpdate workspaceUpdate) {
+        updateWorkspace(workspaceId, workspaceUpdate, null);
+    }
+
+    public void updateWorkspace(String workspaceId, WorkspaceCreateUpdate workspaceUpdate, Integer expectedVersion) {
         Workspace workspace = workspacePersistence.findById(workspaceId)
                 .orElseThrow(() -> new NotFoundException("Workspace not found", workspaceId));
+        workspace.checkVersion(expectedVersion);
 
         workspace.update(
                 workspaceUpdate.name(),
@@ -64,42 +77,86 @@ public class WorkspaceService {
     }
 
     public void changeWorkspacePrivacy(String workspaceId, boolean isPrivate) {
+        changeWorkspacePrivacy(workspaceId, isPrivate, null);
+    }
+
+    public void changeWorkspacePrivacy(String workspaceId, boolean isPrivate, Integer expectedVersion) {
         Workspace workspace = workspacePersistence.findById(workspaceId)
                 .orElseThrow(() -> new NotFoundException("Workspace not found", workspaceId));
+        workspace.checkVersion(expectedVersion);
 
         workspace.setPrivate(isPrivate);
         workspacePersistence.update(workspace);
     }
 
     public void addMemberToWorkspace(String workspaceId, String memberId) {
-        Workspace workspace = workspacePersistence.findById(workspaceId)
-                .orElseThrow(() -> new NotFoundException("Workspace not found", workspaceId));
+        if (!workspacePersistence.existsById(workspaceId)) {
+            throw new NotFoundException("Workspace not found", workspaceId);
+        }
 
         var exist = userPersistence.existsById(memberId);
         if (!exist) {
             throw new NotFoundException("Member not found", memberId);
         }
 
-        workspace.addMember(memberId);
-
-        workspacePersistence.update(workspace);
+        // Adding an existing member is a no-op, as it was with the member set
+        workspacePersistence.addMember(workspaceId, memberId);
     }
 
     public void removeMemberFromWorkspace(String workspaceId, String memberId) {
-        Workspace workspace = workspacePersistence.findById(workspaceId)
-                .orElseThrow(() -> new NotFoundException("Workspace not found", workspaceId));
+        if (!workspacePersistence.existsById(workspaceId)) {
+            throw new NotFoundException("Workspace not found", workspaceId);
+        }
 
-        if (!workspace.getMembersId().contains(memberId)) {
+        if (!workspacePersistence.removeMember(workspaceId, memberId)) {
             throw new NotFoundException("Member not found in workspace", memberId);
         }
-        workspace.removeMember(memberId);
+    }
 
-        workspacePersistence.update(workspace);
+    /**
+     * Adds many members in one transaction. Ids of unknown users and of users that are already
+     * members are skipped and not counted as changed.
+     */
+    public WorkspaceMembersChangeResponse addMembersToWorkspace(String workspaceId, Set<String> memberIds) {
+        validateBulkMembers(workspaceId, memberIds);
+
+        int added = workspacePersistence.addMembers(workspaceId, memberIds);
+        return new WorkspaceMembersChangeResponse(memberIds.size(), added);
+    }
+
+    /**
+     * Removes many members in one transaction. Ids that are not members are skipped.
+     */
+    public WorkspaceMembersChangeResponse removeMembersFromWorkspace(String workspaceId, Set<String> memberIds) {
+        validateBulkMembers(workspaceId, memberIds);
+
+        int removed = workspacePersistence.removeMembers(workspaceId, memberIds);
+        return new WorkspaceMembersChangeResponse(memberIds.size(), removed);
+    }
+
+    private void validateBulkMembers(String workspaceId, Set<String> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            throw new BusinessException("At least one member ID must be provided");
+        }
+        if (memberIds.size() > MAX_BULK_MEMBERS) {
+            throw new BusinessException("Cannot change more than " + MAX_BULK_MEMBERS + " members at once");
+        }
+        if (memberIds.stream().anyMatch(id -> id == null || id.isBlank())) {
+            throw new BusinessException("Member IDs must not be blank");
+        }
+        if (!workspacePersistence.existsById(workspaceId)) {
+            throw new NotFoundException("Workspace not found", workspaceId);
+        }
     }
 
     public void changeOwnerOfWorkspace(String workspaceId, String newOwnerId) {
+        changeOwnerOfWorkspace(workspaceId, newOwnerId, null);
+    }
+
+    public void changeOwnerOfWorkspace(String workspaceId, String newOwnerId, Integer expectedVersion) {
         Workspace workspace = workspacePersistence.findById(workspaceId)
                 .orElseThrow(() -> new NotFoundException("Workspace not found", workspaceId));
+        workspace.checkVersion(expectedVersion);
 
         var exist = userPersistence.existsById(newOwnerId);
         if (!exist) {
@@ -138,30 +195,52 @@ public class WorkspaceService {
                 .orElseThrow(() -> new NotFoundException("Workspace not found", workspaceId));
     }
 
+    /**
+     * Version and update time of the workspace, empty when it does not exist. Cheaper than
+     * {@link #getWorkspaceById} for clients checking whether their copy is still current.
+     */
+    public Optional<Revision> getWorkspaceRevision(String workspaceId) {
+        return workspacePersistence.findRevision(workspaceId);
+    }
+
     public Pagination<WorkspaceResponse> getAllWorkspaces(SearchQuery query) {
         var workspacePage = workspacePersistence.findAll(query);
+        var projectCounts = countProjectsByWorkspaceId(workspacePage);
+
+        return workspacePage.map(ws -> WorkspaceResponse.from(ws, projectCounts.getOrDefault(ws.getId(), 0L)));
+    }
+
+    /**
+     * Searches workspaces without loading their members, so the cost of a page doesn't depend on
+     * how many members each workspace has. Only the member count is returned.
+     */
+    public Pagination<WorkspaceResponse> getWorkspaceSummaries(SearchQuery query) {
+        var workspacePage = workspacePersistence.findAllSummaries(query);
+        var projectCounts = countProjectsByWorkspaceId(workspacePage);
 
+        return workspacePage.map(ws -> WorkspaceResponse.summaryFrom(ws, projectCounts.getOrDefault(ws.getId(), 0L)));
+    }
+
+    public Pagination<UserTO> getWorkspaceMembers(String workspaceId, Page page) {
+        if (!workspacePersistence.existsById(workspaceId)) {
+            throw new NotFoundException("Workspace not found", workspaceId);
+        }
+        return workspacePersistence.findMembers(workspaceId, page);
+    }
+
+    private Map<String, Long> countProjectsByWorkspaceId(Pagination<Workspace> workspacePage) {
         if (workspacePage.items().isEmpty()) {
-            return workspacePage.map(ws -> WorkspaceResponse.from(ws, 0));
+            return Map.of();
         }
 
         var workspaceIds = workspacePage.items().stream()
                 .map(Workspace::getId)
                 .toList();
 
-        var mapProjectCounts = projectPersistence.countProjectsByWorkspaceIdIn(workspaceIds);
-
-        return workspacePage.map(ws -> {
-            Object countValue = mapProjectCounts.stream()
-                    .filter(x->x.key().equals(ws.getId()))
-                    .findFirst()
-                    .map(KeyValue::value)
-                    .orElse(0L);
-
-            var count = Long.parseLong(String.valueOf(countValue));
-
-            return WorkspaceResponse.from(ws, count);
-        });
-
+        Map<String, Long> counts = new HashMap<>();
+        for (KeyValue row : projectPersistence.countProjectsByWorkspaceIdIn(workspaceIds)) {
+            counts.put(row.key(), Long.parseLong(String.valueOf(row.value())));
+        }
+        return counts;
     }
 }
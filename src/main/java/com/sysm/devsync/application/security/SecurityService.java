@@ -20,36 +20,38 @@ public class SecurityService {
         this.commentPersistence = commentPersistence;
     }
 
+    // Ownership is read from the author id projections, which are cached, so these checks
+    // don't load the aggregates the controller is about to load again.
+
     public boolean isAnswerOwner(String currentUserId, String answerId) {
-        return answerPersistence.findById(answerId)
-                .map(answer -> answer.getAuthorId().equals(currentUserId))
+        return answerPersistence.findAuthorId(answerId)
+                .map(authorId -> authorId.equals(currentUserId))
                 .orElse(false); // If answer not found, deny access for safety
     }
 
     public boolean isNoteOwner(String currentUserId, String noteId) {
-        return notePersistence.findById(noteId)
-                .map(note -> note.getAuthorId().equals(currentUserId))
+        return notePersistence.findAuthorId(noteId)
+                .map(authorId -> authorId.equals(currentUserId))
                 .orElse(false);
     }
 
     public boolean isQuestionOwner(String currentUserId, String questionId) {
-        return questionPersistence.findById(questionId)
-                .map(question -> currentUserId.equals(question.getAuthorId()))
+        return questionPersistence.findAuthorId(questionId)
+                .map(currentUserId::equals)
                 .orElse(false);
     }
 
     public boolean isCommentOwner(String currentUserId, String commentId){
-        return commentPersistence.findById(commentId)
-                .map(comment -> currentUserId.equals(comment.getAuthorId()))
+        return commentPersistence.findAuthorId(commentId)
+                .map(currentUserId::equals)
                 .orElse(false);
     }
 
     public boolean canUserAcceptAnswer(String currentUserId, String answerId) {
-        // Find the answer, then find its question, then check the question's author.
-        // The transaction is handled by the individual persistence calls.
-        return answerPersistence.findById(answerId)
-                .flatMap(answer -> questionPersistence.findById(answer.getQuestionId()))
-                .map(question -> currentUserId.equals(question.getAuthorId()))
+        // Find the question of the answer, then check the question's author.
+        return answerPersistence.findQuestionId(answerId)
+                .flatMap(questionPersistence::findAuthorId)
+                .map(currentUserId::equals)
                 .orElse(false);
     }
 
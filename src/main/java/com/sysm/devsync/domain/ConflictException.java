@@ -0,0 +1,12 @@
+package com.sysm.devsync.domain;
+
+/**
+ * The stored aggregate changed since the caller read it, the change was not applied.
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message, null, true, true);
+    }
+
+}
@@ -1,11 +1,22 @@
 package com.sysm.devsync.domain;
 
+/**
+ * Page request. When {@code cursor} is set the page is read in keyset (seek) mode:
+ * rows are fetched after the position encoded in the cursor instead of skipping an offset,
+ * and {@code pageNumber} is ignored. A blank cursor starts a keyset scroll from the first row.
+ */
 public record Page(
         int pageNumber,
         int pageSize,
         String sort,
-        String direction
+        String direction,
+        String cursor
 ) {
+
+    public Page(int pageNumber, int pageSize, String sort, String direction) {
+        this(pageNumber, pageSize, sort, direction, null);
+    }
+
     public static Page of(int pageNumber, int pageSize){
         return new Page(pageNumber, pageSize, "id", "asc");
     }
@@ -13,4 +24,16 @@ public record Page(
     public static Page of(int page, int pageSize, String sort, String direction){
         return new Page(page, pageSize, sort, direction);
     }
+
+    public static Page of(int page, int pageSize, String sort, String direction, String cursor){
+        return new Page(page, pageSize, sort, direction, cursor);
+    }
+
+    public static Page after(String cursor, int pageSize){
+        return new Page(0, pageSize, null, null, cursor == null ? "" : cursor);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
 }
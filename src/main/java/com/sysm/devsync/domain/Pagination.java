@@ -1,20 +1,51 @@
 package com.sysm.devsync.domain;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * A page of results. {@code nextCursor} is the continuation token for the following page,
+ * or null when there is none. Pages read without a count report a {@code total} of -1,
+ * {@code hasNext} is always reliable.
+ */
 public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        boolean hasNext,
+        String nextCursor
 ) {
 
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(int currentPage, int perPage, long total, List<T> items) {
+        this(currentPage, perPage, total, items, (currentPage + 1L) * perPage < total, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         List<R> aNewList = this.items().stream()
                 .map(mapper)
                 .toList();
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, hasNext(), nextCursor());
+    }
+
+    /**
+     * Replaces the keys of this page with the values loaded for them in one call, keeping the
+     * order of the keys, e.g. the relevance order of search index hits. Keys the loader does not
+     * return, e.g. rows deleted since they were indexed, are skipped.
+     */
+    public <R> Pagination<R> resolve(final Function<List<T>, List<R>> loader, final Function<R, T> keyOf) {
+        Map<T, R> loaded = loader.apply(this.items()).stream()
+                .collect(Collectors.toMap(keyOf, Function.identity()));
+        List<R> aNewList = this.items().stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, hasNext(), nextCursor());
     }
 
 }
@@ -0,0 +1,13 @@
+package com.sysm.devsync.domain;
+
+import java.time.Instant;
+
+/**
+ * Version and last update time of a stored aggregate, read without loading it to validate what a
+ * client already holds.
+ */
+public record Revision(
+        int version,
+        Instant updatedAt
+) {
+}
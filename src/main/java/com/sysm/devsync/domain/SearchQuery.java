@@ -1,14 +1,32 @@
 package com.sysm.devsync.domain;
 
+import com.sysm.devsync.domain.enums.CountType;
 import com.sysm.devsync.domain.enums.QueryType;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 public record SearchQuery(
         Page page,
         QueryType queryType,
+        CountType countType,
         Map<String, String> terms) {
 
+    /**
+     * Term holding the free text of a full-text search. It is answered by the search index,
+     * not translated into a column predicate.
+     */
+    public static final String FULL_TEXT = "q";
+
+    // Request parameters that shape the page rather than filter the rows
+    private static final Set<String> PAGE_TERMS = Set.of(
+            "pageNumber", "pageSize", "sort", "direction", "queryType", "countType", "cursor", "view");
+
+    public SearchQuery(Page page, QueryType queryType, Map<String, String> terms) {
+        this(page, queryType, CountType.EXACT, terms);
+    }
+
     public static SearchQuery of(Page page) {
         return new SearchQuery(page, QueryType.OR, null);
     }
@@ -21,4 +39,50 @@ public record SearchQuery(
         return new SearchQuery(page, queryType, terms);
     }
 
+    public static SearchQuery of(Page page, QueryType queryType, CountType countType, Map<String, String> terms) {
+        return new SearchQuery(page, queryType, countType, terms);
+    }
+
+    public boolean hasFullText() {
+        return fullText() != null;
+    }
+
+    public String fullText() {
+        if (terms == null) {
+            return null;
+        }
+        String text = terms.get(FULL_TEXT);
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        return text;
+    }
+
+    /**
+     * The terms that filter rows, without the page parameters and the full text.
+     */
+    public Map<String, String> filters() {
+        Map<String, String> filters = terms == null ? new HashMap<>() : new HashMap<>(terms);
+        filters.keySet().removeAll(PAGE_TERMS);
+        filters.remove(FULL_TEXT);
+        return filters;
+    }
+
+    /**
+     * Value of the one filter a full-text search applies next to the text, null when absent. The
+     * search index answers no other filter, so any other one is refused instead of being ignored.
+     *
+     * @throws BusinessException when another filter is combined with the full text
+     */
+    public String fullTextScope(String scopeTerm) {
+        Map<String, String> filters = filters();
+        String scope = filters.remove(scopeTerm);
+        filters.values().removeIf(value -> value == null || value.isBlank());
+        if (!filters.isEmpty()) {
+            throw new BusinessException("Filters " + filters.keySet() + " cannot be combined with '" + FULL_TEXT +
+                                        "', only '" + scopeTerm + "' can");
+        }
+        return scope == null || scope.isBlank() ? null : scope;
+    }
+
 }
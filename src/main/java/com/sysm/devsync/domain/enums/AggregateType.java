@@ -0,0 +1,12 @@
+package com.sysm.devsync.domain.enums;
+
+/**
+ * Aggregates reported by the change feed. The declaration order breaks ties between changes made
+ * at the same instant, do not reorder.
+ */
+public enum AggregateType {
+    QUESTION,
+    ANSWER,
+    COMMENT,
+    NOTE
+}
@@ -0,0 +1,16 @@
+package com.sysm.devsync.domain.enums;
+
+/**
+ * How the total of a search page is obtained.
+ * EXACT runs a count query, ESTIMATED reuses a recently cached count for the same filters,
+ * NONE skips the count and only tells whether there is a next page.
+ */
+public enum CountType {
+    EXACT, ESTIMATED, NONE;
+
+    public static CountType of(String type) {
+        if (type == null)
+            return EXACT;
+        return CountType.valueOf(type.toUpperCase());
+    }
+}
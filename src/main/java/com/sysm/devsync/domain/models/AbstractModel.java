@@ -1,5 +1,113 @@
 package com.sysm.devsync.domain.models;
 
+import com.sysm.devsync.domain.ConflictException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records what the mutators changed since the model was created or built, so persistence can write
+ * only those fields and the ids added to or removed from its collections.
+ * <p>
+ * Fields are named like the model fields, collections by a name chosen by each model.
+ * <p>
+ * Also holds the version of the stored row the model was read from. A write only succeeds while
+ * the row still has that version, and moves it to the next one.
+ */
 public abstract class AbstractModel {
 
+    private int version = 1;
+
+    private final Set<String> changedFields = new LinkedHashSet<>();
+    private final Map<String, Set<String>> added = new HashMap<>();
+    private final Map<String, Set<String>> removed = new HashMap<>();
+
+    public abstract String getId();
+
+    /**
+     * Version of the model as it is or will be stored: the version of the row, plus one once a
+     * field changed.
+     */
+    public int getVersion() {
+        return changedFields.isEmpty() ? version : version + 1;
+    }
+
+    /**
+     * Version of the row the model was read from, what a write expects to find.
+     */
+    public int getStoredVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the version of the row the model was read from, for mappers building it from storage.
+     */
+    public void setStoredVersion(int version) {
+        this.version = version;
+    }
+
+    /**
+     * Fails when the caller based its change on another version than the one read, e.g. a stale If-Match.
+     *
+     * @param expectedVersion the version the caller saw, null when it did not say
+     */
+    public void checkVersion(Integer expectedVersion) {
+        if (expectedVersion != null && expectedVersion != version) {
+            throw new ConflictException("Version " + expectedVersion + " is not the current version " + version);
+        }
+    }
+
+    protected void markChanged(String... fields) {
+        Collections.addAll(changedFields, fields);
+    }
+
+    protected void markAdded(String collection, String id) {
+        // Removing and adding back the same id leaves nothing to write
+        if (!delta(removed, collection).remove(id)) {
+            delta(added, collection).add(id);
+        }
+    }
+
+    protected void markRemoved(String collection, String id) {
+        if (!delta(added, collection).remove(id)) {
+            delta(removed, collection).add(id);
+        }
+    }
+
+    public Set<String> getChangedFields() {
+        return Collections.unmodifiableSet(changedFields);
+    }
+
+    public Set<String> getAdded(String collection) {
+        return Collections.unmodifiableSet(added.getOrDefault(collection, Set.of()));
+    }
+
+    public Set<String> getRemoved(String collection) {
+        return Collections.unmodifiableSet(removed.getOrDefault(collection, Set.of()));
+    }
+
+    public boolean hasChanges() {
+        return !changedFields.isEmpty()
+               || added.values().stream().anyMatch(ids -> !ids.isEmpty())
+               || removed.values().stream().anyMatch(ids -> !ids.isEmpty());
+    }
+
+    /**
+     * Called once the changes are written, the model then matches what is stored, version included.
+     */
+    public void clearChanges() {
+        if (hasChanges()) {
+            version++;
+        }
+        changedFields.clear();
+        added.clear();
+        removed.clear();
+    }
+
+    private static Set<String> delta(Map<String, Set<String>> deltas, String collection) {
+        return deltas.computeIfAbsent(collection, k -> new LinkedHashSet<>());
+    }
 }
@@ -47,17 +47,20 @@ public class Answer extends AbstractModel {
         }
         this.content = content;
         this.updatedAt = Instant.now();
+        markChanged("content", "updatedAt");
         return this;
     }
 
     public void accept() {
         this.isAccepted = true;
         this.updatedAt = Instant.now();
+        markChanged("isAccepted", "updatedAt");
     }
 
     public void reject() {
         this.isAccepted = false;
         this.updatedAt = Instant.now();
+        markChanged("isAccepted", "updatedAt");
     }
 
     public String getId() {
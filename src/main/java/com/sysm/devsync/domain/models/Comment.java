@@ -53,6 +53,7 @@ public class Comment extends AbstractModel {
         }
         this.content = content;
         this.updatedAt = Instant.now();
+        markChanged("content", "updatedAt");
         return this;
     }
 
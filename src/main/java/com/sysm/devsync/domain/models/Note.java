@@ -8,11 +8,12 @@ import java.util.Set;
 
 public class Note extends AbstractModel {
 
+    public static final String TAGS = "tags";
+
     private final String id;
     private final Instant createdAt;
     private final String projectId;
     private final String authorId;
-    private int version;
 
     private Instant updatedAt;
 
@@ -31,7 +32,7 @@ public class Note extends AbstractModel {
         this.tagsId = tagsId;
         this.projectId = projectId;
         this.authorId = authorId;
-        this.version = version;
+        setStoredVersion(version);
         validate();
     }
 
@@ -91,10 +92,6 @@ public class Note extends AbstractModel {
         return authorId;
     }
 
-    public int getVersion() {
-        return version;
-    }
-
     public void update(String title, String content) {
         if (title == null || title.isEmpty()) {
             throw new IllegalArgumentException("Title cannot be null or empty");
@@ -105,7 +102,7 @@ public class Note extends AbstractModel {
         this.title = title;
         this.content = content;
         this.updatedAt = Instant.now();
-        this.version++;
+        markChanged("title", "content", "updatedAt");
     }
 
     public void updateContent(String content) {
@@ -114,7 +111,7 @@ public class Note extends AbstractModel {
         }
         this.content = content;
         this.updatedAt = Instant.now();
-        this.version++;
+        markChanged("content", "updatedAt");
     }
 
     public void addTag(String tag) {
@@ -124,15 +121,17 @@ public class Note extends AbstractModel {
         if (this.tagsId == null) {
             this.tagsId = new HashSet<>();
         }
-        this.tagsId.add(tag);
+        if (this.tagsId.add(tag)) {
+            markAdded(TAGS, tag);
+        }
     }
 
     public void removeTag(String tag) {
         if (tag == null || tag.isEmpty()) {
             throw new IllegalArgumentException("Tag cannot be null or empty");
         }
-        if (this.tagsId != null) {
-            this.tagsId.remove(tag);
+        if (this.tagsId != null && this.tagsId.remove(tag)) {
+            markRemoved(TAGS, tag);
         }
     }
 
@@ -67,6 +67,7 @@ public class Project extends AbstractModel {
         this.name = name;
         this.description = description;
         this.updatedAt = Instant.now();
+        markChanged("name", "description", "updatedAt");
         return this;
     }
 
@@ -76,6 +77,7 @@ public class Project extends AbstractModel {
         }
         this.workspace = WorkspaceTO.of(newWorkspaceId);
         this.updatedAt = Instant.now();
+        markChanged("workspace", "updatedAt");
     }
 
     public static Project create(String name, String description, WorkspaceTO workspace) {
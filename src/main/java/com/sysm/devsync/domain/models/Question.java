@@ -9,6 +9,8 @@ import java.util.Set;
 
 public class Question extends AbstractModel {
 
+    public static final String TAGS = "tags";
+
     private final String id;
     private final Instant createdAt;
     private final String projectId;
@@ -67,6 +69,7 @@ public class Question extends AbstractModel {
         this.updatedAt = Instant.now();
         this.title = title;
         this.description = description;
+        markChanged("title", "description", "updatedAt");
         return this;
     }
 
@@ -77,20 +80,25 @@ public class Question extends AbstractModel {
 
         this.updatedAt = Instant.now();
         this.status = questionStatus;
+        markChanged("status", "updatedAt");
     }
 
     public void addTag(String tag) {
         if (tag == null || tag.isEmpty()) {
             throw new IllegalArgumentException("Tag cannot be null or empty");
         }
-        this.tagsId.add(tag);
+        if (this.tagsId.add(tag)) {
+            markAdded(TAGS, tag);
+        }
     }
 
     public void removeTag(String tag) {
         if (tag == null || tag.isEmpty()) {
             throw new IllegalArgumentException("Tag cannot be null or empty");
         }
-        this.tagsId.remove(tag);
+        if (this.tagsId.remove(tag)) {
+            markRemoved(TAGS, tag);
+        }
     }
 
     public String getId() {
@@ -42,15 +42,18 @@ public class Tag extends AbstractModel {
 
         this.name = name;
         this.color = color;
+        markChanged("name", "color");
         return this;
     }
 
     public void updateDescription(String description) {
         this.description = description;
+        markChanged("description");
     }
 
     public void updateCategory(String category) {
         this.category = category;
+        markChanged("category");
     }
 
     public void incrementUse() {
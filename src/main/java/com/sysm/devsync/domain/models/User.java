@@ -42,6 +42,7 @@ public class User extends AbstractModel {
         this.name = username;
         this.email = email;
         this.role = userRole;
+        markChanged("name", "email", "role", "updatedAt");
         return this;
     }
 
@@ -51,6 +52,7 @@ public class User extends AbstractModel {
         }
         this.name = name;
         this.updatedAt = Instant.now();
+        markChanged("name", "updatedAt");
     }
 
     public void updateEmail(String email) {
@@ -59,6 +61,7 @@ public class User extends AbstractModel {
         }
         this.email = email;
         this.updatedAt = Instant.now();
+        markChanged("email", "updatedAt");
     }
 
     public void updateUserRole(UserRole userRole) {
@@ -67,16 +70,19 @@ public class User extends AbstractModel {
         }
         this.role = userRole;
         this.updatedAt = Instant.now();
+        markChanged("role", "updatedAt");
     }
 
     public void updatePassword(String passwordHash) {
         this.passwordHash = passwordHash;
         this.updatedAt = Instant.now();
+        markChanged("passwordHash", "updatedAt");
     }
 
     public void updateProfilePicture(String profilePictureUrl) {
         this.profilePictureUrl = profilePictureUrl;
         this.updatedAt = Instant.now();
+        markChanged("profilePictureUrl", "updatedAt");
     }
 
     public String getId() {
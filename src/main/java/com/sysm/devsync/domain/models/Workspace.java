@@ -12,6 +12,8 @@ import java.util.stream.Collectors;
 
 public class Workspace extends AbstractModel {
 
+    public static final String MEMBERS = "members";
+
     private final String id;
     private final Instant createdAt;
     private Instant updatedAt;
@@ -21,10 +23,11 @@ public class Workspace extends AbstractModel {
     private boolean isPrivate;
     private UserTO owner;
     private Set<UserTO> members;
+    private int memberCount;
 
     private Workspace(String id, Instant createdAt, Instant updatedAt,
                       String name, String description, boolean isPrivate,
-                      UserTO owner, Set<UserTO> members) {
+                      UserTO owner, Set<UserTO> members, int memberCount) {
 
         this.id = id;
         this.createdAt = createdAt;
@@ -34,6 +37,7 @@ public class Workspace extends AbstractModel {
         this.isPrivate = isPrivate;
         this.owner = owner;
         this.members = members;
+        this.memberCount = memberCount;
 
         validate(name, description);
 
@@ -59,6 +63,7 @@ public class Workspace extends AbstractModel {
         this.updatedAt = Instant.now();
         this.name = name;
         this.description = description;
+        markChanged("name", "description", "updatedAt");
 
         return this;
     }
@@ -70,11 +75,13 @@ public class Workspace extends AbstractModel {
 
         this.updatedAt = Instant.now();
         this.owner = UserTO.of(newOwnerId);
+        markChanged("owner", "updatedAt");
     }
 
     public void setPrivate(boolean isPrivate) {
         this.isPrivate = isPrivate;
         this.updatedAt = Instant.now();
+        markChanged("isPrivate", "updatedAt");
     }
 
     public void addMember(String userId) {
@@ -86,7 +93,10 @@ public class Workspace extends AbstractModel {
             members = new HashSet<>();
         }
 
-        this.members.add(UserTO.of(userId));
+        if (this.members.add(UserTO.of(userId))) {
+            markAdded(MEMBERS, userId);
+        }
+        this.memberCount = members.size();
     }
 
     public void addMember(String userId, String name) {
@@ -98,7 +108,10 @@ public class Workspace extends AbstractModel {
             members = new HashSet<>();
         }
 
-        this.members.add(UserTO.of(userId, name));
+        if (this.members.add(UserTO.of(userId, name))) {
+            markAdded(MEMBERS, userId);
+        }
+        this.memberCount = members.size();
     }
 
     public void removeMember(String userId) {
@@ -108,7 +121,10 @@ public class Workspace extends AbstractModel {
         if (members == null) {
             throw new IllegalArgumentException("Members cannot be null");
         }
-        this.members.removeIf(u-> u.id().equals(userId));
+        if (this.members.removeIf(u-> u.id().equals(userId))) {
+            markRemoved(MEMBERS, userId);
+        }
+        this.memberCount = members.size();
     }
 
     public String getId() {
@@ -155,6 +171,13 @@ public class Workspace extends AbstractModel {
         return Collections.unmodifiableSet(members);
     }
 
+    /**
+     * Number of members, also available when the workspace was loaded without its member set.
+     */
+    public int getMemberCount() {
+        return memberCount;
+    }
+
     public final boolean equals(Object o) {
         if (!(o instanceof Workspace that)) return false;
 
@@ -178,7 +201,8 @@ public class Workspace extends AbstractModel {
                 description,
                 isPrivate,
                 owner,
-                new HashSet<>()
+                new HashSet<>(),
+                0
         );
     }
 
@@ -199,7 +223,27 @@ public class Workspace extends AbstractModel {
                 description,
                 isPrivate,
                 ownerId,
-                members != null ? new HashSet<>(members) : new HashSet<>()
+                members != null ? new HashSet<>(members) : new HashSet<>(),
+                members != null ? members.size() : 0
+        );
+    }
+
+    /**
+     * Builds a summary of the workspace: the member set is left empty and only the count is kept.
+     */
+    public static Workspace buildSummary(String id, Instant createdAt, Instant updatedAt,
+                                         String name, String description, boolean isPrivate,
+                                         UserTO ownerId, int memberCount) {
+        return new Workspace(
+                id,
+                createdAt,
+                updatedAt,
+                name,
+                description,
+                isPrivate,
+                ownerId,
+                new HashSet<>(),
+                memberCount
         );
     }
 
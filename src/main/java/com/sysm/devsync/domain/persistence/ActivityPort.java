@@ -0,0 +1,23 @@
+package com.sysm.devsync.domain.persistence;
+
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
+
+/**
+ * Announces changes to questions, answers, comments and notes to the clients following their
+ * project or workspace.
+ * <p>
+ * Each change names the closest parent the caller already knows, so announcing costs nothing while
+ * nobody follows. Inside a transaction the announcement waits for the commit, a rolled back change
+ * is never announced.
+ */
+public interface ActivityPort {
+
+    void questionChanged(Kind kind, String questionId, String projectId);
+
+    void answerChanged(Kind kind, String answerId, String questionId);
+
+    void commentChanged(Kind kind, String commentId, TargetType targetType, String targetId);
+
+    void noteChanged(Kind kind, String noteId, String projectId);
+}
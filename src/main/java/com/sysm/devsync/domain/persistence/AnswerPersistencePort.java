@@ -5,10 +5,21 @@ import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.PersistencePort;
 import com.sysm.devsync.domain.models.Answer;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface AnswerPersistencePort extends PersistencePort<Answer> {
 
     Pagination<Answer> findAllByQuestionId(Page page, String questionId);
 
+    List<Answer> findAllByIds(List<String> ids);
+
     void deleteAllByQuestionId(String questionId);
 
+    /**
+     * Author of the answer, read without loading the aggregate. Used by authorization checks.
+     */
+    Optional<String> findAuthorId(String answerId);
+
+    Optional<String> findQuestionId(String answerId);
 }
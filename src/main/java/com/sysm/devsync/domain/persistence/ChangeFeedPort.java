@@ -0,0 +1,40 @@
+package com.sysm.devsync.domain.persistence;
+
+import com.sysm.devsync.domain.enums.AggregateType;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Reads what was created, updated or deleted in questions, answers, comments and notes after a
+ * position of the feed, so clients can sync without downloading everything again.
+ */
+public interface ChangeFeedPort {
+
+    /**
+     * Changes after the cursor, oldest first, up to {@code until}. An empty cursor starts from the
+     * beginning. A row changed several times is reported once, at its last change.
+     *
+     * @param until changes made later are left for the next read, it keeps transactions that
+     *              started earlier but commit later from being skipped
+     */
+    Changes readChanges(String cursor, Instant until, int limit);
+
+    enum Kind {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * @param kind CREATED when the row was created after the cursor, not only changed
+     */
+    record Change(AggregateType type, Kind kind, String id, Instant at) {
+    }
+
+    /**
+     * @param cursor position after the last change, or the given cursor when there was none
+     */
+    record Changes(List<Change> changes, String cursor, boolean hasMore) {
+    }
+}
@@ -6,9 +6,19 @@ import com.sysm.devsync.domain.PersistencePort;
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Comment;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface CommentPersistencePort extends PersistencePort<Comment> {
 
     Pagination<Comment> findAllByTargetId(Page page, TargetType targetType, String targetId);
 
+    List<Comment> findAllByIds(List<String> ids);
+
     void deleteAllByTargetTypeAndTargetId(TargetType targetType, String targetId);
+
+    /**
+     * Author of the comment, read without loading the aggregate. Used by authorization checks.
+     */
+    Optional<String> findAuthorId(String commentId);
 }
@@ -3,10 +3,36 @@ package com.sysm.devsync.domain.persistence;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.PersistencePort;
+import com.sysm.devsync.domain.Revision;
 import com.sysm.devsync.domain.models.Note;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface NotePersistencePort extends PersistencePort<Note> {
 
     Pagination<Note> findAllByProjectId(Page page, String projectId);
 
+    List<Note> findAllByIds(List<String> ids);
+
+    /**
+     * Inserts new Notes in JDBC batches, in one transaction. Nothing is read before the inserts.
+     */
+    void createAll(List<Note> models);
+
+    /**
+     * Author of the note, read without loading the aggregate. Used by authorization checks.
+     */
+    Optional<String> findAuthorId(String noteId);
+
+    /**
+     * Project of the note, read without loading the aggregate. Used to route activity events.
+     */
+    Optional<String> findProjectId(String noteId);
+
+    /**
+     * Version and update time of the note, read without loading the aggregate. Used to answer
+     * conditional reads.
+     */
+    Optional<Revision> findRevision(String noteId);
 }
@@ -0,0 +1,45 @@
+package com.sysm.devsync.domain.persistence;
+
+import com.sysm.devsync.domain.models.Answer;
+import com.sysm.devsync.domain.models.Comment;
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.Question;
+
+import java.util.List;
+
+/**
+ * Reads the whole content of a project for export, without holding it in memory.
+ */
+public interface ProjectExportPort {
+
+    /**
+     * Hands every question of the project to the sink with its answers and the comments on both,
+     * then every note with its comments. Rows are read in chunks and released once handed over,
+     * so memory use does not grow with the size of the project.
+     */
+    void export(String projectId, Sink sink);
+
+    interface Sink {
+
+        void project(Project project);
+
+        void question(QuestionEntry entry);
+
+        void note(NoteEntry entry);
+
+        /**
+         * Called after each chunk, a good point to push what was written so far to the client.
+         */
+        void endOfChunk();
+    }
+
+    record QuestionEntry(Question question, List<Comment> comments, List<AnswerEntry> answers) {
+    }
+
+    record AnswerEntry(Answer answer, List<Comment> comments) {
+    }
+
+    record NoteEntry(Note note, List<Comment> comments) {
+    }
+}
@@ -5,10 +5,17 @@ import com.sysm.devsync.domain.models.Project;
 import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 
 import java.util.List;
+import java.util.Collection;
+import java.util.Set;
 
 public interface ProjectPersistencePort extends PersistencePort<Project> {
 
     boolean existsByWorkspaceId(String workspaceId);
 
+    /**
+     * The ids among the given ones that exist, checked with one query. Used to validate bulk input.
+     */
+    Set<String> findExistingIds(Collection<String> ids);
+
     List<KeyValue> countProjectsByWorkspaceIdIn(List<String> workspaceIds);
 }
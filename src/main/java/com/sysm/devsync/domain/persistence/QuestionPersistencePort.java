@@ -3,10 +3,42 @@ package com.sysm.devsync.domain.persistence;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.PersistencePort;
+import com.sysm.devsync.domain.Revision;
 import com.sysm.devsync.domain.models.Question;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface QuestionPersistencePort extends PersistencePort<Question> {
 
     Pagination<Question> findAllByProjectId(Page page, String projectId);
 
+    List<Question> findAllByIds(List<String> ids);
+
+    /**
+     * Inserts new questions in JDBC batches, in one transaction. Nothing is read before the inserts.
+     */
+    void createAll(List<Question> models);
+
+    /**
+     * Deletes the question with its answers, the comments on both and its tag links, releasing
+     * the tag uses, in one transaction. Every step is a single set-based statement.
+     */
+    void deleteWithDependents(String questionId);
+
+    /**
+     * Author of the question, read without loading the aggregate. Used by authorization checks.
+     */
+    Optional<String> findAuthorId(String questionId);
+
+    /**
+     * Project of the question, read without loading the aggregate. Used to route activity events.
+     */
+    Optional<String> findProjectId(String questionId);
+
+    /**
+     * Version and update time of the question, read without loading the aggregate. Used to answer
+     * conditional reads.
+     */
+    Optional<Revision> findRevision(String questionId);
 }
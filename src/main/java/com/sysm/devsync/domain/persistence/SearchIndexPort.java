@@ -0,0 +1,27 @@
+package com.sysm.devsync.domain.persistence;
+
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.enums.TargetType;
+
+/**
+ * Full-text index over the searchable content (notes, questions and answers).
+ * <p>
+ * Documents are identified by their type and id. The scope id groups documents that
+ * must be removed together, e.g. every answer of a question when the question is deleted.
+ */
+public interface SearchIndexPort {
+
+    void index(TargetType type, String id, String scopeId, String... texts);
+
+    void remove(TargetType type, String id);
+
+    void removeByScope(TargetType type, String scopeId);
+
+    /**
+     * Returns the ids of the documents matching the text, ordered by relevance. A scope id limits
+     * them to the documents indexed with it, null searches them all.
+     */
+    Pagination<String> search(TargetType type, String text, String scopeId, Page page);
+
+}
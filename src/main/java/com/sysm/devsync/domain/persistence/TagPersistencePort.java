@@ -2,10 +2,23 @@ package com.sysm.devsync.domain.persistence;
 
 import com.sysm.devsync.domain.PersistencePort;
 import com.sysm.devsync.domain.models.Tag;
+import java.util.Collection;
+import java.util.Set;
 
 public interface TagPersistencePort extends PersistencePort<Tag> {
 
     void incrementUse(String id);
 
     void decrementUse(String id);
+
+    /**
+     * Tags among the given ids that exist, read with one query instead of one existsById per tag.
+     */
+    Set<String> findExistingIds(Collection<String> ids);
+
+    /**
+     * Live usage count of the tag: the persisted count plus the changes not written yet.
+     * Zero for an unknown tag.
+     */
+    long countUses(String id);
 }
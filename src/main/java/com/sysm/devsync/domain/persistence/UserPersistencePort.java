@@ -5,9 +5,13 @@ import com.sysm.devsync.domain.models.User;
 import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 
 import java.util.List;
+import java.util.Collection;
+import java.util.Set;
 
 public interface UserPersistencePort extends PersistencePort<User> {
 
     List<KeyValue> userIdXUseName(List<String> userIds);
 
+    Set<String> findExistingIds(Collection<String> ids);
+
 }
@@ -1,9 +1,59 @@
 package com.sysm.devsync.domain.persistence;
 
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.PersistencePort;
+import com.sysm.devsync.domain.Revision;
+import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.domain.models.to.UserTO;
+
+import java.util.Collection;
+import java.util.Optional;
 
 public interface WorkspacePersistencePort extends PersistencePort<Workspace> {
 
     boolean hasMembers(String workspaceId);
+
+    boolean isMember(String workspaceId, String userId);
+
+    /**
+     * @return {@code true} if the user was added, {@code false} if already a member
+     */
+    boolean addMember(String workspaceId, String userId);
+
+    /**
+     * @return {@code true} if the user was removed, {@code false} if not a member
+     */
+    boolean removeMember(String workspaceId, String userId);
+
+    /**
+     * Adds the users as members without loading the workspace. Unknown users and users that
+     * are already members are skipped.
+     *
+     * @return number of members added
+     */
+    int addMembers(String workspaceId, Collection<String> userIds);
+
+    /**
+     * Removes the users from the members without loading the workspace. Users that are not
+     * members are skipped.
+     *
+     * @return number of members removed
+     */
+    int removeMembers(String workspaceId, Collection<String> userIds);
+
+    /**
+     * Same search as {@link #findAll(SearchQuery)}, but workspaces come without their member set,
+     * only with the member count.
+     */
+    Pagination<Workspace> findAllSummaries(SearchQuery query);
+
+    Pagination<UserTO> findMembers(String workspaceId, Page page);
+
+    /**
+     * Version and update time of the workspace, read without loading the aggregate. Used to answer
+     * conditional reads.
+     */
+    Optional<Revision> findRevision(String workspaceId);
 }
@@ -0,0 +1,171 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded in-process cache of aggregates by id, placed in front of a persistence adapter.
+ * <p>
+ * Entries expire after a fixed time and the least recently used ones are evicted when the cache is full.
+ * Models are mutable, so every read hands out a copy and the cached instance never leaves the cache.
+ * An id can also be cached as only "known to exist", to answer existence checks without loading it.
+ * <p>
+ * Invalidation, of one id or of the whole cache, is applied at once and again when the surrounding
+ * transaction completes, so a read that runs between the write and the commit cannot keep the old row
+ * cached. A load that overlaps any invalidation is not cached at all.
+ * A disabled cache always calls the loader and keeps no state.
+ */
+public final class AggregateCache<V> {
+
+    private final String name;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final UnaryOperator<V> copier;
+    private final Map<String, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long invalidations;
+
+    AggregateCache(String name, boolean enabled, Duration ttl, int maxSize, UnaryOperator<V> copier) {
+        this.name = name;
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.copier = copier;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public Optional<V> get(String id, Supplier<Optional<V>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        long generation;
+        synchronized (this) {
+            Entry<V> entry = liveEntry(id);
+            if (entry != null && entry.value() != null) {
+                hits.increment();
+                return Optional.of(copier.apply(entry.value()));
+            }
+            generation = invalidations;
+        }
+
+        misses.increment();
+        Optional<V> loaded = loader.get();
+        loaded.ifPresent(value -> put(id, copier.apply(value), generation));
+        return loaded;
+    }
+
+    public boolean exists(String id, BooleanSupplier loader) {
+        if (!enabled) {
+            return loader.getAsBoolean();
+        }
+
+        long generation;
+        synchronized (this) {
+            if (liveEntry(id) != null) {
+                hits.increment();
+                return true;
+            }
+            generation = invalidations;
+        }
+
+        misses.increment();
+        boolean exists = loader.getAsBoolean();
+        if (exists) {
+            put(id, null, generation);
+        }
+        return exists;
+    }
+
+    public void invalidate(String id) {
+        if (!enabled) {
+            return;
+        }
+        remove(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(id);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(name, enabled, entries.size(), hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private Entry<V> liveEntry(String id) {
+        Entry<V> entry = entries.get(id);
+        if (entry != null && System.nanoTime() - entry.createdAt() > ttlNanos) {
+            entries.remove(id);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void put(String id, V value, long generation) {
+        if (generation != invalidations) {
+            return;
+        }
+        // A known-to-exist marker never replaces a loaded value
+        if (value == null && entries.get(id) != null) {
+            return;
+        }
+        entries.put(id, new Entry<>(value, System.nanoTime()));
+    }
+
+    private synchronized void remove(String id) {
+        invalidations++;
+        entries.remove(id);
+    }
+
+    private synchronized void clear() {
+        invalidations++;
+        entries.clear();
+    }
+
+    private record Entry<V>(V value, long createdAt) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Creates the aggregate caches from configuration and keeps track of them for metrics.
+ * <p>
+ * Each cache is configured under {@code dev-sync.cache.<name>} with {@code enabled}, {@code ttl}
+ * and {@code max-size}. {@code dev-sync.cache.enabled} switches all of them off at once.
+ */
+@Component
+public class AggregateCaches {
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final Environment environment;
+    private final Map<String, AggregateCache<?>> caches = new ConcurrentHashMap<>();
+
+    public AggregateCaches(Environment environment) {
+        this.environment = environment;
+    }
+
+    public <V> AggregateCache<V> create(String name, UnaryOperator<V> copier) {
+        String prefix = "dev-sync.cache." + name + ".";
+        boolean enabled = environment.getProperty("dev-sync.cache.enabled", Boolean.class, true)
+                          && environment.getProperty(prefix + "enabled", Boolean.class, true);
+        Duration ttl = environment.getProperty(prefix + "ttl", Duration.class, DEFAULT_TTL);
+        int maxSize = environment.getProperty(prefix + "max-size", Integer.class, DEFAULT_MAX_SIZE);
+
+        var cache = new AggregateCache<>(name, enabled, ttl, maxSize, copier);
+        caches.put(name, cache);
+        return cache;
+    }
+
+    public List<AggregateCache<?>> caches() {
+        return List.copyOf(caches.values());
+    }
+
+    public List<CacheStats> stats() {
+        return caches.values().stream()
+                .map(AggregateCache::stats)
+                .toList();
+    }
+
+    public void invalidateAll() {
+        caches.values().forEach(AggregateCache::invalidateAll);
+    }
+}
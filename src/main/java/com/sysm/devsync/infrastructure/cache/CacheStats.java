@@ -0,0 +1,16 @@
+package com.sysm.devsync.infrastructure.cache;
+
+public record CacheStats(
+        String name,
+        boolean enabled,
+        int size,
+        long hits,
+        long misses,
+        long evictions
+) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0d : (double) hits / requests;
+    }
+}
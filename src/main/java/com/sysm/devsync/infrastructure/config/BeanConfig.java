@@ -3,9 +3,12 @@ package com.sysm.devsync.infrastructure.config;
 import com.sysm.devsync.application.*;
 import com.sysm.devsync.application.security.SecurityService;
 import com.sysm.devsync.domain.persistence.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class BeanConfig {
 
@@ -27,8 +30,10 @@ public class BeanConfig {
     }
 
     @Bean
-    public ProjectService projectService(WorkspacePersistencePort workspacePersistencePort, ProjectPersistencePort projectPersistencePort) {
-        return new ProjectService(projectPersistencePort, workspacePersistencePort);
+    public ProjectService projectService(WorkspacePersistencePort workspacePersistencePort,
+                                         ProjectPersistencePort projectPersistencePort,
+                                         ProjectExportPort projectExportPort) {
+        return new ProjectService(projectPersistencePort, workspacePersistencePort, projectExportPort);
     }
 
     @Bean
@@ -36,29 +41,35 @@ public class BeanConfig {
                                            ProjectPersistencePort projectPersistencePort,
                                            TagPersistencePort tagPersistencePort,
                                            UserPersistencePort userPersistencePort,
-                                           CommentPersistencePort commentPersistencePort,
-                                           AnswerPersistencePort answerPersistencePort) {
+                                           SearchIndexPort searchIndexPort,
+                                           ActivityPort activityPort) {
         return new QuestionService(questionPersistencePort,
                 projectPersistencePort,
                 tagPersistencePort,
                 userPersistencePort,
-                commentPersistencePort,
-                answerPersistencePort);
+                searchIndexPort,
+                activityPort);
     }
 
     @Bean
     public AnswerService answerService(AnswerPersistencePort answerPersistencePort,
                                        QuestionPersistencePort questionPersistencePort,
-                                       UserPersistencePort userPersistencePort){
-        return new AnswerService(answerPersistencePort, questionPersistencePort, userPersistencePort);
+                                       UserPersistencePort userPersistencePort,
+                                       SearchIndexPort searchIndexPort,
+                                       ActivityPort activityPort){
+        return new AnswerService(answerPersistencePort, questionPersistencePort, userPersistencePort, searchIndexPort,
+                activityPort);
     }
 
     @Bean
     public NoteService noteService(NotePersistencePort notePersistencePort,
                                    ProjectPersistencePort projectPersistence,
                                    UserPersistencePort userPersistence,
-                                   TagPersistencePort tagPersistence) {
-        return new NoteService(notePersistencePort, projectPersistence, userPersistence, tagPersistence);
+                                   TagPersistencePort tagPersistence,
+                                   SearchIndexPort searchIndexPort,
+                                   ActivityPort activityPort) {
+        return new NoteService(notePersistencePort, projectPersistence, userPersistence, tagPersistence, searchIndexPort,
+                activityPort);
     }
 
     @Bean
@@ -66,12 +77,46 @@ public class BeanConfig {
                                          NotePersistencePort notePersistencePort,
                                          QuestionPersistencePort questionPersistencePort,
                                          AnswerPersistencePort answerPersistencePort,
-                                         UserPersistencePort userPersistencePort){
+                                         UserPersistencePort userPersistencePort,
+                                         ActivityPort activityPort){
         return new CommentService(commentPersistencePort,
                 notePersistencePort,
                 questionPersistencePort,
                 answerPersistencePort,
-                userPersistencePort);
+                userPersistencePort,
+                activityPort);
+    }
+
+    @Bean
+    public ImportService importService(QuestionPersistencePort questionPersistencePort,
+                                       NotePersistencePort notePersistencePort,
+                                       ProjectPersistencePort projectPersistencePort,
+                                       UserPersistencePort userPersistencePort,
+                                       TagPersistencePort tagPersistencePort,
+                                       SearchIndexPort searchIndexPort,
+                                       @Value("${dev-sync.import.batch-size:1000}") int batchSize) {
+        return new ImportService(questionPersistencePort,
+                notePersistencePort,
+                projectPersistencePort,
+                userPersistencePort,
+                tagPersistencePort,
+                searchIndexPort,
+                batchSize);
+    }
+
+    @Bean
+    public SyncService syncService(ChangeFeedPort changeFeedPort,
+                                   QuestionPersistencePort questionPersistencePort,
+                                   AnswerPersistencePort answerPersistencePort,
+                                   CommentPersistencePort commentPersistencePort,
+                                   NotePersistencePort notePersistencePort,
+                                   @Value("${dev-sync.sync.settle-time:2s}") Duration settleTime) {
+        return new SyncService(changeFeedPort,
+                questionPersistencePort,
+                answerPersistencePort,
+                commentPersistencePort,
+                notePersistencePort,
+                settleTime);
     }
 
     @Bean("securityService")
@@ -0,0 +1,72 @@
+package com.sysm.devsync.infrastructure.config;
+
+import com.sysm.devsync.infrastructure.execution.AdmissionDataSource;
+import com.sysm.devsync.infrastructure.execution.DatabaseAdmission;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * How requests are executed and admitted to the database.
+ * <p>
+ * Requests run on the Tomcat worker threads, or with {@code spring.threads.virtual.enabled} on a
+ * virtual thread each, which Boot also applies to its task executors and needs a Java 21 runtime.
+ * Either way {@code dev-sync.db-admission} queues the callers past the pool size, see
+ * {@link DatabaseAdmission}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ExecutionConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionConfig.class);
+
+    /**
+     * Boot ignores {@code spring.threads.virtual.enabled} below Java 21 and keeps the platform
+     * threads, so the application refuses to start instead of silently running the other mode.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public InitializingBean virtualThreadsCheck() {
+        return () -> {
+            if (Runtime.version().feature() < 21) {
+                throw new IllegalStateException("spring.threads.virtual.enabled needs Java 21 or later, running on " +
+                                                Runtime.version());
+            }
+            log.info("Requests run on virtual threads");
+        };
+    }
+
+    /**
+     * Wraps the pool in an {@link AdmissionDataSource}. The admission size defaults to the size of
+     * the pool, so an admitted caller finds a free connection.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "dev-sync.db-admission.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor databaseAdmission(Environment environment, ObjectProvider<MeterRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionDataSource) {
+                    return bean;
+                }
+                int poolSize = bean instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+                var admission = new DatabaseAdmission(
+                        environment.getProperty("dev-sync.db-admission.size", Integer.class, poolSize),
+                        environment.getProperty("dev-sync.db-admission.max-queue", Integer.class, 1000),
+                        environment.getProperty("dev-sync.db-admission.timeout", Duration.class, Duration.ofSeconds(5)),
+                        registry.getObject());
+                return new AdmissionDataSource(dataSource, admission);
+            }
+        };
+    }
+}
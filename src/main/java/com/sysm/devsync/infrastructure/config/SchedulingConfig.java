@@ -0,0 +1,12 @@
+package com.sysm.devsync.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Background jobs, such as the tag usage flush, run on Spring's scheduler.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
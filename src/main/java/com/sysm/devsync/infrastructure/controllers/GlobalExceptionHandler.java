@@ -1,18 +1,28 @@
 package com.sysm.devsync.infrastructure.controllers;
 
 import com.sysm.devsync.domain.BusinessException;
+import com.sysm.devsync.domain.ConflictException;
 import com.sysm.devsync.domain.NotFoundException;
 import com.sysm.devsync.infrastructure.controllers.dto.response.ErrorResponse;
+import com.sysm.devsync.infrastructure.execution.DatabaseBusyException;
+import com.sysm.devsync.infrastructure.repositories.persistence.LateCommitException;
+import jakarta.persistence.PersistenceException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -87,6 +97,26 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, status);
     }
 
+    /**
+     * Handles writes based on a version of the resource that is no longer the stored one, either
+     * from a stale If-Match or from a concurrent change.
+     *
+     * @return ResponseEntity with status 409 (Conflict).
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflictException(ConflictException ex, HttpServletRequest request) {
+        final HttpStatus status = HttpStatus.CONFLICT;
+
+        var errorResponse = new ErrorResponse(
+                Instant.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
     /**
      * Handles generic argument validation exceptions (e.g., invalid query parameters).
      * This no longer needs to check for "not found" messages.
@@ -128,6 +158,54 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, status);
     }
 
+    /**
+     * Handles exceptions that carry their own status, like a refused activity stream.
+     *
+     * @return ResponseEntity with the status of the exception.
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(ResponseStatusException ex, HttpServletRequest request) {
+        final HttpStatusCode status = ex.getStatusCode();
+
+        var errorResponse = new ErrorResponse(
+                Instant.now(),
+                status.value(),
+                ex.getBody().getTitle(),
+                ex.getReason(),
+                request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
+    /**
+     * Handles a request the database could not admit in time, or whose transaction could not commit
+     * within the sync settle time. It arrives wrapped by the transaction or data access layer, other
+     * failures of those layers stay internal errors.
+     *
+     * @return ResponseEntity with status 503 (Service Unavailable) and a Retry-After header.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessException.class, PersistenceException.class})
+    public ResponseEntity<ErrorResponse> handleDatabaseUnavailable(Exception ex, HttpServletRequest request) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(ex);
+        if (!(cause instanceof DatabaseBusyException || cause instanceof LateCommitException)) {
+            return handleGenericException(ex, request);
+        }
+        log.warn("Database busy at path: {}: {}", request.getRequestURI(), cause.getMessage());
+
+        final HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+
+        var errorResponse = new ErrorResponse(
+                Instant.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                "The server is busy. Please try again shortly.",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     /**
      * A catch-all handler for any other unhandled exceptions.
      * This prevents stack traces from being exposed to the client.
@@ -0,0 +1,18 @@
+package com.sysm.devsync.infrastructure.controllers.dto.request;
+
+import java.util.Set;
+
+/**
+ * One line of a bulk import. The type is "question" or "note"; questions carry a description and
+ * notes a content. A project export can be imported: its project line is skipped and the other
+ * fields of a line are ignored, so the answers and comments nested in its questions are not imported.
+ */
+public record ContentImport(
+        String type,
+        String title,
+        String description,
+        String content,
+        String projectId,
+        String authorId,
+        Set<String> tagsId
+) {}
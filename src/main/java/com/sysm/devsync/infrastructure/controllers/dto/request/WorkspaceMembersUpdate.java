@@ -0,0 +1,11 @@
+package com.sysm.devsync.infrastructure.controllers.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.Set;
+
+public record WorkspaceMembersUpdate(
+        @NotEmpty(message = "Member IDs must not be empty")
+        Set<String> memberIds
+) {
+}
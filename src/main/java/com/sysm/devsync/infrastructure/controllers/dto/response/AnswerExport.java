@@ -0,0 +1,30 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+import com.sysm.devsync.domain.models.Answer;
+import com.sysm.devsync.domain.persistence.ProjectExportPort.AnswerEntry;
+
+import java.time.Instant;
+import java.util.List;
+
+public record AnswerExport(
+        String id,
+        String content,
+        boolean isAccepted,
+        String authorId,
+        Instant createdAt,
+        Instant updatedAt,
+        List<CommentResponse> comments
+) {
+    public static AnswerExport from(AnswerEntry entry) {
+        Answer answer = entry.answer();
+        return new AnswerExport(
+                answer.getId(),
+                answer.getContent(),
+                answer.isAccepted(),
+                answer.getAuthorId(),
+                answer.getCreatedAt(),
+                answer.getUpdatedAt(),
+                entry.comments().stream().map(CommentResponse::from).toList()
+        );
+    }
+}
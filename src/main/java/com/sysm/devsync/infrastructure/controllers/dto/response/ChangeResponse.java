@@ -0,0 +1,18 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+import com.sysm.devsync.domain.enums.AggregateType;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
+
+import java.time.Instant;
+
+/**
+ * One change of the sync feed. Data holds the aggregate as it is now, absent for a deletion.
+ */
+public record ChangeResponse(
+        AggregateType type,
+        Kind kind,
+        String id,
+        Instant at,
+        Object data
+) {
+}
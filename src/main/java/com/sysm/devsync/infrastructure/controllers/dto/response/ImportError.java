@@ -0,0 +1,7 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+public record ImportError(
+        long line,
+        String message
+) {
+}
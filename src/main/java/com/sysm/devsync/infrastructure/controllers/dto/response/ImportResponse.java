@@ -0,0 +1,13 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Only the first errors are listed, failed counts all of them.
+ */
+public record ImportResponse(
+        long imported,
+        long failed,
+        List<ImportError> errors
+) {
+}
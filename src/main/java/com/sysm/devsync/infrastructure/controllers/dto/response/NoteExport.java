@@ -0,0 +1,44 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.persistence.ProjectExportPort.NoteEntry;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Export line of a note, with its comments.
+ */
+public record NoteExport(
+        String type,
+        String id,
+        String title,
+        String content,
+        int version,
+        String projectId,
+        String authorId,
+        Set<String> tagsId,
+        Instant createdAt,
+        Instant updatedAt,
+        List<CommentResponse> comments
+) {
+    public static final String TYPE = "note";
+
+    public static NoteExport from(NoteEntry entry) {
+        Note note = entry.note();
+        return new NoteExport(
+                TYPE,
+                note.getId(),
+                note.getTitle(),
+                note.getContent(),
+                note.getVersion(),
+                note.getProjectId(),
+                note.getAuthorId(),
+                note.getTagsId(),
+                note.getCreatedAt(),
+                note.getUpdatedAt(),
+                entry.comments().stream().map(CommentResponse::from).toList()
+        );
+    }
+}
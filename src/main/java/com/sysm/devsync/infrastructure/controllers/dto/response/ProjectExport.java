@@ -0,0 +1,32 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+import com.sysm.devsync.domain.models.Project;
+
+import java.time.Instant;
+
+/**
+ * First line of a project export.
+ */
+public record ProjectExport(
+        String type,
+        String id,
+        String name,
+        String description,
+        String workspaceId,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    public static final String TYPE = "project";
+
+    public static ProjectExport from(Project project) {
+        return new ProjectExport(
+                TYPE,
+                project.getId(),
+                project.getName(),
+                project.getDescription(),
+                project.getWorkspace() != null ? project.getWorkspace().id() : null,
+                project.getCreatedAt(),
+                project.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+import com.sysm.devsync.domain.enums.QuestionStatus;
+import com.sysm.devsync.domain.models.Question;
+import com.sysm.devsync.domain.persistence.ProjectExportPort.QuestionEntry;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Export line of a question, with its answers and the comments on both.
+ */
+public record QuestionExport(
+        String type,
+        String id,
+        String title,
+        String description,
+        QuestionStatus status,
+        String authorId,
+        String projectId,
+        Set<String> tagsId,
+        Instant createdAt,
+        Instant updatedAt,
+        List<CommentResponse> comments,
+        List<AnswerExport> answers
+) {
+    public static final String TYPE = "question";
+
+    public static QuestionExport from(QuestionEntry entry) {
+        Question question = entry.question();
+        return new QuestionExport(
+                TYPE,
+                question.getId(),
+                question.getTitle(),
+                question.getDescription(),
+                question.getStatus(),
+                question.getAuthorId(),
+                question.getProjectId(),
+                question.getTagsId(),
+                question.getCreatedAt(),
+                question.getUpdatedAt(),
+                entry.comments().stream().map(CommentResponse::from).toList(),
+                entry.answers().stream().map(AnswerExport::from).toList()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.sysm.devsync.infrastructure.controllers.dto.response;
+
+import java.util.List;
+
+/**
+ * A batch of the sync feed. The cursor is passed as 'since' to read the next batch, also when
+ * the batch is empty.
+ */
+public record SyncResponse(
+        List<ChangeResponse> changes,
+        String cursor,
+        boolean hasMore
+) {
+}
@@ -4,7 +4,6 @@ import com.sysm.devsync.domain.models.Workspace;
 import com.sysm.devsync.domain.models.to.UserTO;
 
 import java.time.Instant;
-import java.util.HashSet;
 import java.util.Set;
 
 public record WorkspaceResponse(
@@ -14,6 +13,7 @@ public record WorkspaceResponse(
         boolean isPrivate,
         UserTO owner,
         Set<UserTO> members,
+        long memberCount,
         long projectCount,
         Instant createdAt,
         Instant updatedAt
@@ -28,6 +28,7 @@ public record WorkspaceResponse(
                 workspace.isPrivate(),
                 workspace.getOwner(),
                 workspace.getMembers(),
+                workspace.getMemberCount(),
                 0,
                 workspace.getCreatedAt(),
                 workspace.getUpdatedAt()
@@ -43,6 +44,26 @@ public record WorkspaceResponse(
                 workspace.isPrivate(),
                 workspace.getOwner(),
                 workspace.getMembers(),
+                workspace.getMemberCount(),
+                projectCount,
+                workspace.getCreatedAt(),
+                workspace.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Response without the member list; members are read through the paged members endpoint.
+     */
+    public static WorkspaceResponse summaryFrom(Workspace workspace, long projectCount) {
+
+        return new WorkspaceResponse(
+                workspace.getId(),
+                workspace.getName(),
+                workspace.getDescription(),
+                workspace.isPrivate(),
+                workspace.getOwner(),
+                null,
+                workspace.getMemberCount(),
                 projectCount,
                 workspace.getCreatedAt(),
                 workspace.getUpdatedAt()
@@ -0,0 +1,34 @@
+package com.sysm.devsync.infrastructure.controllers.rest;
+
+import com.sysm.devsync.infrastructure.config.security.IsMemberOrAdmin;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Activity")
+public interface ActivityAPI {
+
+    @IsMemberOrAdmin
+    @GetMapping(value = "/projects/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Follow the activity in a project",
+               description = "Server-Sent Events stream. An 'activity' event names each question, answer, comment or note " +
+                             "created, updated or deleted. An 'overflow' event tells how many events were dropped because " +
+                             "the client fell behind, read them through GET /sync")
+    @ApiResponse(responseCode = "200", description = "Stream opened")
+    @ApiResponse(responseCode = "404", description = "Project not found")
+    @ApiResponse(responseCode = "503", description = "Too many open streams, retry later")
+    SseEmitter followProject(@PathVariable("projectId") String projectId);
+
+    @IsMemberOrAdmin
+    @GetMapping(value = "/workspaces/{workspaceId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Follow the activity in every project of a workspace",
+               description = "Same events as the stream of a project")
+    @ApiResponse(responseCode = "200", description = "Stream opened")
+    @ApiResponse(responseCode = "404", description = "Workspace not found")
+    @ApiResponse(responseCode = "503", description = "Too many open streams, retry later")
+    SseEmitter followWorkspace(@PathVariable("workspaceId") String workspaceId);
+}
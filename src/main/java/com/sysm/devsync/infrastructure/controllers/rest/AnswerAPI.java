@@ -9,6 +9,7 @@ import com.sysm.devsync.infrastructure.controllers.dto.response.AnswerResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -36,13 +37,17 @@ public interface AnswerAPI {
 
     @IsMemberOrAdmin
     @GetMapping
-    @Operation(summary = "Search for answers with various filters")
+    @Operation(summary = "Search for answers with various filters",
+            description = "Use the 'q' filter for a ranked full-text search on the answer content; it can be combined with 'questionId' only, other filters are refused with 400.")
+    @ApiResponse(responseCode = "400", description = "Filters that cannot be combined with 'q'")
     Pagination<AnswerResponse> searchAnswers(
             @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
             @RequestParam(name = "pageSize", defaultValue = "10") int pageSize,
             @RequestParam(name = "sort", defaultValue = "createdAt") String sort,
             @RequestParam(name = "direction", defaultValue = "desc") String direction,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
+            @RequestParam(name = "countType", required = false, defaultValue = "exact") String countType,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam Map<String, String> filters
     );
 
@@ -60,22 +65,32 @@ public interface AnswerAPI {
     @IsAnswerOwnerOrAdmin
     @PutMapping("/{answerId}")
     @Operation(summary = "Update an answer's content")
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
     ResponseEntity<?> updateAnswer(
             @PathVariable("answerId") String answerId,
-            @RequestBody AnswerCreateUpdate request
+            @RequestBody AnswerCreateUpdate request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
     @CanUserAcceptAnswer
     @PatchMapping("/{answerId}/accept")
     @Operation(summary = "Mark an answer as accepted")
     @ApiResponse(responseCode = "204", description = "Answer marked as accepted")
-    ResponseEntity<?> acceptAnswer(@PathVariable("answerId") String answerId);
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
+    ResponseEntity<?> acceptAnswer(
+            @PathVariable("answerId") String answerId,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @CanUserAcceptAnswer
     @PatchMapping("/{answerId}/reject")
     @Operation(summary = "Un-mark an answer as accepted")
     @ApiResponse(responseCode = "204", description = "Answer acceptance removed")
-    ResponseEntity<?> rejectAnswer(@PathVariable("answerId") String answerId);
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
+    ResponseEntity<?> rejectAnswer(
+            @PathVariable("answerId") String answerId,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @IsAnswerOwnerOrAdmin
     @DeleteMapping("/{answerId}")
@@ -9,6 +9,7 @@ import com.sysm.devsync.infrastructure.controllers.dto.response.CommentResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -39,6 +40,8 @@ public interface CommentAPI {
             @RequestParam(name = "sort", defaultValue = "createdAt") String sort,
             @RequestParam(name = "direction", defaultValue = "desc") String direction,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
+            @RequestParam(name = "countType", required = false, defaultValue = "exact") String countType,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam Map<String, String> filters
     );
 
@@ -57,9 +60,11 @@ public interface CommentAPI {
     @IsCommentOwnerOrAdmin
     @PutMapping("/{commentId}")
     @Operation(summary = "Update a comment's content")
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
     ResponseEntity<?> updateComment(
             @PathVariable("commentId") String commentId,
-            @RequestBody CommentCreateUpdate request
+            @RequestBody CommentCreateUpdate request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
     @IsCommentOwnerOrAdmin
@@ -0,0 +1,27 @@
+package com.sysm.devsync.infrastructure.controllers.rest;
+
+import com.sysm.devsync.infrastructure.controllers.dto.response.ImportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RequestMapping("/imports")
+@Tag(name = "Imports")
+public interface ImportAPI {
+
+    @PostMapping(consumes = "application/x-ndjson")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @Operation(summary = "Import questions and notes from newline-delimited JSON",
+               description = "Each line is a question or a note object with a 'type' field. The body is read as a stream, " +
+                             "records that fail are reported by line number and do not stop the import. A project export is accepted: " +
+                             "its project line is skipped, and the answers and comments nested in question lines are not imported")
+    @ApiResponse(responseCode = "200", description = "Import finished, the response counts and lists the failed records")
+    ResponseEntity<ImportResponse> importContent(InputStream body) throws IOException;
+}
@@ -8,6 +8,7 @@ import com.sysm.devsync.infrastructure.controllers.dto.response.NoteResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -32,14 +33,18 @@ public interface NoteAPI {
 
     @IsMemberOrAdmin
     @GetMapping
-    @Operation(summary = "Search for notes with pagination and filters")
+    @Operation(summary = "Search for notes with pagination and filters",
+            description = "Use the 'q' filter for a ranked full-text search on title and content; it can be combined with 'projectId' only, other filters are refused with 400.")
     @ApiResponse(responseCode = "200", description = "Notes found")
+    @ApiResponse(responseCode = "400", description = "Filters that cannot be combined with 'q'")
     Pagination<NoteResponse> searchNotes(
             @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
             @RequestParam(name = "pageSize", defaultValue = "10") int pageSize,
             @RequestParam(name = "sort", defaultValue = "updatedAt") String sort,
             @RequestParam(name = "direction", defaultValue = "desc") String direction,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
+            @RequestParam(name = "countType", required = false, defaultValue = "exact") String countType,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam Map<String, String> filters
     );
 
@@ -47,13 +52,23 @@ public interface NoteAPI {
     @PutMapping("/{noteId}")
     @Operation(summary = "Update a note's title and content")
     @ApiResponse(responseCode = "204", description = "Note updated successfully")
-    ResponseEntity<?> updateNote(@PathVariable("noteId") String noteId, @RequestBody NoteCreateUpdate request);
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
+    ResponseEntity<?> updateNote(
+            @PathVariable("noteId") String noteId,
+            @RequestBody NoteCreateUpdate request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @IsNoteOwnerOrAdmin
     @PatchMapping("/{noteId}/content")
     @Operation(summary = "Partially update a note's content")
     @ApiResponse(responseCode = "204", description = "Note content updated successfully")
-    ResponseEntity<?> updateNoteContent(@PathVariable("noteId") String noteId, @RequestBody NoteCreateUpdate request);
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
+    ResponseEntity<?> updateNoteContent(
+            @PathVariable("noteId") String noteId,
+            @RequestBody NoteCreateUpdate request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @IsNoteOwnerOrAdmin
     @DeleteMapping("/{noteId}")
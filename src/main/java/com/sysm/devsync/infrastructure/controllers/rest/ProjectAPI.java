@@ -7,9 +7,11 @@ import com.sysm.devsync.infrastructure.controllers.dto.response.ProjectResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Map;
 
@@ -40,15 +42,30 @@ public interface ProjectAPI {
             @RequestParam(name = "sort", defaultValue = "name") String sort,
             @RequestParam(name = "direction", defaultValue = "asc") String direction,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
+            @RequestParam(name = "countType", required = false, defaultValue = "exact") String countType,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam Map<String, String> filters
     );
 
+    @IsMemberOrAdmin
+    @GetMapping(value = "/{id}/export", produces = "application/x-ndjson")
+    @Operation(summary = "Export a project as newline-delimited JSON",
+               description = "Streams the project, then every question with its answers and comments, then every note with its comments, one JSON object per line")
+    @ApiResponse(responseCode = "200", description = "Export streamed")
+    @ApiResponse(responseCode = "404", description = "Project not found")
+    ResponseEntity<StreamingResponseBody> exportProject(@PathVariable("id") String id);
+
     @IsMemberOrAdmin
     @PutMapping("/{id}")
     @Operation(summary = "Update a project's details")
     @ApiResponse(responseCode = "204", description = "Project updated successfully")
     @ApiResponse(responseCode = "404", description = "Project not found")
-    ResponseEntity<?> updateProject(@PathVariable("id") String id, @RequestBody ProjectCreateUpdate request);
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
+    ResponseEntity<?> updateProject(
+            @PathVariable("id") String id,
+            @RequestBody ProjectCreateUpdate request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN')")
@@ -62,5 +79,10 @@ public interface ProjectAPI {
     @Operation(summary = "Change the workspace a project belongs to")
     @ApiResponse(responseCode = "204", description = "Workspace changed successfully")
     @ApiResponse(responseCode = "404", description = "Project or new Workspace not found")
-    ResponseEntity<?> changeWorkspace(@PathVariable("id") String id, @PathVariable("workspaceId") String workspaceId);
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
+    ResponseEntity<?> changeWorkspace(
+            @PathVariable("id") String id,
+            @PathVariable("workspaceId") String workspaceId,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 }
@@ -8,6 +8,7 @@ import com.sysm.devsync.infrastructure.controllers.dto.response.QuestionResponse
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -37,8 +38,11 @@ public interface QuestionAPI {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('MEMBER', 'ADMIN')")
-    @Operation(summary = "Search for questions with pagination and filters")
+    @Operation(summary = "Search for questions with pagination and filters",
+            description = "Use the 'q' filter for a ranked full-text search on title and description; it can be combined with 'projectId' only, other filters are refused with 400. "
+                    + "Pass 'cursor' (blank for the first page) to scroll with keyset pagination, following the returned nextCursor.")
     @ApiResponse(responseCode = "200", description = "Questions found")
+    @ApiResponse(responseCode = "400", description = "Filters that cannot be combined with 'q'")
     @ApiResponse(responseCode = "403", description = "Access denied")
     Pagination<QuestionResponse> searchQuestions(
             @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
@@ -46,6 +50,8 @@ public interface QuestionAPI {
             @RequestParam(name = "sort", defaultValue = "createdAt") String sort,
             @RequestParam(name = "direction", defaultValue = "desc") String direction,
             @RequestParam(name = "queryType", defaultValue = "or") String queryType,
+            @RequestParam(name = "countType", required = false, defaultValue = "exact") String countType,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam Map<String, String> filters
     );
 
@@ -55,7 +61,12 @@ public interface QuestionAPI {
     @ApiResponse(responseCode = "204", description = "Question updated successfully")
     @ApiResponse(responseCode = "403", description = "Access denied")
     @ApiResponse(responseCode = "404", description = "Question not found")
-    ResponseEntity<?> updateQuestion(@PathVariable("questionId") String questionId, @RequestBody QuestionCreateUpdate request);
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
+    ResponseEntity<?> updateQuestion(
+            @PathVariable("questionId") String questionId,
+            @RequestBody QuestionCreateUpdate request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @IsQuestionOwnerOrAdmin
     @PatchMapping("/{questionId}/status")
@@ -63,7 +74,12 @@ public interface QuestionAPI {
     @ApiResponse(responseCode = "204", description = "Question status updated successfully")
     @ApiResponse(responseCode = "403", description = "Access denied")
     @ApiResponse(responseCode = "404", description = "Question not found")
-    ResponseEntity<?> updateQuestionStatus(@PathVariable("questionId") String questionId, @RequestBody QuestionStatusUpdate request);
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
+    ResponseEntity<?> updateQuestionStatus(
+            @PathVariable("questionId") String questionId,
+            @RequestBody QuestionStatusUpdate request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @IsQuestionOwnerOrAdmin
     @DeleteMapping("/{questionId}")
@@ -0,0 +1,28 @@
+package com.sysm.devsync.infrastructure.controllers.rest;
+
+import com.sysm.devsync.infrastructure.config.security.IsMemberOrAdmin;
+import com.sysm.devsync.infrastructure.controllers.dto.response.SyncResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@RequestMapping("/sync")
+@Tag(name = "Sync")
+public interface SyncAPI {
+
+    @IsMemberOrAdmin
+    @GetMapping
+    @Operation(summary = "Read the changes of questions, answers, comments and notes since a cursor",
+               description = "Changes come in the order they were made, created and updated ones with the current data, " +
+                             "deleted ones with the id only. Start without 'since' and pass the returned cursor to read on")
+    @ApiResponse(responseCode = "200", description = "Changes found, possibly none")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    ResponseEntity<SyncResponse> getChanges(
+            @RequestParam(name = "since", required = false) String since,
+            @RequestParam(name = "limit", defaultValue = "100") int limit
+    );
+}
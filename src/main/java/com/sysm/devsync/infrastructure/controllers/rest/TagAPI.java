@@ -7,6 +7,7 @@ import com.sysm.devsync.infrastructure.controllers.dto.response.TagResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
@@ -39,9 +40,11 @@ public interface TagAPI {
     @Operation(summary = "Update an existing tag")
     @ApiResponse(responseCode = "204", description = "Tag updated successfully")
     @ApiResponse(responseCode = "404", description = "Tag not found")
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
     ResponseEntity<?> updateTag(
             @PathVariable("id") String id,
-            @RequestBody TagCreateUpdate request
+            @RequestBody TagCreateUpdate request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
     @PreAuthorize("hasAnyRole('ADMIN')")
@@ -74,6 +77,8 @@ public interface TagAPI {
             @RequestParam(name = "sort", required = false, defaultValue = "name") String sort,
             @RequestParam(name = "direction", required = false, defaultValue = "asc") String direction,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
+            @RequestParam(name = "countType", required = false, defaultValue = "exact") String countType,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam Map<String, String> filters
     );
 
@@ -8,6 +8,7 @@ import com.sysm.devsync.infrastructure.controllers.dto.response.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -40,9 +41,11 @@ public interface UserAPI {
     @Operation(summary = "Update a user's details (full update)")
     @ApiResponse(responseCode = "204", description = "User updated successfully")
     @ApiResponse(responseCode = "404", description = "User not found")
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
     ResponseEntity<?> update(
             @PathVariable("id") String id,
-            @RequestBody UserCreateUpdate request
+            @RequestBody UserCreateUpdate request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
     @PatchMapping(value = "/{id}",
@@ -53,9 +56,11 @@ public interface UserAPI {
     @Operation(summary = "Partially update a user's details")
     @ApiResponse(responseCode = "204", description = "User updated successfully")
     @ApiResponse(responseCode = "404", description = "User not found")
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
     ResponseEntity<?> updatePatch(
             @PathVariable("id") String id,
-            @RequestBody UserCreateUpdate request
+            @RequestBody UserCreateUpdate request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
     @DeleteMapping(value = "/{id}")
@@ -87,6 +92,8 @@ public interface UserAPI {
             @RequestParam(name = "sort", required = false, defaultValue = "name") String sort,
             @RequestParam(name = "direction", required = false, defaultValue = "asc") String direction,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
+            @RequestParam(name = "countType", required = false, defaultValue = "exact") String countType,
+            @RequestParam(name = "cursor", required = false) String cursor,
             @RequestParam Map<String, String> filters
     );
 
@@ -1,12 +1,16 @@
 package com.sysm.devsync.infrastructure.controllers.rest;
 
 import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.models.to.UserTO;
 import com.sysm.devsync.infrastructure.config.security.IsMemberOrAdmin;
 import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceMembersUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceMembersChangeResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -31,13 +35,18 @@ public interface WorkspaceAPI {
 
     @IsMemberOrAdmin
     @GetMapping
-    @Operation(summary = "Search for workspaces with pagination")
+    @Operation(summary = "Search for workspaces with pagination",
+            description = "With view 'summary' (default) workspaces come with the member count only. " +
+                          "Use view 'full' to include the member list, or the members endpoint to page through it.")
     Pagination<WorkspaceResponse> search(
             @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
             @RequestParam(name = "pageSize", defaultValue = "10") int pageSize,
             @RequestParam(name = "sort", defaultValue = "name") String sort,
             @RequestParam(name = "direction", defaultValue = "asc") String direction,
             @RequestParam(name = "queryType", required = false, defaultValue = "or") String queryType,
+            @RequestParam(name = "countType", required = false, defaultValue = "exact") String countType,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "view", required = false, defaultValue = "summary") String view,
             @RequestParam Map<String, String> filters
     );
 
@@ -46,7 +55,12 @@ public interface WorkspaceAPI {
     @Operation(summary = "Update a workspace's details")
     @ApiResponse(responseCode = "204", description = "Workspace updated successfully")
     @ApiResponse(responseCode = "404", description = "Workspace not found")
-    ResponseEntity<?> update(@PathVariable("id") String id, @RequestBody WorkspaceCreateUpdate request);
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
+    ResponseEntity<?> update(
+            @PathVariable("id") String id,
+            @RequestBody WorkspaceCreateUpdate request,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN')")
@@ -58,7 +72,41 @@ public interface WorkspaceAPI {
     @IsMemberOrAdmin
     @PatchMapping("/{id}/privacy")
     @Operation(summary = "Change a workspace's privacy setting")
-    ResponseEntity<?> changePrivacy(@PathVariable("id") String id, @RequestParam("isPrivate") boolean isPrivate);
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
+    ResponseEntity<?> changePrivacy(
+            @PathVariable("id") String id,
+            @RequestParam("isPrivate") boolean isPrivate,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
+
+    @IsMemberOrAdmin
+    @GetMapping("/{id}/members")
+    @Operation(summary = "List the members of a workspace with pagination")
+    @ApiResponse(responseCode = "200", description = "Page of members")
+    @ApiResponse(responseCode = "404", description = "Workspace not found")
+    Pagination<UserTO> getMembers(
+            @PathVariable("id") String id,
+            @RequestParam(name = "pageNumber", defaultValue = "0") int pageNumber,
+            @RequestParam(name = "pageSize", defaultValue = "50") int pageSize,
+            @RequestParam(name = "sort", defaultValue = "name") String sort,
+            @RequestParam(name = "direction", defaultValue = "asc") String direction
+    );
+
+    @IsMemberOrAdmin
+    @PostMapping("/{id}/members")
+    @Operation(summary = "Add many members to a workspace in one operation",
+            description = "Unknown users and users that are already members are skipped.")
+    @ApiResponse(responseCode = "200", description = "Number of members requested and actually added")
+    @ApiResponse(responseCode = "404", description = "Workspace not found")
+    ResponseEntity<WorkspaceMembersChangeResponse> addMembers(@PathVariable("id") String id, @RequestBody WorkspaceMembersUpdate request);
+
+    @IsMemberOrAdmin
+    @DeleteMapping("/{id}/members")
+    @Operation(summary = "Remove many members from a workspace in one operation",
+            description = "Users that are not members are skipped.")
+    @ApiResponse(responseCode = "200", description = "Number of members requested and actually removed")
+    @ApiResponse(responseCode = "404", description = "Workspace not found")
+    ResponseEntity<WorkspaceMembersChangeResponse> removeMembers(@PathVariable("id") String id, @RequestBody WorkspaceMembersUpdate request);
 
     @IsMemberOrAdmin
     @PostMapping("/{id}/members/{memberId}")
@@ -73,5 +121,10 @@ public interface WorkspaceAPI {
     @PreAuthorize("hasAnyRole('ADMIN')")
     @PatchMapping("/{id}/owner/{newOwnerId}")
     @Operation(summary = "Change the owner of a workspace")
-    ResponseEntity<?> changeOwner(@PathVariable("id") String id, @PathVariable("newOwnerId") String newOwnerId);
+    @ApiResponse(responseCode = "409", description = "Changed since the version in If-Match")
+    ResponseEntity<?> changeOwner(
+            @PathVariable("id") String id,
+            @PathVariable("newOwnerId") String newOwnerId,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 }
@@ -1,11 +1,24 @@
 package com.sysm.devsync.infrastructure.controllers.rest.impl;
 
 import com.sysm.devsync.Main;
+import com.sysm.devsync.domain.BusinessException;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.Revision;
+import com.sysm.devsync.domain.models.AbstractModel;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.AbstractEnvironment;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 public abstract class AbstractController {
 
@@ -28,4 +41,93 @@ public abstract class AbstractController {
         }
         return authentication.getName();
     }
+
+    /**
+     * Entity tag of a model, its version quoted, sent on reads and expected back in If-Match.
+     */
+    protected static String eTag(AbstractModel model) {
+        return eTag(model.getVersion());
+    }
+
+    protected static String eTag(int version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Entity tag of a model whose response also shows a value stored outside its version, e.g. a
+     * counter. The tag changes with either, and If-Match still reads the version from it.
+     */
+    protected static String eTag(AbstractModel model, long unversioned) {
+        return "\"" + model.getVersion() + "." + unversioned + "\"";
+    }
+
+    /**
+     * Entity tag of a page of results, a digest of its items' ids and versions and of the paging
+     * state. Computed from the loaded models, before any response is built.
+     */
+    protected static String eTag(Pagination<? extends AbstractModel> page) {
+        var content = new StringBuilder()
+                .append(page.total()).append('|')
+                .append(page.hasNext()).append('|')
+                .append(page.nextCursor());
+        for (AbstractModel item : page.items()) {
+            content.append('|').append(item.getId()).append(':').append(item.getVersion());
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Answers 304 Not Modified when the request's If-None-Match or If-Modified-Since still matches
+     * the stored revision, the handler must then return null. The revision is only read for
+     * conditional requests, and a missing resource is left to the handler's usual lookup.
+     */
+    protected static boolean notModified(Supplier<Optional<Revision>> revision) {
+        ServletWebRequest request = currentRequest();
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null && request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) == null) {
+            return false;
+        }
+        return revision.get()
+                .map(r -> request.checkNotModified(eTag(r.version()), r.updatedAt().toEpochMilli()))
+                .orElse(false);
+    }
+
+    /**
+     * Sets the ETag of the response and answers 304 Not Modified when it matches If-None-Match,
+     * the handler must then return null instead of the body.
+     */
+    protected static boolean notModified(String eTag) {
+        return currentRequest().checkNotModified(eTag);
+    }
+
+    /**
+     * Version a write is based on, from an If-Match header holding a tag from {@link #eTag}.
+     * Returns null when there is no header or it is "*", the write then applies to any version.
+     */
+    protected static Integer expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        // Tags of responses with unversioned values carry them after the version
+        int separator = tag.indexOf('.');
+        if (separator > 0) {
+            tag = tag.substring(0, separator);
+        }
+        try {
+            return Integer.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+
+    private static ServletWebRequest currentRequest() {
+        var attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        return new ServletWebRequest(attributes.getRequest(), attributes.getResponse());
+    }
 }
@@ -0,0 +1,36 @@
+package com.sysm.devsync.infrastructure.controllers.rest.impl;
+
+import com.sysm.devsync.application.ProjectService;
+import com.sysm.devsync.application.WorkspaceService;
+import com.sysm.devsync.domain.NotFoundException;
+import com.sysm.devsync.infrastructure.controllers.rest.ActivityAPI;
+import com.sysm.devsync.infrastructure.events.ActivityHub;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+public class ActivityController extends AbstractController implements ActivityAPI {
+
+    private final ActivityHub activityHub;
+    private final ProjectService projectService;
+    private final WorkspaceService workspaceService;
+
+    public ActivityController(ActivityHub activityHub, ProjectService projectService, WorkspaceService workspaceService) {
+        this.activityHub = activityHub;
+        this.projectService = projectService;
+        this.workspaceService = workspaceService;
+    }
+
+    @Override
+    public SseEmitter followProject(String projectId) {
+        projectService.getProjectById(projectId);
+        return activityHub.subscribeToProject(projectId);
+    }
+
+    @Override
+    public SseEmitter followWorkspace(String workspaceId) {
+        workspaceService.getWorkspaceRevision(workspaceId)
+                .orElseThrow(() -> new NotFoundException("Workspace not found", workspaceId));
+        return activityHub.subscribeToWorkspace(workspaceId);
+    }
+}
@@ -4,6 +4,7 @@ import com.sysm.devsync.application.AnswerService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountType;
 import com.sysm.devsync.domain.enums.QueryType;
 import com.sysm.devsync.infrastructure.controllers.rest.AnswerAPI;
 import com.sysm.devsync.infrastructure.controllers.dto.request.AnswerCreateUpdate;
@@ -43,7 +44,7 @@ public class AnswerController extends AbstractController implements AnswerAPI {
     @Override
     public ResponseEntity<AnswerResponse> getAnswerById(String answerId) {
         var answer = answerService.getAnswerById(answerId);
-        return ResponseEntity.ok(AnswerResponse.from(answer));
+        return ResponseEntity.ok().eTag(eTag(answer)).body(AnswerResponse.from(answer));
     }
 
     @Override
@@ -57,29 +58,29 @@ public class AnswerController extends AbstractController implements AnswerAPI {
 
     @Override
     public Pagination<AnswerResponse> searchAnswers(int pageNumber, int pageSize, String sort, String direction,
-                                                    String queryType, Map<String, String> filters) {
-        var page = Page.of(pageNumber, pageSize, sort, direction);
-        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
+                                                    String queryType, String countType, String cursor, Map<String, String> filters) {
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor);
+        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), CountType.of(countType), filters);
 
         return answerService.getAllAnswers(searchQuery).map(AnswerResponse::from);
     }
 
     @Override
-    public ResponseEntity<?> updateAnswer(String answerId, @Valid @RequestBody AnswerCreateUpdate request) {
+    public ResponseEntity<?> updateAnswer(String answerId, @Valid @RequestBody AnswerCreateUpdate request, String ifMatch) {
         // Note: We need to adapt the call to the service method
-        answerService.updateAnswer(answerId, request);
+        answerService.updateAnswer(answerId, request, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
     @Override
-    public ResponseEntity<?> acceptAnswer(String answerId) {
-        answerService.acceptAnswer(answerId);
+    public ResponseEntity<?> acceptAnswer(String answerId, String ifMatch) {
+        answerService.acceptAnswer(answerId, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
     @Override
-    public ResponseEntity<?> rejectAnswer(String answerId) {
-        answerService.rejectAnswer(answerId);
+    public ResponseEntity<?> rejectAnswer(String answerId, String ifMatch) {
+        answerService.rejectAnswer(answerId, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
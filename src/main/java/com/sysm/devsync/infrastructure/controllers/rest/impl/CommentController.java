@@ -4,6 +4,7 @@ import com.sysm.devsync.application.CommentService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountType;
 import com.sysm.devsync.domain.enums.QueryType;
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.infrastructure.controllers.dto.request.CommentCreateUpdate;
@@ -42,15 +43,15 @@ public class CommentController extends AbstractController implements CommentAPI
     @Override
     public ResponseEntity<CommentResponse> getCommentById(String id) {
         var comment = commentService.getCommentById(id);
-        return ResponseEntity.ok(CommentResponse.from(comment));
+        return ResponseEntity.ok().eTag(eTag(comment)).body(CommentResponse.from(comment));
     }
 
     @Override
     public Pagination<CommentResponse> searchComments(int pageNumber, int pageSize, String sort, String direction,
-                                                      String queryType, Map<String, String> filters) {
+                                                      String queryType, String countType, String cursor, Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
-        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor);
+        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), CountType.of(countType), filters);
 
         return commentService.getAllComments(searchQuery)
                 .map(CommentResponse::from);
@@ -63,8 +64,8 @@ public class CommentController extends AbstractController implements CommentAPI
     }
 
     @Override
-    public ResponseEntity<?> updateComment(String id, @Valid @RequestBody CommentCreateUpdate request) {
-        commentService.updateComment(id, request);
+    public ResponseEntity<?> updateComment(String id, @Valid @RequestBody CommentCreateUpdate request, String ifMatch) {
+        commentService.updateComment(id, request, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
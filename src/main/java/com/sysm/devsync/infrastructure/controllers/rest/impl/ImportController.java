@@ -0,0 +1,44 @@
+package com.sysm.devsync.infrastructure.controllers.rest.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sysm.devsync.application.ImportService;
+import com.sysm.devsync.infrastructure.controllers.dto.request.ContentImport;
+import com.sysm.devsync.infrastructure.controllers.dto.response.ImportResponse;
+import com.sysm.devsync.infrastructure.controllers.rest.ImportAPI;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+public class ImportController extends AbstractController implements ImportAPI {
+
+    private final ImportService importService;
+    private final ObjectMapper objectMapper;
+
+    public ImportController(ImportService importService, ObjectMapper objectMapper) {
+        this.importService = importService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ResponseEntity<ImportResponse> importContent(InputStream body) throws IOException {
+        try (var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            var response = importService.importContent(reader.lines(), this::parse, authenticatedUserId());
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    private ContentImport parse(String line) {
+        try {
+            return objectMapper.readValue(line, ContentImport.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage());
+        }
+    }
+}
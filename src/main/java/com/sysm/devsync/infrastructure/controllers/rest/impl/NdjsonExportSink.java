@@ -0,0 +1,60 @@
+package com.sysm.devsync.infrastructure.controllers.rest.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.persistence.ProjectExportPort;
+import com.sysm.devsync.infrastructure.controllers.dto.response.NoteExport;
+import com.sysm.devsync.infrastructure.controllers.dto.response.ProjectExport;
+import com.sysm.devsync.infrastructure.controllers.dto.response.QuestionExport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes an export as newline-delimited JSON, one object per line, flushing after every chunk.
+ */
+final class NdjsonExportSink implements ProjectExportPort.Sink {
+
+    private final OutputStream out;
+    private final ObjectMapper objectMapper;
+
+    NdjsonExportSink(OutputStream out, ObjectMapper objectMapper) {
+        this.out = out;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void project(Project project) {
+        writeLine(ProjectExport.from(project));
+    }
+
+    @Override
+    public void question(ProjectExportPort.QuestionEntry entry) {
+        writeLine(QuestionExport.from(entry));
+    }
+
+    @Override
+    public void note(ProjectExportPort.NoteEntry entry) {
+        writeLine(NoteExport.from(entry));
+    }
+
+    @Override
+    public void endOfChunk() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(Object line) {
+        try {
+            // Written as bytes, the mapper would otherwise close the response stream after the first line
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.sysm.devsync.application.NoteService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountType;
 import com.sysm.devsync.domain.enums.QueryType;
 import com.sysm.devsync.infrastructure.controllers.rest.NoteAPI;
 import com.sysm.devsync.infrastructure.controllers.dto.request.NoteCreateUpdate;
@@ -40,30 +41,40 @@ public class NoteController extends AbstractController implements NoteAPI {
 
     @Override
     public ResponseEntity<NoteResponse> getNoteById(String id) {
+        if (notModified(() -> noteService.getNoteRevision(id))) {
+            return null;
+        }
         var note = noteService.getNoteById(id);
-        return ResponseEntity.ok(NoteResponse.from(note));
+        return ResponseEntity.ok()
+                .eTag(eTag(note))
+                .lastModified(note.getUpdatedAt())
+                .body(NoteResponse.from(note));
     }
 
     @Override
     public Pagination<NoteResponse> searchNotes(int pageNumber, int pageSize, String sort, String direction,
-                                                String queryType, Map<String, String> filters) {
+                                                String queryType, String countType, String cursor, Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
-        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor);
+        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), CountType.of(countType), filters);
 
-        return noteService.getAllNotes(searchQuery).map(NoteResponse::from);
+        var notes = noteService.getAllNotes(searchQuery);
+        if (notModified(eTag(notes))) {
+            return null;
+        }
+        return notes.map(NoteResponse::from);
     }
 
     @Override
-    public ResponseEntity<?> updateNote(String id, @Valid @RequestBody NoteCreateUpdate request) {
-        noteService.updateNote(id, request);
+    public ResponseEntity<?> updateNote(String id, @Valid @RequestBody NoteCreateUpdate request, String ifMatch) {
+        noteService.updateNote(id, request, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
     @Override
-    public ResponseEntity<?> updateNoteContent(String id, @RequestBody NoteCreateUpdate request) {
+    public ResponseEntity<?> updateNoteContent(String id, @RequestBody NoteCreateUpdate request, String ifMatch) {
         // Calling the refactored service method
-        noteService.updateNoteContent(id, request);
+        noteService.updateNoteContent(id, request, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
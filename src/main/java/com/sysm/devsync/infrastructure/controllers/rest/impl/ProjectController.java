@@ -1,17 +1,21 @@
 package com.sysm.devsync.infrastructure.controllers.rest.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sysm.devsync.application.ProjectService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountType;
 import com.sysm.devsync.domain.enums.QueryType;
 import com.sysm.devsync.infrastructure.controllers.dto.request.ProjectCreateUpdate;
 import com.sysm.devsync.infrastructure.controllers.dto.response.ProjectResponse;
 import com.sysm.devsync.infrastructure.controllers.rest.ProjectAPI;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -20,10 +24,14 @@ import java.util.Map;
 @RestController
 public class ProjectController extends AbstractController implements ProjectAPI {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final ProjectService projectService;
+    private final ObjectMapper objectMapper;
 
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, ObjectMapper objectMapper) {
         this.projectService = projectService;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -41,22 +49,31 @@ public class ProjectController extends AbstractController implements ProjectAPI
     @Override
     public ResponseEntity<ProjectResponse> getProjectById(String id) {
         var project = projectService.getProjectById(id);
-        return ResponseEntity.ok(ProjectResponse.from(project));
+        return ResponseEntity.ok().eTag(eTag(project)).body(ProjectResponse.from(project));
     }
 
     @Override
     public Pagination<ProjectResponse> searchProjects(int pageNumber, int pageSize, String sort, String direction,
-                                                      String queryType, Map<String, String> filters) {
+                                                      String queryType, String countType, String cursor, Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
-        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor);
+        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), CountType.of(countType), filters);
         return projectService.getAllProjects(searchQuery)
                 .map(ProjectResponse::from);
     }
 
     @Override
-    public ResponseEntity<?> updateProject(String id, @Valid @RequestBody ProjectCreateUpdate request) {
-        projectService.updateProject(id, request);
+    public ResponseEntity<StreamingResponseBody> exportProject(String id) {
+        var export = projectService.exportProject(id);
+        StreamingResponseBody body = out -> export.accept(new NdjsonExportSink(out, objectMapper));
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(body);
+    }
+
+    @Override
+    public ResponseEntity<?> updateProject(String id, @Valid @RequestBody ProjectCreateUpdate request, String ifMatch) {
+        projectService.updateProject(id, request, expectedVersion(ifMatch));
         return ResponseEntity.noContent()
                 .build();
     }
@@ -69,8 +86,8 @@ public class ProjectController extends AbstractController implements ProjectAPI
     }
 
     @Override
-    public ResponseEntity<?> changeWorkspace(String id, String workspaceId) {
-        projectService.changeWorkspace(id, workspaceId);
+    public ResponseEntity<?> changeWorkspace(String id, String workspaceId, String ifMatch) {
+        projectService.changeWorkspace(id, workspaceId, expectedVersion(ifMatch));
         return ResponseEntity.noContent()
                 .build();
     }
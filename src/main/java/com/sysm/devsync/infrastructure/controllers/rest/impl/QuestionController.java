@@ -4,6 +4,7 @@ import com.sysm.devsync.application.QuestionService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountType;
 import com.sysm.devsync.domain.enums.QueryType;
 import com.sysm.devsync.infrastructure.controllers.rest.QuestionAPI;
 import com.sysm.devsync.infrastructure.controllers.dto.request.QuestionCreateUpdate;
@@ -41,29 +42,39 @@ public class QuestionController extends AbstractController implements QuestionAP
 
     @Override
     public ResponseEntity<QuestionResponse> getQuestionById(String id) {
+        if (notModified(() -> questionService.getQuestionRevision(id))) {
+            return null;
+        }
         var question = questionService.getQuestionById(id);
-        return ResponseEntity.ok(QuestionResponse.from(question));
+        return ResponseEntity.ok()
+                .eTag(eTag(question))
+                .lastModified(question.getUpdatedAt())
+                .body(QuestionResponse.from(question));
     }
 
     @Override
     public Pagination<QuestionResponse> searchQuestions(int pageNumber, int pageSize, String sort, String direction,
-                                                       String queryType, Map<String, String> filters) {
+                                                       String queryType, String countType, String cursor, Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
-        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor);
+        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), CountType.of(countType), filters);
 
-        return questionService.getAllQuestions(searchQuery).map(QuestionResponse::from);
+        var questions = questionService.getAllQuestions(searchQuery);
+        if (notModified(eTag(questions))) {
+            return null;
+        }
+        return questions.map(QuestionResponse::from);
     }
 
     @Override
-    public ResponseEntity<?> updateQuestion(String id, @Valid @RequestBody QuestionCreateUpdate request) {
-        questionService.updateQuestion(id, request);
+    public ResponseEntity<?> updateQuestion(String id, @Valid @RequestBody QuestionCreateUpdate request, String ifMatch) {
+        questionService.updateQuestion(id, request, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
     @Override
-    public ResponseEntity<?> updateQuestionStatus(String id, @Valid @RequestBody QuestionStatusUpdate request) {
-        questionService.updateQuestionStatus(id, request.status());
+    public ResponseEntity<?> updateQuestionStatus(String id, @Valid @RequestBody QuestionStatusUpdate request, String ifMatch) {
+        questionService.updateQuestionStatus(id, request.status(), expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
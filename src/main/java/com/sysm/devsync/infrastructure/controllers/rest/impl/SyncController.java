@@ -0,0 +1,58 @@
+package com.sysm.devsync.infrastructure.controllers.rest.impl;
+
+import com.sysm.devsync.application.SyncService;
+import com.sysm.devsync.domain.models.AbstractModel;
+import com.sysm.devsync.domain.models.Answer;
+import com.sysm.devsync.domain.models.Comment;
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.models.Question;
+import com.sysm.devsync.infrastructure.controllers.dto.response.AnswerResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.ChangeResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.CommentResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.NoteResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.QuestionResponse;
+import com.sysm.devsync.infrastructure.controllers.dto.response.SyncResponse;
+import com.sysm.devsync.infrastructure.controllers.rest.SyncAPI;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class SyncController extends AbstractController implements SyncAPI {
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @Override
+    public ResponseEntity<SyncResponse> getChanges(String since, int limit) {
+        var batch = syncService.getChanges(since, limit);
+        var changes = batch.entries().stream()
+                .map(entry -> new ChangeResponse(
+                        entry.change().type(),
+                        entry.change().kind(),
+                        entry.change().id(),
+                        entry.change().at(),
+                        data(entry.model())))
+                .toList();
+        return ResponseEntity.ok(new SyncResponse(changes, batch.cursor(), batch.hasMore()));
+    }
+
+    private static Object data(AbstractModel model) {
+        if (model instanceof Question question) {
+            return QuestionResponse.from(question);
+        }
+        if (model instanceof Answer answer) {
+            return AnswerResponse.from(answer);
+        }
+        if (model instanceof Comment comment) {
+            return CommentResponse.from(comment);
+        }
+        if (model instanceof Note note) {
+            return NoteResponse.from(note);
+        }
+        // Deletions carry no aggregate
+        return null;
+    }
+}
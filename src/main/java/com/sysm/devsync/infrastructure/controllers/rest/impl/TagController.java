@@ -4,6 +4,7 @@ import com.sysm.devsync.application.TagService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountType;
 import com.sysm.devsync.domain.enums.QueryType;
 import com.sysm.devsync.infrastructure.controllers.dto.request.TagCreateUpdate;
 import com.sysm.devsync.infrastructure.controllers.dto.response.TagResponse;
@@ -40,8 +41,8 @@ public class TagController extends AbstractController implements TagAPI {
     }
 
     @Override
-    public ResponseEntity<?> updateTag(String id, @Valid TagCreateUpdate request) {
-        tagService.updateTag(id, request);
+    public ResponseEntity<?> updateTag(String id, @Valid TagCreateUpdate request, String ifMatch) {
+        tagService.updateTag(id, request, expectedVersion(ifMatch));
         return ResponseEntity
                 .noContent()
                 .build();
@@ -59,15 +60,17 @@ public class TagController extends AbstractController implements TagAPI {
     public ResponseEntity<TagResponse> getTagById(String id) {
         var tag = tagService.getTagById(id);
         return ResponseEntity
-                .ok(TagResponse.from(tag));
+                .ok()
+                .eTag(eTag(tag, tag.getAmountUsed()))
+                .body(TagResponse.from(tag));
     }
 
     @Override
     public Pagination<TagResponse> searchTags(int pageNumber, int pageSize, String sort, String direction,
-                                                    String queryType, Map<String, String> filters) {
+                                                    String queryType, String countType, String cursor, Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
-        var searchQuery = SearchQuery.of(page, QueryType.valueOf(queryType.toUpperCase()), filters);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor);
+        var searchQuery = SearchQuery.of(page, QueryType.valueOf(queryType.toUpperCase()), CountType.of(countType), filters);
 
         var pagination = tagService.searchTags(searchQuery);
 
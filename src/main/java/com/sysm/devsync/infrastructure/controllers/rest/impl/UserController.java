@@ -4,6 +4,7 @@ import com.sysm.devsync.application.UserService;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountType;
 import com.sysm.devsync.domain.enums.QueryType;
 import com.sysm.devsync.domain.models.to.UserTO;
 import com.sysm.devsync.infrastructure.controllers.dto.request.UserCreateUpdate;
@@ -44,16 +45,16 @@ public class UserController extends AbstractController implements UserAPI {
     }
 
     @Override
-    public ResponseEntity<?> update(String id, @Valid UserCreateUpdate request) {
-        userService.updateUser(id, request);
+    public ResponseEntity<?> update(String id, @Valid UserCreateUpdate request, String ifMatch) {
+        userService.updateUser(id, request, expectedVersion(ifMatch));
         return ResponseEntity
                 .noContent()
                 .build();
     }
 
     @Override
-    public ResponseEntity<?> updatePatch(String id, UserCreateUpdate request) {
-        userService.updateUserPatch(id, request);
+    public ResponseEntity<?> updatePatch(String id, UserCreateUpdate request, String ifMatch) {
+        userService.updateUserPatch(id, request, expectedVersion(ifMatch));
         return ResponseEntity
                 .noContent()
                 .build();
@@ -81,15 +82,17 @@ public class UserController extends AbstractController implements UserAPI {
     public ResponseEntity<UserResponse> getById(String id) {
         var user = userService.getUserById(id);
         return ResponseEntity
-                .ok(UserResponse.from(user));
+                .ok()
+                .eTag(eTag(user))
+                .body(UserResponse.from(user));
     }
 
     @Override
     public Pagination<UserResponse> search(int pageNumber, int pageSize, String sort, String direction,
-                                           String queryType, Map<String, String> filters) {
+                                           String queryType, String countType, String cursor, Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
-        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor);
+        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), CountType.of(countType), filters);
 
         var pagination = userService.searchUsers(searchQuery);
         return pagination.map(UserResponse::from);
@@ -1,11 +1,16 @@
 package com.sysm.devsync.infrastructure.controllers.rest.impl;
 
 import com.sysm.devsync.application.WorkspaceService;
+import com.sysm.devsync.domain.BusinessException;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountType;
 import com.sysm.devsync.domain.enums.QueryType;
+import com.sysm.devsync.domain.models.to.UserTO;
 import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceMembersUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceMembersChangeResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.response.WorkspaceResponse;
 import com.sysm.devsync.infrastructure.controllers.rest.WorkspaceAPI;
 import jakarta.validation.Valid;
@@ -41,23 +46,39 @@ public class WorkspaceController extends AbstractController implements Workspace
 
     @Override
     public ResponseEntity<WorkspaceResponse> getById(String id) {
+        if (notModified(() -> workspaceService.getWorkspaceRevision(id))) {
+            return null;
+        }
         var workspace = workspaceService.getWorkspaceById(id);
-        return ResponseEntity.ok(WorkspaceResponse.from(workspace));
+        return ResponseEntity.ok()
+                .eTag(eTag(workspace))
+                .lastModified(workspace.getUpdatedAt())
+                .body(WorkspaceResponse.from(workspace));
     }
 
     @Override
     public Pagination<WorkspaceResponse> search(int pageNumber, int pageSize, String sort, String direction,
-                                                String queryType, Map<String, String> filters) {
+                                                String queryType, String countType, String cursor, String view,
+                                                Map<String, String> filters) {
 
-        var page = Page.of(pageNumber, pageSize, sort, direction);
-        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), filters);
+        var page = Page.of(pageNumber, pageSize, sort, direction, cursor);
+        var searchQuery = SearchQuery.of(page, QueryType.of(queryType), CountType.of(countType), filters);
 
-        return workspaceService.getAllWorkspaces(searchQuery);
+        return switch (view.toLowerCase()) {
+            case "summary" -> workspaceService.getWorkspaceSummaries(searchQuery);
+            case "full" -> workspaceService.getAllWorkspaces(searchQuery);
+            default -> throw new BusinessException("Invalid view: '" + view + "'. Expected 'summary' or 'full'.");
+        };
     }
 
     @Override
-    public ResponseEntity<?> update(String id, @Valid @RequestBody WorkspaceCreateUpdate request) {
-        workspaceService.updateWorkspace(id, request);
+    public Pagination<UserTO> getMembers(String id, int pageNumber, int pageSize, String sort, String direction) {
+        return workspaceService.getWorkspaceMembers(id, Page.of(pageNumber, pageSize, sort, direction));
+    }
+
+    @Override
+    public ResponseEntity<?> update(String id, @Valid @RequestBody WorkspaceCreateUpdate request, String ifMatch) {
+        workspaceService.updateWorkspace(id, request, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -69,11 +90,21 @@ public class WorkspaceController extends AbstractController implements Workspace
     }
 
     @Override
-    public ResponseEntity<?> changePrivacy(String id, boolean isPrivate) {
-        workspaceService.changeWorkspacePrivacy(id, isPrivate);
+    public ResponseEntity<?> changePrivacy(String id, boolean isPrivate, String ifMatch) {
+        workspaceService.changeWorkspacePrivacy(id, isPrivate, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
+    @Override
+    public ResponseEntity<WorkspaceMembersChangeResponse> addMembers(String id, @Valid @RequestBody WorkspaceMembersUpdate request) {
+        return ResponseEntity.ok(workspaceService.addMembersToWorkspace(id, request.memberIds()));
+    }
+
+    @Override
+    public ResponseEntity<WorkspaceMembersChangeResponse> removeMembers(String id, @Valid @RequestBody WorkspaceMembersUpdate request) {
+        return ResponseEntity.ok(workspaceService.removeMembersFromWorkspace(id, request.memberIds()));
+    }
+
     @Override
     public ResponseEntity<?> addMember(String id, String memberId) {
         workspaceService.addMemberToWorkspace(id, memberId);
@@ -87,8 +118,8 @@ public class WorkspaceController extends AbstractController implements Workspace
     }
 
     @Override
-    public ResponseEntity<?> changeOwner(String id, String newOwnerId) {
-        workspaceService.changeOwnerOfWorkspace(id, newOwnerId);
+    public ResponseEntity<?> changeOwner(String id, String newOwnerId, String ifMatch) {
+        workspaceService.changeOwnerOfWorkspace(id, newOwnerId, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
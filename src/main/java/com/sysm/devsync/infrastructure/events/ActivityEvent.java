@@ -0,0 +1,20 @@
+package com.sysm.devsync.infrastructure.events;
+
+import com.sysm.devsync.domain.enums.AggregateType;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
+
+import java.time.Instant;
+
+/**
+ * What an activity stream sends for a change. It only names the aggregate, clients read the data
+ * they are interested in, or catch up through GET /sync.
+ */
+public record ActivityEvent(
+        AggregateType type,
+        Kind kind,
+        String id,
+        String projectId,
+        String workspaceId,
+        Instant at
+) {
+}
@@ -0,0 +1,230 @@
+package com.sysm.devsync.infrastructure.events;
+
+import com.sysm.devsync.domain.enums.AggregateType;
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.persistence.ActivityPort;
+import com.sysm.devsync.domain.persistence.AnswerPersistencePort;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
+import com.sysm.devsync.domain.persistence.NotePersistencePort;
+import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
+import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * In-process event bus behind the activity streams of projects and workspaces.
+ * <p>
+ * An open stream is an async request parked by the servlet container, it holds no thread while it
+ * waits. Events are written by a small pool of sender threads, each stream buffers what its client
+ * has not received yet, up to the buffer size, so publishing never waits on a client.
+ * <p>
+ * Delivery is best effort: events of a server that restarts, or dropped for a slow client, are not
+ * replayed. Clients catch up through GET /sync.
+ */
+@Component
+public class ActivityHub implements ActivityPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityHub.class);
+
+    private static final String PROJECT = "project:";
+    private static final String WORKSPACE = "workspace:";
+
+    private final QuestionPersistencePort questionPersistence;
+    private final AnswerPersistencePort answerPersistence;
+    private final NotePersistencePort notePersistence;
+    private final ProjectPersistencePort projectPersistence;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration timeout;
+    private final int maxSubscribers;
+    private final ExecutorService senders;
+
+    private final ConcurrentHashMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public ActivityHub(QuestionPersistencePort questionPersistence,
+                       AnswerPersistencePort answerPersistence,
+                       NotePersistencePort notePersistence,
+                       ProjectPersistencePort projectPersistence,
+                       @Value("${dev-sync.events.buffer-size:256}") int bufferSize,
+                       @Value("${dev-sync.events.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                       @Value("${dev-sync.events.timeout:30m}") Duration timeout,
+                       @Value("${dev-sync.events.max-subscribers:10000}") int maxSubscribers,
+                       @Value("${dev-sync.events.sender-threads:4}") int senderThreads) {
+        this.questionPersistence = questionPersistence;
+        this.answerPersistence = answerPersistence;
+        this.notePersistence = notePersistence;
+        this.projectPersistence = projectPersistence;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.timeout = timeout;
+        this.maxSubscribers = maxSubscribers;
+        this.senders = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("activity-sender-"));
+    }
+
+    /**
+     * Opens a stream of the activity in the project.
+     *
+     * @throws ResponseStatusException 503 when the server already holds the maximum of streams
+     */
+    public SseEmitter subscribeToProject(String projectId) {
+        return subscribe(PROJECT + projectId);
+    }
+
+    /**
+     * Opens a stream of the activity in every project of the workspace.
+     *
+     * @throws ResponseStatusException 503 when the server already holds the maximum of streams
+     */
+    public SseEmitter subscribeToWorkspace(String workspaceId) {
+        return subscribe(WORKSPACE + workspaceId);
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void questionChanged(Kind kind, String questionId, String projectId) {
+        publish(AggregateType.QUESTION, kind, questionId, () -> Optional.ofNullable(projectId));
+    }
+
+    @Override
+    public void answerChanged(Kind kind, String answerId, String questionId) {
+        publish(AggregateType.ANSWER, kind, answerId, () -> questionPersistence.findProjectId(questionId));
+    }
+
+    @Override
+    public void commentChanged(Kind kind, String commentId, TargetType targetType, String targetId) {
+        publish(AggregateType.COMMENT, kind, commentId, () -> switch (targetType) {
+            case NOTE -> notePersistence.findProjectId(targetId);
+            case QUESTION -> questionPersistence.findProjectId(targetId);
+            case ANSWER -> answerPersistence.findQuestionId(targetId).flatMap(questionPersistence::findProjectId);
+        });
+    }
+
+    @Override
+    public void noteChanged(Kind kind, String noteId, String projectId) {
+        publish(AggregateType.NOTE, kind, noteId, () -> Optional.ofNullable(projectId));
+    }
+
+    @Scheduled(fixedDelayString = "${dev-sync.events.heartbeat-interval:15s}",
+               initialDelayString = "${dev-sync.events.heartbeat-interval:15s}")
+    public void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(Subscriber::heartbeat));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> List.copyOf(set).forEach(Subscriber::close));
+        senders.shutdown();
+    }
+
+    private SseEmitter subscribe(String key) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many open activity streams");
+        }
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(emitter, bufferSize, overflowPolicy, senders, closed -> remove(key, closed));
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscribers.compute(key, (k, set) -> {
+            Set<Subscriber> current = set != null ? set : ConcurrentHashMap.newKeySet();
+            current.add(subscriber);
+            return current;
+        });
+
+        try {
+            // Commits the response, the client sees the stream open before the first event
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            subscriber.close();
+        }
+        return emitter;
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    private void remove(String key, Subscriber subscriber) {
+        subscribers.computeIfPresent(key, (k, set) -> {
+            if (set.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private void publish(AggregateType type, Kind kind, String id, Supplier<Optional<String>> projectLookup) {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        try {
+            Optional<String> projectId = projectLookup.get();
+            if (projectId.isEmpty()) {
+                return;
+            }
+            String workspaceId = projectPersistence.findById(projectId.get())
+                    .map(project -> project.getWorkspace().id())
+                    .orElse(null);
+            var event = new ActivityEvent(type, kind, id, projectId.get(), workspaceId, Instant.now());
+            afterCommit(() -> deliver(event));
+        } catch (RuntimeException e) {
+            // The change itself went through, only its announcement is lost
+            log.warn("Could not publish {} {} of {}", kind, type, id, e);
+        }
+    }
+
+    private void deliver(ActivityEvent event) {
+        offer(PROJECT + event.projectId(), event);
+        if (event.workspaceId() != null) {
+            offer(WORKSPACE + event.workspaceId(), event);
+        }
+    }
+
+    private void offer(String key, ActivityEvent event) {
+        Set<Subscriber> set = subscribers.get(key);
+        if (set != null) {
+            set.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    private void afterCommit(Runnable delivery) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delivery.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delivery.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.sysm.devsync.infrastructure.events;
+
+/**
+ * What happens to a stream whose client does not keep up and whose buffer is full.
+ */
+public enum OverflowPolicy {
+    /**
+     * Drops the oldest buffered event. The client is told how many were dropped before the next
+     * event it receives, so it knows to catch up through GET /sync.
+     */
+    DROP_OLDEST,
+    /**
+     * Closes the stream, the client reconnects and catches up through GET /sync.
+     */
+    DISCONNECT
+}
@@ -0,0 +1,143 @@
+package com.sysm.devsync.infrastructure.events;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * One open activity stream. Events wait in a bounded buffer until a sender thread writes them, at
+ * most one at a time per stream, so a slow client only ever fills its own buffer and never holds
+ * up the publisher or the other streams.
+ */
+final class Subscriber {
+
+    // A drain gives its sender thread back after this many events, streams with a backlog take turns
+    private static final int EVENTS_PER_DRAIN = 64;
+
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor senders;
+    private final Consumer<Subscriber> onClose;
+
+    private final Deque<ActivityEvent> buffer = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private int dropped;
+    private boolean heartbeatDue;
+
+    Subscriber(SseEmitter emitter, int capacity, OverflowPolicy overflowPolicy, Executor senders, Consumer<Subscriber> onClose) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.senders = senders;
+        this.onClose = onClose;
+    }
+
+    void offer(ActivityEvent event) {
+        synchronized (this) {
+            if (buffer.size() >= capacity) {
+                if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                    buffer.clear();
+                    close();
+                    return;
+                }
+                buffer.pollFirst();
+                dropped++;
+            }
+            buffer.addLast(event);
+        }
+        signal();
+    }
+
+    /**
+     * Keeps an idle connection from being cut by proxies and finds clients that are gone. Nothing
+     * is added while events are waiting, they do the same.
+     */
+    void heartbeat() {
+        synchronized (this) {
+            if (!buffer.isEmpty()) {
+                return;
+            }
+            heartbeatDue = true;
+        }
+        signal();
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            onClose.accept(this);
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // Already completed by the container
+            }
+        }
+    }
+
+    synchronized int buffered() {
+        return buffer.size();
+    }
+
+    private void signal() {
+        if (closed.get() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            senders.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            draining.set(false);
+            close();
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int sent = 0; sent < EVENTS_PER_DRAIN && !closed.get(); sent++) {
+                SseEmitter.SseEventBuilder next = next();
+                if (next == null) {
+                    break;
+                }
+                emitter.send(next);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the stream timed out
+            close();
+        } finally {
+            draining.set(false);
+        }
+        if (hasPending()) {
+            signal();
+        }
+    }
+
+    private synchronized SseEmitter.SseEventBuilder next() {
+        if (dropped > 0) {
+            var overflow = SseEmitter.event().name("overflow").data(Map.of("dropped", dropped), MediaType.APPLICATION_JSON);
+            dropped = 0;
+            return overflow;
+        }
+        ActivityEvent event = buffer.pollFirst();
+        if (event != null) {
+            return SseEmitter.event().name("activity").data(event, MediaType.APPLICATION_JSON);
+        }
+        if (heartbeatDue) {
+            heartbeatDue = false;
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return null;
+    }
+
+    private synchronized boolean hasPending() {
+        return dropped > 0 || !buffer.isEmpty() || heartbeatDue;
+    }
+}
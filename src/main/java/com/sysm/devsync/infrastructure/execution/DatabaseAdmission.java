@@ -0,0 +1,98 @@
+package com.sysm.devsync.infrastructure.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits at most as many callers to the database as the pool has connections, and queues the
+ * others in arrival order instead of letting them fail on the pool's short connection timeout.
+ * <p>
+ * The queue is bounded in length and in time: past the maximum queue depth a caller is refused at
+ * once, and a caller waiting longer than the timeout gives up. Both are refused with a
+ * {@link DatabaseBusyException}.
+ */
+public class DatabaseAdmission {
+
+    public static final String METRIC_PREFIX = "devsync.db.admission";
+
+    private final Semaphore permits;
+    private final int size;
+    private final int maxQueue;
+    private final long timeoutNanos;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Timer wait;
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    public DatabaseAdmission(int size, int maxQueue, Duration timeout, MeterRegistry registry) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Admission size must be at least 1");
+        }
+        this.permits = new Semaphore(size, true);
+        this.size = size;
+        this.maxQueue = maxQueue;
+        this.timeoutNanos = timeout.toNanos();
+
+        Gauge.builder(METRIC_PREFIX + ".active", this, DatabaseAdmission::active)
+                .description("Callers holding a connection")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".queued", queued, AtomicInteger::get)
+                .description("Callers waiting for a connection")
+                .register(registry);
+        this.wait = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("Time callers waited to be admitted")
+                .register(registry);
+        this.queueFull = Counter.builder(METRIC_PREFIX + ".rejected")
+                .tag("reason", "queue-full")
+                .register(registry);
+        this.timedOut = Counter.builder(METRIC_PREFIX + ".rejected")
+                .tag("reason", "timeout")
+                .register(registry);
+    }
+
+    public void acquire() throws DatabaseBusyException {
+        if (permits.tryAcquire()) {
+            wait.record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            queueFull.increment();
+            throw new DatabaseBusyException("Database busy, " + maxQueue + " callers are already waiting");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                timedOut.increment();
+                throw new DatabaseBusyException("Database busy, no connection within " +
+                                                TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("Interrupted while waiting for a connection");
+        } finally {
+            queued.decrementAndGet();
+            wait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int active() {
+        return size - permits.availablePermits();
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+}
@@ -0,0 +1,14 @@
+package com.sysm.devsync.infrastructure.execution;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * No connection could be admitted: too many callers were already waiting, or the wait timed out.
+ * Answered with 503, the client may retry.
+ */
+public class DatabaseBusyException extends SQLTransientConnectionException {
+
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,43 @@
+package com.sysm.devsync.infrastructure.metrics;
+
+import com.sysm.devsync.infrastructure.cache.AggregateCache;
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the hits, misses, evictions and size of every aggregate cache. The caches are created
+ * by the persistence adapters, which are all created before the registry binds its binders.
+ */
+@Component
+public class CacheMetrics implements MeterBinder {
+
+    private final AggregateCaches caches;
+
+    public CacheMetrics(AggregateCaches caches) {
+        this.caches = caches;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AggregateCache<?> cache : caches.caches()) {
+            FunctionCounter.builder("devsync.cache.gets", cache, c -> c.stats().hits())
+                    .tag("cache", cache.name())
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("devsync.cache.gets", cache, c -> c.stats().misses())
+                    .tag("cache", cache.name())
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("devsync.cache.evictions", cache, c -> c.stats().evictions())
+                    .tag("cache", cache.name())
+                    .register(registry);
+            Gauge.builder("devsync.cache.size", cache, c -> c.stats().size())
+                    .tag("cache", cache.name())
+                    .register(registry);
+        }
+    }
+}
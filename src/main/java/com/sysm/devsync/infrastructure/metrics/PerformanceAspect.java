@@ -0,0 +1,106 @@
+package com.sysm.devsync.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every controller method and every persistence port method, and records how many statements
+ * each call sent to the database.
+ * <p>
+ * Controller calls run on the request thread, so their query count is the count of the request.
+ * Persistence calls slower than the threshold are logged with their query count. Both advices run
+ * outside of the transaction and security advices, commits and access checks are part of the time.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PerformanceAspect {
+
+    public static final String CONTROLLER_TIMER = "devsync.controller";
+    public static final String PERSISTENCE_TIMER = "devsync.persistence";
+    public static final String QUERIES_SUFFIX = ".queries";
+
+    private static final Logger log = LoggerFactory.getLogger(PerformanceAspect.class);
+
+    private final MeterRegistry registry;
+    private final long slowCallNanos;
+    private final Map<Key, Meters> meters = new ConcurrentHashMap<>();
+
+    public PerformanceAspect(MeterRegistry registry,
+                             @Value("${dev-sync.metrics.slow-call-threshold:500ms}") Duration slowCallThreshold) {
+        this.registry = registry;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+    }
+
+    @Around("within(com.sysm.devsync.infrastructure.controllers.rest.impl..*) && execution(public * *(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, CONTROLLER_TIMER, false);
+    }
+
+    @Around("within(com.sysm.devsync.infrastructure.repositories.persistence..*) " +
+            "&& execution(public * com.sysm.devsync.domain.persistence.*Port+.*(..))")
+    public Object timePersistence(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, PERSISTENCE_TIMER, true);
+    }
+
+    private Object measure(ProceedingJoinPoint joinPoint, String name, boolean logSlow) throws Throwable {
+        QueryCounter.Snapshot queries = QueryCounter.snapshot();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long statements = queries.statementsSince();
+            Meters meters = meters(joinPoint, name);
+            meters.timer().record(elapsed, TimeUnit.NANOSECONDS);
+            meters.queries().record(statements);
+            if (logSlow && elapsed >= slowCallNanos && log.isWarnEnabled()) {
+                log.warn("Slow persistence call {} took {} ms with {} queries ({} ms in the database)",
+                        meters.label(), TimeUnit.NANOSECONDS.toMillis(elapsed), statements,
+                        TimeUnit.NANOSECONDS.toMillis(queries.nanosSince()));
+            }
+        }
+    }
+
+    private Meters meters(ProceedingJoinPoint joinPoint, String name) {
+        // Inherited methods are shared by several adapters, the target tells them apart
+        var key = new Key(joinPoint.getTarget().getClass(), ((MethodSignature) joinPoint.getSignature()).getMethod());
+        return meters.computeIfAbsent(key, k -> {
+            String type = k.type().getSimpleName();
+            String method = k.method().getName();
+            return new Meters(type + "." + method,
+                    Timer.builder(name)
+                            .tag("class", type)
+                            .tag("method", method)
+                            .register(registry),
+                    DistributionSummary.builder(name + QUERIES_SUFFIX)
+                            .baseUnit("queries")
+                            .tag("class", type)
+                            .tag("method", method)
+                            .register(registry));
+        });
+    }
+
+    private record Key(Class<?> type, Method method) {
+    }
+
+    private record Meters(String label, Timer timer, DistributionSummary queries) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.sysm.devsync.infrastructure.metrics;
+
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code /actuator/perf}: the controller and persistence methods with the worst p99 first, the
+ * connection pools and the aggregate caches, read from the same meters that are scraped.
+ * <p>
+ * Percentiles cover the last few minutes, counts and totals everything since startup. A percentile
+ * that is not configured under {@code management.metrics.distribution.percentiles} is null.
+ */
+@Component
+@Endpoint(id = "perf")
+public class PerformanceEndpoint {
+
+    private final MeterRegistry registry;
+    private final AggregateCaches caches;
+
+    public PerformanceEndpoint(MeterRegistry registry, AggregateCaches caches) {
+        this.registry = registry;
+        this.caches = caches;
+    }
+
+    @ReadOperation
+    public Summary summary() {
+        return new Summary(
+                calls(PerformanceAspect.CONTROLLER_TIMER),
+                calls(PerformanceAspect.PERSISTENCE_TIMER),
+                pools(),
+                caches.stats().stream()
+                        .map(stats -> new Cache(stats.name(), stats.enabled(), stats.size(), stats.hits(),
+                                stats.misses(), stats.evictions(), round(stats.hitRate())))
+                        .sorted(Comparator.comparing(Cache::name))
+                        .toList());
+    }
+
+    private List<Call> calls(String timerName) {
+        return registry.find(timerName).timers().stream()
+                .map(timer -> {
+                    String type = timer.getId().getTag("class");
+                    String method = timer.getId().getTag("method");
+                    HistogramSnapshot time = timer.takeSnapshot();
+                    DistributionSummary queries = registry.find(timerName + PerformanceAspect.QUERIES_SUFFIX)
+                            .tag("class", type)
+                            .tag("method", method)
+                            .summary();
+                    return new Call(type + "." + method, time.count(),
+                            round(time.total(TimeUnit.MILLISECONDS)), round(time.mean(TimeUnit.MILLISECONDS)),
+                            percentile(time, 0.5), percentile(time, 0.95), percentile(time, 0.99),
+                            round(time.max(TimeUnit.MILLISECONDS)),
+                            queries == null ? 0 : round(queries.mean()),
+                            queries == null ? 0 : round(queries.max()));
+                })
+                .sorted(Comparator.comparing((Call call) -> call.p99Ms() == null ? 0 : call.p99Ms())
+                        .thenComparing(Call::meanMs)
+                        .reversed())
+                .toList();
+    }
+
+    private List<Pool> pools() {
+        return registry.find("hikaricp.connections.max").gauges().stream()
+                .map(max -> {
+                    String pool = max.getId().getTag("pool");
+                    Timer acquire = registry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+                    Timer usage = registry.find("hikaricp.connections.usage").tag("pool", pool).timer();
+                    HistogramSnapshot wait = acquire == null ? HistogramSnapshot.empty(0, 0, 0) : acquire.takeSnapshot();
+                    return new Pool(pool,
+                            (int) max.value(),
+                            (int) gauge("hikaricp.connections.active", pool),
+                            (int) gauge("hikaricp.connections.idle", pool),
+                            (int) gauge("hikaricp.connections.pending", pool),
+                            round(wait.mean(TimeUnit.MILLISECONDS)),
+                            percentile(wait, 0.99),
+                            round(wait.max(TimeUnit.MILLISECONDS)),
+                            usage == null ? 0 : round(usage.mean(TimeUnit.MILLISECONDS)));
+                })
+                .toList();
+    }
+
+    private double gauge(String name, String pool) {
+        Gauge gauge = registry.find(name).tag("pool", pool).gauge();
+        return gauge == null ? 0 : gauge.value();
+    }
+
+    private static Double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return round(value.value(TimeUnit.MILLISECONDS));
+            }
+        }
+        return null;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    public record Summary(List<Call> controllers, List<Call> persistence, List<Pool> pools, List<Cache> caches) {
+    }
+
+    public record Call(String name, long count, double totalMs, double meanMs,
+                       Double p50Ms, Double p95Ms, Double p99Ms, double maxMs,
+                       double queriesMean, double queriesMax) {
+    }
+
+    /**
+     * @param waitMeanMs time a request waited for a connection, on average
+     * @param usageMeanMs time a connection was held before it was returned, on average
+     */
+    public record Pool(String name, int max, int active, int idle, int pending,
+                       double waitMeanMs, Double waitP99Ms, double waitMaxMs, double usageMeanMs) {
+    }
+
+    public record Cache(String name, boolean enabled, int size, long hits, long misses, long evictions,
+                        double hitRate) {
+    }
+}
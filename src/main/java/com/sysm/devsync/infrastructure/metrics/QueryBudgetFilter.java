@@ -0,0 +1,92 @@
+package com.sysm.devsync.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Tracks the statements of every request and warns about the requests over the query budget: too
+ * many statements, or the same statement repeated too many times, which usually is an N+1.
+ * <p>
+ * Each request over budget is logged and counted in {@code devsync.http.query.budget.exceeded},
+ * tagged with the endpoint and the reason. The report of the request is left in the
+ * {@link #REPORT_ATTRIBUTE} request attribute.
+ */
+@Component
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String REPORT_ATTRIBUTE = RequestQueries.Report.class.getName();
+    public static final String EXCEEDED_COUNTER = "devsync.http.query.budget.exceeded";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final int maxStatements;
+    private final int maxRepeats;
+
+    public QueryBudgetFilter(MeterRegistry registry,
+                             @Value("${dev-sync.metrics.query-budget.enabled:true}") boolean enabled,
+                             @Value("${dev-sync.metrics.query-budget.max-statements:20}") int maxStatements,
+                             @Value("${dev-sync.metrics.query-budget.max-repeats:5}") int maxRepeats) {
+        this.registry = registry;
+        this.enabled = enabled;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestQueries.Report report;
+        try (var tracker = RequestQueries.start()) {
+            chain.doFilter(request, response);
+            report = tracker.report();
+        }
+        request.setAttribute(REPORT_ATTRIBUTE, report);
+
+        if (report.statements() > maxStatements) {
+            exceeded(request, "statements", report);
+        } else if (report.repeats() > maxRepeats) {
+            exceeded(request, "repeats", report);
+        }
+    }
+
+    private void exceeded(HttpServletRequest request, String reason, RequestQueries.Report report) {
+        String endpoint = endpoint(request);
+        Counter.builder(EXCEEDED_COUNTER)
+                .tag("method", request.getMethod())
+                .tag("uri", endpoint)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+        log.warn("{} {} ran {} statements, one of them {} times (budget {} statements, {} repeats): {}",
+                request.getMethod(), endpoint, report.statements(), report.repeats(), maxStatements, maxRepeats,
+                report.repeated());
+    }
+
+    /**
+     * The mapped path pattern, so ids do not make a meter per request. Requests no handler matched
+     * share one.
+     */
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package com.sysm.devsync.infrastructure.metrics;
+
+/**
+ * Statements Hibernate sent to the database from the current thread, and the time it waited for them.
+ * <p>
+ * The counts only grow: a caller takes a {@link #snapshot()} before the work it measures and asks
+ * the snapshot for the difference afterward, so measurements can nest. Statements run through
+ * plain JDBC, outside of Hibernate, are not counted.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+
+    private QueryCounter() {
+    }
+
+    static void executed(long nanos) {
+        long[] counts = COUNTS.get();
+        counts[0]++;
+        counts[1] += nanos;
+    }
+
+    public static Snapshot snapshot() {
+        long[] counts = COUNTS.get();
+        return new Snapshot(counts[0], counts[1]);
+    }
+
+    public record Snapshot(long statements, long nanos) {
+
+        /**
+         * Statements executed on this thread since the snapshot was taken.
+         */
+        public long statementsSince() {
+            return COUNTS.get()[0] - statements;
+        }
+
+        /**
+         * Time spent executing them, in nanoseconds.
+         */
+        public long nanosSince() {
+            return COUNTS.get()[1] - nanos;
+        }
+    }
+}
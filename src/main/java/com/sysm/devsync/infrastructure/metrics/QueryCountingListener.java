@@ -0,0 +1,34 @@
+package com.sysm.devsync.infrastructure.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Feeds the {@link QueryCounter} with every statement and batch a session executes.
+ * <p>
+ * Registered through {@code hibernate.session.events.auto}, Hibernate creates one per session. A
+ * session is used by one thread at a time, so the start time needs no synchronization.
+ */
+public class QueryCountingListener implements SessionEventListener {
+
+    private long start;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryCounter.executed(System.nanoTime() - start);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryCounter.executed(System.nanoTime() - start);
+    }
+}
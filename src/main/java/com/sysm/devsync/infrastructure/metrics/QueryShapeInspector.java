@@ -0,0 +1,16 @@
+package com.sysm.devsync.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hands every statement Hibernate prepares to {@link RequestQueries}, unchanged.
+ * Registered through {@code hibernate.session_factory.statement_inspector}, Hibernate creates the instance.
+ */
+public class QueryShapeInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueries.prepared(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,93 @@
+package com.sysm.devsync.infrastructure.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Statements prepared while the current thread serves a request, grouped by shape.
+ * <p>
+ * The shape is the SQL with its literals and the length of its IN lists left out: the same query
+ * repeated for every row of a list, the mark of an N+1, has a single shape. Statements prepared
+ * outside of a tracked request are ignored.
+ */
+public final class RequestQueries {
+
+    private static final ThreadLocal<Tracker> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private RequestQueries() {
+    }
+
+    /**
+     * Starts tracking the current thread. Closing the tracker stops it.
+     */
+    public static Tracker start() {
+        var tracker = new Tracker(CURRENT.get());
+        CURRENT.set(tracker);
+        return tracker;
+    }
+
+    static void prepared(String sql) {
+        Tracker tracker = CURRENT.get();
+        if (tracker != null) {
+            tracker.prepared(sql);
+        }
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public static final class Tracker implements AutoCloseable {
+
+        private final Tracker outer;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int statements;
+
+        private Tracker(Tracker outer) {
+            this.outer = outer;
+        }
+
+        private void prepared(String sql) {
+            statements++;
+            shapes.merge(shapeOf(sql), 1, Integer::sum);
+        }
+
+        public Report report() {
+            String repeated = null;
+            int repeats = 0;
+            for (Map.Entry<String, Integer> shape : shapes.entrySet()) {
+                if (shape.getValue() > repeats) {
+                    repeated = shape.getKey();
+                    repeats = shape.getValue();
+                }
+            }
+            return new Report(statements, shapes.size(), repeated, repeats);
+        }
+
+        @Override
+        public void close() {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+
+    /**
+     * @param shapes     distinct shapes among the statements
+     * @param repeated   the shape prepared most often, null when there were no statements
+     * @param repeats    how many times it was prepared
+     */
+    public record Report(int statements, int shapes, String repeated, int repeats) {
+    }
+}
@@ -1,14 +1,22 @@
 package com.sysm.devsync.infrastructure.repositories;
 
 import com.sysm.devsync.infrastructure.repositories.entities.AnswerJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.objects.ChangeRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface AnswerJpaRepository extends JpaRepository<AnswerJpaEntity, String> {
+public interface AnswerJpaRepository extends JpaRepository<AnswerJpaEntity, String>, JpaSpecificationExecutor<AnswerJpaEntity> {
 
     Page<AnswerJpaEntity> findAll(Specification<AnswerJpaEntity> whereClause, Pageable page);
 
@@ -16,6 +24,23 @@ public interface AnswerJpaRepository extends JpaRepository<AnswerJpaEntity, Stri
 
     List<AnswerJpaEntity> findByAuthorId(String authorId);
 
-    void deleteAllByQuestion_Id(String questionId);
+    List<AnswerJpaEntity> findAllByQuestion_IdIn(Collection<String> questionIds);
 
+    // Set-based, the answers are not loaded before being deleted
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Answer a WHERE a.question.id = :questionId")
+    int deleteAllByQuestion_Id(@Param("questionId") String questionId);
+
+    @Query("SELECT a.author.id FROM Answer a WHERE a.id = :id")
+    Optional<String> findAuthorIdById(@Param("id") String id);
+
+    @Query("SELECT a.question.id FROM Answer a WHERE a.id = :id")
+    Optional<String> findQuestionIdById(@Param("id") String id);
+
+    @Query("SELECT new com.sysm.devsync.infrastructure.repositories.objects.ChangeRow(a.id, a.createdAt, a.updatedAt) " +
+           "FROM Answer a " +
+           "WHERE a.updatedAt >= :at AND (a.updatedAt > :at OR a.id > :id) AND a.updatedAt <= :until " +
+           "ORDER BY a.updatedAt, a.id")
+    List<ChangeRow> findChangedAfter(@Param("at") Instant at, @Param("id") String id,
+                                     @Param("until") Instant until, Pageable page);
 }
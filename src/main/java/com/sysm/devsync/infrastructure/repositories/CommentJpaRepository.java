@@ -2,12 +2,22 @@ package com.sysm.devsync.infrastructure.repositories;
 
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.infrastructure.repositories.entities.CommentJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.objects.ChangeRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CommentJpaRepository extends JpaRepository<CommentJpaEntity, String> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CommentJpaRepository extends JpaRepository<CommentJpaEntity, String>, JpaSpecificationExecutor<CommentJpaEntity> {
 
     Page<CommentJpaEntity> findAll(Specification<CommentJpaEntity> whereClause, Pageable page);
 
@@ -15,6 +25,31 @@ public interface CommentJpaRepository extends JpaRepository<CommentJpaEntity, St
             TargetType targetType, String targetId, Pageable pageable
     );
 
-    void deleteAllByTargetTypeAndTargetId(TargetType targetType, String targetId);
+    List<CommentJpaEntity> findAllByTargetTypeAndTargetIdIn(TargetType targetType, Collection<String> targetIds);
+
+    @Query("SELECT c FROM Comment c " +
+           "WHERE c.targetType = com.sysm.devsync.domain.enums.TargetType.ANSWER " +
+           "AND c.targetId IN (SELECT a.id FROM Answer a WHERE a.question.id IN :questionIds)")
+    List<CommentJpaEntity> findAllOnAnswersOfQuestions(@Param("questionIds") Collection<String> questionIds);
+
+    // Set-based, the comments are not loaded before being deleted
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.targetType = :targetType AND c.targetId = :targetId")
+    int deleteAllByTargetTypeAndTargetId(@Param("targetType") TargetType targetType, @Param("targetId") String targetId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c " +
+           "WHERE c.targetType = com.sysm.devsync.domain.enums.TargetType.ANSWER " +
+           "AND c.targetId IN (SELECT a.id FROM Answer a WHERE a.question.id = :questionId)")
+    int deleteAllOnAnswersOfQuestion(@Param("questionId") String questionId);
+
+    @Query("SELECT c.author.id FROM Comment c WHERE c.id = :id")
+    Optional<String> findAuthorIdById(@Param("id") String id);
 
+    @Query("SELECT new com.sysm.devsync.infrastructure.repositories.objects.ChangeRow(c.id, c.createdAt, c.updatedAt) " +
+           "FROM Comment c " +
+           "WHERE c.updatedAt >= :at AND (c.updatedAt > :at OR c.id > :id) AND c.updatedAt <= :until " +
+           "ORDER BY c.updatedAt, c.id")
+    List<ChangeRow> findChangedAfter(@Param("at") Instant at, @Param("id") String id,
+                                     @Param("until") Instant until, Pageable page);
 }
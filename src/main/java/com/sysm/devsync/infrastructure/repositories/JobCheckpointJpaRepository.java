@@ -0,0 +1,7 @@
+package com.sysm.devsync.infrastructure.repositories;
+
+import com.sysm.devsync.infrastructure.repositories.entities.JobCheckpointJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobCheckpointJpaRepository extends JpaRepository<JobCheckpointJpaEntity, String> {
+}
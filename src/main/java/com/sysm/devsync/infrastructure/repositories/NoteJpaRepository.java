@@ -1,15 +1,76 @@
 package com.sysm.devsync.infrastructure.repositories;
 
+import com.sysm.devsync.domain.Revision;
 import com.sysm.devsync.infrastructure.repositories.entities.NoteJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.objects.ChangeRow;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface NoteJpaRepository extends JpaRepository<NoteJpaEntity, String> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface NoteJpaRepository extends JpaRepository<NoteJpaEntity, String>, JpaSpecificationExecutor<NoteJpaEntity> {
 
     Page<NoteJpaEntity> findAll(Specification<NoteJpaEntity> whereClause, Pageable page);
 
     Page<NoteJpaEntity> findAllByProject_Id(String projectId, Pageable page);
 
+    @Query("SELECT new com.sysm.devsync.infrastructure.repositories.objects.KeyValue(n.id, t.id) " +
+           "FROM Note n " +
+           "JOIN n.tags t " +
+           "WHERE n.id IN :noteIds")
+    List<KeyValue> findTagIdsByNoteIdIn(List<String> noteIds);
+
+    @Query("SELECT t.id FROM Note n JOIN n.tags t WHERE n.id = :noteId")
+    List<String> findTagIdsByNoteId(@Param("noteId") String noteId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO note_tags (note_id, tag_id) " +
+                   "SELECT :noteId, t.id FROM tags t " +
+                   "WHERE t.id IN (:tagIds) " +
+                   "AND NOT EXISTS (SELECT 1 FROM note_tags x WHERE x.note_id = :noteId AND x.tag_id = t.id)",
+           nativeQuery = true)
+    int insertTags(@Param("noteId") String noteId, @Param("tagIds") Collection<String> tagIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM note_tags WHERE note_id = :noteId AND tag_id IN (:tagIds)",
+           nativeQuery = true)
+    int deleteTags(@Param("noteId") String noteId, @Param("tagIds") Collection<String> tagIds);
+
+    // Read-only entities in a cursor, the export detaches them chunk by chunk
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = QuestionJpaRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT n FROM Note n WHERE n.project.id = :projectId")
+    Stream<NoteJpaEntity> streamAllByProjectId(@Param("projectId") String projectId);
+
+    @Query("SELECT n.author.id FROM Note n WHERE n.id = :id")
+    Optional<String> findAuthorIdById(@Param("id") String id);
+
+    @Query("SELECT n.project.id FROM Note n WHERE n.id = :id")
+    Optional<String> findProjectIdById(@Param("id") String id);
+
+    @Query("SELECT new com.sysm.devsync.domain.Revision(n.version, n.updatedAt) FROM Note n WHERE n.id = :id")
+    Optional<Revision> findRevisionById(@Param("id") String id);
+
+    @Query("SELECT new com.sysm.devsync.infrastructure.repositories.objects.ChangeRow(n.id, n.createdAt, n.updatedAt) " +
+           "FROM Note n " +
+           "WHERE n.updatedAt >= :at AND (n.updatedAt > :at OR n.id > :id) AND n.updatedAt <= :until " +
+           "ORDER BY n.updatedAt, n.id")
+    List<ChangeRow> findChangedAfter(@Param("at") Instant at, @Param("id") String id,
+                                     @Param("until") Instant until, Pageable page);
 }
@@ -5,15 +5,23 @@ import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Collection;
 
-public interface ProjectJpaRepository extends JpaRepository<ProjectJpaEntity, String> {
+public interface ProjectJpaRepository extends JpaRepository<ProjectJpaEntity, String>, JpaSpecificationExecutor<ProjectJpaEntity> {
 
     Page<ProjectJpaEntity> findAll(Specification<ProjectJpaEntity> whereClause, Pageable page);
 
+    @EntityGraph(attributePaths = "workspace")
+    Optional<ProjectJpaEntity> findWithWorkspaceById(String id);
+
     boolean existsByWorkspaceId(String workspaceId);
 
     int countByWorkspaceId(String workspaceId);
@@ -23,4 +31,7 @@ public interface ProjectJpaRepository extends JpaRepository<ProjectJpaEntity, St
            "WHERE p.workspace.id IN :workspaceIds " +
            "GROUP BY p.workspace.id")
     List<KeyValue> countProjectsByWorkspaceIdIn(List<String> workspaceIds);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
 }
@@ -1,15 +1,84 @@
 package com.sysm.devsync.infrastructure.repositories;
 
+import com.sysm.devsync.domain.Revision;
 import com.sysm.devsync.infrastructure.repositories.entities.QuestionJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.objects.ChangeRow;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface QuestionJpaRepository extends JpaRepository<QuestionJpaEntity, String> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface QuestionJpaRepository extends JpaRepository<QuestionJpaEntity, String>, JpaSpecificationExecutor<QuestionJpaEntity> {
+
+    String EXPORT_FETCH_SIZE = "500";
 
     Page<QuestionJpaEntity> findAll(Specification<QuestionJpaEntity> whereClause, Pageable page);
 
     Page<QuestionJpaEntity> findAllByProject_Id(String projectId, Pageable page);
 
+    @Query("SELECT new com.sysm.devsync.infrastructure.repositories.objects.KeyValue(q.id, t.id) " +
+           "FROM Question q " +
+           "JOIN q.tags t " +
+           "WHERE q.id IN :questionIds")
+    List<KeyValue> findTagIdsByQuestionIdIn(List<String> questionIds);
+
+    @Query("SELECT t.id FROM Question q JOIN q.tags t WHERE q.id = :questionId")
+    List<String> findTagIdsByQuestionId(@Param("questionId") String questionId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO question_tags (question_id, tag_id) " +
+                   "SELECT :questionId, t.id FROM tags t " +
+                   "WHERE t.id IN (:tagIds) " +
+                   "AND NOT EXISTS (SELECT 1 FROM question_tags x WHERE x.question_id = :questionId AND x.tag_id = t.id)",
+           nativeQuery = true)
+    int insertTags(@Param("questionId") String questionId, @Param("tagIds") Collection<String> tagIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM question_tags WHERE question_id = :questionId AND tag_id IN (:tagIds)",
+           nativeQuery = true)
+    int deleteTags(@Param("questionId") String questionId, @Param("tagIds") Collection<String> tagIds);
+
+    // Hibernate removes the question_tags rows of the question along with it
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Question q WHERE q.id = :id")
+    int deleteInBulkById(@Param("id") String id);
+
+    // Read-only entities in a cursor, the export detaches them chunk by chunk
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT q FROM Question q WHERE q.project.id = :projectId")
+    Stream<QuestionJpaEntity> streamAllByProjectId(@Param("projectId") String projectId);
+
+    @Query("SELECT q.author.id FROM Question q WHERE q.id = :id")
+    Optional<String> findAuthorIdById(@Param("id") String id);
+
+    @Query("SELECT q.project.id FROM Question q WHERE q.id = :id")
+    Optional<String> findProjectIdById(@Param("id") String id);
+
+    @Query("SELECT new com.sysm.devsync.domain.Revision(q.version, q.updatedAt) FROM Question q WHERE q.id = :id")
+    Optional<Revision> findRevisionById(@Param("id") String id);
+
+    // The first condition alone bounds the index range, the second skips what the cursor already returned
+    @Query("SELECT new com.sysm.devsync.infrastructure.repositories.objects.ChangeRow(q.id, q.createdAt, q.updatedAt) " +
+           "FROM Question q " +
+           "WHERE q.updatedAt >= :at AND (q.updatedAt > :at OR q.id > :id) AND q.updatedAt <= :until " +
+           "ORDER BY q.updatedAt, q.id")
+    List<ChangeRow> findChangedAfter(@Param("at") Instant at, @Param("id") String id,
+                                     @Param("until") Instant until, Pageable page);
 }
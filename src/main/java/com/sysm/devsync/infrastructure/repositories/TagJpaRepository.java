@@ -1,14 +1,20 @@
 package com.sysm.devsync.infrastructure.repositories;
 
 import com.sysm.devsync.infrastructure.repositories.entities.TagJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TagJpaRepository extends JpaRepository<TagJpaEntity, String> {
+import java.util.Collection;
+import java.util.List;
+
+public interface TagJpaRepository extends JpaRepository<TagJpaEntity, String>, JpaSpecificationExecutor<TagJpaEntity> {
 
     Page<TagJpaEntity> findAll(Specification<TagJpaEntity> whereClause, Pageable page);
 
@@ -19,4 +25,28 @@ public interface TagJpaRepository extends JpaRepository<TagJpaEntity, String> {
     @Modifying
     @Query("UPDATE Tag t SET t.amountUsed = t.amountUsed - 1 WHERE t.id = :id")
     void decrementUse(String id);
+
+    @Modifying
+    @Query("UPDATE Tag t SET t.amountUsed = t.amountUsed - 1 WHERE t.id IN :ids")
+    int decrementUseByIdIn(Collection<String> ids);
+
+    @Modifying
+    @Query("UPDATE Tag t SET t.amountUsed = t.amountUsed + :delta WHERE t.id IN :ids")
+    int addUse(@Param("delta") int delta, @Param("ids") Collection<String> ids);
+
+    // Usage reconciliation walks the tags in id order and counts the links of one chunk at a time
+    @Query("SELECT new com.sysm.devsync.infrastructure.repositories.objects.KeyValue(t.id, t.amountUsed) " +
+           "FROM Tag t WHERE t.id > :afterId ORDER BY t.id")
+    List<KeyValue> findUsageAfter(@Param("afterId") String afterId, Pageable page);
+
+    @Query("SELECT new com.sysm.devsync.infrastructure.repositories.objects.KeyValue(t.id, count(q.id)) " +
+           "FROM Question q JOIN q.tags t WHERE t.id IN :tagIds GROUP BY t.id")
+    List<KeyValue> countQuestionUsesByTagIdIn(@Param("tagIds") Collection<String> tagIds);
+
+    @Query("SELECT new com.sysm.devsync.infrastructure.repositories.objects.KeyValue(t.id, count(n.id)) " +
+           "FROM Note n JOIN n.tags t WHERE t.id IN :tagIds GROUP BY t.id")
+    List<KeyValue> countNoteUsesByTagIdIn(@Param("tagIds") Collection<String> tagIds);
+
+    @Query("SELECT t.id FROM Tag t WHERE t.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
 }
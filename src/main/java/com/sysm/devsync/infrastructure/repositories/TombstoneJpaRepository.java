@@ -0,0 +1,51 @@
+package com.sysm.devsync.infrastructure.repositories;
+
+import com.sysm.devsync.domain.enums.AggregateType;
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.infrastructure.repositories.entities.TombstoneJpaEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Tombstones are inserted by statements, never merged, and the bulk deletes record theirs with
+ * the same filter before removing the rows, so the deleted rows are never loaded.
+ */
+public interface TombstoneJpaRepository extends JpaRepository<TombstoneJpaEntity, String> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO Tombstone (aggregateId, aggregateType, deletedAt) VALUES (:id, :type, :deletedAt)")
+    void record(@Param("type") AggregateType type, @Param("id") String id, @Param("deletedAt") Instant deletedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO Tombstone (aggregateId, aggregateType, deletedAt) " +
+           "SELECT c.id, com.sysm.devsync.domain.enums.AggregateType.COMMENT, :deletedAt FROM Comment c " +
+           "WHERE c.targetType = :targetType AND c.targetId = :targetId")
+    int recordComments(@Param("targetType") TargetType targetType, @Param("targetId") String targetId,
+                       @Param("deletedAt") Instant deletedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO Tombstone (aggregateId, aggregateType, deletedAt) " +
+           "SELECT c.id, com.sysm.devsync.domain.enums.AggregateType.COMMENT, :deletedAt FROM Comment c " +
+           "WHERE c.targetType = com.sysm.devsync.domain.enums.TargetType.ANSWER " +
+           "AND c.targetId IN (SELECT a.id FROM Answer a WHERE a.question.id = :questionId)")
+    int recordCommentsOnAnswersOfQuestion(@Param("questionId") String questionId, @Param("deletedAt") Instant deletedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO Tombstone (aggregateId, aggregateType, deletedAt) " +
+           "SELECT a.id, com.sysm.devsync.domain.enums.AggregateType.ANSWER, :deletedAt FROM Answer a " +
+           "WHERE a.question.id = :questionId")
+    int recordAnswersOfQuestion(@Param("questionId") String questionId, @Param("deletedAt") Instant deletedAt);
+
+    // Same keyset condition as the aggregate repositories' findChangedAfter
+    @Query("SELECT t FROM Tombstone t " +
+           "WHERE t.deletedAt >= :at AND (t.deletedAt > :at OR t.aggregateId > :id) AND t.deletedAt <= :until " +
+           "ORDER BY t.deletedAt, t.aggregateId")
+    List<TombstoneJpaEntity> findDeletedAfter(@Param("at") Instant at, @Param("id") String id,
+                                              @Param("until") Instant until, Pageable page);
+}
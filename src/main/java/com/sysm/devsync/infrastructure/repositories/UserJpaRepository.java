@@ -6,11 +6,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Collection;
 
-public interface UserJpaRepository extends JpaRepository<UserJpaEntity, String> {
+public interface UserJpaRepository extends JpaRepository<UserJpaEntity, String>, JpaSpecificationExecutor<UserJpaEntity> {
 
     Page<UserJpaEntity> findAll(Specification<UserJpaEntity> whereClause, Pageable page);
 
@@ -19,4 +22,6 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, String>
            "WHERE u.id IN :userIds ")
     List<KeyValue> userIdXUseName(List<String> userIds);
 
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
 }
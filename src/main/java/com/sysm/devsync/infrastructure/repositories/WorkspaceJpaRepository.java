@@ -1,18 +1,81 @@
 package com.sysm.devsync.infrastructure.repositories;
 
+import com.sysm.devsync.domain.Revision;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+import com.sysm.devsync.infrastructure.repositories.objects.MemberRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface WorkspaceJpaRepository extends JpaRepository<WorkspaceJpaEntity, String> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface WorkspaceJpaRepository extends JpaRepository<WorkspaceJpaEntity, String>, JpaSpecificationExecutor<WorkspaceJpaEntity> {
 
     Page<WorkspaceJpaEntity> findAll(Specification<WorkspaceJpaEntity> whereClause, Pageable page);
 
+    @EntityGraph(attributePaths = {"owner", "members"})
+    Optional<WorkspaceJpaEntity> findWithMembersById(String id);
+
     @Query("SELECT count(m) > 0 FROM Workspace w JOIN w.members m WHERE w.id = :workspaceId")
     boolean hasMembers(@Param("workspaceId") String workspaceId);
 
+    @Query("SELECT new com.sysm.devsync.infrastructure.repositories.objects.KeyValue(w.id, o.name) " +
+           "FROM Workspace w " +
+           "JOIN w.owner o " +
+           "WHERE w.id IN :workspaceIds")
+    List<KeyValue> findOwnerNamesByWorkspaceIdIn(List<String> workspaceIds);
+
+    @Query("SELECT new com.sysm.devsync.infrastructure.repositories.objects.MemberRow(w.id, m.id, m.name) " +
+           "FROM Workspace w " +
+           "JOIN w.members m " +
+           "WHERE w.id IN :workspaceIds")
+    List<MemberRow> findMembersByWorkspaceIdIn(List<String> workspaceIds);
+
+    @Query("SELECT count(m) > 0 FROM Workspace w JOIN w.members m WHERE w.id = :workspaceId AND m.id = :userId")
+    boolean isMember(@Param("workspaceId") String workspaceId, @Param("userId") String userId);
+
+    // Set-based membership writes go straight to the join table, the member collection is never loaded
+    @Modifying
+    @Query(value = "INSERT INTO workspace_members (workspace_id, user_id) " +
+                   "SELECT :workspaceId, u.id FROM users u " +
+                   "WHERE u.id IN (:userIds) " +
+                   "AND NOT EXISTS (SELECT 1 FROM workspace_members wm WHERE wm.workspace_id = :workspaceId AND wm.user_id = u.id)",
+           nativeQuery = true)
+    int insertMembers(@Param("workspaceId") String workspaceId, @Param("userIds") Collection<String> userIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM workspace_members WHERE workspace_id = :workspaceId AND user_id IN (:userIds)",
+           nativeQuery = true)
+    int deleteMembers(@Param("workspaceId") String workspaceId, @Param("userIds") Collection<String> userIds);
+
+    // A membership change on its own is a new version of the workspace, and moves Last-Modified with it
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Workspace w SET w.memberCount = w.memberCount + :delta, w.version = w.version + 1, w.updatedAt = :updatedAt " +
+           "WHERE w.id = :workspaceId")
+    void adjustMemberCount(@Param("workspaceId") String workspaceId, @Param("delta") int delta,
+                           @Param("updatedAt") Instant updatedAt);
+
+    // Membership changes of an update that has already moved the version
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Workspace w SET w.memberCount = w.memberCount + :delta WHERE w.id = :workspaceId")
+    void adjustMemberCountKeepingVersion(@Param("workspaceId") String workspaceId, @Param("delta") int delta);
+
+    // Selected from the user side so the page sort applies to the member columns
+    @Query("SELECT u FROM User u " +
+           "WHERE u.id IN (SELECT m.id FROM Workspace w JOIN w.members m WHERE w.id = :workspaceId)")
+    Page<UserJpaEntity> findMembersByWorkspaceId(@Param("workspaceId") String workspaceId, Pageable page);
+
+    @Query("SELECT new com.sysm.devsync.domain.Revision(w.version, w.updatedAt) FROM Workspace w WHERE w.id = :id")
+    Optional<Revision> findRevisionById(@Param("id") String id);
 }
@@ -7,7 +7,11 @@ import java.time.Instant;
 import java.util.Objects;
 
 @Entity(name = "Answer")
-@Table(name = "answers")
+@Table(name = "answers", indexes = {
+        @Index(name = "idx_answers_question_id", columnList = "question_id"),
+        @Index(name = "idx_answers_author_id", columnList = "author_id"),
+        @Index(name = "idx_answers_updated_at", columnList = "updated_at, id")
+})
 public class AnswerJpaEntity {
 
     @Id
@@ -19,14 +23,17 @@ public class AnswerJpaEntity {
     @Column(name = "is_accepted", nullable = false)
     private boolean isAccepted;
 
-    @ManyToOne(fetch = FetchType.LAZY) // A question can have many answers
+    @ManyToOne(fetch = FetchType.LAZY, optional = false) // A question can have many answers
     @JoinColumn(name = "question_id", nullable = false)
     private QuestionJpaEntity question;
 
-    @ManyToOne(fetch = FetchType.LAZY) // An answer has one author
+    @ManyToOne(fetch = FetchType.LAZY, optional = false) // An answer has one author
     @JoinColumn(name = "author_id", nullable = false)
     private UserJpaEntity author;
 
+    @Column(name = "version", nullable = false)
+    private Integer version = 1;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -80,6 +87,14 @@ public class AnswerJpaEntity {
         this.author = author;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -140,6 +155,7 @@ public class AnswerJpaEntity {
         entity.setAccepted(model.isAccepted());
         entity.setCreatedAt(model.getCreatedAt());
         entity.setUpdatedAt(model.getUpdatedAt());
+        entity.setVersion(model.getStoredVersion());
         return entity;
     }
 
@@ -147,7 +163,7 @@ public class AnswerJpaEntity {
         if (entity == null) {
             return null;
         }
-        return Answer.build(
+        Answer answer = Answer.build(
                 entity.getId(),
                 entity.getQuestion() != null ? entity.getQuestion().getId() : null,
                 entity.getAuthor() != null ? entity.getAuthor().getId() : null,
@@ -156,5 +172,7 @@ public class AnswerJpaEntity {
                 entity.isAccepted(),
                 entity.getUpdatedAt()
         );
+        answer.setStoredVersion(entity.getVersion());
+        return answer;
     }
 }
@@ -8,7 +8,11 @@ import java.time.Instant;
 import java.util.Objects;
 
 @Entity(name = "Comment")
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_target", columnList = "target_type, target_id"),
+        @Index(name = "idx_comments_author_id", columnList = "author_id"),
+        @Index(name = "idx_comments_updated_at", columnList = "updated_at, id")
+})
 public class CommentJpaEntity {
 
     @Id
@@ -24,10 +28,13 @@ public class CommentJpaEntity {
     @Column(name = "target_id", nullable = false)
     private String targetId;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "author_id", nullable = false)
     private UserJpaEntity author;
 
+    @Column(name = "version", nullable = false)
+    private Integer version = 1;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -81,6 +88,14 @@ public class CommentJpaEntity {
         this.author = author;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -133,6 +148,7 @@ public class CommentJpaEntity {
         UserJpaEntity author = new UserJpaEntity(comment.getAuthorId());
         entity.setAuthor(author);
 
+        entity.setVersion(comment.getStoredVersion());
         return entity;
     }
 
@@ -141,7 +157,7 @@ public class CommentJpaEntity {
             return null;
         }
 
-        return Comment.build(
+        Comment comment = Comment.build(
                 entity.getId(),
                 entity.getTargetType(),
                 entity.getTargetId(),
@@ -150,5 +166,7 @@ public class CommentJpaEntity {
                 entity.getContent(),
                 entity.getUpdatedAt()
         );
+        comment.setStoredVersion(entity.getVersion());
+        return comment;
     }
 }
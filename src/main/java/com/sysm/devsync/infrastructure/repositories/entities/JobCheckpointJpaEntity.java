@@ -0,0 +1,48 @@
+package com.sysm.devsync.infrastructure.repositories.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Last key processed by a background job that walks a table in chunks, so the next run resumes there.
+ */
+@Entity(name = "JobCheckpoint")
+@Table(name = "job_checkpoints")
+public class JobCheckpointJpaEntity {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    // Null once a full pass has completed, the next run starts from the beginning
+    @Column(name = "last_key")
+    private String lastKey;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public JobCheckpointJpaEntity() {
+    }
+
+    public JobCheckpointJpaEntity(String name, String lastKey) {
+        this.name = name;
+        this.lastKey = lastKey;
+        this.updatedAt = Instant.now();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLastKey() {
+        return lastKey;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
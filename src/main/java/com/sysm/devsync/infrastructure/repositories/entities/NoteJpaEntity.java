@@ -9,7 +9,11 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity(name = "Note")
-@Table(name = "notes")
+@Table(name = "notes", indexes = {
+        @Index(name = "idx_notes_project_id", columnList = "project_id"),
+        @Index(name = "idx_notes_author_id", columnList = "author_id"),
+        @Index(name = "idx_notes_updated_at", columnList = "updated_at, id")
+})
 public class NoteJpaEntity {
 
     @Id
@@ -24,11 +28,11 @@ public class NoteJpaEntity {
     @Column(name = "version", nullable = false)
     private Integer version;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "project_id", nullable = false)
     private ProjectJpaEntity project;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "author_id", nullable = false)
     private UserJpaEntity author;
 
@@ -36,7 +40,8 @@ public class NoteJpaEntity {
     @JoinTable(
         name = "note_tags", // Name of the join table
         joinColumns = @JoinColumn(name = "note_id"), // FK for Note in join table
-        inverseJoinColumns = @JoinColumn(name = "tag_id") // FK for Tag in join table
+        inverseJoinColumns = @JoinColumn(name = "tag_id"), // FK for Tag in join table
+        indexes = @Index(name = "idx_note_tags_tag_id", columnList = "tag_id, note_id") // Reverse lookup, the primary key leads with note_id
     )
     private Set<TagJpaEntity> tags;
 
@@ -163,7 +168,7 @@ public class NoteJpaEntity {
         NoteJpaEntity entity = new NoteJpaEntity(note.getId());
         entity.setTitle(note.getTitle());
         entity.setContent(note.getContent());
-        entity.setVersion(note.getVersion());
+        entity.setVersion(note.getStoredVersion());
         entity.setProject(new ProjectJpaEntity(note.getProjectId()));
         entity.setAuthor(new UserJpaEntity(note.getAuthorId()));
         entity.setCreatedAt(note.getCreatedAt());
@@ -183,13 +188,21 @@ public class NoteJpaEntity {
 
     public static Note toModel(NoteJpaEntity entity) {
 
+        return toModel(entity, entity.getTags().stream().map(TagJpaEntity::getId).collect(Collectors.toSet()));
+    }
+
+    /**
+     * Maps the entity with tag ids loaded beforehand, leaving the lazy tags collection untouched.
+     */
+    public static Note toModel(NoteJpaEntity entity, Set<String> tagIds) {
+
         return Note.build(
             entity.getId(),
             entity.getCreatedAt(),
             entity.getUpdatedAt(),
             entity.getTitle(),
             entity.getContent(),
-            entity.getTags().stream().map(TagJpaEntity::getId).collect(Collectors.toSet()),
+            tagIds,
             entity.getProject() != null ? entity.getProject().getId() : null,
             entity.getAuthor() != null ? entity.getAuthor().getId() : null,
             entity.getVersion()
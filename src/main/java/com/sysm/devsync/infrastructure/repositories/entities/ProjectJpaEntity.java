@@ -9,7 +9,9 @@ import java.time.Instant;
 import java.util.Objects;
 
 @Entity(name = "Project")
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_workspace_id", columnList = "workspace_id")
+})
 public class ProjectJpaEntity {
 
     @Id
@@ -21,10 +23,13 @@ public class ProjectJpaEntity {
     @Column(length = 500)
     private String description;
 
-    @ManyToOne(fetch = FetchType.LAZY) // A workspace has one owner
+    @ManyToOne(fetch = FetchType.LAZY, optional = false) // A workspace has one owner
     @JoinColumn(name = "workspace_id", nullable = false) // Foreign key column in the 'workspaces' table
     private WorkspaceJpaEntity workspace;
 
+    @Column(name = "version", nullable = false)
+    private Integer version = 1;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -71,6 +76,14 @@ public class ProjectJpaEntity {
         this.workspace = workspace;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -129,6 +142,7 @@ public class ProjectJpaEntity {
         if (project.getWorkspace() != null) {
             entity.setWorkspace(new WorkspaceJpaEntity(project.getWorkspace().id()));
         }
+        entity.setVersion(project.getStoredVersion());
         return entity;
     }
 
@@ -136,7 +150,7 @@ public class ProjectJpaEntity {
         if (entity == null) {
             return null; // Handle a null case gracefully
         }
-        return Project.build(
+        Project project = Project.build(
                 entity.getId(),
                 entity.getName(),
                 entity.getDescription(),
@@ -144,6 +158,8 @@ public class ProjectJpaEntity {
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
+        project.setStoredVersion(entity.getVersion());
+        return project;
     }
 }
 
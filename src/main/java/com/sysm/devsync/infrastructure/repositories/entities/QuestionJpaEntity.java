@@ -10,7 +10,11 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity(name = "Question")
-@Table(name = "questions")
+@Table(name = "questions", indexes = {
+        @Index(name = "idx_questions_project_status", columnList = "project_id, status"),
+        @Index(name = "idx_questions_author_id", columnList = "author_id"),
+        @Index(name = "idx_questions_updated_at", columnList = "updated_at, id")
+})
 public class QuestionJpaEntity {
 
     @Id
@@ -26,11 +30,11 @@ public class QuestionJpaEntity {
     @Enumerated(EnumType.STRING)
     private QuestionStatus status;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "author_id", nullable = false)
     private UserJpaEntity author;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "project_id", nullable = false) // Foreign key to ProjectJpaEntity
     private ProjectJpaEntity project;
 
@@ -38,10 +42,14 @@ public class QuestionJpaEntity {
     @JoinTable(
             name = "question_tags", // Name of the join table
             joinColumns = @JoinColumn(name = "question_id"), // FK for Question in join table
-            inverseJoinColumns = @JoinColumn(name = "tag_id") // FK for Tag in join table
+            inverseJoinColumns = @JoinColumn(name = "tag_id"), // FK for Tag in join table
+            indexes = @Index(name = "idx_question_tags_tag_id", columnList = "tag_id, question_id") // Reverse lookup, the primary key leads with question_id
     )
     private Set<TagJpaEntity> tags;
 
+    @Column(name = "version", nullable = false)
+    private Integer version = 1;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -116,6 +124,14 @@ public class QuestionJpaEntity {
         this.tags = tags;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -182,6 +198,7 @@ public class QuestionJpaEntity {
         entity.setCreatedAt(question.getCreatedAt());
         entity.setUpdatedAt(question.getUpdatedAt());
 
+        entity.setVersion(question.getStoredVersion());
         return entity;
     }
 
@@ -196,7 +213,18 @@ public class QuestionJpaEntity {
                         .collect(Collectors.toSet()) :
                 Set.of();
 
-        return Question.build(
+        return toModel(entity, tagIds);
+    }
+
+    /**
+     * Maps the entity with tag ids loaded beforehand, leaving the lazy tags collection untouched.
+     */
+    public static Question toModel(QuestionJpaEntity entity, Set<String> tagIds) {
+        if (entity == null) {
+            return null;
+        }
+
+        Question question = Question.build(
                 entity.getId(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt(),
@@ -207,6 +235,8 @@ public class QuestionJpaEntity {
                 entity.getAuthor() != null ? entity.getAuthor().getId() : null,
                 entity.getStatus()
         );
+        question.setStoredVersion(entity.getVersion());
+        return question;
     }
 }
 
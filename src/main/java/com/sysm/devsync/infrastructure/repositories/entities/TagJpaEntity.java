@@ -28,9 +28,13 @@ public class TagJpaEntity {
     @Column(length = 100)
     private String category;
 
-    @Column(name = "amount_used", nullable = false)
+    // Only changed by the set-based usage updates, saving a tag must not overwrite concurrent changes
+    @Column(name = "amount_used", nullable = false, updatable = false)
     private int amountUsed;
 
+    @Column(name = "version", nullable = false)
+    private Integer version = 1;
+
     public TagJpaEntity() {
     }
 
@@ -91,14 +95,23 @@ public class TagJpaEntity {
         this.amountUsed = amountUsed;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public final boolean equals(Object o) {
         if (!(o instanceof TagJpaEntity tagJpaEntity)) return false;
 
-        return Objects.equals(id, tagJpaEntity.id);
+        // Through the getter, uninitialized proxies hold no field values but do know their id
+        return Objects.equals(getId(), tagJpaEntity.getId());
     }
 
     public final int hashCode() {
-        return Objects.hashCode(id);
+        return Objects.hashCode(getId());
     }
 
     public final String toString() {
@@ -120,11 +133,12 @@ public class TagJpaEntity {
         tagJpaEntity.setDescription(tag.getDescription());
         tagJpaEntity.setCategory(tag.getCategory());
         tagJpaEntity.setAmountUsed(tag.getAmountUsed());
+        tagJpaEntity.setVersion(tag.getStoredVersion());
         return tagJpaEntity;
     }
 
     public static Tag toModel(TagJpaEntity tagJpaEntity) {
-        return Tag.build(
+        Tag tag = Tag.build(
                 tagJpaEntity.getId(),
                 tagJpaEntity.getName(),
                 tagJpaEntity.getColor(),
@@ -132,5 +146,7 @@ public class TagJpaEntity {
                 tagJpaEntity.getCategory(),
                 tagJpaEntity.getAmountUsed()
         );
+        tag.setStoredVersion(tagJpaEntity.getVersion());
+        return tag;
     }
 }
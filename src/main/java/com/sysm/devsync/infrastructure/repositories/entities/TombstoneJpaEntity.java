@@ -0,0 +1,49 @@
+package com.sysm.devsync.infrastructure.repositories.entities;
+
+import com.sysm.devsync.domain.enums.AggregateType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Record of a deleted aggregate, read by the change feed. Only written by the repository's
+ * insert statements, in the transaction of the delete.
+ */
+@Entity(name = "Tombstone")
+@Table(name = "tombstones", indexes = {
+        @Index(name = "idx_tombstones_deleted_at", columnList = "deleted_at, aggregate_id")
+})
+public class TombstoneJpaEntity {
+
+    @Id
+    @Column(name = "aggregate_id")
+    private String aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private AggregateType aggregateType;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    public TombstoneJpaEntity() {
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public AggregateType getAggregateType() {
+        return aggregateType;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
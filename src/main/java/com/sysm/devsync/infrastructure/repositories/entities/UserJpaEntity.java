@@ -34,6 +34,9 @@ public class UserJpaEntity {
     @Enumerated(EnumType.STRING)
     private UserRole role;
 
+    @Column(name = "version", nullable = false)
+    private Integer version = 1;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -95,6 +98,14 @@ public class UserJpaEntity {
         this.role = userRole;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -114,11 +125,12 @@ public class UserJpaEntity {
     public final boolean equals(Object o) {
         if (!(o instanceof UserJpaEntity that)) return false;
 
-        return Objects.equals(id, that.id);
+        // Through the getter, uninitialized proxies hold no field values but do know their id
+        return Objects.equals(getId(), that.getId());
     }
 
     public final int hashCode() {
-        return Objects.hashCode(id);
+        return Objects.hashCode(getId());
     }
 
     public final String toString() {
@@ -154,11 +166,12 @@ public class UserJpaEntity {
         userJpaEntity.setRole(user.getRole());
         userJpaEntity.setCreatedAt(user.getCreatedAt());
         userJpaEntity.setUpdatedAt(user.getUpdatedAt());
+        userJpaEntity.setVersion(user.getStoredVersion());
         return userJpaEntity;
     }
 
     public static User toModel(UserJpaEntity userJpaEntity) {
-        return User.build(
+        User user = User.build(
                 userJpaEntity.getId(),
                 userJpaEntity.getCreatedAt(),
                 userJpaEntity.getUpdatedAt(),
@@ -168,6 +181,8 @@ public class UserJpaEntity {
                 userJpaEntity.getProfilePictureUrl(),
                 userJpaEntity.getRole()
         );
+        user.setStoredVersion(userJpaEntity.getVersion());
+        return user;
     }
 
 }
@@ -4,6 +4,7 @@ package com.sysm.devsync.infrastructure.repositories.entities;
 import com.sysm.devsync.domain.models.Workspace;
 import com.sysm.devsync.domain.models.to.UserTO;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 import java.util.HashSet;
@@ -12,7 +13,9 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity(name = "Workspace")
-@Table(name = "workspaces")
+@Table(name = "workspaces", indexes = {
+        @Index(name = "idx_workspaces_owner_id", columnList = "owner_id")
+})
 public class WorkspaceJpaEntity {
 
     @Id
@@ -24,21 +27,30 @@ public class WorkspaceJpaEntity {
     @Column(length = 500)
     private String description;
 
-    @ManyToOne(fetch = FetchType.LAZY) // A workspace has one owner
+    @ManyToOne(fetch = FetchType.LAZY, optional = false) // A workspace has one owner
     @JoinColumn(name = "owner_id", nullable = false) // Foreign key column in the 'workspaces' table
     private UserJpaEntity owner;
 
-    @ManyToMany(fetch = FetchType.EAGER) // A workspace can have many members, and a user can be in many workspaces
+    @ManyToMany(fetch = FetchType.LAZY) // A workspace can have many members, and a user can be in many workspaces
     @JoinTable(
             name = "workspace_members", // Name of the intermediary join table
             joinColumns = @JoinColumn(name = "workspace_id"), // Foreign key for Workspace in the join table
-            inverseJoinColumns = @JoinColumn(name = "user_id") // Foreign key for User in the join table
+            inverseJoinColumns = @JoinColumn(name = "user_id"), // Foreign key for User in the join table
+            indexes = @Index(name = "idx_workspace_members_workspace_id", columnList = "workspace_id, user_id") // The primary key leads with user_id
     )
     private Set<UserJpaEntity> members = new HashSet<>();
 
+    // Denormalized size of the member set, so listings don't have to touch workspace_members
+    @ColumnDefault("0")
+    @Column(name = "member_count", nullable = false)
+    private int memberCount;
+
     @Column(name = "is_private")
     private boolean isPrivate;
 
+    @Column(name = "version", nullable = false)
+    private Integer version = 1;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -93,6 +105,14 @@ public class WorkspaceJpaEntity {
         this.members = members;
     }
 
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    public void setMemberCount(int memberCount) {
+        this.memberCount = memberCount;
+    }
+
     public boolean isPrivate() {
         return isPrivate;
     }
@@ -101,6 +121,14 @@ public class WorkspaceJpaEntity {
         isPrivate = aPrivate;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -133,7 +161,7 @@ public class WorkspaceJpaEntity {
                ", name='" + name + '\'' +
                ", description='" + description + '\'' +
                ", ownerId=" + (owner != null ? owner.getId() : "null") + // Avoid NPE and print owner ID
-               ", memberCount=" + (members != null ? members.size() : 0) + // Print member projectCount
+               ", memberCount=" + memberCount +
                ", isPrivate=" + isPrivate +
                ", createdAt=" + createdAt +
                ", updatedAt=" + updatedAt +
@@ -164,10 +192,12 @@ public class WorkspaceJpaEntity {
                         .map(UserJpaEntity::new)
                         .collect(Collectors.toSet())
         );
+        workspaceJpaEntity.setMemberCount(workspace.getMemberCount());
         workspaceJpaEntity.setPrivate(workspace.isPrivate());
         workspaceJpaEntity.setCreatedAt(workspace.getCreatedAt());
         workspaceJpaEntity.setUpdatedAt(workspace.getUpdatedAt());
 
+        workspaceJpaEntity.setVersion(workspace.getStoredVersion());
         return workspaceJpaEntity;
     }
 
@@ -175,18 +205,54 @@ public class WorkspaceJpaEntity {
         if (workspaceJpaEntity == null) {
             return null; // Handle a null case gracefully
         }
-        return Workspace.build(
+        return toModel(
+                workspaceJpaEntity,
+                UserTO.of(workspaceJpaEntity.getOwner().getId(), workspaceJpaEntity.getOwner().getName()),
+                workspaceJpaEntity.getMembers().stream()
+                        .map(entity -> UserTO.of(entity.getId(), entity.getName()))
+                        .collect(Collectors.toSet())
+        );
+    }
+
+    /**
+     * Maps the entity with owner and members loaded beforehand, leaving the lazy associations untouched.
+     */
+    public static Workspace toModel(WorkspaceJpaEntity workspaceJpaEntity, UserTO owner, Set<UserTO> members) {
+        if (workspaceJpaEntity == null) {
+            return null; // Handle a null case gracefully
+        }
+        Workspace workspace = Workspace.build(
                 workspaceJpaEntity.getId(),
                 workspaceJpaEntity.getCreatedAt(),
                 workspaceJpaEntity.getUpdatedAt(),
                 workspaceJpaEntity.getName(),
                 workspaceJpaEntity.getDescription(),
                 workspaceJpaEntity.isPrivate(),
-                UserTO.of(workspaceJpaEntity.getOwner().getId(), workspaceJpaEntity.getOwner().getName()),
-                workspaceJpaEntity.getMembers().stream()
-                        .map(entity -> UserTO.of(entity.getId(), entity.getName()))
-                        .collect(Collectors.toSet())
+                owner,
+                members
         );
+        workspace.setStoredVersion(workspaceJpaEntity.getVersion());
+        return workspace;
     }
-}
 
+    /**
+     * Maps the entity without members, keeping only the stored member count.
+     */
+    public static Workspace toSummaryModel(WorkspaceJpaEntity workspaceJpaEntity, UserTO owner) {
+        if (workspaceJpaEntity == null) {
+            return null; // Handle a null case gracefully
+        }
+        Workspace workspace = Workspace.buildSummary(
+                workspaceJpaEntity.getId(),
+                workspaceJpaEntity.getCreatedAt(),
+                workspaceJpaEntity.getUpdatedAt(),
+                workspaceJpaEntity.getName(),
+                workspaceJpaEntity.getDescription(),
+                workspaceJpaEntity.isPrivate(),
+                owner,
+                workspaceJpaEntity.getMemberCount()
+        );
+        workspace.setStoredVersion(workspaceJpaEntity.getVersion());
+        return workspace;
+    }
+}
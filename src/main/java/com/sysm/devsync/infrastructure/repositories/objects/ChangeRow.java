@@ -0,0 +1,10 @@
+package com.sysm.devsync.infrastructure.repositories.objects;
+
+import java.time.Instant;
+
+/**
+ * Key of a changed row for the change feed, the entity itself is not loaded.
+ */
+public record ChangeRow(String id, Instant createdAt, Instant changedAt) {
+
+}
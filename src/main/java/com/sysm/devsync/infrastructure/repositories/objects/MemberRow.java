@@ -0,0 +1,5 @@
+package com.sysm.devsync.infrastructure.repositories.objects;
+
+public record MemberRow(String workspaceId, String userId, String userName) {
+
+}
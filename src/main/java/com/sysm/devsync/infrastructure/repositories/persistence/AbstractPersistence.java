@@ -1,27 +1,181 @@
 package com.sysm.devsync.infrastructure.repositories.persistence;
 
 import com.sysm.devsync.domain.BusinessException;
+import com.sysm.devsync.domain.ConflictException;
 import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountType;
 import com.sysm.devsync.domain.enums.QueryType;
+import com.sysm.devsync.domain.models.AbstractModel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.Session;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
 
 public abstract class AbstractPersistence<T> {
 
+    private static final String ID = "id";
+    private static final String VERSION = "version";
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String CREATED_AT = "createdAt";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChangeStamps changeStamps;
+
+    @SuppressWarnings("unchecked")
+    private final Class<T> entityType = (Class<T>) GenericTypeResolver.resolveTypeArgument(getClass(), AbstractPersistence.class);
+
+    private final CountCache countCache = new CountCache(Duration.ofSeconds(30), 500);
+
+    /**
+     * Inserts a new entity. Ids are assigned by the domain, so save() would take the entity for a
+     * detached one and merge it, selecting the row and every associated row before the INSERT.
+     * Associations must be {@link #reference references}, plain instances holding an id are selected too.
+     */
+    protected void persist(T entity) {
+        entityManager.persist(stampCreated(entity));
+    }
+
+    /**
+     * Inserts new entities like {@link #persist}, sent in hibernate.jdbc.batch_size batches. The
+     * persistence context is cleared afterwards so a large import does not accumulate entities.
+     */
+    protected void persistAll(List<T> entities) {
+        entities.forEach(entity -> entityManager.persist(stampCreated(entity)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Time of a change in the current transaction, see {@link ChangeStamps}. It is taken once the
+     * transaction holds its connection, so waiting for one does not count against the settle time.
+     */
+    protected Instant changeStamp() {
+        entityManager.unwrap(Session.class).doWork(connection -> { });
+        return changeStamps.stamp();
+    }
+
+    // The model keeps the time actually stored, e.g. for the response or the next revision check
+    private static void touch(AbstractModel model, Instant at) {
+        var accessor = PropertyAccessorFactory.forDirectFieldAccess(model);
+        if (accessor.isWritableProperty(UPDATED_AT)) {
+            accessor.setPropertyValue(UPDATED_AT, at);
+        }
+    }
+
+    private T stampCreated(T entity) {
+        Instant at = setIfPresent(entity, UPDATED_AT, null);
+        setIfPresent(entity, CREATED_AT, at);
+        return entity;
+    }
+
+    private Instant setIfPresent(T entity, String field, Instant at) {
+        if (!hasAttribute(entityManager.getMetamodel().entity(entityType), field)) {
+            return at;
+        }
+        Instant value = at != null ? at : changeStamp();
+        PropertyAccessorFactory.forDirectFieldAccess(entity).setPropertyValue(field, value);
+        return value;
+    }
+
+    /**
+     * Uninitialized reference to an existing row, for associations of entities being inserted.
+     */
+    protected <E> E reference(Class<E> type, String id) {
+        return entityManager.getReference(type, id);
+    }
+
+    /**
+     * Writes the fields the model's mutators changed in one UPDATE of only those columns, without
+     * loading the row. Values come from the entity mapped from the model, its attributes share the
+     * model field names. Collection changes are left to the caller.
+     * <p>
+     * The UPDATE only matches the row while it still has the version the model was read with, and
+     * moves it to the next version, also when only collections changed. updatedAt, when the entity has
+     * one, is always stamped by {@link #changeStamp()}: the change feed finds changed rows by that column.
+     *
+     * @return false when the model tracked no change at all and nothing was written. A model built
+     * rather than loaded and modified tracks none; it is never merged whole, which would rewrite
+     * every column without the version check and bring back a row deleted meanwhile
+     * @throws ConflictException when the row was changed or deleted since the model was read
+     */
+    protected boolean updateChangedFields(AbstractModel model, String id, T entity) {
+        if (!model.hasChanges()) {
+            return false;
+        }
+
+        CriteriaBuilder crBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = crBuilder.createCriteriaUpdate(entityType);
+        Root<T> root = update.from(entityType);
+        var accessor = PropertyAccessorFactory.forDirectFieldAccess(entity);
+        EntityType<T> metamodel = entityManager.getMetamodel().entity(entityType);
+
+        for (String field : model.getChangedFields()) {
+            if (field.equals(UPDATED_AT)) {
+                continue;
+            }
+            Object value = accessor.getPropertyValue(field);
+            Attribute<? super T, ?> attribute = metamodel.getAttribute(field);
+            if (attribute.isAssociation() && value != null) {
+                Object targetId = entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(value);
+                value = reference(attribute.getJavaType(), (String) targetId);
+            }
+            update.set(root.get(field), value);
+        }
+        if (hasAttribute(metamodel, UPDATED_AT)) {
+            Instant at = changeStamp();
+            update.set(root.get(UPDATED_AT), at);
+            touch(model, at);
+        }
+        update.set(root.get(VERSION), model.getStoredVersion() + 1);
+        update.where(crBuilder.equal(root.get(ID), id), crBuilder.equal(root.get(VERSION), model.getStoredVersion()));
+
+        // Like the repositories' bulk statements, nothing stale stays in the persistence context
+        entityManager.flush();
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        if (updated == 0) {
+            throw new ConflictException("The resource was changed or deleted since version " + model.getStoredVersion() + " was read");
+        }
+        return true;
+    }
+
+    private static boolean hasAttribute(EntityType<?> metamodel, String name) {
+        return metamodel.getAttributes().stream().anyMatch(attribute -> attribute.getName().equals(name));
+    }
+
     protected PageRequest buildPageRequest(Page page) {
         if (page == null) {
             return PageRequest.of(
@@ -88,17 +242,7 @@ public abstract class AbstractPersistence<T> {
         Specification<T> spec = (root, query, criteriaBuilder) -> {
             var predicates = new ArrayList<Predicate>();
 
-            // 1. Create a mutable copy to avoid changing the original input.
-            Map<String, String> filterTerms = new HashMap<>(searchQuery.terms());
-
-            // 2. Clean the *copy* of the map.
-            filterTerms.remove("pageNumber");
-            filterTerms.remove("pageSize");
-            filterTerms.remove("sort");
-            filterTerms.remove("direction");
-            filterTerms.remove("queryType");
-
-            filterTerms.forEach((key, value) -> {
+            searchQuery.filters().forEach((key, value) -> {
                 // Delegate predicate creation to the concrete subclass
                 Predicate fieldPredicate = createPredicateForField(root, criteriaBuilder, key, value);
                 if (fieldPredicate != null) { // Ensure the subclass returned a predicate
@@ -118,6 +262,238 @@ public abstract class AbstractPersistence<T> {
         return spec;
     }
 
+    /**
+     * Runs the search either as an offset page or, when the page carries a cursor, as a keyset page.
+     * Offset pages sorted by a single field also return a cursor, so a client can switch to
+     * keyset mode after the first page.
+     * <p>
+     * Only {@link CountType#EXACT} runs a count query next to the page query. The other count types read
+     * one row past the page to know whether there is a next one.
+     */
+    protected <M> Pagination<M> findPage(JpaSpecificationExecutor<T> repository, SearchQuery searchQuery, Function<T, M> toModel) {
+        return findPageBatched(repository, searchQuery, entities -> entities.stream().map(toModel).toList());
+    }
+
+    /**
+     * Same as {@link #findPage}, but maps the whole page at once so associations can be loaded
+     * for all rows with a single query instead of one lazy load per row.
+     */
+    protected <M> Pagination<M> findPageBatched(JpaSpecificationExecutor<T> repository, SearchQuery searchQuery, Function<List<T>, List<M>> toModels) {
+        if (searchQuery != null && searchQuery.page() != null && searchQuery.page().isKeyset()) {
+            return findKeysetPage(repository, searchQuery, toModels);
+        }
+
+        var pageRequest = buildPageRequest(searchQuery);
+        var order = pageRequest.getSort().stream().findFirst();
+        if (order.isPresent() && !ID.equals(order.get().getProperty())) {
+            // Same tie-breaker as keyset pages, so rows with equal sort keys keep a stable order
+            pageRequest = pageRequest.withSort(pageRequest.getSort().and(Sort.by(order.get().getDirection(), ID)));
+        }
+        var specification = buildSpecification(searchQuery);
+        var countType = searchQuery != null && searchQuery.countType() != null ? searchQuery.countType() : CountType.EXACT;
+
+        List<T> content;
+        long total;
+        boolean hasNext;
+        if (countType == CountType.EXACT) {
+            var page = repository.findAll(specification, pageRequest);
+            content = page.getContent();
+            total = page.getTotalElements();
+            hasNext = page.hasNext();
+        } else {
+            List<T> rows = findSlice(specification, pageRequest);
+            hasNext = rows.size() > pageRequest.getPageSize();
+            content = hasNext ? rows.subList(0, pageRequest.getPageSize()) : rows;
+            total = countType == CountType.NONE
+                    ? Pagination.UNKNOWN_TOTAL
+                    : estimateTotal(repository, specification, searchQuery, pageRequest, content.size(), hasNext);
+        }
+
+        String nextCursor = null;
+        if (hasNext && !content.isEmpty() && order.isPresent()) {
+            nextCursor = cursorOf(content.get(content.size() - 1),
+                    order.get().getProperty(), order.get().getDirection(), false);
+        }
+
+        return new Pagination<>(
+                pageRequest.getPageNumber(),
+                pageRequest.getPageSize(),
+                total,
+                toModels.apply(content),
+                hasNext,
+                nextCursor
+        );
+    }
+
+    private List<T> findSlice(Specification<T> specification, PageRequest pageRequest) {
+        CriteriaBuilder crBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = crBuilder.createQuery(entityType);
+        Root<T> root = query.from(entityType);
+
+        Predicate predicate = specification.toPredicate(root, query, crBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root);
+        if (pageRequest.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageRequest.getSort(), root, crBuilder));
+        }
+
+        // One extra row tells whether there is a next page
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageRequest.getOffset())
+                .setMaxResults(pageRequest.getPageSize() + 1)
+                .getResultList();
+    }
+
+    /**
+     * Serves the total from the count cache, counting only on a miss. A page that reaches the end
+     * of the results gives the exact total for free, so it refreshes the cached value.
+     */
+    private long estimateTotal(JpaSpecificationExecutor<T> repository, Specification<T> specification,
+                               SearchQuery searchQuery, PageRequest pageRequest, int pageElements, boolean hasNext) {
+        String key = countKey(searchQuery);
+        long seen = pageRequest.getOffset() + pageElements;
+
+        if (!hasNext && (pageElements > 0 || pageRequest.getOffset() == 0)) {
+            countCache.put(key, seen);
+            return seen;
+        }
+
+        var cached = countCache.get(key);
+        if (cached.isPresent()) {
+            // Never report fewer rows than this page proves to exist
+            return Math.max(cached.getAsLong(), hasNext ? seen + 1 : seen);
+        }
+
+        long total = repository.count(specification);
+        countCache.put(key, total);
+        return total;
+    }
+
+    private String countKey(SearchQuery searchQuery) {
+        if (searchQuery == null) {
+            return "";
+        }
+        return searchQuery.queryType() + ":" + new TreeMap<>(searchQuery.filters());
+    }
+
+    /**
+     * Seeks past the last row of the previous page using {@code (sort, id)} as a composite key,
+     * so the cost of a page does not depend on how deep the client has scrolled. No count is run.
+     */
+    private <M> Pagination<M> findKeysetPage(JpaSpecificationExecutor<T> repository, SearchQuery searchQuery, Function<List<T>, List<M>> toModels) {
+        Page page = searchQuery.page();
+        int pageSize = page.pageSize() > 0 ? page.pageSize() : 10;
+
+        String sortField = StringUtils.hasText(page.sort()) ? page.sort() : ID;
+        Sort.Direction direction = StringUtils.hasText(page.direction()) ? Sort.Direction.fromString(page.direction()) : Sort.Direction.ASC;
+
+        Specification<T> specification = buildSpecification(searchQuery);
+        if (StringUtils.hasText(page.cursor())) {
+            // The cursor wins over the request, a scroll keeps the ordering it started with
+            KeysetCursor after = KeysetCursor.decode(page.cursor());
+            sortField = after.sort();
+            direction = after.direction();
+            specification = specification.and(seekAfter(after));
+        }
+
+        Sort sort = ID.equals(sortField)
+                ? Sort.by(direction, ID)
+                : Sort.by(direction, sortField).and(Sort.by(direction, ID));
+
+        // One extra row tells whether there is a next page
+        List<T> rows = repository.findBy(specification, query -> query.sortBy(sort).limit(pageSize + 1).all());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorOf(content.get(pageSize - 1), sortField, direction, true) : null;
+
+        return new Pagination<>(
+                0,
+                pageSize,
+                Pagination.UNKNOWN_TOTAL,
+                toModels.apply(content),
+                hasNext,
+                nextCursor
+        );
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Specification<T> seekAfter(KeysetCursor cursor) {
+        return (root, query, crBuilder) -> {
+            boolean ascending = cursor.direction().isAscending();
+            Path<String> id = root.get(ID);
+            Predicate afterId = ascending ? crBuilder.greaterThan(id, cursor.id()) : crBuilder.lessThan(id, cursor.id());
+            if (ID.equals(cursor.sort())) {
+                return afterId;
+            }
+
+            Expression sortPath = sortPath(root, cursor.sort());
+            Comparable value = parseSortValue(sortPath.getJavaType(), cursor.sort(), cursor.value());
+            Predicate beyond = ascending ? crBuilder.greaterThan(sortPath, value) : crBuilder.lessThan(sortPath, value);
+
+            return crBuilder.or(beyond, crBuilder.and(crBuilder.equal(sortPath, value), afterId));
+        };
+    }
+
+    private Path<?> sortPath(Root<T> root, String sortField) {
+        try {
+            return root.get(sortField);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid sort field for cursor pagination: '" + sortField + "'");
+        }
+    }
+
+    private String cursorOf(T entity, String sortField, Sort.Direction direction, boolean required) {
+        var accessor = PropertyAccessorFactory.forDirectFieldAccess(entity);
+        String id = String.valueOf(accessor.getPropertyValue(ID));
+        if (ID.equals(sortField)) {
+            return new KeysetCursor(ID, direction, id, id).encode();
+        }
+
+        Object value = accessor.getPropertyValue(sortField);
+        if (value == null) {
+            // Rows with a null sort key have no well-defined position to seek from
+            if (required) {
+                throw new BusinessException("Cursor pagination requires a non-null sort field: '" + sortField + "'");
+            }
+            return null;
+        }
+        String text = value instanceof Enum<?> constant ? constant.name() : value.toString();
+        return new KeysetCursor(sortField, direction, text, id).encode();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable<?> parseSortValue(Class<?> type, String sortField, String value) {
+        try {
+            if (type == String.class) {
+                return value;
+            }
+            if (type == Instant.class) {
+                return Instant.parse(value);
+            }
+            if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(value);
+            }
+            if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(value);
+            }
+            if (type == Long.class || type == long.class) {
+                return Long.valueOf(value);
+            }
+            if (type == Boolean.class || type == boolean.class) {
+                return Boolean.valueOf(value);
+            }
+            if (type.isEnum()) {
+                return Enum.valueOf((Class<Enum>) type, value);
+            }
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new BusinessException("Invalid pagination cursor");
+        }
+        throw new BusinessException("Unsupported sort field for cursor pagination: '" + sortField + "'");
+    }
+
     protected abstract Predicate createPredicateForField(Root<T> root, CriteriaBuilder crBuilder, String key, String value);
 
     /**
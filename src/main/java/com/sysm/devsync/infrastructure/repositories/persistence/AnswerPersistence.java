@@ -4,18 +4,25 @@ import com.sysm.devsync.domain.BusinessException;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.AggregateType;
 import com.sysm.devsync.domain.models.Answer;
 import com.sysm.devsync.domain.persistence.AnswerPersistencePort;
 import com.sysm.devsync.infrastructure.repositories.AnswerJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.TombstoneJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.entities.AnswerJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.QuestionJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import com.sysm.devsync.infrastructure.cache.AggregateCache;
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
 
@@ -23,9 +30,16 @@ import static com.sysm.devsync.infrastructure.Utils.like;
 public class AnswerPersistence extends AbstractPersistence<AnswerJpaEntity> implements AnswerPersistencePort {
 
     private final AnswerJpaRepository repository;
+    private final TombstoneJpaRepository tombstoneRepository;
+    private final AggregateCache<String> owners;
+    private final AggregateCache<String> questionIds;
 
-    public AnswerPersistence(AnswerJpaRepository repository) {
+    public AnswerPersistence(AnswerJpaRepository repository, TombstoneJpaRepository tombstoneRepository,
+                             AggregateCaches caches) {
         this.repository = repository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.owners = caches.create("answer-owners", UnaryOperator.identity());
+        this.questionIds = caches.create("answer-questions", UnaryOperator.identity());
     }
 
     @Transactional
@@ -34,7 +48,9 @@ public class AnswerPersistence extends AbstractPersistence<AnswerJpaEntity> impl
             throw new IllegalArgumentException("Answer model cannot be null");
         }
         var entity = AnswerJpaEntity.fromModel(model);
-        repository.save(entity);
+        entity.setQuestion(reference(QuestionJpaEntity.class, model.getQuestionId()));
+        entity.setAuthor(reference(UserJpaEntity.class, model.getAuthorId()));
+        persist(entity);
     }
 
     @Transactional
@@ -43,7 +59,9 @@ public class AnswerPersistence extends AbstractPersistence<AnswerJpaEntity> impl
             throw new IllegalArgumentException("Answer model cannot be null");
         }
         var entity = AnswerJpaEntity.fromModel(model);
-        repository.save(entity);
+        updateChangedFields(model, model.getId(), entity);
+        model.clearChanges();
+        owners.invalidate(model.getId());
     }
 
     @Transactional
@@ -52,6 +70,9 @@ public class AnswerPersistence extends AbstractPersistence<AnswerJpaEntity> impl
             throw new IllegalArgumentException("Answer ID cannot be null or blank");
         }
         repository.deleteById(id);
+        tombstoneRepository.record(AggregateType.ANSWER, id, changeStamp());
+        owners.invalidate(id);
+        questionIds.invalidate(id);
     }
 
     @Transactional(readOnly = true)
@@ -63,6 +84,21 @@ public class AnswerPersistence extends AbstractPersistence<AnswerJpaEntity> impl
                 .map(AnswerJpaEntity::toModel);
     }
 
+    public Optional<String> findAuthorId(String id) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Answer ID cannot be null or blank");
+        }
+        return owners.get(id, () -> repository.findAuthorIdById(id));
+    }
+
+    public Optional<String> findQuestionId(String id) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Answer ID cannot be null or blank");
+        }
+        // An answer never moves to another question, so this is cached with the author
+        return questionIds.get(id, () -> repository.findQuestionIdById(id));
+    }
+
     @Transactional(readOnly = true)
     public boolean existsById(String id) {
         if (id == null || id.isBlank()) {
@@ -73,17 +109,7 @@ public class AnswerPersistence extends AbstractPersistence<AnswerJpaEntity> impl
 
     @Transactional(readOnly = true)
     public Pagination<Answer> findAll(SearchQuery searchQuery) {
-        Specification<AnswerJpaEntity> spec = buildSpecification(searchQuery);
-
-        var pageRequest = buildPageRequest(searchQuery);
-        var page = repository.findAll(spec, pageRequest);
-
-        return new Pagination<>(
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.map(AnswerJpaEntity::toModel).toList()
-        );
+        return findPage(repository, searchQuery, AnswerJpaEntity::toModel);
     }
 
     @Transactional(readOnly = true)
@@ -104,11 +130,26 @@ public class AnswerPersistence extends AbstractPersistence<AnswerJpaEntity> impl
     }
 
     @Override
+    @Transactional
     public void deleteAllByQuestionId(String questionId) {
         if (questionId == null){
             throw new IllegalArgumentException("Question ID cannot be null");
         }
+        tombstoneRepository.recordAnswersOfQuestion(questionId, changeStamp());
         repository.deleteAllByQuestion_Id(questionId);
+        // The deleted ids are not known here
+        owners.invalidateAll();
+        questionIds.invalidateAll();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Answer> findAllByIds(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllById(ids).stream()
+                .map(AnswerJpaEntity::toModel)
+                .toList();
     }
 
     protected Predicate createPredicateForField(Root<AnswerJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
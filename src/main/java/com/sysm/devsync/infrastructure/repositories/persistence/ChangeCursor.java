@@ -0,0 +1,57 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position of the last change returned by the change feed: its time, the source it came from and
+ * its id. Changes are ordered by those three, so the position only ever moves forward. Clients only
+ * see it as an opaque token.
+ */
+record ChangeCursor(Instant at, int source, String id) {
+
+    static final ChangeCursor BEGINNING = new ChangeCursor(Instant.EPOCH, -1, "");
+
+    private static final String SEPARATOR = "\n";
+
+    /**
+     * Whether a change at that position comes after this one in the feed order.
+     */
+    boolean isBefore(Instant at, int source, String id) {
+        int compared = this.at.compareTo(at);
+        if (compared == 0) {
+            compared = Integer.compare(this.source, source);
+        }
+        if (compared == 0) {
+            compared = this.id.compareTo(id);
+        }
+        return compared < 0;
+    }
+
+    String encode() {
+        String raw = String.join(SEPARATOR, Long.toString(at.getEpochSecond()), Integer.toString(at.getNano()),
+                Integer.toString(source), id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ChangeCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return BEGINNING;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new BusinessException("Invalid sync cursor");
+            }
+            Instant at = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new ChangeCursor(at, Integer.parseInt(parts[2]), parts[3]);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException("Invalid sync cursor");
+        }
+    }
+}
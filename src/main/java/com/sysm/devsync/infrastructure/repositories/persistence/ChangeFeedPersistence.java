@@ -0,0 +1,120 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.enums.AggregateType;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort;
+import com.sysm.devsync.infrastructure.repositories.AnswerJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.CommentJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.NoteJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.QuestionJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.TombstoneJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.objects.ChangeRow;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Merges the changes of the aggregate tables and the tombstones into one feed ordered by time,
+ * source and id. Each source is read through its (updated_at, id) index from the cursor on, never
+ * more than one page ahead, and only keys are read: callers load the rows they still need.
+ */
+@Repository
+public class ChangeFeedPersistence implements ChangeFeedPort {
+
+    // Aggregate tables are the sources 0 to 3, in AggregateType order, tombstones come after them
+    private static final int DELETIONS = AggregateType.values().length;
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparing((Entry entry) -> entry.change().at())
+            .thenComparingInt(Entry::source)
+            .thenComparing(entry -> entry.change().id());
+
+    private final QuestionJpaRepository questionRepository;
+    private final AnswerJpaRepository answerRepository;
+    private final CommentJpaRepository commentRepository;
+    private final NoteJpaRepository noteRepository;
+    private final TombstoneJpaRepository tombstoneRepository;
+
+    public ChangeFeedPersistence(QuestionJpaRepository questionRepository,
+                                 AnswerJpaRepository answerRepository,
+                                 CommentJpaRepository commentRepository,
+                                 NoteJpaRepository noteRepository,
+                                 TombstoneJpaRepository tombstoneRepository) {
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.commentRepository = commentRepository;
+        this.noteRepository = noteRepository;
+        this.tombstoneRepository = tombstoneRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public Changes readChanges(String cursor, Instant until, int limit) {
+        if (until == null) {
+            throw new IllegalArgumentException("Until must not be null");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+        ChangeCursor after = ChangeCursor.decode(cursor);
+        // One more than asked per source tells whether anything is left after the page
+        Pageable page = PageRequest.of(0, limit + 1);
+
+        List<Entry> entries = new ArrayList<>();
+        for (AggregateType type : AggregateType.values()) {
+            ChangeCursor start = start(after, type.ordinal());
+            for (ChangeRow row : changedAfter(type, start, until, page)) {
+                // Created after the cursor means the client has never seen the row
+                Kind kind = after.isBefore(row.createdAt(), type.ordinal(), row.id()) ? Kind.CREATED : Kind.UPDATED;
+                entries.add(new Entry(type.ordinal(), new Change(type, kind, row.id(), row.changedAt())));
+            }
+        }
+        ChangeCursor start = start(after, DELETIONS);
+        tombstoneRepository.findDeletedAfter(start.at(), start.id(), until, page).forEach(tombstone ->
+                entries.add(new Entry(DELETIONS, new Change(tombstone.getAggregateType(), Kind.DELETED,
+                        tombstone.getAggregateId(), tombstone.getDeletedAt()))));
+
+        entries.sort(ORDER);
+        boolean hasMore = entries.size() > limit;
+        List<Entry> taken = hasMore ? entries.subList(0, limit) : entries;
+        ChangeCursor next = taken.isEmpty() ? after : taken.get(taken.size() - 1).cursor();
+
+        return new Changes(taken.stream().map(Entry::change).toList(), next.encode(), hasMore);
+    }
+
+    private List<ChangeRow> changedAfter(AggregateType type, ChangeCursor start, Instant until, Pageable page) {
+        return switch (type) {
+            case QUESTION -> questionRepository.findChangedAfter(start.at(), start.id(), until, page);
+            case ANSWER -> answerRepository.findChangedAfter(start.at(), start.id(), until, page);
+            case COMMENT -> commentRepository.findChangedAfter(start.at(), start.id(), until, page);
+            case NOTE -> noteRepository.findChangedAfter(start.at(), start.id(), until, page);
+        };
+    }
+
+    /**
+     * Where a source resumes. Its own changes continue after the cursor's id; sources ordered before
+     * the cursor's one already returned everything at the cursor's time, those after it nothing.
+     */
+    private static ChangeCursor start(ChangeCursor after, int source) {
+        if (source < after.source()) {
+            // Stored times have microsecond precision, the next possible time is one microsecond later
+            return new ChangeCursor(after.at().plus(1, ChronoUnit.MICROS), source, "");
+        }
+        if (source > after.source()) {
+            return new ChangeCursor(after.at(), source, "");
+        }
+        return after;
+    }
+
+    private record Entry(int source, Change change) {
+
+        ChangeCursor cursor() {
+            return new ChangeCursor(change.at(), source, change.id());
+        }
+    }
+}
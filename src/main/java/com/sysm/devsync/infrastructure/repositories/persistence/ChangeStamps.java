@@ -0,0 +1,62 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Hands out the times the change feed orders rows by: updated_at of changed rows and deleted_at of
+ * tombstones.
+ * <p>
+ * GET /sync only reads up to the settle time before now, which holds as long as a stamped row commits
+ * within the settle time. The first stamp of a transaction therefore arms a check before its commit:
+ * a transaction about to commit later than that is rolled back with a {@link LateCommitException}
+ * instead, so its rows can never appear behind a cursor that already moved past their time.
+ * A settle time of zero disables the check.
+ */
+@Component
+public class ChangeStamps {
+
+    private final Duration settleTime;
+
+    public ChangeStamps(@Value("${dev-sync.sync.settle-time:2s}") Duration settleTime) {
+        this.settleTime = settleTime;
+    }
+
+    public Instant stamp() {
+        // Models expose their times in milliseconds, the stored ones match them
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        if (!settleTime.isZero() && TransactionSynchronizationManager.isSynchronizationActive()
+            && !TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, now);
+            TransactionSynchronizationManager.registerSynchronization(new CommitDeadline(now.plus(settleTime)));
+        }
+        return now;
+    }
+
+    private final class CommitDeadline implements TransactionSynchronization {
+
+        private final Instant deadline;
+
+        private CommitDeadline(Instant deadline) {
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!Instant.now().isBefore(deadline)) {
+                throw new LateCommitException("The transaction did not commit within the sync settle time of " + settleTime);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeStamps.this);
+        }
+    }
+}
@@ -4,18 +4,25 @@ import com.sysm.devsync.domain.BusinessException;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.AggregateType;
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Comment;
 import com.sysm.devsync.domain.persistence.CommentPersistencePort;
 import com.sysm.devsync.infrastructure.repositories.CommentJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.TombstoneJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.entities.CommentJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import com.sysm.devsync.infrastructure.cache.AggregateCache;
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
 
@@ -23,9 +30,14 @@ import static com.sysm.devsync.infrastructure.Utils.like;
 public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> implements CommentPersistencePort {
 
     private final CommentJpaRepository repository;
+    private final TombstoneJpaRepository tombstoneRepository;
+    private final AggregateCache<String> owners;
 
-    public CommentPersistence(CommentJpaRepository repository) {
+    public CommentPersistence(CommentJpaRepository repository, TombstoneJpaRepository tombstoneRepository,
+                              AggregateCaches caches) {
         this.repository = repository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.owners = caches.create("comment-owners", UnaryOperator.identity());
     }
 
     @Transactional
@@ -34,7 +46,8 @@ public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> im
             throw new IllegalArgumentException("Comment model must not be null");
         }
         CommentJpaEntity entity = CommentJpaEntity.fromModel(model);
-        repository.save(entity);
+        entity.setAuthor(reference(UserJpaEntity.class, model.getAuthorId()));
+        persist(entity);
     }
 
     @Transactional
@@ -43,7 +56,9 @@ public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> im
             throw new IllegalArgumentException("Comment model must not be null");
         }
         CommentJpaEntity entity = CommentJpaEntity.fromModel(model);
-        repository.save(entity);
+        updateChangedFields(model, model.getId(), entity);
+        model.clearChanges();
+        owners.invalidate(model.getId());
     }
 
     @Transactional
@@ -52,6 +67,8 @@ public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> im
             throw new IllegalArgumentException("Comment ID must not be null or empty");
         }
         repository.deleteById(id);
+        tombstoneRepository.record(AggregateType.COMMENT, id, changeStamp());
+        owners.invalidate(id);
     }
 
     @Transactional(readOnly = true)
@@ -63,6 +80,13 @@ public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> im
                 .map(CommentJpaEntity::toModel);
     }
 
+    public Optional<String> findAuthorId(String id) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("Comment ID must not be null or empty");
+        }
+        return owners.get(id, () -> repository.findAuthorIdById(id));
+    }
+
     @Transactional(readOnly = true)
     public boolean existsById(String id) {
         if (id == null || id.isEmpty()) {
@@ -73,17 +97,7 @@ public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> im
 
     @Transactional(readOnly = true)
     public Pagination<Comment> findAll(SearchQuery query) {
-        var pageableRequest = buildPageRequest(query);
-        var specification = buildSpecification(query);
-
-        var questionPage = repository.findAll(specification, pageableRequest);
-
-        return new Pagination<>(
-                questionPage.getNumber(),
-                questionPage.getSize(),
-                questionPage.getTotalElements(),
-                questionPage.map(CommentJpaEntity::toModel).toList()
-        );
+        return findPage(repository, query, CommentJpaEntity::toModel);
     }
 
     @Transactional(readOnly = true)
@@ -115,7 +129,30 @@ public class CommentPersistence extends AbstractPersistence<CommentJpaEntity> im
         if (targetId == null || targetId.isEmpty()) {
             throw new IllegalArgumentException("Target ID must not be null or empty");
         }
+        tombstoneRepository.recordComments(targetType, targetId, changeStamp());
         repository.deleteAllByTargetTypeAndTargetId(targetType, targetId);
+        // The deleted ids are not known here
+        owners.invalidateAll();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Comment> findAllByIds(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllById(ids).stream()
+                .map(CommentJpaEntity::toModel)
+                .toList();
+    }
+
+    /**
+     * Deletes the comments on every answer of the question with one statement.
+     * Runs in the transaction of the question delete, before the answers are gone.
+     */
+    void deleteAllOnAnswersOfQuestion(String questionId) {
+        tombstoneRepository.recordCommentsOnAnswersOfQuestion(questionId, changeStamp());
+        repository.deleteAllOnAnswersOfQuestion(questionId);
+        owners.invalidateAll();
     }
 
     protected Predicate createPredicateForField(Root<CommentJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
@@ -0,0 +1,49 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Recently computed totals keyed by search filter, used to answer estimated counts.
+ * Entries expire after a fixed time and the least recently used ones are evicted first.
+ */
+final class CountCache {
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    CountCache(Duration ttl, int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    synchronized OptionalLong get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return OptionalLong.empty();
+        }
+        if (System.nanoTime() - entry.createdAt() > ttlNanos) {
+            entries.remove(key);
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(entry.count());
+    }
+
+    synchronized void put(String key, long count) {
+        entries.put(key, new Entry(count, System.nanoTime()));
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    private record Entry(long count, long createdAt) {
+    }
+}
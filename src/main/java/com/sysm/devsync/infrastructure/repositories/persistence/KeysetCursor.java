@@ -0,0 +1,35 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.BusinessException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page: the sort field, its direction, the value of the
+ * sort field and the id used as tie-breaker. Clients only see it as an opaque token.
+ */
+record KeysetCursor(String sort, Sort.Direction direction, String value, String id) {
+
+    private static final String SEPARATOR = "\n";
+
+    String encode() {
+        // The value goes last because it is the only part that may contain the separator
+        String raw = String.join(SEPARATOR, sort, direction.name(), id, value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4 || parts[0].isEmpty() || parts[2].isEmpty()) {
+                throw new BusinessException("Invalid pagination cursor");
+            }
+            return new KeysetCursor(parts[0], Sort.Direction.valueOf(parts[1]), parts[3], parts[2]);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid pagination cursor");
+        }
+    }
+}
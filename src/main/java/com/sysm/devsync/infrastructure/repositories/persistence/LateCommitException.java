@@ -0,0 +1,14 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * A transaction that stamped changes for the sync feed was about to commit after the settle time.
+ * It is rolled back, answered with 503 and the client may retry.
+ */
+public class LateCommitException extends TransientDataAccessResourceException {
+
+    public LateCommitException(String message) {
+        super(message);
+    }
+}
@@ -3,18 +3,34 @@ package com.sysm.devsync.infrastructure.repositories.persistence;
 import com.sysm.devsync.domain.BusinessException;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.Revision;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.AggregateType;
 import com.sysm.devsync.domain.models.Note;
 import com.sysm.devsync.domain.persistence.NotePersistencePort;
 import com.sysm.devsync.infrastructure.repositories.NoteJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.TombstoneJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.entities.NoteJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+import com.sysm.devsync.infrastructure.cache.AggregateCache;
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
-
+import com.sysm.devsync.infrastructure.repositories.entities.ProjectJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.TagJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
 
@@ -22,9 +38,18 @@ import static com.sysm.devsync.infrastructure.Utils.like;
 public class NotePersistence extends AbstractPersistence<NoteJpaEntity> implements NotePersistencePort {
 
     private final NoteJpaRepository repository;
+    private final TagPersistence tagPersistence;
+    private final TombstoneJpaRepository tombstoneRepository;
+    private final AggregateCache<String> owners;
+    private final AggregateCache<String> projectIds;
 
-    public NotePersistence(NoteJpaRepository repository) {
+    public NotePersistence(NoteJpaRepository repository, TagPersistence tagPersistence,
+                           TombstoneJpaRepository tombstoneRepository, AggregateCaches caches) {
         this.repository = repository;
+        this.tagPersistence = tagPersistence;
+        this.tombstoneRepository = tombstoneRepository;
+        this.owners = caches.create("note-owners", UnaryOperator.identity());
+        this.projectIds = caches.create("note-projects", UnaryOperator.identity());
     }
 
     @Transactional
@@ -32,8 +57,15 @@ public class NotePersistence extends AbstractPersistence<NoteJpaEntity> implemen
         if (model == null) {
             throw new IllegalArgumentException("Note model must not be null");
         }
-        NoteJpaEntity entity = NoteJpaEntity.fromModel(model);
-        repository.save(entity);
+        persist(newEntity(model));
+    }
+
+    @Transactional
+    public void createAll(List<Note> models) {
+        if (models == null) {
+            throw new IllegalArgumentException("Note models must not be null");
+        }
+        persistAll(models.stream().map(this::newEntity).toList());
     }
 
     @Transactional
@@ -42,7 +74,11 @@ public class NotePersistence extends AbstractPersistence<NoteJpaEntity> implemen
             throw new IllegalArgumentException("Note model must not be null");
         }
         NoteJpaEntity entity = NoteJpaEntity.fromModel(model);
-        repository.save(entity);
+        if (updateChangedFields(model, model.getId(), entity)) {
+            changeTags(model);
+        }
+        model.clearChanges();
+        owners.invalidate(model.getId());
     }
 
     @Transactional
@@ -50,7 +86,13 @@ public class NotePersistence extends AbstractPersistence<NoteJpaEntity> implemen
         if (id == null || id.isEmpty()) {
             throw new IllegalArgumentException("Note ID must not be null or empty");
         }
+        // The note_tags rows go with the note, each of its tags loses one use
+        List<String> tagIds = repository.findTagIdsByNoteId(id);
         repository.deleteById(id);
+        tombstoneRepository.record(AggregateType.NOTE, id, changeStamp());
+        tagPersistence.decrementUse(tagIds);
+        owners.invalidate(id);
+        projectIds.invalidate(id);
     }
 
     @Transactional(readOnly = true)
@@ -62,6 +104,29 @@ public class NotePersistence extends AbstractPersistence<NoteJpaEntity> implemen
                 .map(NoteJpaEntity::toModel);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<Revision> findRevision(String id) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("Note ID must not be null or empty");
+        }
+        return repository.findRevisionById(id);
+    }
+
+    public Optional<String> findAuthorId(String id) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("Note ID must not be null or empty");
+        }
+        return owners.get(id, () -> repository.findAuthorIdById(id));
+    }
+
+    public Optional<String> findProjectId(String id) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("Note ID must not be null or empty");
+        }
+        // A note never moves to another project
+        return projectIds.get(id, () -> repository.findProjectIdById(id));
+    }
+
     @Transactional(readOnly = true)
     public boolean existsById(String id) {
         if (id == null || id.isEmpty()) {
@@ -72,17 +137,7 @@ public class NotePersistence extends AbstractPersistence<NoteJpaEntity> implemen
 
     @Transactional(readOnly = true)
     public Pagination<Note> findAll(SearchQuery query) {
-        var pageableRequest = buildPageRequest(query);
-        var specification = buildSpecification(query);
-
-        var questionPage = repository.findAll(specification, pageableRequest);
-
-        return new Pagination<>(
-                questionPage.getNumber(),
-                questionPage.getSize(),
-                questionPage.getTotalElements(),
-                questionPage.map(NoteJpaEntity::toModel).toList()
-        );
+        return findPageBatched(repository, query, this::toModels);
     }
 
     @Transactional(readOnly = true)
@@ -98,10 +153,58 @@ public class NotePersistence extends AbstractPersistence<NoteJpaEntity> implemen
                 notePage.getNumber(),
                 notePage.getSize(),
                 notePage.getTotalElements(),
-                notePage.map(NoteJpaEntity::toModel).toList()
+                toModels(notePage.getContent())
         );
     }
 
+    @Transactional(readOnly = true)
+    public List<Note> findAllByIds(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return toModels(repository.findAllById(ids));
+    }
+
+    /**
+     * Maps a page of entities loading the tag ids of all of them with one query.
+     */
+    private List<Note> toModels(List<NoteJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        var ids = entities.stream().map(NoteJpaEntity::getId).toList();
+
+        Map<String, Set<String>> tagIdsByNoteId = new HashMap<>();
+        for (KeyValue row : repository.findTagIdsByNoteIdIn(ids)) {
+            tagIdsByNoteId.computeIfAbsent(row.key(), k -> new HashSet<>()).add((String) row.value());
+        }
+
+        return entities.stream()
+                .map(entity -> NoteJpaEntity.toModel(entity, tagIdsByNoteId.getOrDefault(entity.getId(), Set.of())))
+                .toList();
+    }
+
+    // Proxies instead of the id-only instances of fromModel, which persist would select one by one
+    // Only the links that changed, the tag collection is never loaded
+    private void changeTags(Note model) {
+        if (!model.getRemoved(Note.TAGS).isEmpty()) {
+            repository.deleteTags(model.getId(), model.getRemoved(Note.TAGS));
+        }
+        if (!model.getAdded(Note.TAGS).isEmpty()) {
+            repository.insertTags(model.getId(), model.getAdded(Note.TAGS));
+        }
+    }
+
+    private NoteJpaEntity newEntity(Note model) {
+        NoteJpaEntity entity = NoteJpaEntity.fromModel(model);
+        entity.setAuthor(reference(UserJpaEntity.class, model.getAuthorId()));
+        entity.setProject(reference(ProjectJpaEntity.class, model.getProjectId()));
+        entity.setTags(model.getTagsId().stream()
+                .map(tagId -> reference(TagJpaEntity.class, tagId))
+                .collect(Collectors.toSet()));
+        return entity;
+    }
+
     protected Predicate createPredicateForField(Root<NoteJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
         return switch (key) {
             case "id" -> crBuilder.equal(root.get("id"), value);
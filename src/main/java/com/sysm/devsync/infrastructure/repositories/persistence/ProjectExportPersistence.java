@@ -0,0 +1,138 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.models.Answer;
+import com.sysm.devsync.domain.models.Comment;
+import com.sysm.devsync.domain.persistence.ProjectExportPort;
+import com.sysm.devsync.infrastructure.repositories.AnswerJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.CommentJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.NoteJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.QuestionJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.AnswerJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.CommentJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.NoteJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.QuestionJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Repository
+public class ProjectExportPersistence implements ProjectExportPort {
+
+    private static final int CHUNK_SIZE = Integer.parseInt(QuestionJpaRepository.EXPORT_FETCH_SIZE);
+
+    private final QuestionJpaRepository questionRepository;
+    private final AnswerJpaRepository answerRepository;
+    private final CommentJpaRepository commentRepository;
+    private final NoteJpaRepository noteRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ProjectExportPersistence(QuestionJpaRepository questionRepository,
+                                    AnswerJpaRepository answerRepository,
+                                    CommentJpaRepository commentRepository,
+                                    NoteJpaRepository noteRepository) {
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.commentRepository = commentRepository;
+        this.noteRepository = noteRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public void export(String projectId, Sink sink) {
+        if (projectId == null || projectId.isEmpty()) {
+            throw new IllegalArgumentException("Project ID must not be null or empty");
+        }
+        try (Stream<QuestionJpaEntity> questions = questionRepository.streamAllByProjectId(projectId)) {
+            inChunks(questions, chunk -> exportQuestions(chunk, sink), sink);
+        }
+        try (Stream<NoteJpaEntity> notes = noteRepository.streamAllByProjectId(projectId)) {
+            inChunks(notes, chunk -> exportNotes(chunk, sink), sink);
+        }
+    }
+
+    /*
+     * The children of a chunk are read with one query per kind, then the persistence context is
+     * cleared so the entities already written can be collected while the cursor moves on.
+     */
+    private <T> void inChunks(Stream<T> rows, Consumer<List<T>> exporter, Sink sink) {
+        var chunk = new ArrayList<T>(CHUNK_SIZE);
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                exporter.accept(chunk);
+                chunk.clear();
+                entityManager.clear();
+                sink.endOfChunk();
+            }
+        }
+    }
+
+    private void exportQuestions(List<QuestionJpaEntity> questions, Sink sink) {
+        var ids = questions.stream().map(QuestionJpaEntity::getId).toList();
+
+        Map<String, Set<String>> tagIds = new HashMap<>();
+        for (KeyValue row : questionRepository.findTagIdsByQuestionIdIn(ids)) {
+            tagIds.computeIfAbsent(row.key(), k -> new HashSet<>()).add((String) row.value());
+        }
+
+        Map<String, List<Answer>> answers = new HashMap<>();
+        for (AnswerJpaEntity entity : answerRepository.findAllByQuestion_IdIn(ids)) {
+            Answer answer = AnswerJpaEntity.toModel(entity);
+            answers.computeIfAbsent(answer.getQuestionId(), k -> new ArrayList<>()).add(answer);
+        }
+
+        var comments = byTarget(commentRepository.findAllByTargetTypeAndTargetIdIn(TargetType.QUESTION, ids));
+        comments.putAll(byTarget(commentRepository.findAllOnAnswersOfQuestions(ids)));
+
+        for (QuestionJpaEntity entity : questions) {
+            var answerEntries = answers.getOrDefault(entity.getId(), List.of()).stream()
+                    .map(answer -> new AnswerEntry(answer, comments.getOrDefault(answer.getId(), List.of())))
+                    .toList();
+            sink.question(new QuestionEntry(
+                    QuestionJpaEntity.toModel(entity, tagIds.getOrDefault(entity.getId(), Set.of())),
+                    comments.getOrDefault(entity.getId(), List.of()),
+                    answerEntries));
+        }
+    }
+
+    private void exportNotes(List<NoteJpaEntity> notes, Sink sink) {
+        var ids = notes.stream().map(NoteJpaEntity::getId).toList();
+
+        Map<String, Set<String>> tagIds = new HashMap<>();
+        for (KeyValue row : noteRepository.findTagIdsByNoteIdIn(ids)) {
+            tagIds.computeIfAbsent(row.key(), k -> new HashSet<>()).add((String) row.value());
+        }
+        var comments = byTarget(commentRepository.findAllByTargetTypeAndTargetIdIn(TargetType.NOTE, ids));
+
+        for (NoteJpaEntity entity : notes) {
+            sink.note(new NoteEntry(
+                    NoteJpaEntity.toModel(entity, tagIds.getOrDefault(entity.getId(), Set.of())),
+                    comments.getOrDefault(entity.getId(), List.of())));
+        }
+    }
+
+    // Question and answer ids are UUIDs, so the comments on both can share one map keyed by target id
+    private static Map<String, List<Comment>> byTarget(List<CommentJpaEntity> entities) {
+        Map<String, List<Comment>> comments = new HashMap<>();
+        for (CommentJpaEntity entity : entities) {
+            Comment comment = CommentJpaEntity.toModel(entity);
+            comments.computeIfAbsent(comment.getTargetId(), k -> new ArrayList<>()).add(comment);
+        }
+        return comments;
+    }
+}
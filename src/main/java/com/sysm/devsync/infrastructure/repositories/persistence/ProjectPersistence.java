@@ -7,16 +7,21 @@ import com.sysm.devsync.domain.models.Project;
 import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
 import com.sysm.devsync.infrastructure.repositories.ProjectJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.entities.ProjectJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+import com.sysm.devsync.infrastructure.cache.AggregateCache;
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
 
@@ -24,9 +29,11 @@ import static com.sysm.devsync.infrastructure.Utils.like;
 public class ProjectPersistence extends AbstractPersistence<ProjectJpaEntity> implements ProjectPersistencePort {
 
     private final ProjectJpaRepository repository;
+    private final AggregateCache<Project> cache;
 
-    public ProjectPersistence(ProjectJpaRepository repository) {
+    public ProjectPersistence(ProjectJpaRepository repository, AggregateCaches caches) {
         this.repository = repository;
+        this.cache = caches.create("projects", ProjectPersistence::copy);
     }
 
     @Transactional
@@ -35,7 +42,10 @@ public class ProjectPersistence extends AbstractPersistence<ProjectJpaEntity> im
             throw new IllegalArgumentException("Project model cannot be null");
         }
         var entity = ProjectJpaEntity.fromModel(model);
-        repository.save(entity);
+        if (model.getWorkspace() != null) {
+            entity.setWorkspace(reference(WorkspaceJpaEntity.class, model.getWorkspace().id()));
+        }
+        persist(entity);
     }
 
     @Transactional
@@ -44,7 +54,9 @@ public class ProjectPersistence extends AbstractPersistence<ProjectJpaEntity> im
             throw new IllegalArgumentException("Project model cannot be null");
         }
         var entity = ProjectJpaEntity.fromModel(model);
-        repository.save(entity);
+        updateChangedFields(model, model.getId(), entity);
+        model.clearChanges();
+        cache.invalidate(model.getId());
     }
 
     @Transactional
@@ -53,38 +65,36 @@ public class ProjectPersistence extends AbstractPersistence<ProjectJpaEntity> im
             throw new IllegalArgumentException("Project ID cannot be null or empty");
         }
         repository.deleteById(id);
+        cache.invalidate(id);
     }
 
-    @Transactional(readOnly = true)
     public Optional<Project> findById(String id) {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("Project ID cannot be null or empty");
         }
-        return repository.findById(id)
-                .map(ProjectJpaEntity::toModel);
+        return cache.get(id, () -> repository.findWithWorkspaceById(id).map(ProjectJpaEntity::toModel));
     }
 
-    @Transactional(readOnly = true)
     public boolean existsById(String id) {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("Project ID cannot be null or empty");
         }
-        return repository.existsById(id);
+        return cache.exists(id, () -> repository.existsById(id));
+    }
+
+    public Set<String> findExistingIds(Collection<String> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Project IDs cannot be null");
+        }
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(repository.findExistingIds(ids));
     }
 
     @Transactional(readOnly = true)
     public Pagination<Project> findAll(SearchQuery searchQuery) {
-        Specification<ProjectJpaEntity> spec = buildSpecification(searchQuery);
-
-        var pageRequest = buildPageRequest(searchQuery);
-        var pageProject = repository.findAll(spec, pageRequest);
-
-        return new Pagination<>(
-                pageProject.getNumber(),
-                pageProject.getSize(),
-                pageProject.getTotalElements(),
-                pageProject.map(ProjectJpaEntity::toModel).toList()
-        );
+        return findPage(repository, searchQuery, ProjectJpaEntity::toModel);
     }
 
     @Transactional(readOnly = true)
@@ -100,6 +110,13 @@ public class ProjectPersistence extends AbstractPersistence<ProjectJpaEntity> im
         return repository.countProjectsByWorkspaceIdIn(workspaceIds);
     }
 
+    private static Project copy(Project project) {
+        Project copy = Project.build(project.getId(), project.getName(), project.getDescription(), project.getWorkspace(),
+                project.getCreatedAt(), project.getUpdatedAt());
+        copy.setStoredVersion(project.getStoredVersion());
+        return copy;
+    }
+
     protected Predicate createPredicateForField(Root<ProjectJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
         return switch (key) {
             case "id" -> crBuilder.equal(root.get("id"), value);
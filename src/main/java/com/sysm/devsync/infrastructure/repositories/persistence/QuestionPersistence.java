@@ -3,19 +3,36 @@ package com.sysm.devsync.infrastructure.repositories.persistence;
 import com.sysm.devsync.domain.BusinessException;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.Revision;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.AggregateType;
 import com.sysm.devsync.domain.enums.QuestionStatus;
+import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Question;
 import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
 import com.sysm.devsync.infrastructure.repositories.QuestionJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.TombstoneJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.entities.QuestionJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+import com.sysm.devsync.infrastructure.cache.AggregateCache;
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
-
+import com.sysm.devsync.infrastructure.repositories.entities.ProjectJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.TagJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
 
@@ -23,9 +40,23 @@ import static com.sysm.devsync.infrastructure.Utils.like;
 public class QuestionPersistence extends AbstractPersistence<QuestionJpaEntity> implements QuestionPersistencePort {
 
     private final QuestionJpaRepository repository;
-
-    public QuestionPersistence(QuestionJpaRepository repository) {
+    private final AnswerPersistence answerPersistence;
+    private final CommentPersistence commentPersistence;
+    private final TagPersistence tagPersistence;
+    private final TombstoneJpaRepository tombstoneRepository;
+    private final AggregateCache<String> owners;
+    private final AggregateCache<String> projectIds;
+
+    public QuestionPersistence(QuestionJpaRepository repository, AnswerPersistence answerPersistence,
+                               CommentPersistence commentPersistence, TagPersistence tagPersistence,
+                               TombstoneJpaRepository tombstoneRepository, AggregateCaches caches) {
         this.repository = repository;
+        this.answerPersistence = answerPersistence;
+        this.commentPersistence = commentPersistence;
+        this.tagPersistence = tagPersistence;
+        this.tombstoneRepository = tombstoneRepository;
+        this.owners = caches.create("question-owners", UnaryOperator.identity());
+        this.projectIds = caches.create("question-projects", UnaryOperator.identity());
     }
 
     @Transactional
@@ -33,8 +64,15 @@ public class QuestionPersistence extends AbstractPersistence<QuestionJpaEntity>
         if (model == null) {
             throw new IllegalArgumentException("Question model must not be null");
         }
-        QuestionJpaEntity entity = QuestionJpaEntity.fromModel(model);
-        repository.save(entity);
+        persist(newEntity(model));
+    }
+
+    @Transactional
+    public void createAll(List<Question> models) {
+        if (models == null) {
+            throw new IllegalArgumentException("Question models must not be null");
+        }
+        persistAll(models.stream().map(this::newEntity).toList());
     }
 
     @Transactional
@@ -43,7 +81,11 @@ public class QuestionPersistence extends AbstractPersistence<QuestionJpaEntity>
             throw new IllegalArgumentException("Question model must not be null");
         }
         QuestionJpaEntity entity = QuestionJpaEntity.fromModel(model);
-        repository.save(entity);
+        if (updateChangedFields(model, model.getId(), entity)) {
+            changeTags(model);
+        }
+        model.clearChanges();
+        owners.invalidate(model.getId());
     }
 
     @Transactional
@@ -52,6 +94,29 @@ public class QuestionPersistence extends AbstractPersistence<QuestionJpaEntity>
             throw new IllegalArgumentException("Question ID must not be null or empty");
         }
         repository.deleteById(id);
+        tombstoneRepository.record(AggregateType.QUESTION, id, changeStamp());
+        owners.invalidate(id);
+        projectIds.invalidate(id);
+    }
+
+    @Transactional
+    public void deleteWithDependents(String id) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("Question ID must not be null or empty");
+        }
+        // Read before the links are gone, every tag loses one use
+        List<String> tagIds = repository.findTagIdsByQuestionId(id);
+
+        // Comments on the answers go first, they are found through the answers
+        commentPersistence.deleteAllOnAnswersOfQuestion(id);
+        commentPersistence.deleteAllByTargetTypeAndTargetId(TargetType.QUESTION, id);
+        answerPersistence.deleteAllByQuestionId(id);
+        repository.deleteInBulkById(id);
+        tombstoneRepository.record(AggregateType.QUESTION, id, changeStamp());
+        tagPersistence.decrementUse(tagIds);
+
+        owners.invalidate(id);
+        projectIds.invalidate(id);
     }
 
     @Transactional(readOnly = true)
@@ -63,6 +128,29 @@ public class QuestionPersistence extends AbstractPersistence<QuestionJpaEntity>
                 .map(QuestionJpaEntity::toModel);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<Revision> findRevision(String id) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("Question ID must not be null or empty");
+        }
+        return repository.findRevisionById(id);
+    }
+
+    public Optional<String> findAuthorId(String id) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("Question ID must not be null or empty");
+        }
+        return owners.get(id, () -> repository.findAuthorIdById(id));
+    }
+
+    public Optional<String> findProjectId(String id) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("Question ID must not be null or empty");
+        }
+        // A question never moves to another project
+        return projectIds.get(id, () -> repository.findProjectIdById(id));
+    }
+
     @Transactional(readOnly = true)
     public boolean existsById(String id) {
         if (id == null || id.isEmpty()) {
@@ -73,17 +161,7 @@ public class QuestionPersistence extends AbstractPersistence<QuestionJpaEntity>
 
     @Transactional(readOnly = true)
     public Pagination<Question> findAll(SearchQuery query) {
-        var pageableRequest = buildPageRequest(query);
-        var specification = buildSpecification(query);
-
-        var questionPage = repository.findAll(specification, pageableRequest);
-
-        return new Pagination<>(
-                questionPage.getNumber(),
-                questionPage.getSize(),
-                questionPage.getTotalElements(),
-                questionPage.map(QuestionJpaEntity::toModel).toList()
-        );
+        return findPageBatched(repository, query, this::toModels);
     }
 
     @Transactional
@@ -99,10 +177,58 @@ public class QuestionPersistence extends AbstractPersistence<QuestionJpaEntity>
                 questionPage.getNumber(),
                 questionPage.getSize(),
                 questionPage.getTotalElements(),
-                questionPage.map(QuestionJpaEntity::toModel).toList()
+                toModels(questionPage.getContent())
         );
     }
 
+    @Transactional(readOnly = true)
+    public List<Question> findAllByIds(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return toModels(repository.findAllById(ids));
+    }
+
+    /**
+     * Maps a page of entities loading the tag ids of all of them with one query.
+     */
+    private List<Question> toModels(List<QuestionJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        var ids = entities.stream().map(QuestionJpaEntity::getId).toList();
+
+        Map<String, Set<String>> tagIdsByQuestionId = new HashMap<>();
+        for (KeyValue row : repository.findTagIdsByQuestionIdIn(ids)) {
+            tagIdsByQuestionId.computeIfAbsent(row.key(), k -> new HashSet<>()).add((String) row.value());
+        }
+
+        return entities.stream()
+                .map(entity -> QuestionJpaEntity.toModel(entity, tagIdsByQuestionId.getOrDefault(entity.getId(), Set.of())))
+                .toList();
+    }
+
+    // Proxies instead of the id-only instances of fromModel, which persist would select one by one
+    // Only the links that changed, the tag collection is never loaded
+    private void changeTags(Question model) {
+        if (!model.getRemoved(Question.TAGS).isEmpty()) {
+            repository.deleteTags(model.getId(), model.getRemoved(Question.TAGS));
+        }
+        if (!model.getAdded(Question.TAGS).isEmpty()) {
+            repository.insertTags(model.getId(), model.getAdded(Question.TAGS));
+        }
+    }
+
+    private QuestionJpaEntity newEntity(Question model) {
+        QuestionJpaEntity entity = QuestionJpaEntity.fromModel(model);
+        entity.setAuthor(reference(UserJpaEntity.class, model.getAuthorId()));
+        entity.setProject(reference(ProjectJpaEntity.class, model.getProjectId()));
+        entity.setTags(model.getTagsId().stream()
+                .map(tagId -> reference(TagJpaEntity.class, tagId))
+                .collect(Collectors.toSet()));
+        return entity;
+    }
+
     protected Predicate createPredicateForField(Root<QuestionJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
         return switch (key) {
             case "id" -> crBuilder.equal(root.get("id"), value);
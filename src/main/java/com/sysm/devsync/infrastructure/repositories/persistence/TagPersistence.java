@@ -7,12 +7,22 @@ import com.sysm.devsync.domain.models.Tag;
 import com.sysm.devsync.domain.persistence.TagPersistencePort;
 import com.sysm.devsync.infrastructure.repositories.entities.TagJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.TagJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+import com.sysm.devsync.infrastructure.cache.AggregateCache;
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
-import org.springframework.data.jpa.domain.Specification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
 
@@ -21,10 +31,23 @@ import static com.sysm.devsync.infrastructure.Utils.like;
 @Repository
 public class TagPersistence extends AbstractPersistence<TagJpaEntity> implements TagPersistencePort {
 
+    private static final Logger log = LoggerFactory.getLogger(TagPersistence.class);
+    private static final int FLUSH_CHUNK_SIZE = 1000;
+    private static final int RECONCILE_ATTEMPTS = 3;
+
     private final TagJpaRepository tagRepository;
+    private final AggregateCache<Tag> cache;
+    private final TagUsageCounters usage = new TagUsageCounters();
+    private final TransactionTemplate transactionTemplate;
+    private final boolean writeBehind;
 
-    public TagPersistence(TagJpaRepository tagRepository) {
+    public TagPersistence(TagJpaRepository tagRepository, AggregateCaches caches,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${dev-sync.tag-usage.write-behind:true}") boolean writeBehind) {
         this.tagRepository = tagRepository;
+        this.cache = caches.create("tags", TagPersistence::copy);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.writeBehind = writeBehind;
     }
 
     @Transactional
@@ -32,7 +55,7 @@ public class TagPersistence extends AbstractPersistence<TagJpaEntity> implements
         if (model == null) {
             throw new IllegalArgumentException("Tag model cannot be null");
         }
-        tagRepository.save(TagJpaEntity.fromModel(model));
+        persist(TagJpaEntity.fromModel(model));
     }
 
     @Transactional
@@ -40,7 +63,10 @@ public class TagPersistence extends AbstractPersistence<TagJpaEntity> implements
         if (model == null) {
             throw new IllegalArgumentException("Tag model cannot be null");
         }
-        tagRepository.save(TagJpaEntity.fromModel(model));
+        var entity = TagJpaEntity.fromModel(model);
+        updateChangedFields(model, model.getId(), entity);
+        model.clearChanges();
+        cache.invalidate(model.getId());
     }
 
     @Transactional
@@ -49,49 +75,186 @@ public class TagPersistence extends AbstractPersistence<TagJpaEntity> implements
             throw new IllegalArgumentException("Tag ID cannot be null or blank");
         }
         tagRepository.deleteById(id);
+        cache.invalidate(id);
+        usage.discard(id);
     }
 
-    @Transactional(readOnly = true)
     public Optional<Tag> findById(String id) {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("Tag ID cannot be null or blank");
         }
-        return tagRepository.findById(id)
-                .map(TagJpaEntity::toModel);
+        return usage.read(() -> cache.get(id, () -> tagRepository.findById(id).map(TagJpaEntity::toModel))
+                .map(this::withPendingUse));
+    }
+
+    public long countUses(String id) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Tag ID cannot be null or blank");
+        }
+        return findById(id).map(Tag::getAmountUsed).orElse(0);
     }
 
-    @Transactional(readOnly = true)
     public boolean existsById(String id) {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("Tag ID cannot be null or blank");
         }
-        return tagRepository.existsById(id);
+        return cache.exists(id, () -> tagRepository.existsById(id));
+    }
+
+    public Set<String> findExistingIds(Collection<String> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Tag IDs cannot be null");
+        }
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(tagRepository.findExistingIds(ids));
     }
 
     @Transactional(readOnly = true)
     public Pagination<Tag> findAll(SearchQuery searchQuery) {
-        Specification<TagJpaEntity> spec = buildSpecification(searchQuery);
+        return usage.read(() -> findPage(tagRepository, searchQuery, entity -> withPendingUse(TagJpaEntity.toModel(entity))));
+    }
 
-        var pageRequest = buildPageRequest(searchQuery);
+    public void incrementUse(String id) {
+        if (writeBehind) {
+            usage.add(id, 1);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> tagRepository.incrementUse(id));
+        cache.invalidate(id);
+    }
 
-        var page = tagRepository.findAll(spec, pageRequest);
+    public void decrementUse(String id) {
+        if (writeBehind) {
+            usage.add(id, -1);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> tagRepository.decrementUse(id));
+        cache.invalidate(id);
+    }
 
-        return new Pagination<>(
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.map(TagJpaEntity::toModel).toList()
-        );
+    /**
+     * Writes the buffered usage deltas, one UPDATE per distinct delta for up to
+     * {@value #FLUSH_CHUNK_SIZE} tags. Runs on a fixed delay and once more on shutdown.
+     *
+     * @return the number of tags written
+     */
+    @Scheduled(fixedDelayString = "${dev-sync.tag-usage.flush-interval:5s}",
+               initialDelayString = "${dev-sync.tag-usage.flush-interval:5s}")
+    public int flushUsage() {
+        return usage.flush(this::writeUsage);
     }
 
-    @Transactional
-    public void incrementUse(String id) {
-        tagRepository.incrementUse(id);
+    @PreDestroy
+    void flushUsageOnShutdown() {
+        try {
+            int written = flushUsage();
+            if (written > 0) {
+                log.info("Tag usage flushed on shutdown: {} tags", written);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Tag usage could not be flushed on shutdown, pending deltas are lost", e);
+        }
     }
 
-    @Transactional
-    public void decrementUse(String id) {
-        tagRepository.decrementUse(id);
+    private void writeUsage(Map<String, Long> deltas) {
+        // Bulk tagging moves most tags by the same amount, so grouping by delta keeps the statement count low
+        Map<Long, List<String>> idsByDelta = new HashMap<>();
+        deltas.forEach((tagId, delta) -> idsByDelta.computeIfAbsent(delta, k -> new ArrayList<>()).add(tagId));
+
+        transactionTemplate.executeWithoutResult(status -> idsByDelta.forEach((delta, ids) -> {
+            for (int from = 0; from < ids.size(); from += FLUSH_CHUNK_SIZE) {
+                tagRepository.addUse(Math.toIntExact(delta), ids.subList(from, Math.min(ids.size(), from + FLUSH_CHUNK_SIZE)));
+            }
+        }));
+        deltas.keySet().forEach(cache::invalidate);
+    }
+
+    private Tag withPendingUse(Tag tag) {
+        long pending = usage.pending(tag.getId());
+        if (pending == 0) {
+            return tag;
+        }
+        Tag withPending = Tag.build(tag.getId(), tag.getName(), tag.getColor(), tag.getDescription(), tag.getCategory(),
+                Math.toIntExact(tag.getAmountUsed() + pending));
+        withPending.setStoredVersion(tag.getStoredVersion());
+        return withPending;
+    }
+
+    /**
+     * Recomputes the usage count of the next {@code limit} tags after {@code afterId}, in id order,
+     * from the question and note links, and corrects the counts that drifted.
+     * <p>
+     * The persisted and exact counts are read in one transaction without holding off flushes or live
+     * reads. The corrections are then folded into the pending deltas against the pending values of that
+     * moment and written by a flush. When a flush ran in between, the persisted counts are stale and the
+     * chunk is read again. A tagging write that commits while the chunk is read can still leave its tag
+     * one off, the next pass corrects it.
+     */
+    ReconcileResult reconcileUsage(String afterId, int limit) {
+        for (int attempt = 1; ; attempt++) {
+            long flushes = usage.flushes();
+            UsageChunk chunk = transactionTemplate.execute(status -> readUsage(afterId, limit));
+            if (chunk.persisted().isEmpty()) {
+                return new ReconcileResult(afterId, 0, 0);
+            }
+
+            Optional<Set<String>> corrected = usage.correct(flushes, chunk.persisted(), chunk.exact());
+            if (corrected.isPresent()) {
+                if (!corrected.get().isEmpty()) {
+                    flushUsage();
+                }
+                return new ReconcileResult(chunk.lastId(), chunk.persisted().size(), corrected.get().size());
+            }
+            if (attempt == RECONCILE_ATTEMPTS) {
+                log.debug("Tag usage chunk after '{}' skipped, flushes kept overlapping it", afterId);
+                return new ReconcileResult(chunk.lastId(), chunk.persisted().size(), 0);
+            }
+        }
+    }
+
+    private UsageChunk readUsage(String afterId, int limit) {
+        List<KeyValue> stored = tagRepository.findUsageAfter(afterId, PageRequest.of(0, limit));
+        Map<String, Long> persisted = new LinkedHashMap<>();
+        stored.forEach(row -> persisted.put(row.key(), ((Integer) row.value()).longValue()));
+        if (persisted.isEmpty()) {
+            return new UsageChunk(afterId, persisted, Map.of());
+        }
+
+        List<String> ids = List.copyOf(persisted.keySet());
+        Map<String, Long> exact = new HashMap<>();
+        tagRepository.countQuestionUsesByTagIdIn(ids).forEach(row -> exact.merge(row.key(), (Long) row.value(), Long::sum));
+        tagRepository.countNoteUsesByTagIdIn(ids).forEach(row -> exact.merge(row.key(), (Long) row.value(), Long::sum));
+        return new UsageChunk(ids.get(ids.size() - 1), persisted, exact);
+    }
+
+    /**
+     * Releases one use of each tag with one statement, for callers unlinking many tags at once.
+     */
+    void decrementUse(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        tagRepository.decrementUseByIdIn(ids);
+        ids.forEach(cache::invalidate);
+    }
+
+    private static Tag copy(Tag tag) {
+        Tag copy = Tag.build(tag.getId(), tag.getName(), tag.getColor(), tag.getDescription(), tag.getCategory(),
+                tag.getAmountUsed());
+        copy.setStoredVersion(tag.getStoredVersion());
+        return copy;
+    }
+
+    /**
+     * Outcome of one reconciled chunk: the id to continue after, how many tags were checked and how
+     * many of them had a wrong count.
+     */
+    record ReconcileResult(String lastId, int scanned, int corrected) {
+    }
+
+    private record UsageChunk(String lastId, Map<String, Long> persisted, Map<String, Long> exact) {
     }
 
     protected Predicate createPredicateForField(Root<TagJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
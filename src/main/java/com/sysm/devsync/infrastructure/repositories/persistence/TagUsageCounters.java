@@ -0,0 +1,132 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Tag usage changes not yet written to the database. Tagging only bumps a LongAdder, so concurrent
+ * taggers of a popular tag neither contend with each other nor lock its row; the coalesced deltas
+ * are written in batches by {@link #flush(Consumer)}.
+ * <p>
+ * A flush runs under the write lock and live counts are read under the read lock, so a reader never
+ * sees a delta both in the database and still pending.
+ */
+final class TagUsageCounters {
+
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long flushes;
+
+    void add(String tagId, long delta) {
+        pending.computeIfAbsent(tagId, k -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * Pending delta of the tag. Combine it with the persisted count inside {@link #read(Supplier)}.
+     */
+    long pending(String tagId) {
+        LongAdder adder = pending.get(tagId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    void discard(String tagId) {
+        pending.remove(tagId);
+    }
+
+    <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of flushes that wrote deltas so far, waiting for one in progress to finish. Read it before
+     * loading persisted counts that are later passed to {@link #correct}.
+     */
+    long flushes() {
+        lock.readLock().lock();
+        try {
+            return flushes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds to the pending deltas what brings each live count, persisted plus pending, to the exact one.
+     * Only memory is touched under the lock, the corrections reach the database with the next flush.
+     * A flush since {@code flushesBefore} moved deltas into the database after the persisted counts
+     * were read, so nothing is corrected then.
+     *
+     * @return the ids whose live count was corrected, empty when the persisted counts are stale
+     */
+    Optional<Set<String>> correct(long flushesBefore, Map<String, Long> persisted, Map<String, Long> exact) {
+        lock.writeLock().lock();
+        try {
+            if (flushes != flushesBefore) {
+                return Optional.empty();
+            }
+            var corrected = new HashSet<String>();
+            persisted.forEach((tagId, stored) -> {
+                long delta = exact.getOrDefault(tagId, 0L) - stored - pending(tagId);
+                if (delta != 0) {
+                    add(tagId, delta);
+                    corrected.add(tagId);
+                }
+            });
+            return Optional.of(corrected);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Hands the non-zero deltas to the writer. When the writer fails they are added back, so the
+     * next flush retries them together with whatever accumulated meanwhile.
+     *
+     * @return the number of tags written
+     */
+    int flush(Consumer<Map<String, Long>> writer) {
+        lock.writeLock().lock();
+        try {
+            Map<String, Long> deltas = drain();
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+            flushes++;
+            try {
+                writer.accept(deltas);
+            } catch (RuntimeException e) {
+                deltas.forEach(this::add);
+                throw e;
+            }
+            return deltas.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<String, Long> drain() {
+        var deltas = new HashMap<String, Long>();
+        // Adders stay until their tag is deleted, removing one could drop an add racing with the removal
+        pending.forEach((tagId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(tagId, delta);
+            }
+        });
+        return deltas;
+    }
+}
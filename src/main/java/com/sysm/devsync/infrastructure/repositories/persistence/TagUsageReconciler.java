@@ -0,0 +1,82 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.infrastructure.repositories.JobCheckpointJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.JobCheckpointJpaEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Recomputes tag usage counts from the question and note links and corrects the ones that drifted.
+ * <p>
+ * Tags are walked in id order a chunk at a time, each chunk in its own short transaction counted
+ * through the tag_id indexes of the join tables, so no statement scans a whole join table and no lock
+ * is held for longer than one chunk. The last id of every chunk is checkpointed, a restarted run
+ * resumes after it and a completed pass starts over from the first tag.
+ */
+@Component
+public class TagUsageReconciler {
+
+    static final String JOB_NAME = "tag-usage-reconcile";
+
+    private static final Logger log = LoggerFactory.getLogger(TagUsageReconciler.class);
+
+    private final TagPersistence tagPersistence;
+    private final JobCheckpointJpaRepository checkpoints;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TagUsageReconciler(TagPersistence tagPersistence,
+                              JobCheckpointJpaRepository checkpoints,
+                              @Value("${dev-sync.tag-usage.reconcile-enabled:true}") boolean enabled,
+                              @Value("${dev-sync.tag-usage.reconcile-chunk-size:500}") int chunkSize) {
+        this.tagPersistence = tagPersistence;
+        this.checkpoints = checkpoints;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Runs one full pass, starting after the checkpoint of an interrupted pass if there is one.
+     *
+     * @return the number of tags whose count was corrected, 0 when disabled or already running
+     */
+    @Scheduled(fixedDelayString = "${dev-sync.tag-usage.reconcile-interval:1h}",
+               initialDelayString = "${dev-sync.tag-usage.reconcile-interval:1h}")
+    public int reconcile() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            return runPass();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int runPass() {
+        long start = System.currentTimeMillis();
+        String cursor = checkpoints.findById(JOB_NAME).map(JobCheckpointJpaEntity::getLastKey).orElse(null);
+        boolean resumed = cursor != null;
+
+        long scanned = 0;
+        int corrected = 0;
+        TagPersistence.ReconcileResult chunk;
+        do {
+            chunk = tagPersistence.reconcileUsage(cursor == null ? "" : cursor, chunkSize);
+            scanned += chunk.scanned();
+            corrected += chunk.corrected();
+            cursor = chunk.scanned() < chunkSize ? null : chunk.lastId();
+            checkpoints.save(new JobCheckpointJpaEntity(JOB_NAME, cursor));
+        } while (cursor != null);
+
+        log.info("Tag usage reconciled{}: {} tags checked, {} corrected in {} ms",
+                resumed ? " (resumed)" : "", scanned, corrected, System.currentTimeMillis() - start);
+        return corrected;
+    }
+}
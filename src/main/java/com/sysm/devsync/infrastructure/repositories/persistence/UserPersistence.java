@@ -9,15 +9,19 @@ import com.sysm.devsync.domain.persistence.UserPersistencePort;
 import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.UserJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+import com.sysm.devsync.infrastructure.cache.AggregateCache;
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
 
@@ -25,9 +29,11 @@ import static com.sysm.devsync.infrastructure.Utils.like;
 public class UserPersistence extends AbstractPersistence<UserJpaEntity> implements UserPersistencePort {
 
     private final UserJpaRepository repository;
+    private final AggregateCache<User> cache;
 
-    public UserPersistence(UserJpaRepository repository) {
+    public UserPersistence(UserJpaRepository repository, AggregateCaches caches) {
         this.repository = repository;
+        this.cache = caches.create("users", UserPersistence::copy);
     }
 
     @Transactional
@@ -35,8 +41,7 @@ public class UserPersistence extends AbstractPersistence<UserJpaEntity> implemen
         if (model == null) {
             throw new IllegalArgumentException("User model cannot be null");
         }
-        var userJpaEntity = UserJpaEntity.fromModel(model);
-        repository.save(userJpaEntity);
+        persist(UserJpaEntity.fromModel(model));
     }
 
     @Transactional
@@ -45,7 +50,9 @@ public class UserPersistence extends AbstractPersistence<UserJpaEntity> implemen
             throw new IllegalArgumentException("User model cannot be null");
         }
         var userJpaEntity = UserJpaEntity.fromModel(model);
-        repository.save(userJpaEntity);
+        updateChangedFields(model, model.getId(), userJpaEntity);
+        model.clearChanges();
+        cache.invalidate(model.getId());
     }
 
     @Transactional
@@ -54,39 +61,36 @@ public class UserPersistence extends AbstractPersistence<UserJpaEntity> implemen
             throw new IllegalArgumentException("User ID cannot be null or blank");
         }
         repository.deleteById(id);
+        cache.invalidate(id);
     }
 
-    @Transactional(readOnly = true)
     public Optional<User> findById(String id) {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("User ID cannot be null or blank");
         }
-        return repository.findById(id)
-                .map(UserJpaEntity::toModel);
+        return cache.get(id, () -> repository.findById(id).map(UserJpaEntity::toModel));
     }
 
-    @Transactional(readOnly = true)
     public boolean existsById(String id) {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("User ID cannot be null or blank");
         }
-        return repository.existsById(id);
+        return cache.exists(id, () -> repository.existsById(id));
+    }
+
+    public Set<String> findExistingIds(Collection<String> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("User IDs cannot be null");
+        }
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(repository.findExistingIds(ids));
     }
 
     @Transactional(readOnly = true)
     public Pagination<User> findAll(SearchQuery searchQuery) {
-        Specification<UserJpaEntity> spec = buildSpecification(searchQuery);
-        var pageRequest = buildPageRequest(searchQuery);
-
-        var page = repository.findAll(spec, pageRequest);
-
-        return new Pagination<>(
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.map(UserJpaEntity::toModel).toList()
-        );
-
+        return findPage(repository, searchQuery, UserJpaEntity::toModel);
     }
 
     protected Predicate createPredicateForField(Root<UserJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
@@ -109,4 +113,11 @@ public class UserPersistence extends AbstractPersistence<UserJpaEntity> implemen
     public List<KeyValue> userIdXUseName(List<String> userIds) {
         return repository.userIdXUseName(userIds);
     }
+
+    private static User copy(User user) {
+        User copy = User.build(user.getId(), user.getCreatedAt(), user.getUpdatedAt(), user.getName(), user.getEmail(),
+                user.getPasswordHash(), user.getProfilePictureUrl(), user.getRole());
+        copy.setStoredVersion(user.getStoredVersion());
+        return copy;
+    }
 }
@@ -1,30 +1,54 @@
 package com.sysm.devsync.infrastructure.repositories.persistence;
 
 import com.sysm.devsync.domain.BusinessException;
+import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.Revision;
 import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.domain.models.to.UserTO;
 import com.sysm.devsync.domain.persistence.WorkspacePersistencePort;
 import com.sysm.devsync.infrastructure.repositories.WorkspaceJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
 import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.objects.KeyValue;
+import com.sysm.devsync.infrastructure.repositories.objects.MemberRow;
+import com.sysm.devsync.infrastructure.cache.AggregateCache;
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
 import static com.sysm.devsync.infrastructure.Utils.like;
 
 @Repository
 public class WorkspacePersistence extends AbstractPersistence<WorkspaceJpaEntity> implements WorkspacePersistencePort {
 
+    private static final int MEMBER_CHUNK_SIZE = 1000;
+    private static final Set<String> MEMBER_SORT_FIELDS = Set.of("id", "name", "email");
+
     private final WorkspaceJpaRepository repository;
+    private final AggregateCache<Workspace> cache;
 
-    public WorkspacePersistence(WorkspaceJpaRepository repository) {
+    public WorkspacePersistence(WorkspaceJpaRepository repository, AggregateCaches caches) {
         this.repository = repository;
+        this.cache = caches.create("workspaces", WorkspacePersistence::copy);
     }
 
     @Transactional
@@ -33,7 +57,11 @@ public class WorkspacePersistence extends AbstractPersistence<WorkspaceJpaEntity
             throw new IllegalArgumentException("Workspace model cannot be null");
         }
         var workspaceJpaEntity = WorkspaceJpaEntity.fromModel(model);
-        repository.save(workspaceJpaEntity);
+        workspaceJpaEntity.setOwner(reference(UserJpaEntity.class, model.getOwner().id()));
+        workspaceJpaEntity.setMembers(model.getMembersId().stream()
+                .map(memberId -> reference(UserJpaEntity.class, memberId))
+                .collect(Collectors.toSet()));
+        persist(workspaceJpaEntity);
     }
 
     @Transactional
@@ -42,7 +70,19 @@ public class WorkspacePersistence extends AbstractPersistence<WorkspaceJpaEntity
             throw new IllegalArgumentException("Workspace model cannot be null");
         }
         var workspaceJpaEntity = WorkspaceJpaEntity.fromModel(model);
-        repository.save(workspaceJpaEntity);
+        if (updateChangedFields(model, model.getId(), workspaceJpaEntity)) {
+            // The member count follows the rows actually written, the version has moved once already
+            if (!model.getRemoved(Workspace.MEMBERS).isEmpty()) {
+                changeMembers(model.getId(), model.getRemoved(Workspace.MEMBERS), repository::deleteMembers, -1,
+                        repository::adjustMemberCountKeepingVersion);
+            }
+            if (!model.getAdded(Workspace.MEMBERS).isEmpty()) {
+                changeMembers(model.getId(), model.getAdded(Workspace.MEMBERS), repository::insertMembers, 1,
+                        repository::adjustMemberCountKeepingVersion);
+            }
+        }
+        model.clearChanges();
+        cache.invalidate(model.getId());
     }
 
     @Transactional
@@ -51,40 +91,137 @@ public class WorkspacePersistence extends AbstractPersistence<WorkspaceJpaEntity
             throw new IllegalArgumentException("Workspace ID cannot be null or blank");
         }
         repository.deleteById(id);
+        cache.invalidate(id);
     }
 
-    @Transactional(readOnly = true)
     public Optional<Workspace> findById(String id) {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("Workspace ID cannot be null or blank");
         }
-        return repository.findById(id)
-                .map(WorkspaceJpaEntity::toModel);
+        return cache.get(id, () -> repository.findWithMembersById(id).map(WorkspaceJpaEntity::toModel));
     }
 
     @Transactional(readOnly = true)
+    public Optional<Revision> findRevision(String id) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Workspace ID cannot be null or blank");
+        }
+        return repository.findRevisionById(id);
+    }
+
     public boolean existsById(String id) {
         if (id == null || id.isBlank()) {
             throw new IllegalArgumentException("Workspace ID cannot be null or blank");
         }
-        return repository.existsById(id);
+        return cache.exists(id, () -> repository.existsById(id));
     }
 
     @Transactional(readOnly = true)
     public Pagination<Workspace> findAll(SearchQuery searchQuery) {
-        Specification<WorkspaceJpaEntity> spec = buildSpecification(searchQuery);
+        return findPageBatched(repository, searchQuery, this::toModels);
+    }
 
-        var pageRequest = buildPageRequest(searchQuery);
-        var page = repository.findAll(spec, pageRequest);
+    @Transactional(readOnly = true)
+    public Pagination<Workspace> findAllSummaries(SearchQuery searchQuery) {
+        return findPageBatched(repository, searchQuery, this::toSummaries);
+    }
 
+    @Transactional(readOnly = true)
+    public Pagination<UserTO> findMembers(String workspaceId, Page page) {
+        if (workspaceId == null || workspaceId.isBlank()) {
+            throw new IllegalArgumentException("Workspace ID cannot be null or blank");
+        }
+        if (page == null) {
+            throw new IllegalArgumentException("Page cannot be null");
+        }
+        String sort = page.sort() == null || page.sort().isBlank() ? "name" : page.sort();
+        if (!MEMBER_SORT_FIELDS.contains(sort)) {
+            throw new BusinessException("Invalid sort field for members: '" + sort + "'");
+        }
+        var direction = Sort.Direction.fromOptionalString(page.direction()).orElse(Sort.Direction.ASC);
+        var order = Sort.by(direction, sort);
+        if (!"id".equals(sort)) {
+            // The id keeps the order stable between pages when names repeat
+            order = order.and(Sort.by(Sort.Direction.ASC, "id"));
+        }
+        var pageable = PageRequest.of(page.pageNumber(), page.pageSize(), order);
+
+        var members = repository.findMembersByWorkspaceId(workspaceId, pageable);
         return new Pagination<>(
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.map(WorkspaceJpaEntity::toModel).toList()
+                members.getNumber(),
+                members.getSize(),
+                members.getTotalElements(),
+                members.map(user -> UserTO.of(user.getId(), user.getName())).toList()
         );
     }
 
+    @Transactional(readOnly = true)
+    public boolean isMember(String workspaceId, String userId) {
+        if (workspaceId == null || workspaceId.isBlank()) {
+            throw new IllegalArgumentException("Workspace ID cannot be null or blank");
+        }
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or blank");
+        }
+        return repository.isMember(workspaceId, userId);
+    }
+
+    @Transactional
+    public boolean addMember(String workspaceId, String userId) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or blank");
+        }
+        return addMembers(workspaceId, List.of(userId)) > 0;
+    }
+
+    @Transactional
+    public boolean removeMember(String workspaceId, String userId) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or blank");
+        }
+        return removeMembers(workspaceId, List.of(userId)) > 0;
+    }
+
+    @Transactional
+    public int addMembers(String workspaceId, Collection<String> userIds) {
+        return changeMembers(workspaceId, userIds, repository::insertMembers, 1, this::adjustMemberCount);
+    }
+
+    @Transactional
+    public int removeMembers(String workspaceId, Collection<String> userIds) {
+        return changeMembers(workspaceId, userIds, repository::deleteMembers, -1, this::adjustMemberCount);
+    }
+
+    /**
+     * Applies a membership statement in chunks, so the IN list stays within the database limits,
+     * and moves the member count by the number of rows written with {@code adjustCount}.
+     */
+    private int changeMembers(String workspaceId, Collection<String> userIds,
+                              BiFunction<String, List<String>, Integer> statement, int sign,
+                              BiConsumer<String, Integer> adjustCount) {
+        if (workspaceId == null || workspaceId.isBlank()) {
+            throw new IllegalArgumentException("Workspace ID cannot be null or blank");
+        }
+        if (userIds == null) {
+            throw new IllegalArgumentException("User IDs cannot be null");
+        }
+        var ids = List.copyOf(new LinkedHashSet<>(userIds));
+
+        int changed = 0;
+        for (int from = 0; from < ids.size(); from += MEMBER_CHUNK_SIZE) {
+            changed += statement.apply(workspaceId, ids.subList(from, Math.min(from + MEMBER_CHUNK_SIZE, ids.size())));
+        }
+        if (changed > 0) {
+            adjustCount.accept(workspaceId, sign * changed);
+            cache.invalidate(workspaceId);
+        }
+        return changed;
+    }
+
+    private void adjustMemberCount(String workspaceId, int delta) {
+        repository.adjustMemberCount(workspaceId, delta, changeStamp());
+    }
+
     @Transactional(readOnly = true)
     public boolean hasMembers(String workspaceId) {
         if (workspaceId == null || workspaceId.isBlank()) {
@@ -93,6 +230,67 @@ public class WorkspacePersistence extends AbstractPersistence<WorkspaceJpaEntity
         return repository.hasMembers(workspaceId);
     }
 
+    /**
+     * Maps a page of entities loading owners and members of all of them with one query each.
+     */
+    private List<Workspace> toModels(List<WorkspaceJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        var ids = entities.stream().map(WorkspaceJpaEntity::getId).toList();
+        Map<String, String> ownerNames = findOwnerNames(entities);
+
+        Map<String, Set<UserTO>> membersByWorkspaceId = new HashMap<>();
+        for (MemberRow row : repository.findMembersByWorkspaceIdIn(ids)) {
+            membersByWorkspaceId.computeIfAbsent(row.workspaceId(), k -> new HashSet<>())
+                    .add(UserTO.of(row.userId(), row.userName()));
+        }
+
+        return entities.stream()
+                .map(entity -> WorkspaceJpaEntity.toModel(
+                        entity,
+                        // The owner id is read from the proxy without initializing it
+                        UserTO.of(entity.getOwner().getId(), ownerNames.get(entity.getId())),
+                        membersByWorkspaceId.getOrDefault(entity.getId(), Set.of())
+                ))
+                .toList();
+    }
+
+    /**
+     * Maps a page of entities loading only the owners, with one query. Members are not read.
+     */
+    private List<Workspace> toSummaries(List<WorkspaceJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        Map<String, String> ownerNames = findOwnerNames(entities);
+
+        return entities.stream()
+                .map(entity -> WorkspaceJpaEntity.toSummaryModel(
+                        entity,
+                        UserTO.of(entity.getOwner().getId(), ownerNames.get(entity.getId()))
+                ))
+                .toList();
+    }
+
+    private Map<String, String> findOwnerNames(List<WorkspaceJpaEntity> entities) {
+        var ids = entities.stream().map(WorkspaceJpaEntity::getId).toList();
+
+        Map<String, String> ownerNames = new HashMap<>();
+        for (KeyValue row : repository.findOwnerNamesByWorkspaceIdIn(ids)) {
+            ownerNames.put(row.key(), (String) row.value());
+        }
+        return ownerNames;
+    }
+
+    private static Workspace copy(Workspace workspace) {
+        Workspace copy = Workspace.build(workspace.getId(), workspace.getCreatedAt(), workspace.getUpdatedAt(),
+                workspace.getName(), workspace.getDescription(), workspace.isPrivate(), workspace.getOwner(),
+                workspace.getMembers());
+        copy.setStoredVersion(workspace.getStoredVersion());
+        return copy;
+    }
+
     protected Predicate createPredicateForField(Root<WorkspaceJpaEntity> root, CriteriaBuilder crBuilder, String key, String value) {
 
         return switch (key) {
@@ -0,0 +1,92 @@
+package com.sysm.devsync.infrastructure.search;
+
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Embedded full-text index, one {@link InvertedIndex} per document type.
+ * <p>
+ * When called inside a transaction, changes are applied only after the commit,
+ * so a rolled back write never becomes searchable.
+ */
+@Component
+public class InMemorySearchIndex implements SearchIndexPort {
+
+    private final Map<TargetType, InvertedIndex> indexes = new EnumMap<>(TargetType.class);
+
+    public InMemorySearchIndex() {
+        for (TargetType type : TargetType.values()) {
+            indexes.put(type, new InvertedIndex());
+        }
+    }
+
+    @Override
+    public void index(TargetType type, String id, String scopeId, String... texts) {
+        validate(type, id);
+        afterCommit(() -> indexes.get(type).index(id, scopeId, texts));
+    }
+
+    @Override
+    public void remove(TargetType type, String id) {
+        validate(type, id);
+        afterCommit(() -> indexes.get(type).remove(id));
+    }
+
+    @Override
+    public void removeByScope(TargetType type, String scopeId) {
+        validate(type, scopeId);
+        afterCommit(() -> indexes.get(type).removeByScope(scopeId));
+    }
+
+    @Override
+    public Pagination<String> search(TargetType type, String text, String scopeId, Page page) {
+        if (type == null) {
+            throw new IllegalArgumentException("Target type must not be null");
+        }
+        var currentPage = page != null ? page : Page.of(0, 10);
+        int offset = currentPage.pageNumber() * currentPage.pageSize();
+
+        var result = indexes.get(type).search(text, scopeId, offset, currentPage.pageSize());
+
+        return new Pagination<>(
+                currentPage.pageNumber(),
+                currentPage.pageSize(),
+                result.total(),
+                result.ids()
+        );
+    }
+
+    public int size(TargetType type) {
+        return indexes.get(type).size();
+    }
+
+    private void validate(TargetType type, String id) {
+        if (type == null) {
+            throw new IllegalArgumentException("Target type must not be null");
+        }
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Document ID must not be null or empty");
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,296 @@
+package com.sysm.devsync.infrastructure.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index for a single document type, ranked with Okapi BM25.
+ * <p>
+ * External ids are mapped to dense document numbers so posting lists can be kept
+ * as primitive arrays. Numbers of removed documents are recycled.
+ * Reads run concurrently, writes are exclusive.
+ */
+final class InvertedIndex {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, Integer> docsByExternalId = new HashMap<>();
+    private final Map<String, Set<String>> externalIdsByScope = new HashMap<>();
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+
+    private String[] externalIds = new String[16];
+    private String[] scopes = new String[16];
+    private String[][] terms = new String[16][];
+    private int[] lengths = new int[16];
+    private int nextDoc;
+    private long totalLength;
+
+    void index(String externalId, String scopeId, String... texts) {
+        var frequencies = new HashMap<String, Integer>();
+        int length = 0;
+        for (String text : texts) {
+            for (String token : Tokenizer.tokenize(text)) {
+                frequencies.merge(token, 1, Integer::sum);
+                length++;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(externalId);
+
+            int doc = allocateDoc();
+            externalIds[doc] = externalId;
+            scopes[doc] = scopeId;
+            terms[doc] = frequencies.keySet().toArray(new String[0]);
+            lengths[doc] = length;
+            totalLength += length;
+            docsByExternalId.put(externalId, doc);
+            if (scopeId != null) {
+                externalIdsByScope.computeIfAbsent(scopeId, k -> new HashSet<>()).add(externalId);
+            }
+
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, k -> new PostingList()).add(doc, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String externalId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(externalId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeByScope(String scopeId) {
+        lock.writeLock().lock();
+        try {
+            Set<String> members = externalIdsByScope.get(scopeId);
+            if (members == null) {
+                return;
+            }
+            for (String externalId : List.copyOf(members)) {
+                removeInternal(externalId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docsByExternalId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks the documents matching any term of the text. With a scope id only the documents indexed
+     * with it are scored, the term statistics stay those of the whole index.
+     */
+    SearchResult search(String text, String scopeId, int offset, int limit) {
+        var queryTerms = new LinkedHashSet<>(Tokenizer.tokenize(text));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return new SearchResult(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = docsByExternalId.size();
+            if (documentCount == 0) {
+                return new SearchResult(0, List.of());
+            }
+            double averageLength = Math.max(1d, (double) totalLength / documentCount);
+
+            // Term-at-a-time accumulation, sized by the postings of the query terms instead of the corpus
+            var lists = new ArrayList<PostingList>(queryTerms.size());
+            int postingCount = 0;
+            for (String term : queryTerms) {
+                PostingList list = postings.get(term);
+                if (list != null) {
+                    lists.add(list);
+                    postingCount += list.size();
+                }
+            }
+            if (lists.isEmpty()) {
+                return new SearchResult(0, List.of());
+            }
+
+            var scores = new ScoreAccumulator(postingCount);
+            for (PostingList list : lists) {
+                double idf = idf(documentCount, list.size());
+                for (int i = 0; i < list.size(); i++) {
+                    int doc = list.doc(i);
+                    if (scopeId != null && !scopeId.equals(scopes[doc])) {
+                        continue;
+                    }
+                    int frequency = list.frequency(i);
+                    double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                    scores.add(doc, (float) (idf * (frequency * (K1 + 1)) / (frequency + norm)));
+                }
+            }
+
+            return new SearchResult(scores.size(), topDocuments(scores, offset, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> topDocuments(ScoreAccumulator scores, int offset, int limit) {
+        int matchedCount = scores.size();
+        if (offset >= matchedCount) {
+            return List.of();
+        }
+
+        int wanted = Math.min(matchedCount, offset + limit);
+        // Min-heap holding the best "wanted" entries seen so far
+        var heap = new PriorityQueue<Integer>(wanted, scores::compare);
+        for (int i = 0; i < matchedCount; i++) {
+            int entry = scores.entry(i);
+            if (heap.size() < wanted) {
+                heap.add(entry);
+            } else if (scores.compare(entry, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        var ranked = new ArrayList<Integer>(heap);
+        ranked.sort((left, right) -> scores.compare(right, left));
+
+        var ids = new ArrayList<String>(ranked.size() - offset);
+        for (int i = offset; i < ranked.size(); i++) {
+            ids.add(externalIds[scores.doc(ranked.get(i))]);
+        }
+        return ids;
+    }
+
+    static double idf(int documentCount, int documentFrequency) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void removeInternal(String externalId) {
+        Integer doc = docsByExternalId.remove(externalId);
+        if (doc == null) {
+            return;
+        }
+
+        for (String term : terms[doc]) {
+            PostingList list = postings.get(term);
+            if (list != null) {
+                list.remove(doc);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+
+        String scopeId = scopes[doc];
+        if (scopeId != null) {
+            Set<String> members = externalIdsByScope.get(scopeId);
+            if (members != null) {
+                members.remove(externalId);
+                if (members.isEmpty()) {
+                    externalIdsByScope.remove(scopeId);
+                }
+            }
+        }
+
+        totalLength -= lengths[doc];
+        externalIds[doc] = null;
+        scopes[doc] = null;
+        terms[doc] = null;
+        lengths[doc] = 0;
+        freeDocs.push(doc);
+    }
+
+    private int allocateDoc() {
+        if (!freeDocs.isEmpty()) {
+            return freeDocs.pop();
+        }
+        if (nextDoc == externalIds.length) {
+            int capacity = externalIds.length * 2;
+            externalIds = Arrays.copyOf(externalIds, capacity);
+            scopes = Arrays.copyOf(scopes, capacity);
+            terms = Arrays.copyOf(terms, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        return nextDoc++;
+    }
+
+    record SearchResult(long total, List<String> ids) {
+    }
+
+    /**
+     * Open addressing map from document number to score. Its capacity follows the number of postings
+     * read by the query, an upper bound of the matched documents, so a query never allocates per corpus.
+     */
+    static final class ScoreAccumulator {
+
+        private final int[] docs;
+        private final float[] scores;
+        private final int[] used;
+        private final int mask;
+        private int size;
+
+        ScoreAccumulator(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(2, expected) * 2 - 1) << 1;
+            this.docs = new int[capacity];
+            this.scores = new float[capacity];
+            this.used = new int[Math.max(1, expected)];
+            this.mask = capacity - 1;
+            Arrays.fill(docs, -1);
+        }
+
+        void add(int doc, float score) {
+            int slot = (doc * 0x9E3779B9) & mask;
+            while (docs[slot] != -1 && docs[slot] != doc) {
+                slot = (slot + 1) & mask;
+            }
+            if (docs[slot] == -1) {
+                docs[slot] = doc;
+                used[size++] = slot;
+            }
+            scores[slot] += score;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int entry(int index) {
+            return used[index];
+        }
+
+        int doc(int entry) {
+            return docs[entry];
+        }
+
+        // Higher score wins; ties are broken by document number to keep the order stable
+        int compare(int left, int right) {
+            int byScore = Float.compare(scores[left], scores[right]);
+            return byScore != 0 ? byScore : Integer.compare(docs[left], docs[right]);
+        }
+    }
+}
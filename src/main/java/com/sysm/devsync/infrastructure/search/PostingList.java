@@ -0,0 +1,65 @@
+package com.sysm.devsync.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * Documents containing a term, with the term frequency in each one.
+ * Entries are kept sorted by document number; new documents almost always
+ * receive the highest number, so adding is an append in the common case.
+ */
+final class PostingList {
+
+    private int[] docs = new int[4];
+    private int[] frequencies = new int[4];
+    private int size;
+
+    void add(int doc, int frequency) {
+        int position = Arrays.binarySearch(docs, 0, size, doc);
+        if (position >= 0) {
+            frequencies[position] = frequency;
+            return;
+        }
+
+        position = -position - 1;
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+            frequencies = Arrays.copyOf(frequencies, size * 2);
+        }
+        if (position < size) {
+            System.arraycopy(docs, position, docs, position + 1, size - position);
+            System.arraycopy(frequencies, position, frequencies, position + 1, size - position);
+        }
+        docs[position] = doc;
+        frequencies[position] = frequency;
+        size++;
+    }
+
+    void remove(int doc) {
+        int position = Arrays.binarySearch(docs, 0, size, doc);
+        if (position < 0) {
+            return;
+        }
+        int tail = size - position - 1;
+        if (tail > 0) {
+            System.arraycopy(docs, position + 1, docs, position, tail);
+            System.arraycopy(frequencies, position + 1, frequencies, position, tail);
+        }
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int doc(int index) {
+        return docs[index];
+    }
+
+    int frequency(int index) {
+        return frequencies[index];
+    }
+}
@@ -0,0 +1,89 @@
+package com.sysm.devsync.infrastructure.search;
+
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountType;
+import com.sysm.devsync.domain.enums.QueryType;
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.persistence.AnswerPersistencePort;
+import com.sysm.devsync.domain.persistence.NotePersistencePort;
+import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The index lives in memory, so it is rebuilt from the database when the application starts.
+ */
+@Component
+public class SearchIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    private final SearchIndexPort searchIndex;
+    private final NotePersistencePort notePersistence;
+    private final QuestionPersistencePort questionPersistence;
+    private final AnswerPersistencePort answerPersistence;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public SearchIndexInitializer(SearchIndexPort searchIndex,
+                                  NotePersistencePort notePersistence,
+                                  QuestionPersistencePort questionPersistence,
+                                  AnswerPersistencePort answerPersistence,
+                                  @Value("${dev-sync.search.rebuild-on-startup:true}") boolean enabled,
+                                  @Value("${dev-sync.search.rebuild-batch-size:500}") int batchSize) {
+        this.searchIndex = searchIndex;
+        this.notePersistence = notePersistence;
+        this.questionPersistence = questionPersistence;
+        this.answerPersistence = answerPersistence;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+
+        long notes = indexAll(notePersistence::findAll, note ->
+                searchIndex.index(TargetType.NOTE, note.getId(), note.getProjectId(), note.getTitle(), note.getContent()));
+
+        long questions = indexAll(questionPersistence::findAll, question ->
+                searchIndex.index(TargetType.QUESTION, question.getId(), question.getProjectId(), question.getTitle(), question.getDescription()));
+
+        long answers = indexAll(answerPersistence::findAll, answer ->
+                searchIndex.index(TargetType.ANSWER, answer.getId(), answer.getQuestionId(), answer.getContent()));
+
+        log.info("Search index rebuilt: {} notes, {} questions, {} answers in {} ms",
+                notes, questions, answers, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Scrolls the whole table in keyset mode, so every batch seeks past the last id instead of
+     * skipping an ever growing offset, and no count query runs next to the batches.
+     */
+    private <T> long indexAll(Function<SearchQuery, Pagination<T>> finder, Consumer<T> indexer) {
+        long count = 0;
+        String cursor = null;
+        Pagination<T> page;
+        do {
+            page = finder.apply(SearchQuery.of(Page.after(cursor, batchSize), QueryType.OR, CountType.NONE, Map.of()));
+            page.items().forEach(indexer);
+            count += page.items().size();
+            cursor = page.nextCursor();
+        } while (page.hasNext() && cursor != null);
+        return count;
+    }
+}
@@ -0,0 +1,269 @@
+package com.sysm.devsync.infrastructure.seed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Fills the development database with volumes worth measuring, for load tests.
+ * <p>
+ * Popularity is skewed the way real usage is: a few tags are on most questions, a few workspaces
+ * have most members and projects, a few questions and notes collect long comment threads. The
+ * data only depends on the seed, two runs with the same settings produce the same rows.
+ * <p>
+ * Rows are written with batched JDBC inserts, one transaction per batch, bypassing the aggregates;
+ * tag usage and member counts are computed once at the end.
+ */
+@Component
+@Profile("development")
+@ConditionalOnProperty(name = "dev-sync.seed.enabled", havingValue = "true")
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    // Rows are spread over the year before this instant, so the same seed always gives the same rows
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+    private static final long YEAR_SECONDS = Duration.ofDays(365).toSeconds();
+    private static final String[] CATEGORIES = {"Backend", "Frontend", "DevOps", "Data", "Mobile"};
+    private static final String[] STATUSES = {"OPEN", "OPEN", "RESOLVED", "CLOSED"};
+
+    static final String USER_PREFIX = "Load User ";
+    static final String TAG_PREFIX = "load-tag-";
+    static final String WORKSPACE_PREFIX = "Load Workspace ";
+    static final String PROJECT_PREFIX = "Load Project ";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactions;
+    private final int users;
+    private final int workspaces;
+    private final int projects;
+    private final int tags;
+    private final int questions;
+    private final int answers;
+    private final int notes;
+    private final int comments;
+    private final double skew;
+    private final long seed;
+    private final int batchSize;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbc,
+                                  TransactionTemplate transactions,
+                                  @Value("${dev-sync.seed.users:5000}") int users,
+                                  @Value("${dev-sync.seed.workspaces:200}") int workspaces,
+                                  @Value("${dev-sync.seed.projects:2000}") int projects,
+                                  @Value("${dev-sync.seed.tags:1000}") int tags,
+                                  @Value("${dev-sync.seed.questions:50000}") int questions,
+                                  @Value("${dev-sync.seed.answers:150000}") int answers,
+                                  @Value("${dev-sync.seed.notes:25000}") int notes,
+                                  @Value("${dev-sync.seed.comments:200000}") int comments,
+                                  @Value("${dev-sync.seed.skew:1.1}") double skew,
+                                  @Value("${dev-sync.seed.seed:42}") long seed,
+                                  @Value("${dev-sync.seed.batch-size:1000}") int batchSize) {
+        this.jdbc = jdbc;
+        this.transactions = transactions;
+        this.users = users;
+        this.workspaces = workspaces;
+        this.projects = projects;
+        this.tags = tags;
+        this.questions = questions;
+        this.answers = answers;
+        this.notes = notes;
+        this.comments = comments;
+        this.skew = skew;
+        this.seed = seed;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Runs once the sample data is in, and before the search index is rebuilt from the database.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void generate() {
+        long start = System.currentTimeMillis();
+        var random = new Random(seed);
+
+        List<String> userIds = ids(random, users);
+        insert("INSERT INTO users (id, name, email, role, version, created_at, updated_at) VALUES (?, ?, ?, ?, 1, ?, ?)",
+                users, i -> row(userIds.get(i), USER_PREFIX + i, "load-user-" + i + "@example.com",
+                        i % 50 == 0 ? "ADMIN" : "MEMBER", time(random), time(random)));
+        // Most content comes from a small group of active users
+        var authors = new ZipfSampler(users, skew);
+
+        List<String> tagIds = ids(random, tags);
+        insert("INSERT INTO tags (id, name, color, description, category, amount_used, version) VALUES (?, ?, ?, ?, ?, 0, 1)",
+                tags, i -> row(tagIds.get(i), TAG_PREFIX + i, String.format("#%06x", random.nextInt(0x1000000)),
+                        "Synthetic tag " + i, CATEGORIES[i % CATEGORIES.length]));
+        var hotTags = new ZipfSampler(tags, skew);
+
+        List<String> workspaceIds = ids(random, workspaces);
+        insert("INSERT INTO workspaces (id, name, description, is_private, owner_id, member_count, version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 0, 1, ?, ?)",
+                workspaces, i -> row(workspaceIds.get(i), WORKSPACE_PREFIX + i, "Synthetic workspace " + i,
+                        random.nextInt(4) == 0, userIds.get(authors.next(random)), time(random), time(random)));
+        var bigWorkspaces = new ZipfSampler(workspaces, skew);
+
+        // Every user joins one to five workspaces, the popular ones end up with most members
+        List<Object[]> memberships = new ArrayList<>();
+        for (String userId : userIds) {
+            Set<String> joined = new HashSet<>();
+            int count = 1 + random.nextInt(5);
+            for (int j = 0; j < count; j++) {
+                String workspaceId = workspaceIds.get(bigWorkspaces.next(random));
+                if (joined.add(workspaceId)) {
+                    memberships.add(row(workspaceId, userId));
+                }
+            }
+        }
+        insert("INSERT INTO workspace_members (workspace_id, user_id) VALUES (?, ?)", memberships.size(), memberships::get);
+
+        List<String> projectIds = ids(random, projects);
+        insert("INSERT INTO projects (id, name, description, workspace_id, version, created_at, updated_at) VALUES (?, ?, ?, ?, 1, ?, ?)",
+                projects, i -> row(projectIds.get(i), PROJECT_PREFIX + i, "Synthetic project " + i,
+                        workspaceIds.get(bigWorkspaces.next(random)), time(random), time(random)));
+        var busyProjects = new ZipfSampler(projects, skew);
+
+        List<String> questionIds = ids(random, questions);
+        insert("INSERT INTO questions (id, title, description, status, project_id, author_id, version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 1, ?, ?)",
+                questions, i -> row(questionIds.get(i), "Question " + i + " about " + TAG_PREFIX + hotTags.next(random),
+                        text("Synthetic question", i, random), STATUSES[random.nextInt(STATUSES.length)],
+                        projectIds.get(busyProjects.next(random)), userIds.get(authors.next(random)), time(random), time(random)));
+        insertTagLinks("question_tags", "question_id", questionIds, tagIds, hotTags, random);
+
+        var popularQuestions = new ZipfSampler(questions, skew);
+        List<String> answerIds = ids(random, answers);
+        insert("INSERT INTO answers (id, content, is_accepted, question_id, author_id, version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 1, ?, ?)",
+                answers, i -> row(answerIds.get(i), text("Synthetic answer", i, random), random.nextInt(20) == 0,
+                        questionIds.get(popularQuestions.next(random)), userIds.get(authors.next(random)), time(random), time(random)));
+
+        List<String> noteIds = ids(random, notes);
+        insert("INSERT INTO notes (id, title, content, version, project_id, author_id, created_at, updated_at) VALUES (?, ?, ?, 1, ?, ?, ?, ?)",
+                notes, i -> row(noteIds.get(i), "Note " + i, text("Synthetic note", i, random),
+                        projectIds.get(busyProjects.next(random)), userIds.get(authors.next(random)), time(random), time(random)));
+        insertTagLinks("note_tags", "note_id", noteIds, tagIds, hotTags, random);
+
+        // Threads are skewed harder than the rest, a few targets collect most of the comments
+        var questionThreads = new ZipfSampler(questions, skew + 0.3);
+        var answerThreads = answers > 0 ? new ZipfSampler(answers, skew + 0.3) : null;
+        var noteThreads = notes > 0 ? new ZipfSampler(notes, skew + 0.3) : null;
+        List<String> commentIds = ids(random, comments);
+        insert("INSERT INTO comments (id, target_type, target_id, content, author_id, version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 1, ?, ?)",
+                comments, i -> {
+                    int kind = random.nextInt(20);
+                    String type;
+                    String targetId;
+                    if (kind < 5 && answerThreads != null) {
+                        type = "ANSWER";
+                        targetId = answerIds.get(answerThreads.next(random));
+                    } else if (kind < 8 && noteThreads != null) {
+                        type = "NOTE";
+                        targetId = noteIds.get(noteThreads.next(random));
+                    } else {
+                        type = "QUESTION";
+                        targetId = questionIds.get(questionThreads.next(random));
+                    }
+                    return row(commentIds.get(i), type, targetId, text("Synthetic comment", i, random),
+                            userIds.get(authors.next(random)), time(random), time(random));
+                });
+
+        transactions.executeWithoutResult(status -> {
+            jdbc.update("""
+                    UPDATE tags SET amount_used =
+                        (SELECT COUNT(*) FROM question_tags qt WHERE qt.tag_id = tags.id)
+                      + (SELECT COUNT(*) FROM note_tags nt WHERE nt.tag_id = tags.id)
+                    WHERE name LIKE ?""", TAG_PREFIX + "%");
+            jdbc.update("""
+                    UPDATE workspaces SET member_count =
+                        (SELECT COUNT(*) FROM workspace_members wm WHERE wm.workspace_id = workspaces.id)
+                    WHERE name LIKE ?""", WORKSPACE_PREFIX + "%");
+        });
+
+        log.info("Synthetic data generated in {} ms: {} users, {} workspaces ({} memberships), {} projects, {} tags, " +
+                        "{} questions, {} answers, {} notes, {} comments",
+                System.currentTimeMillis() - start, users, workspaces, memberships.size(), projects, tags,
+                questions, answers, notes, comments);
+    }
+
+    private void insertTagLinks(String table, String column, List<String> ownerIds, List<String> tagIds,
+                                ZipfSampler hotTags, Random random) {
+        List<Object[]> links = new ArrayList<>();
+        for (String ownerId : ownerIds) {
+            Set<String> linked = new HashSet<>();
+            int count = random.nextInt(6);
+            for (int j = 0; j < count; j++) {
+                String tagId = tagIds.get(hotTags.next(random));
+                if (linked.add(tagId)) {
+                    links.add(row(ownerId, tagId));
+                }
+            }
+        }
+        insert("INSERT INTO " + table + " (" + column + ", tag_id) VALUES (?, ?)", links.size(), links::get);
+    }
+
+    private void insert(String sql, int count, RowSource rows) {
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        Consumer<List<Object[]>> flush = b -> transactions.executeWithoutResult(status -> jdbc.batchUpdate(sql, b));
+        for (int i = 0; i < count; i++) {
+            batch.add(rows.row(i));
+            if (batch.size() == batchSize) {
+                flush.accept(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush.accept(batch);
+        }
+    }
+
+    private static List<String> ids(Random random, int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(new UUID(random.nextLong(), random.nextLong()).toString());
+        }
+        return ids;
+    }
+
+    private static OffsetDateTime time(Random random) {
+        long secondsBefore = (long) (random.nextDouble() * YEAR_SECONDS);
+        return OffsetDateTime.ofInstant(EPOCH.minusSeconds(secondsBefore), ZoneOffset.UTC);
+    }
+
+    private static String text(String prefix, int index, Random random) {
+        // Lengths vary like real posts, a few are long
+        int sentences = 1 + (int) Math.min(40, -Math.log(1 - random.nextDouble()) * 4);
+        var text = new StringBuilder(prefix).append(' ').append(index).append('.');
+        for (int s = 0; s < sentences; s++) {
+            text.append(" Lorem ipsum dolor sit amet, consectetur adipiscing elit ").append(random.nextInt(10000)).append('.');
+        }
+        return text.toString();
+    }
+
+    private static Object[] row(Object... values) {
+        return values;
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        Object[] row(int index);
+    }
+}
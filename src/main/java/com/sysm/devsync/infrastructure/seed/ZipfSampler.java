@@ -0,0 +1,41 @@
+package com.sysm.devsync.infrastructure.seed;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Picks indexes in [0, size) with Zipf-distributed popularity: index 0 is the most popular, the
+ * k-th is picked 1/k^skew as often. A skew of 0 picks uniformly.
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int size, double skew) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be at least 1");
+        }
+        if (skew < 0) {
+            throw new IllegalArgumentException("Skew must not be negative");
+        }
+        cumulative = new double[size];
+        double total = 0;
+        for (int k = 0; k < size; k++) {
+            total += 1 / Math.pow(k + 1, skew);
+            cumulative[k] = total;
+        }
+        for (int k = 0; k < size; k++) {
+            cumulative[k] /= total;
+        }
+    }
+
+    public int next(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int k = index >= 0 ? index : -index - 1;
+        return Math.min(k, cumulative.length - 1);
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+}
@@ -0,0 +1,128 @@
+-- Base schema, the tables Hibernate created from the JPA mappings before the migrations were introduced.
+-- Databases created that way are baselined at this version, so every later change goes in a later version.
+
+CREATE TABLE users (
+    id                  VARCHAR(255)             NOT NULL,
+    name                VARCHAR(255)             NOT NULL,
+    email               VARCHAR(255)             NOT NULL,
+    password_hash       VARCHAR(255),
+    profile_picture_url VARCHAR(255),
+    role                ENUM ('ADMIN','MEMBER')  NOT NULL,
+    created_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE tags (
+    id          VARCHAR(255) NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    color       VARCHAR(255),
+    description VARCHAR(500),
+    category    VARCHAR(100),
+    amount_used INTEGER      NOT NULL,
+    CONSTRAINT pk_tags PRIMARY KEY (id),
+    CONSTRAINT uk_tags_name UNIQUE (name)
+);
+
+CREATE TABLE workspaces (
+    id           VARCHAR(255) NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    description  VARCHAR(500),
+    is_private   BOOLEAN,
+    owner_id     VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_workspaces PRIMARY KEY (id),
+    CONSTRAINT uk_workspaces_name UNIQUE (name),
+    CONSTRAINT fk_workspaces_owner FOREIGN KEY (owner_id) REFERENCES users (id)
+);
+
+CREATE TABLE workspace_members (
+    workspace_id VARCHAR(255) NOT NULL,
+    user_id      VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_workspace_members PRIMARY KEY (user_id, workspace_id),
+    CONSTRAINT fk_workspace_members_workspace FOREIGN KEY (workspace_id) REFERENCES workspaces (id),
+    CONSTRAINT fk_workspace_members_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE projects (
+    id           VARCHAR(255) NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    description  VARCHAR(500),
+    workspace_id VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_projects PRIMARY KEY (id),
+    CONSTRAINT uk_projects_name UNIQUE (name),
+    CONSTRAINT fk_projects_workspace FOREIGN KEY (workspace_id) REFERENCES workspaces (id)
+);
+
+CREATE TABLE questions (
+    id          VARCHAR(255)                       NOT NULL,
+    title       VARCHAR(255)                       NOT NULL,
+    description VARCHAR(4000)                      NOT NULL,
+    status      ENUM ('CLOSED','OPEN','RESOLVED')  NOT NULL,
+    project_id  VARCHAR(255)                       NOT NULL,
+    author_id   VARCHAR(255)                       NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_questions PRIMARY KEY (id),
+    CONSTRAINT fk_questions_project FOREIGN KEY (project_id) REFERENCES projects (id),
+    CONSTRAINT fk_questions_author FOREIGN KEY (author_id) REFERENCES users (id)
+);
+
+CREATE TABLE question_tags (
+    question_id VARCHAR(255) NOT NULL,
+    tag_id      VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_question_tags PRIMARY KEY (question_id, tag_id),
+    CONSTRAINT fk_question_tags_question FOREIGN KEY (question_id) REFERENCES questions (id),
+    CONSTRAINT fk_question_tags_tag FOREIGN KEY (tag_id) REFERENCES tags (id)
+);
+
+CREATE TABLE answers (
+    id          VARCHAR(255)  NOT NULL,
+    content     VARCHAR(4000) NOT NULL,
+    is_accepted BOOLEAN       NOT NULL,
+    question_id VARCHAR(255)  NOT NULL,
+    author_id   VARCHAR(255)  NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_answers PRIMARY KEY (id),
+    CONSTRAINT fk_answers_question FOREIGN KEY (question_id) REFERENCES questions (id),
+    CONSTRAINT fk_answers_author FOREIGN KEY (author_id) REFERENCES users (id)
+);
+
+CREATE TABLE notes (
+    id         VARCHAR(255) NOT NULL,
+    title      VARCHAR(255) NOT NULL,
+    content    TEXT         NOT NULL,
+    version    INTEGER      NOT NULL,
+    project_id VARCHAR(255) NOT NULL,
+    author_id  VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_notes PRIMARY KEY (id),
+    CONSTRAINT fk_notes_project FOREIGN KEY (project_id) REFERENCES projects (id),
+    CONSTRAINT fk_notes_author FOREIGN KEY (author_id) REFERENCES users (id)
+);
+
+CREATE TABLE note_tags (
+    note_id VARCHAR(255) NOT NULL,
+    tag_id  VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_note_tags PRIMARY KEY (note_id, tag_id),
+    CONSTRAINT fk_note_tags_note FOREIGN KEY (note_id) REFERENCES notes (id),
+    CONSTRAINT fk_note_tags_tag FOREIGN KEY (tag_id) REFERENCES tags (id)
+);
+
+CREATE TABLE comments (
+    id          VARCHAR(255)                       NOT NULL,
+    target_type ENUM ('ANSWER','NOTE','QUESTION')  NOT NULL,
+    target_id   VARCHAR(255)                       NOT NULL,
+    content     TEXT                               NOT NULL,
+    author_id   VARCHAR(255)                       NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_comments PRIMARY KEY (id),
+    CONSTRAINT fk_comments_author FOREIGN KEY (author_id) REFERENCES users (id)
+);
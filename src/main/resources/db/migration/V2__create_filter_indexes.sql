@@ -0,0 +1,27 @@
+-- Indexes behind the repository lookups and search filters. Foreign key columns are indexed
+-- explicitly because not every database creates an index for a foreign key on its own.
+
+CREATE INDEX IF NOT EXISTS idx_workspaces_owner_id ON workspaces (owner_id);
+
+-- The primary key leads with user_id, members of a workspace are read by workspace_id
+CREATE INDEX IF NOT EXISTS idx_workspace_members_workspace_id ON workspace_members (workspace_id, user_id);
+
+CREATE INDEX IF NOT EXISTS idx_projects_workspace_id ON projects (workspace_id);
+
+-- Serves the project filter alone and the project plus status filter of the question search
+CREATE INDEX IF NOT EXISTS idx_questions_project_status ON questions (project_id, status);
+CREATE INDEX IF NOT EXISTS idx_questions_author_id ON questions (author_id);
+
+-- Tag side of the join tables, the primary keys lead with the question and note ids
+CREATE INDEX IF NOT EXISTS idx_question_tags_tag_id ON question_tags (tag_id, question_id);
+CREATE INDEX IF NOT EXISTS idx_note_tags_tag_id ON note_tags (tag_id, note_id);
+
+CREATE INDEX IF NOT EXISTS idx_answers_question_id ON answers (question_id);
+CREATE INDEX IF NOT EXISTS idx_answers_author_id ON answers (author_id);
+
+CREATE INDEX IF NOT EXISTS idx_notes_project_id ON notes (project_id);
+CREATE INDEX IF NOT EXISTS idx_notes_author_id ON notes (author_id);
+
+-- Comments are always read for one target
+CREATE INDEX IF NOT EXISTS idx_comments_target ON comments (target_type, target_id);
+CREATE INDEX IF NOT EXISTS idx_comments_author_id ON comments (author_id);
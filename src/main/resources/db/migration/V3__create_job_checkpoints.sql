@@ -0,0 +1,8 @@
+-- Resume points of the background jobs that walk large tables in chunks
+
+CREATE TABLE job_checkpoints (
+    name       VARCHAR(100) NOT NULL,
+    last_key   VARCHAR(255),
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_job_checkpoints PRIMARY KEY (name)
+);
@@ -0,0 +1,10 @@
+-- Row versions for optimistic locking, every tracked update checks and increments them.
+-- Notes already had one.
+
+ALTER TABLE users ADD COLUMN version INTEGER DEFAULT 1 NOT NULL;
+ALTER TABLE workspaces ADD COLUMN version INTEGER DEFAULT 1 NOT NULL;
+ALTER TABLE projects ADD COLUMN version INTEGER DEFAULT 1 NOT NULL;
+ALTER TABLE tags ADD COLUMN version INTEGER DEFAULT 1 NOT NULL;
+ALTER TABLE questions ADD COLUMN version INTEGER DEFAULT 1 NOT NULL;
+ALTER TABLE answers ADD COLUMN version INTEGER DEFAULT 1 NOT NULL;
+ALTER TABLE comments ADD COLUMN version INTEGER DEFAULT 1 NOT NULL;
@@ -0,0 +1,16 @@
+-- Change feed of GET /sync. Changed rows are read by updated_at with the id as tie-breaker,
+-- deleted rows leave a tombstone in the transaction that deletes them.
+
+CREATE INDEX IF NOT EXISTS idx_questions_updated_at ON questions (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_answers_updated_at ON answers (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_comments_updated_at ON comments (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_notes_updated_at ON notes (updated_at, id);
+
+CREATE TABLE tombstones (
+    aggregate_id   VARCHAR(255) NOT NULL,
+    aggregate_type VARCHAR(20) NOT NULL,
+    deleted_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_tombstones PRIMARY KEY (aggregate_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_tombstones_deleted_at ON tombstones (deleted_at, aggregate_id);
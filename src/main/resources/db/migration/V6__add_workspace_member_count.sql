@@ -0,0 +1,6 @@
+-- Denormalized size of the member set, so listings don't have to touch workspace_members
+
+ALTER TABLE workspaces ADD COLUMN member_count INTEGER DEFAULT 0 NOT NULL;
+
+UPDATE workspaces w
+SET member_count = (SELECT COUNT(*) FROM workspace_members m WHERE m.workspace_id = w.id);
@@ -6,9 +6,13 @@ import com.sysm.devsync.domain.NotFoundException;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Answer;
+import com.sysm.devsync.domain.persistence.ActivityPort;
 import com.sysm.devsync.domain.persistence.AnswerPersistencePort;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
 import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
 import com.sysm.devsync.domain.persistence.UserPersistencePort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,6 +42,10 @@ class AnswerServiceTest {
     private QuestionPersistencePort questionPersistence;
     @Mock
     private UserPersistencePort userPersistencePort;
+    @Mock
+    private SearchIndexPort searchIndex;
+    @Mock
+    private ActivityPort activity;
 
     @InjectMocks
     private AnswerService answerService;
@@ -209,22 +218,23 @@ class AnswerServiceTest {
     @DisplayName("deleteAnswer should call persistence deleteById when answer exists")
     void deleteAnswer_shouldCallPersistenceDeleteById_whenAnswerExists() {
         // Arrange
-        when(answerPersistence.existsById(answerId)).thenReturn(true);
+        when(answerPersistence.findQuestionId(answerId)).thenReturn(Optional.of(questionId));
         doNothing().when(answerPersistence).deleteById(answerId);
 
         // Act
         answerService.deleteAnswer(answerId);
 
         // Assert
-        verify(answerPersistence).existsById(answerId);
         verify(answerPersistence).deleteById(answerId);
+        verify(searchIndex).remove(TargetType.ANSWER, answerId);
+        verify(activity).answerChanged(Kind.DELETED, answerId, questionId);
     }
 
     @Test
     @DisplayName("deleteAnswer should throw NotFoundException when answer not found")
     void deleteAnswer_shouldThrowNotFoundException_whenAnswerNotFound() {
         // Arrange
-        when(answerPersistence.existsById(answerId)).thenReturn(false);
+        when(answerPersistence.findQuestionId(answerId)).thenReturn(Optional.empty());
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -296,6 +306,26 @@ class AnswerServiceTest {
         verify(answerPersistence, never()).findAllByQuestionId(any(Page.class), anyString());
     }
 
+    @Test
+    @DisplayName("getAllAnswers with full-text term should skip ids no longer persisted")
+    void getAllAnswers_withFullText_shouldSkipMissingIds() {
+        // Arrange
+        Page page = Page.of(0, 10);
+        SearchQuery query = SearchQuery.of(page, Map.of(SearchQuery.FULL_TEXT, "timeout"));
+        Answer answer = mock(Answer.class);
+        when(answer.getId()).thenReturn("answer-1");
+        when(searchIndex.search(TargetType.ANSWER, "timeout", null, page))
+                .thenReturn(new Pagination<>(0, 10, 2L, List.of("answer-gone", "answer-1")));
+        when(answerPersistence.findAllByIds(List.of("answer-gone", "answer-1"))).thenReturn(List.of(answer));
+
+        // Act
+        Pagination<Answer> actualPagination = answerService.getAllAnswers(query);
+
+        // Assert
+        assertEquals(List.of(answer), actualPagination.items());
+        verify(answerPersistence, never()).findAll(any(SearchQuery.class));
+    }
+
     @Test
     @DisplayName("getAllAnswers with SearchQuery should return page from persistence")
     void getAllAnswers_withSearchQuery_shouldReturnPageFromPersistence() {
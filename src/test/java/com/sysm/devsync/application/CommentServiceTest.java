@@ -9,6 +9,7 @@ import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Comment;
 import com.sysm.devsync.domain.persistence.*;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -41,6 +42,8 @@ class CommentServiceTest {
     private AnswerPersistencePort answerPersistence;
     @Mock
     private UserPersistencePort userPersistence;
+    @Mock
+    private ActivityPort activity;
 
     @InjectMocks
     private CommentService commentService;
@@ -235,22 +238,24 @@ class CommentServiceTest {
         @DisplayName("should call persistence deleteById when comment exists")
         void deleteComment_success() {
             // Arrange
-            when(commentPersistence.existsById(commentId)).thenReturn(true);
+            when(mockComment.getTargetType()).thenReturn(TargetType.NOTE);
+            when(mockComment.getTargetId()).thenReturn(targetId);
+            when(commentPersistence.findById(commentId)).thenReturn(Optional.of(mockComment));
             doNothing().when(commentPersistence).deleteById(commentId);
 
             // Act
             commentService.deleteComment(commentId);
 
             // Assert
-            verify(commentPersistence).existsById(commentId);
             verify(commentPersistence).deleteById(commentId);
+            verify(activity).commentChanged(Kind.DELETED, commentId, TargetType.NOTE, targetId);
         }
 
         @Test
         @DisplayName("should throw NotFoundException when comment not found")
         void deleteComment_commentNotFound() {
             // Arrange
-            when(commentPersistence.existsById(commentId)).thenReturn(false);
+            when(commentPersistence.findById(commentId)).thenReturn(Optional.empty());
 
             // Act & Assert
             NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -0,0 +1,192 @@
+package com.sysm.devsync.application;
+
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.persistence.NotePersistencePort;
+import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
+import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
+import com.sysm.devsync.domain.persistence.TagPersistencePort;
+import com.sysm.devsync.domain.persistence.UserPersistencePort;
+import com.sysm.devsync.infrastructure.controllers.dto.request.ContentImport;
+import com.sysm.devsync.infrastructure.controllers.dto.response.ImportError;
+import com.sysm.devsync.infrastructure.controllers.dto.response.ImportResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final String PROJECT_ID = "project-1";
+    private static final String AUTHOR_ID = "author-1";
+    private static final String IMPORTER_ID = "importer-1";
+    private static final String TAG_ID = "tag-1";
+
+    @Mock
+    private QuestionPersistencePort questionPersistence;
+    @Mock
+    private NotePersistencePort notePersistence;
+    @Mock
+    private ProjectPersistencePort projectPersistence;
+    @Mock
+    private UserPersistencePort userPersistence;
+    @Mock
+    private TagPersistencePort tagPersistence;
+    @Mock
+    private SearchIndexPort searchIndex;
+
+    private ImportService importService;
+
+    // Lines are "type|title|projectId|authorId|tagId" so the tests do not depend on a JSON parser
+    private final Function<String, ContentImport> parser = line -> {
+        if (line.startsWith("!")) {
+            throw new IllegalArgumentException("unexpected character");
+        }
+        String[] parts = line.split("\\|", -1);
+        return new ContentImport(parts[0], parts[1], "Body", "Body", parts[2],
+                parts[3].isEmpty() ? null : parts[3],
+                parts[4].isEmpty() ? null : Set.of(parts[4]));
+    };
+
+    @BeforeEach
+    void setUp() {
+        importService = new ImportService(questionPersistence, notePersistence, projectPersistence,
+                userPersistence, tagPersistence, searchIndex, BATCH_SIZE);
+        lenient().when(projectPersistence.findExistingIds(anyCollection())).thenAnswer(existing(PROJECT_ID));
+        lenient().when(userPersistence.findExistingIds(anyCollection())).thenAnswer(existing(AUTHOR_ID, IMPORTER_ID));
+        lenient().when(tagPersistence.findExistingIds(anyCollection())).thenAnswer(existing(TAG_ID));
+    }
+
+    @Test
+    @DisplayName("importContent should insert questions and notes in batches, index them and count their tags")
+    void importContent_shouldInsertIndexAndCountTags() {
+        ImportResponse response = importService.importContent(Stream.of(
+                "question|Q1|project-1|author-1|tag-1",
+                "note|N1|project-1||tag-1",
+                "question|Q2|project-1|author-1|"), parser, IMPORTER_ID);
+
+        assertEquals(3, response.imported());
+        assertEquals(0, response.failed());
+        assertTrue(response.errors().isEmpty());
+
+        verify(questionPersistence, times(2)).createAll(anyList());
+        ArgumentCaptor<List<Note>> notes = captor();
+        verify(notePersistence).createAll(notes.capture());
+        assertEquals(IMPORTER_ID, notes.getValue().get(0).getAuthorId());
+
+        verify(searchIndex, times(2)).index(eq(TargetType.QUESTION), anyString(), eq(PROJECT_ID), any(String[].class));
+        verify(searchIndex).index(eq(TargetType.NOTE), anyString(), eq(PROJECT_ID), any(String[].class));
+        verify(tagPersistence, times(2)).incrementUse(TAG_ID);
+    }
+
+    @Test
+    @DisplayName("importContent should skip the project line of a project export")
+    void importContent_shouldSkipProjectLine() {
+        ImportResponse response = importService.importContent(Stream.of(
+                "project|Exported|project-1||",
+                "question|Q1|project-1|author-1|"), parser, IMPORTER_ID);
+
+        assertEquals(1, response.imported());
+        assertEquals(0, response.failed());
+        assertTrue(response.errors().isEmpty());
+        verify(notePersistence, never()).createAll(anyList());
+    }
+
+    @Test
+    @DisplayName("importContent should report invalid records by line number and import the rest")
+    void importContent_shouldReportInvalidRecords() {
+        ImportResponse response = importService.importContent(Stream.of(
+                "question|Q1|missing|author-1|",
+                "",
+                "!broken",
+                "question|Q2|project-1|ghost|",
+                "note|N1|project-1|author-1|unknown-tag",
+                "comment|C1|project-1|author-1|",
+                "question||project-1|author-1|",
+                "question|Q3|project-1|author-1|"), parser, IMPORTER_ID);
+
+        assertEquals(1, response.imported());
+        assertEquals(6, response.failed());
+        assertEquals(List.of(
+                new ImportError(1, "Project not found: missing"),
+                new ImportError(3, "Malformed record: unexpected character"),
+                new ImportError(4, "User not found: ghost"),
+                new ImportError(5, "Tag not found: unknown-tag"),
+                new ImportError(6, "Unknown record type 'comment', expected 'question' or 'note'"),
+                new ImportError(7, "Title cannot be null or empty")
+        ), response.errors());
+        verify(notePersistence, never()).createAll(anyList());
+    }
+
+    @Test
+    @DisplayName("importContent should look each referenced id up only once per import")
+    void importContent_shouldPrefetchEachIdOnce() {
+        importService.importContent(Stream.of(
+                "question|Q1|project-1|author-1|tag-1",
+                "question|Q2|project-1|author-1|tag-1",
+                "question|Q3|project-1|author-1|tag-1",
+                "question|Q4|project-1|author-1|tag-1"), parser, IMPORTER_ID);
+
+        verify(projectPersistence, times(1)).findExistingIds(anyCollection());
+        verify(userPersistence, times(1)).findExistingIds(anyCollection());
+        verify(tagPersistence, times(1)).findExistingIds(anyCollection());
+        verify(projectPersistence, never()).existsById(anyString());
+    }
+
+    @Test
+    @DisplayName("importContent should report every record of a batch whose insert failed")
+    void importContent_shouldReportFailedBatch() {
+        doThrow(new IllegalStateException("constraint violated")).when(questionPersistence).createAll(anyList());
+
+        ImportResponse response = importService.importContent(Stream.of(
+                "question|Q1|project-1|author-1|tag-1",
+                "question|Q2|project-1|author-1|"), parser, IMPORTER_ID);
+
+        assertEquals(0, response.imported());
+        assertEquals(2, response.failed());
+        assertEquals("Insert failed: constraint violated", response.errors().get(0).message());
+        verify(searchIndex, never()).index(any(), anyString(), anyString(), any(String[].class));
+        verify(tagPersistence, never()).incrementUse(anyString());
+    }
+
+    @Test
+    @DisplayName("importContent should count every failure but list only the first ones")
+    void importContent_shouldCapReportedErrors() {
+        var lines = Stream.generate(() -> "!broken").limit(ImportService.MAX_REPORTED_ERRORS + 5L);
+
+        ImportResponse response = importService.importContent(lines, parser, IMPORTER_ID);
+
+        assertEquals(ImportService.MAX_REPORTED_ERRORS + 5L, response.failed());
+        assertEquals(ImportService.MAX_REPORTED_ERRORS, response.errors().size());
+    }
+
+    private static org.mockito.stubbing.Answer<Set<String>> existing(String... ids) {
+        Set<String> known = Set.of(ids);
+        return invocation -> {
+            Collection<String> requested = invocation.getArgument(0);
+            return requested.stream().filter(known::contains).collect(Collectors.toSet());
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ArgumentCaptor<List<T>> captor() {
+        return ArgumentCaptor.forClass((Class<List<T>>) (Class<?>) List.class);
+    }
+}
@@ -6,9 +6,13 @@ import com.sysm.devsync.infrastructure.controllers.dto.request.NoteCreateUpdate;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.persistence.ActivityPort;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
 import com.sysm.devsync.domain.persistence.NotePersistencePort;
 import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
 import com.sysm.devsync.domain.persistence.TagPersistencePort;
 import com.sysm.devsync.domain.persistence.UserPersistencePort;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,8 +25,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +46,10 @@ class NoteServiceTest {
     private UserPersistencePort userPersistence;
     @Mock
     private TagPersistencePort tagPersistence;
+    @Mock
+    private SearchIndexPort searchIndex;
+    @Mock
+    private ActivityPort activity;
 
     @InjectMocks
     private NoteService noteService;
@@ -199,6 +209,23 @@ class NoteServiceTest {
         verify(tagPersistence).existsById(tagId);
         verify(mockNote).addTag(tagId);
         verify(notePersistence).update(mockNote);
+        verify(tagPersistence).incrementUse(tagId);
+    }
+
+    @Test
+    @DisplayName("addTagToNote should not count a tag the note already has")
+    void addTagToNote_shouldDoNothing_whenTagAlreadyPresent() {
+        // Arrange
+        when(notePersistence.findById(noteId)).thenReturn(Optional.of(mockNote));
+        when(tagPersistence.existsById(tagId)).thenReturn(true);
+        when(mockNote.getTagsId()).thenReturn(Set.of(tagId));
+
+        // Act
+        noteService.addTagToNote(noteId, tagId);
+
+        // Assert
+        verify(notePersistence, never()).update(any(Note.class));
+        verify(tagPersistence, never()).incrementUse(anyString());
     }
 
     @Test
@@ -238,6 +265,7 @@ class NoteServiceTest {
         // Arrange
         when(notePersistence.findById(noteId)).thenReturn(Optional.of(mockNote));
         when(tagPersistence.existsById(tagId)).thenReturn(true);
+        when(mockNote.getTagsId()).thenReturn(Set.of(tagId));
 
         // Act
         noteService.removeTagFromNote(noteId, tagId);
@@ -247,6 +275,22 @@ class NoteServiceTest {
         verify(tagPersistence).existsById(tagId);
         verify(mockNote).removeTag(tagId);
         verify(notePersistence).update(mockNote);
+        verify(tagPersistence).decrementUse(tagId);
+    }
+
+    @Test
+    @DisplayName("removeTagFromNote should not release a tag the note does not have")
+    void removeTagFromNote_shouldDoNothing_whenTagNotPresent() {
+        // Arrange
+        when(notePersistence.findById(noteId)).thenReturn(Optional.of(mockNote));
+        when(tagPersistence.existsById(tagId)).thenReturn(true);
+
+        // Act
+        noteService.removeTagFromNote(noteId, tagId);
+
+        // Assert
+        verify(notePersistence, never()).update(any(Note.class));
+        verify(tagPersistence, never()).decrementUse(anyString());
     }
 
     @Test
@@ -284,22 +328,22 @@ class NoteServiceTest {
     @DisplayName("deleteNote should call persistence deleteById when note exists")
     void deleteNote_shouldCallPersistenceDeleteById_whenNoteExists() {
         // Arrange
-        when(notePersistence.existsById(noteId)).thenReturn(true);
+        when(notePersistence.findProjectId(noteId)).thenReturn(Optional.of(projectId));
         doNothing().when(notePersistence).deleteById(noteId);
 
         // Act
         noteService.deleteNote(noteId);
 
         // Assert
-        verify(notePersistence).existsById(noteId);
         verify(notePersistence).deleteById(noteId);
+        verify(activity).noteChanged(Kind.DELETED, noteId, projectId);
     }
 
     @Test
     @DisplayName("deleteNote should throw IllegalArgumentException when note not found")
     void deleteNote_shouldThrowException_whenNoteNotFound() {
         // Arrange
-        when(notePersistence.existsById(noteId)).thenReturn(false);
+        when(notePersistence.findProjectId(noteId)).thenReturn(Optional.empty());
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -354,6 +398,29 @@ class NoteServiceTest {
         verify(notePersistence).findAll(query);
     }
 
+    @Test
+    @DisplayName("getAllNotes with full-text term should return notes in index rank order")
+    void getAllNotes_withFullText_shouldReturnNotesInRankOrder() {
+        // Arrange
+        Page page = Page.of(0, 10);
+        SearchQuery query = SearchQuery.of(page, Map.of(SearchQuery.FULL_TEXT, "spring cache"));
+        Note first = mock(Note.class);
+        Note second = mock(Note.class);
+        when(first.getId()).thenReturn("note-1");
+        when(second.getId()).thenReturn("note-2");
+        when(searchIndex.search(TargetType.NOTE, "spring cache", null, page))
+                .thenReturn(new Pagination<>(0, 10, 3L, List.of("note-2", "note-1", "note-3")));
+        when(notePersistence.findAllByIds(List.of("note-2", "note-1", "note-3"))).thenReturn(List.of(first, second));
+
+        // Act
+        Pagination<Note> actualPagination = noteService.getAllNotes(query);
+
+        // Assert
+        assertEquals(3L, actualPagination.total());
+        assertEquals(List.of(second, first), actualPagination.items());
+        verify(notePersistence, never()).findAll(any(SearchQuery.class));
+    }
+
     @Test
     @DisplayName("getAllNotes with SearchQuery should throw IllegalArgumentException when query is null")
     void getAllNotes_withSearchQuery_shouldThrowException_whenQueryIsNull() {
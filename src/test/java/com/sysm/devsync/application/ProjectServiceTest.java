@@ -4,6 +4,7 @@ import com.sysm.devsync.domain.*;
 import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.request.ProjectCreateUpdate;
 import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.persistence.ProjectExportPort;
 import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
 import com.sysm.devsync.domain.persistence.WorkspacePersistencePort;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +34,9 @@ class ProjectServiceTest {
     @Mock
     private WorkspacePersistencePort workspacePersistencePort;
 
+    @Mock
+    private ProjectExportPort projectExportPort;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -263,4 +267,33 @@ class ProjectServiceTest {
         assertSame(expectedPagination, actualPagination);
         verify(projectPersistencePort, times(1)).findAll(query);
     }
+
+    @Test
+    @DisplayName("exportProject should write the project and then stream its content to the sink")
+    void exportProject_shouldWriteProjectThenDelegate() {
+        // Arrange
+        when(projectPersistencePort.findById(projectId)).thenReturn(Optional.of(mockProject));
+        ProjectExportPort.Sink sink = mock(ProjectExportPort.Sink.class);
+
+        // Act
+        projectService.exportProject(projectId).accept(sink);
+
+        // Assert
+        var inOrder = inOrder(sink, projectExportPort);
+        inOrder.verify(sink).project(mockProject);
+        inOrder.verify(projectExportPort).export(projectId, sink);
+    }
+
+    @Test
+    @DisplayName("exportProject should fail before streaming when the project does not exist")
+    void exportProject_shouldThrowException_whenProjectNotFound() {
+        // Arrange
+        when(projectPersistencePort.findById(projectId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> projectService.exportProject(projectId));
+
+        assertEquals("Project not found", exception.getMessage());
+        verifyNoInteractions(projectExportPort);
+    }
 }
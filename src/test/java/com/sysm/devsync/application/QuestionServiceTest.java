@@ -2,8 +2,10 @@ package com.sysm.devsync.application;
 
 import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.persistence.*;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
 import com.sysm.devsync.infrastructure.controllers.dto.response.CreateResponse;
 import com.sysm.devsync.infrastructure.controllers.dto.request.QuestionCreateUpdate;
+import com.sysm.devsync.domain.BusinessException;
 import com.sysm.devsync.domain.NotFoundException;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.Page;
@@ -20,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,9 +43,9 @@ class QuestionServiceTest {
     @Mock
     private UserPersistencePort userPersistence;
     @Mock
-    private CommentPersistencePort commentPersistence;
+    private SearchIndexPort searchIndex;
     @Mock
-    private AnswerPersistencePort answerPersistence;
+    private ActivityPort activity;
 
 
     @InjectMocks
@@ -290,35 +293,34 @@ class QuestionServiceTest {
     }
 
     @Test
-    @DisplayName("deleteQuestion should call persistence deleteById when question exists")
-    void deleteQuestion_shouldCallPersistenceDeleteById_whenQuestionExists() {
+    @DisplayName("deleteQuestion should delete the question with its dependents when question exists")
+    void deleteQuestion_shouldDeleteWithDependents_whenQuestionExists() {
         // Arrange
-        when(questionPersistence.existsById(questionId)).thenReturn(true);
-
-        doNothing().when(answerPersistence).deleteAllByQuestionId(anyString());
-        doNothing().when(commentPersistence).deleteAllByTargetTypeAndTargetId(any(), anyString());
-        doNothing().when(questionPersistence).deleteById(questionId);
+        when(questionPersistence.findProjectId(questionId)).thenReturn(Optional.of(projectId));
 
         // Act
         questionService.deleteQuestion(questionId);
 
         // Assert
-        verify(questionPersistence).existsById(questionId);
-        verify(questionPersistence).deleteById(questionId);
+        verify(questionPersistence).deleteWithDependents(questionId);
+        verify(questionPersistence, never()).deleteById(anyString());
+        verify(searchIndex).removeByScope(TargetType.ANSWER, questionId);
+        verify(searchIndex).remove(TargetType.QUESTION, questionId);
+        verify(activity).questionChanged(Kind.DELETED, questionId, projectId);
     }
 
     @Test
     @DisplayName("deleteQuestion should throw NotFoundException when question not found")
     void deleteQuestion_shouldThrowNotFoundException_whenQuestionNotFound() {
         // Arrange
-        when(questionPersistence.existsById(questionId)).thenReturn(false);
+        when(questionPersistence.findProjectId(questionId)).thenReturn(Optional.empty());
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             questionService.deleteQuestion(questionId);
         });
         assertEquals("Question not found", exception.getMessage());
-        verify(questionPersistence, never()).deleteById(anyString());
+        verify(questionPersistence, never()).deleteWithDependents(anyString());
     }
 
     @Test
@@ -383,6 +385,59 @@ class QuestionServiceTest {
         verify(questionPersistence, never()).findAllByProjectId(any(Page.class), anyString());
     }
 
+    @Test
+    @DisplayName("getAllQuestions with full-text term should return questions in index rank order")
+    void getAllQuestions_withFullText_shouldReturnQuestionsInRankOrder() {
+        // Arrange
+        Page page = Page.of(0, 10);
+        SearchQuery query = SearchQuery.of(page, Map.of(SearchQuery.FULL_TEXT, "hibernate"));
+        Question first = mock(Question.class);
+        Question second = mock(Question.class);
+        when(first.getId()).thenReturn("question-1");
+        when(second.getId()).thenReturn("question-2");
+        when(searchIndex.search(TargetType.QUESTION, "hibernate", null, page))
+                .thenReturn(new Pagination<>(0, 10, 2L, List.of("question-2", "question-1")));
+        when(questionPersistence.findAllByIds(List.of("question-2", "question-1"))).thenReturn(List.of(first, second));
+
+        // Act
+        Pagination<Question> actualPagination = questionService.getAllQuestions(query);
+
+        // Assert
+        assertEquals(2L, actualPagination.total());
+        assertEquals(List.of(second, first), actualPagination.items());
+        verify(questionPersistence, never()).findAll(any(SearchQuery.class));
+    }
+
+    @Test
+    @DisplayName("getAllQuestions with full-text term should limit the index search to the project")
+    void getAllQuestions_withFullTextAndProject_shouldScopeIndexSearch() {
+        // Arrange
+        Page page = Page.of(0, 10);
+        SearchQuery query = SearchQuery.of(page, Map.of(SearchQuery.FULL_TEXT, "hibernate", "projectId", "project-1"));
+        when(searchIndex.search(TargetType.QUESTION, "hibernate", "project-1", page))
+                .thenReturn(new Pagination<>(0, 10, 0L, List.of()));
+        when(questionPersistence.findAllByIds(List.of())).thenReturn(List.of());
+
+        // Act
+        Pagination<Question> actualPagination = questionService.getAllQuestions(query);
+
+        // Assert
+        assertEquals(0L, actualPagination.total());
+        verify(searchIndex).search(TargetType.QUESTION, "hibernate", "project-1", page);
+    }
+
+    @Test
+    @DisplayName("getAllQuestions with full-text term and another filter should throw BusinessException")
+    void getAllQuestions_withFullTextAndOtherFilter_shouldThrowBusinessException() {
+        // Arrange
+        SearchQuery query = SearchQuery.of(Page.of(0, 10), Map.of(SearchQuery.FULL_TEXT, "hibernate", "status", "OPEN"));
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class, () -> questionService.getAllQuestions(query));
+        assertTrue(exception.getMessage().contains("status"));
+        verifyNoInteractions(searchIndex);
+    }
+
     @Test
     @DisplayName("getAllQuestions with SearchQuery should return page from persistence")
     void getAllQuestions_withSearchQuery_shouldReturnPageFromPersistence() {
@@ -413,24 +468,20 @@ class QuestionServiceTest {
 
 
     @Test
-    @DisplayName("deleteQuestion should delete comments and then the question itself")
-    void deleteQuestion_shouldCallPersistenceDeleteById_whenQuestionExists_2() {
+    @DisplayName("deleteQuestion should remove the search entries only after the question is deleted")
+    void deleteQuestion_shouldRemoveSearchEntries_afterDelete() {
         // Arrange
-        when(questionPersistence.existsById(questionId)).thenReturn(true);
-        // No need to mock doNothing, it's the default. This is just for clarity.
-        doNothing().when(answerPersistence).deleteAllByQuestionId(anyString());
-        doNothing().when(commentPersistence).deleteAllByTargetTypeAndTargetId(any(), anyString());
-        doNothing().when(questionPersistence).deleteById(questionId);
+        when(questionPersistence.findProjectId(questionId)).thenReturn(Optional.of(projectId));
 
         // Act
         questionService.deleteQuestion(questionId);
 
         // Assert
-        // Use an InOrder verifier to ensure comments are deleted BEFORE the question
-        var inOrder = inOrder(commentPersistence, questionPersistence);
+        var inOrder = inOrder(questionPersistence, searchIndex);
 
-        inOrder.verify(commentPersistence).deleteAllByTargetTypeAndTargetId(TargetType.QUESTION, questionId);
-        inOrder.verify(questionPersistence).deleteById(questionId);
+        inOrder.verify(questionPersistence).deleteWithDependents(questionId);
+        inOrder.verify(searchIndex).removeByScope(TargetType.ANSWER, questionId);
+        inOrder.verify(searchIndex).remove(TargetType.QUESTION, questionId);
     }
 
 }
@@ -172,29 +172,28 @@ class WorkspaceServiceTest {
 
     // --- addMemberToWorkspace Tests ---
     @Test
-    @DisplayName("addMemberToWorkspace should add member and save workspace")
-    void addMemberToWorkspace_shouldAddMemberAndSaveWorkspace() {
+    @DisplayName("addMemberToWorkspace should insert the membership without loading the workspace")
+    void addMemberToWorkspace_shouldAddMemberWithoutLoadingWorkspace() {
         // Arrange
-        Workspace mockExistingWorkspace = mock(Workspace.class);
-        when(workspacePersistence.findById(workspaceId)).thenReturn(Optional.of(mockExistingWorkspace));
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
         when(userPersistence.existsById(memberId)).thenReturn(true); // Simulate user exists
-        doNothing().when(workspacePersistence).update(any(Workspace.class));
+        when(workspacePersistence.addMember(workspaceId, memberId)).thenReturn(true);
 
         // Act
         workspaceService.addMemberToWorkspace(workspaceId, memberId);
 
         // Assert
-        verify(workspacePersistence, times(1)).findById(workspaceId);
         verify(userPersistence, times(1)).existsById(memberId);
-        verify(mockExistingWorkspace, times(1)).addMember(memberId);
-        verify(workspacePersistence, times(1)).update(mockExistingWorkspace);
+        verify(workspacePersistence, times(1)).addMember(workspaceId, memberId);
+        verify(workspacePersistence, never()).findById(any());
+        verify(workspacePersistence, never()).update(any());
     }
 
     @Test
     @DisplayName("addMemberToWorkspace should throw if workspace not found")
     void addMemberToWorkspace_shouldThrow_ifWorkspaceNotFound() {
         // Arrange
-        when(workspacePersistence.findById(workspaceId)).thenReturn(Optional.empty());
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(false);
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -202,15 +201,14 @@ class WorkspaceServiceTest {
         });
         assertEquals("Workspace not found", exception.getMessage());
         verify(userPersistence, never()).existsById(any());
-        verify(workspacePersistence, never()).update(any());
+        verify(workspacePersistence, never()).addMember(any(), any());
     }
 
     @Test
     @DisplayName("addMemberToWorkspace should throw if member not found")
     void addMemberToWorkspace_shouldThrow_ifMemberNotFound() {
         // Arrange
-        Workspace mockExistingWorkspace = mock(Workspace.class);
-        when(workspacePersistence.findById(anyString())).thenReturn(Optional.of(mockExistingWorkspace));
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
         when(userPersistence.existsById(memberId)).thenReturn(false); // Simulate user does not exist
 
         // Act & Assert
@@ -218,46 +216,108 @@ class WorkspaceServiceTest {
             workspaceService.addMemberToWorkspace(workspaceId, memberId);
         });
         assertEquals("Member not found", exception.getMessage());
-        verify(mockExistingWorkspace, never()).addMember(any());
-        verify(workspacePersistence, never()).update(any());
+        verify(workspacePersistence, never()).addMember(any(), any());
     }
 
     // --- removeMemberFromWorkspace Tests ---
     @Test
-    @DisplayName("removeMemberFromWorkspace should remove member and save workspace")
-    void removeMemberFromWorkspace_shouldRemoveMemberAndSaveWorkspace() {
+    @DisplayName("removeMemberFromWorkspace should delete the membership without loading the workspace")
+    void removeMemberFromWorkspace_shouldRemoveMemberWithoutLoadingWorkspace() {
         // Arrange
-        // Rewrite the test
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
+        when(workspacePersistence.removeMember(workspaceId, memberId)).thenReturn(true);
+
+        // Act
+        workspaceService.removeMemberFromWorkspace(workspaceId, memberId);
+
+        // Assert
+        verify(workspacePersistence, times(1)).removeMember(workspaceId, memberId);
+        verify(workspacePersistence, never()).findById(any());
+        verify(workspacePersistence, never()).update(any());
     }
 
     @Test
     @DisplayName("removeMemberFromWorkspace should throw if workspace not found")
     void removeMemberFromWorkspace_shouldThrow_ifWorkspaceNotFound() {
         // Arrange
-        when(workspacePersistence.findById(workspaceId)).thenReturn(Optional.empty());
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(false);
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             workspaceService.removeMemberFromWorkspace(workspaceId, memberId);
         });
         assertEquals("Workspace not found", exception.getMessage());
-        verify(workspacePersistence, never()).update(any());
+        verify(workspacePersistence, never()).removeMember(any(), any());
     }
 
     @Test
     @DisplayName("removeMemberFromWorkspace should throw if member not found in workspace")
     void removeMemberFromWorkspace_shouldThrow_ifMemberNotInWorkspace() {
         // Arrange
-        Workspace mockExistingWorkspace = mock(Workspace.class);
-        when(mockExistingWorkspace.getMembersId()).thenReturn(new HashSet<>(Set.of("otherMember"))); // Member not present
-        when(workspacePersistence.findById(workspaceId)).thenReturn(Optional.of(mockExistingWorkspace));
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
+        when(workspacePersistence.removeMember(workspaceId, memberId)).thenReturn(false); // Member not present
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             workspaceService.removeMemberFromWorkspace(workspaceId, memberId);
         });
         assertEquals("Member not found in workspace", exception.getMessage());
-        verify(workspacePersistence, never()).update(any());
+    }
+
+    // --- bulk member Tests ---
+    @Test
+    @DisplayName("addMembersToWorkspace should add all members with one persistence call")
+    void addMembersToWorkspace_shouldAddMembersInOneCall() {
+        // Arrange
+        Set<String> memberIds = Set.of("user1", "user2", "user3");
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
+        when(workspacePersistence.addMembers(workspaceId, memberIds)).thenReturn(2);
+
+        // Act
+        var response = workspaceService.addMembersToWorkspace(workspaceId, memberIds);
+
+        // Assert
+        assertEquals(3, response.requested());
+        assertEquals(2, response.changed());
+        verify(workspacePersistence, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("removeMembersFromWorkspace should remove all members with one persistence call")
+    void removeMembersFromWorkspace_shouldRemoveMembersInOneCall() {
+        // Arrange
+        Set<String> memberIds = Set.of("user1", "user2");
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
+        when(workspacePersistence.removeMembers(workspaceId, memberIds)).thenReturn(2);
+
+        // Act
+        var response = workspaceService.removeMembersFromWorkspace(workspaceId, memberIds);
+
+        // Assert
+        assertEquals(2, response.requested());
+        assertEquals(2, response.changed());
+    }
+
+    @Test
+    @DisplayName("addMembersToWorkspace should reject empty and oversized requests")
+    void addMembersToWorkspace_shouldRejectInvalidRequests() {
+        Set<String> tooMany = new HashSet<>();
+        for (int i = 0; i <= WorkspaceService.MAX_BULK_MEMBERS; i++) {
+            tooMany.add("user" + i);
+        }
+
+        assertThrows(BusinessException.class, () -> workspaceService.addMembersToWorkspace(workspaceId, Set.of()));
+        assertThrows(BusinessException.class, () -> workspaceService.addMembersToWorkspace(workspaceId, tooMany));
+        verify(workspacePersistence, never()).addMembers(any(), any());
+    }
+
+    @Test
+    @DisplayName("addMembersToWorkspace should throw if workspace not found")
+    void addMembersToWorkspace_shouldThrow_ifWorkspaceNotFound() {
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> workspaceService.addMembersToWorkspace(workspaceId, Set.of("user1")));
+        verify(workspacePersistence, never()).addMembers(any(), any());
     }
 
     // --- changeOwnerOfWorkspace Tests ---
@@ -464,6 +524,57 @@ class WorkspaceServiceTest {
         verify(projectPersistence, never()).countProjectsByWorkspaceIdIn(any());
     }
 
+    @Test
+    @DisplayName("getWorkspaceSummaries should return member counts without members")
+    void getWorkspaceSummaries_shouldReturnSummaries_withCounts() {
+        // Arrange
+        workspaceId = UUID.randomUUID().toString();
+        var workspace = Workspace.buildSummary(workspaceId, Instant.now(), Instant.now(), "Test Workspace", "A test workspace", false, UserTO.of("owner123"), 5000);
+
+        SearchQuery query = SearchQuery.of(Page.of(0, 10, "name", "asc"), Collections.emptyMap());
+        Pagination<Workspace> workspacePage = new Pagination<>(0, 10, 1, List.of(workspace));
+
+        when(workspacePersistence.findAllSummaries(query)).thenReturn(workspacePage);
+        when(projectPersistence.countProjectsByWorkspaceIdIn(List.of(workspaceId))).thenReturn(List.of(new KeyValue(workspaceId, 3L)));
+
+        // Act
+        Pagination<WorkspaceResponse> result = workspaceService.getWorkspaceSummaries(query);
+
+        // Assert
+        var response = result.items().get(0);
+        assertEquals(5000, response.memberCount());
+        assertEquals(3, response.projectCount());
+        assertNull(response.members());
+        verify(workspacePersistence, never()).findAll(any());
+    }
+
+    @Test
+    @DisplayName("getWorkspaceMembers should return a page of members")
+    void getWorkspaceMembers_shouldReturnPage_whenWorkspaceExists() {
+        // Arrange
+        var page = Page.of(0, 50, "name", "asc");
+        var members = new Pagination<>(0, 50, 1, List.of(UserTO.of("user1", "User One")));
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(true);
+        when(workspacePersistence.findMembers(workspaceId, page)).thenReturn(members);
+
+        // Act
+        Pagination<UserTO> result = workspaceService.getWorkspaceMembers(workspaceId, page);
+
+        // Assert
+        assertEquals(members, result);
+    }
+
+    @Test
+    @DisplayName("getWorkspaceMembers should throw NotFoundException when workspace does not exist")
+    void getWorkspaceMembers_shouldThrowNotFoundException_whenWorkspaceNotFound() {
+        // Arrange
+        when(workspacePersistence.existsById(workspaceId)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(NotFoundException.class, () -> workspaceService.getWorkspaceMembers(workspaceId, Page.of(0, 10)));
+        verify(workspacePersistence, never()).findMembers(any(), any());
+    }
+
 
     @Nested
     @DisplayName("deleteWorkspace Tests")
@@ -0,0 +1,77 @@
+package com.sysm.devsync.application.security;
+
+import com.sysm.devsync.domain.persistence.AnswerPersistencePort;
+import com.sysm.devsync.domain.persistence.CommentPersistencePort;
+import com.sysm.devsync.domain.persistence.NotePersistencePort;
+import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityServiceTest {
+
+    @Mock
+    private NotePersistencePort notePersistence;
+
+    @Mock
+    private AnswerPersistencePort answerPersistence;
+
+    @Mock
+    private QuestionPersistencePort questionPersistence;
+
+    @Mock
+    private CommentPersistencePort commentPersistence;
+
+    @InjectMocks
+    private SecurityService securityService;
+
+    @Test
+    @DisplayName("ownership checks should compare the author id without loading the aggregate")
+    void ownershipChecks_shouldUseAuthorIds() {
+        when(notePersistence.findAuthorId("note1")).thenReturn(Optional.of("user1"));
+        when(questionPersistence.findAuthorId("question1")).thenReturn(Optional.of("user1"));
+        when(answerPersistence.findAuthorId("answer1")).thenReturn(Optional.of("user2"));
+        when(commentPersistence.findAuthorId("comment1")).thenReturn(Optional.of("user1"));
+
+        assertTrue(securityService.isNoteOwner("user1", "note1"));
+        assertTrue(securityService.isQuestionOwner("user1", "question1"));
+        assertFalse(securityService.isAnswerOwner("user1", "answer1"));
+        assertTrue(securityService.isCommentOwner("user1", "comment1"));
+
+        verify(notePersistence, never()).findById(any());
+        verify(questionPersistence, never()).findById(any());
+        verify(answerPersistence, never()).findById(any());
+        verify(commentPersistence, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("ownership checks should deny access when the aggregate does not exist")
+    void ownershipChecks_shouldDenyUnknownIds() {
+        when(notePersistence.findAuthorId("missing")).thenReturn(Optional.empty());
+        when(answerPersistence.findQuestionId("missing")).thenReturn(Optional.empty());
+
+        assertFalse(securityService.isNoteOwner("user1", "missing"));
+        assertFalse(securityService.canUserAcceptAnswer("user1", "missing"));
+        verify(questionPersistence, never()).findAuthorId(any());
+    }
+
+    @Test
+    @DisplayName("canUserAcceptAnswer should check the author of the answer's question")
+    void canUserAcceptAnswer_shouldCheckQuestionAuthor() {
+        when(answerPersistence.findQuestionId("answer1")).thenReturn(Optional.of("question1"));
+        when(questionPersistence.findAuthorId("question1")).thenReturn(Optional.of("user1"));
+
+        assertTrue(securityService.canUserAcceptAnswer("user1", "answer1"));
+        assertFalse(securityService.canUserAcceptAnswer("user2", "answer1"));
+    }
+}
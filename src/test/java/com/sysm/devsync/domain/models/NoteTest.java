@@ -1,5 +1,6 @@
 package com.sysm.devsync.domain.models;
 
+import com.sysm.devsync.domain.ConflictException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -433,6 +434,66 @@ public class NoteTest {
         assertEquals(versionBefore, note.getVersion(), "Version should not change after removing a tag");
     }
 
+    // --- Change tracking ---
+    @Test
+    @DisplayName("updateContent() should track only the content and timestamp")
+    void updateContent_shouldTrackChangedFields() {
+        Note note = Note.build(UUID.randomUUID().toString(), Instant.now(), Instant.now(), validTitle, validContent,
+                Set.of("tag1"), validProjectId, validAuthorId, 1);
+        assertFalse(note.hasChanges(), "A built note should start without changes");
+
+        note.updateContent("New content");
+
+        assertEquals(Set.of("content", "updatedAt"), note.getChangedFields());
+        assertEquals(2, note.getVersion(), "The version moves once the change is stored");
+        assertTrue(note.getAdded(Note.TAGS).isEmpty());
+    }
+
+    @Test
+    @DisplayName("checkVersion() should only accept the version the note was read with")
+    void checkVersion_shouldRejectOtherVersions() {
+        Note note = Note.build(UUID.randomUUID().toString(), Instant.now(), Instant.now(), validTitle, validContent,
+                Set.of(), validProjectId, validAuthorId, 3);
+
+        assertDoesNotThrow(() -> note.checkVersion(3));
+        assertDoesNotThrow(() -> note.checkVersion(null));
+        ConflictException exception = assertThrows(ConflictException.class, () -> note.checkVersion(2));
+        assertEquals("Version 2 is not the current version 3", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("addTag() and removeTag() should track the tag delta, cancelling each other out")
+    void tags_shouldTrackDelta() {
+        Note note = Note.build(UUID.randomUUID().toString(), Instant.now(), Instant.now(), validTitle, validContent,
+                Set.of("tag1"), validProjectId, validAuthorId, 1);
+
+        note.addTag("tag1"); // Already present, nothing to write
+        note.addTag("tag2");
+        note.removeTag("tag1");
+
+        assertEquals(Set.of("tag2"), note.getAdded(Note.TAGS));
+        assertEquals(Set.of("tag1"), note.getRemoved(Note.TAGS));
+        assertTrue(note.getChangedFields().isEmpty());
+
+        note.removeTag("tag2");
+        note.addTag("tag1");
+        assertFalse(note.hasChanges(), "Reverting the tag changes should leave nothing to write");
+    }
+
+    @Test
+    @DisplayName("clearChanges() should forget the tracked changes")
+    void clearChanges_shouldResetTracking() {
+        Note note = Note.create(validTitle, validContent, validProjectId, validAuthorId);
+        note.update("New title", "New content");
+        note.addTag("tag1");
+
+        note.clearChanges();
+
+        assertFalse(note.hasChanges());
+        assertTrue(note.getChangedFields().isEmpty());
+        assertTrue(note.getAdded(Note.TAGS).isEmpty());
+    }
+
     // --- Getters (Basic check, mostly covered by other tests) ---
     @Test
     @DisplayName("Getters should return correct values after construction via build")
@@ -393,6 +393,31 @@ class WorkspaceTest {
         assertEquals(updatedAtBeforeAdd, workspace.getUpdatedAt(), "UpdatedAt should not change after adding a member");
     }
 
+    @Test
+    @DisplayName("addMember and removeMember should keep the member count in sync")
+    void memberChanges_shouldUpdateMemberCount() {
+        Workspace workspace = Workspace.create(validName, validDescription, false, validOwner);
+        assertEquals(0, workspace.getMemberCount());
+
+        workspace.addMember(member1);
+        workspace.addMember(member2);
+        workspace.addMember(member1);
+        assertEquals(2, workspace.getMemberCount());
+
+        workspace.removeMember(member1);
+        assertEquals(1, workspace.getMemberCount());
+    }
+
+    @Test
+    @DisplayName("buildSummary should keep the member count without members")
+    void buildSummary_shouldKeepMemberCountOnly() {
+        Workspace workspace = Workspace.buildSummary(UUID.randomUUID().toString(), Instant.now(), Instant.now(),
+                validName, validDescription, false, validOwner, 5000);
+
+        assertEquals(5000, workspace.getMemberCount());
+        assertTrue(workspace.getMembers().isEmpty());
+    }
+
     // --- Getters Tests ---
     @Test
     @DisplayName("Getters should return correct values set by build")
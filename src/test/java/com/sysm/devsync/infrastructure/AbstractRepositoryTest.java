@@ -2,6 +2,8 @@ package com.sysm.devsync.infrastructure;
 
 import com.sysm.devsync.infrastructure.repositories.*;
 import com.sysm.devsync.infrastructure.repositories.NoteJpaRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
@@ -35,6 +37,9 @@ public class AbstractRepositoryTest {
     @Autowired
     protected TagJpaRepository tagJpaRepository;
 
+    @Autowired
+    protected TombstoneJpaRepository tombstoneJpaRepository;
+
     protected void clearRepositories() {
         commentJpaRepository.deleteAllInBatch();
         noteJpaRepository.deleteAllInBatch();
@@ -44,6 +49,7 @@ public class AbstractRepositoryTest {
         workspaceJpaRepository.deleteAllInBatch();
         userJpaRepository.deleteAllInBatch();
         tagJpaRepository.deleteAllInBatch();
+        tombstoneJpaRepository.deleteAllInBatch();
     }
 
     protected void entityPersist(Object entity) {
@@ -57,5 +63,17 @@ public class AbstractRepositoryTest {
         entityManager.clear();
     }
 
+    /**
+     * Returns Hibernate statistics enabled and reset, to assert how many statements an operation runs.
+     */
+    protected Statistics resetStatistics() {
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
 
 }
@@ -1,6 +1,9 @@
 package com.sysm.devsync.infrastructure;
 
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
+import com.sysm.devsync.infrastructure.repositories.persistence.ChangeStamps;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.lang.annotation.ElementType;
@@ -10,6 +13,7 @@ import java.lang.annotation.Target;
 
 @Inherited
 @DataJpaTest
+@Import({AggregateCaches.class, ChangeStamps.class})
 @ActiveProfiles("tests")
 @Target(ElementType.TYPE)
 @Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
@@ -0,0 +1,177 @@
+package com.sysm.devsync.infrastructure.cache;
+
+import com.sysm.devsync.domain.models.Tag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AggregateCacheTest {
+
+    private static Tag copy(Tag tag) {
+        return Tag.build(tag.getId(), tag.getName(), tag.getColor(), tag.getDescription(), tag.getCategory(),
+                tag.getAmountUsed());
+    }
+
+    private static Tag tag(String id) {
+        return Tag.build(id, "java", "#fff", "Java", "language", 0);
+    }
+
+    private static AggregateCache<Tag> cache(Duration ttl, int maxSize) {
+        return new AggregateCache<>("tags", true, ttl, maxSize, AggregateCacheTest::copy);
+    }
+
+    @Test
+    @DisplayName("get should load once and then answer from the cache")
+    void get_shouldLoadOnce() {
+        var cache = cache(Duration.ofMinutes(1), 10);
+        var loads = new AtomicInteger();
+
+        cache.get("t1", () -> { loads.incrementAndGet(); return Optional.of(tag("t1")); });
+        var cached = cache.get("t1", () -> { loads.incrementAndGet(); return Optional.of(tag("t1")); });
+
+        assertEquals(1, loads.get());
+        assertEquals("java", cached.orElseThrow().getName());
+        var stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    @DisplayName("get should hand out copies, so changing a read model does not change the cache")
+    void get_shouldReturnCopies() {
+        var cache = cache(Duration.ofMinutes(1), 10);
+        cache.get("t1", () -> Optional.of(tag("t1")));
+
+        cache.get("t1", Optional::empty).orElseThrow().update("changed", "#000");
+
+        assertEquals("java", cache.get("t1", Optional::empty).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("get should not cache missing aggregates")
+    void get_shouldNotCacheEmptyResults() {
+        var cache = cache(Duration.ofMinutes(1), 10);
+        var loads = new AtomicInteger();
+
+        cache.get("t1", () -> { loads.incrementAndGet(); return Optional.empty(); });
+        cache.get("t1", () -> { loads.incrementAndGet(); return Optional.empty(); });
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("exists should remember ids known to exist and answer from loaded values")
+    void exists_shouldUseCachedIds() {
+        var cache = cache(Duration.ofMinutes(1), 10);
+        var loads = new AtomicInteger();
+        cache.get("t1", () -> Optional.of(tag("t1")));
+
+        assertTrue(cache.exists("t1", () -> { loads.incrementAndGet(); return true; }));
+        assertTrue(cache.exists("t2", () -> { loads.incrementAndGet(); return true; }));
+        assertTrue(cache.exists("t2", () -> { loads.incrementAndGet(); return true; }));
+        assertFalse(cache.exists("t3", () -> { loads.incrementAndGet(); return false; }));
+
+        assertEquals(2, loads.get());
+        // An id only known to exist still needs a load to be read
+        assertEquals("t2", cache.get("t2", () -> Optional.of(tag("t2"))).orElseThrow().getId());
+        assertEquals(4, cache.stats().misses());
+    }
+
+    @Test
+    @DisplayName("invalidate should drop the entry")
+    void invalidate_shouldDropEntry() {
+        var cache = cache(Duration.ofMinutes(1), 10);
+        var loads = new AtomicInteger();
+        cache.get("t1", () -> { loads.incrementAndGet(); return Optional.of(tag("t1")); });
+
+        cache.invalidate("t1");
+        cache.get("t1", () -> { loads.incrementAndGet(); return Optional.of(tag("t1")); });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("invalidateAll should clear again when the transaction completes")
+    void invalidateAll_shouldClearAgainAfterCompletion() {
+        var cache = cache(Duration.ofMinutes(1), 10);
+        cache.get("t1", () -> Optional.of(tag("t1")));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAll();
+            // A read before the commit caches the row again, possibly as it was before the write
+            cache.get("t2", () -> Optional.of(tag("t2")));
+            assertEquals(1, cache.stats().size());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("a load that overlaps an invalidation should not be cached")
+    void get_shouldNotCacheLoadOverlappingInvalidation() {
+        var cache = cache(Duration.ofMinutes(1), 10);
+
+        cache.get("t1", () -> {
+            cache.invalidate("t1"); // A concurrent write while the row is being read
+            return Optional.of(tag("t1"));
+        });
+
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("entries should expire after the ttl")
+    void get_shouldExpireEntries() throws InterruptedException {
+        var cache = cache(Duration.ofMillis(10), 10);
+        var loads = new AtomicInteger();
+        cache.get("t1", () -> { loads.incrementAndGet(); return Optional.of(tag("t1")); });
+
+        Thread.sleep(20);
+        cache.get("t1", () -> { loads.incrementAndGet(); return Optional.of(tag("t1")); });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("the least recently used entry should be evicted when the cache is full")
+    void get_shouldEvictLeastRecentlyUsed() {
+        var cache = cache(Duration.ofMinutes(1), 2);
+        cache.get("t1", () -> Optional.of(tag("t1")));
+        cache.get("t2", () -> Optional.of(tag("t2")));
+        cache.get("t1", Optional::empty); // t1 becomes the most recently used
+        cache.get("t3", () -> Optional.of(tag("t3")));
+
+        assertTrue(cache.get("t1", Optional::empty).isPresent());
+        assertTrue(cache.get("t2", Optional::empty).isEmpty());
+        assertEquals(1, cache.stats().evictions());
+        assertEquals(2, cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("a disabled cache should always call the loader")
+    void disabledCache_shouldAlwaysLoad() {
+        var cache = new AggregateCache<>("tags", false, Duration.ofMinutes(1), 10, AggregateCacheTest::copy);
+        var loads = new AtomicInteger();
+
+        cache.get("t1", () -> { loads.incrementAndGet(); return Optional.of(tag("t1")); });
+        cache.get("t1", () -> { loads.incrementAndGet(); return Optional.of(tag("t1")); });
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.stats().hits());
+    }
+}
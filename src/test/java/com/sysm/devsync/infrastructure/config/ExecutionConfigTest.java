@@ -0,0 +1,42 @@
+package com.sysm.devsync.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExecutionConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+            .withUserConfiguration(ExecutionConfig.class);
+
+    @Test
+    @DisplayName("Should keep Boot's application task executor")
+    void platform_shouldKeepTheApplicationTaskExecutor() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).hasBean("applicationTaskExecutor");
+            assertThat(context).doesNotHaveBean("virtualThreadsCheck");
+        });
+    }
+
+    @Test
+    @DisplayName("Should run on virtual threads on Java 21 and refuse to start below it")
+    void virtual_shouldNeedJava21() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            if (Runtime.version().feature() < 21) {
+                assertThat(context).hasFailed();
+                assertThat(context.getStartupFailure()).rootCause()
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("needs Java 21 or later");
+            } else {
+                assertThat(context).hasNotFailed();
+                assertThat(context).hasBean("applicationTaskExecutor");
+            }
+        });
+    }
+}
@@ -0,0 +1,252 @@
+package com.sysm.devsync.infrastructure.events;
+
+import com.sysm.devsync.domain.enums.AggregateType;
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.persistence.AnswerPersistencePort;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
+import com.sysm.devsync.domain.persistence.NotePersistencePort;
+import com.sysm.devsync.domain.persistence.ProjectPersistencePort;
+import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ActivityHubTest {
+
+    private QuestionPersistencePort questionPersistence;
+    private AnswerPersistencePort answerPersistence;
+    private NotePersistencePort notePersistence;
+    private ProjectPersistencePort projectPersistence;
+    private ActivityHub hub;
+
+    @BeforeEach
+    void setUp() {
+        questionPersistence = mock(QuestionPersistencePort.class);
+        answerPersistence = mock(AnswerPersistencePort.class);
+        notePersistence = mock(NotePersistencePort.class);
+        projectPersistence = mock(ProjectPersistencePort.class);
+        hub = hub(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("publish should reach the streams of the project and of its workspace, not the others")
+    void publish_shouldRouteByProjectAndWorkspace() {
+        when(projectPersistence.findById("p1")).thenReturn(Optional.of(Project.build("p1", "P", "D", "w1", Instant.now(), Instant.now())));
+        RecordingEmitter project = (RecordingEmitter) hub.subscribeToProject("p1");
+        RecordingEmitter workspace = (RecordingEmitter) hub.subscribeToWorkspace("w1");
+        RecordingEmitter otherProject = (RecordingEmitter) hub.subscribeToProject("p2");
+
+        hub.noteChanged(Kind.CREATED, "n1", "p1");
+
+        ActivityEvent event = (ActivityEvent) project.awaitData(1);
+        assertEquals(AggregateType.NOTE, event.type());
+        assertEquals(Kind.CREATED, event.kind());
+        assertEquals("n1", event.id());
+        assertEquals("w1", event.workspaceId());
+        assertEquals(event, workspace.awaitData(1));
+        assertEquals(List.of(), otherProject.data());
+    }
+
+    @Test
+    @DisplayName("publish should find the project of a comment on an answer through its question")
+    void publish_shouldResolveProjectOfComment() {
+        when(answerPersistence.findQuestionId("a1")).thenReturn(Optional.of("q1"));
+        when(questionPersistence.findProjectId("q1")).thenReturn(Optional.of("p1"));
+        RecordingEmitter project = (RecordingEmitter) hub.subscribeToProject("p1");
+
+        hub.commentChanged(Kind.DELETED, "c1", TargetType.ANSWER, "a1");
+
+        ActivityEvent event = (ActivityEvent) project.awaitData(1);
+        assertEquals(AggregateType.COMMENT, event.type());
+        assertEquals("p1", event.projectId());
+        assertNull(event.workspaceId());
+    }
+
+    @Test
+    @DisplayName("publish should not look anything up while nobody follows")
+    void publish_shouldDoNothing_whenNoSubscribers() {
+        hub.answerChanged(Kind.CREATED, "a1", "q1");
+        hub.commentChanged(Kind.CREATED, "c1", TargetType.NOTE, "n1");
+
+        verifyNoInteractions(questionPersistence, answerPersistence, notePersistence, projectPersistence);
+    }
+
+    @Test
+    @DisplayName("publish should swallow a failed lookup, the change itself went through")
+    void publish_shouldNotThrow_whenLookupFails() {
+        hub.subscribeToProject("p1");
+        when(questionPersistence.findProjectId("q1")).thenThrow(new IllegalStateException("boom"));
+
+        assertDoesNotThrow(() -> hub.answerChanged(Kind.UPDATED, "a1", "q1"));
+    }
+
+    @Test
+    @DisplayName("subscribe should refuse streams past the maximum and count closed ones out")
+    void subscribe_shouldEnforceMaximum() {
+        hub.shutdown();
+        hub = hub(1);
+        RecordingEmitter first = (RecordingEmitter) hub.subscribeToProject("p1");
+
+        var exception = assertThrows(ResponseStatusException.class, () -> hub.subscribeToProject("p1"));
+        assertEquals(503, exception.getStatusCode().value());
+
+        // The next heartbeat finds the client gone
+        first.failing = true;
+        hub.heartbeat();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (hub.subscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(0, hub.subscriberCount());
+        assertNotNull(hub.subscribeToWorkspace("w1"));
+    }
+
+    @Test
+    @DisplayName("Subscriber should drop the oldest events when full and report how many")
+    void subscriber_shouldDropOldest_whenBufferIsFull() {
+        var pending = new ArrayList<Runnable>();
+        var emitter = new RecordingEmitter();
+        var subscriber = new Subscriber(emitter, 2, OverflowPolicy.DROP_OLDEST, pending::add, closed -> { });
+
+        for (int i = 1; i <= 5; i++) {
+            subscriber.offer(event("n" + i));
+        }
+        assertEquals(2, subscriber.buffered());
+        pending.forEach(Runnable::run);
+
+        assertEquals(List.of("overflow", "activity", "activity"), emitter.names());
+        assertEquals(Map.of("dropped", 3), emitter.data().get(0));
+        assertEquals("n4", ((ActivityEvent) emitter.data().get(1)).id());
+        assertEquals("n5", ((ActivityEvent) emitter.data().get(2)).id());
+    }
+
+    @Test
+    @DisplayName("Subscriber should close the stream when full under the disconnect policy")
+    void subscriber_shouldDisconnect_whenBufferIsFull() {
+        var closed = new AtomicBoolean();
+        var emitter = new RecordingEmitter();
+        var subscriber = new Subscriber(emitter, 1, OverflowPolicy.DISCONNECT, task -> { }, s -> closed.set(true));
+
+        subscriber.offer(event("n1"));
+        subscriber.offer(event("n2"));
+
+        assertTrue(closed.get());
+        assertEquals(0, subscriber.buffered());
+    }
+
+    @Test
+    @DisplayName("Subscriber should send a heartbeat only when nothing is waiting")
+    void subscriber_shouldSendHeartbeat_whenIdle() {
+        var emitter = new RecordingEmitter();
+        var pending = new ArrayList<Runnable>();
+        var subscriber = new Subscriber(emitter, 4, OverflowPolicy.DROP_OLDEST, pending::add, closed -> { });
+
+        subscriber.offer(event("n1"));
+        subscriber.heartbeat();
+        pending.forEach(Runnable::run);
+        pending.clear();
+        subscriber.heartbeat();
+        pending.forEach(Runnable::run);
+
+        assertEquals(List.of("activity", "heartbeat"), emitter.names());
+    }
+
+    @Test
+    @DisplayName("Subscriber should close when the client is gone")
+    void subscriber_shouldClose_whenSendFails() {
+        var closed = new AtomicBoolean();
+        var emitter = new RecordingEmitter();
+        emitter.failing = true;
+        var subscriber = new Subscriber(emitter, 4, OverflowPolicy.DROP_OLDEST, Runnable::run, s -> closed.set(true));
+
+        subscriber.offer(event("n1"));
+
+        assertTrue(closed.get());
+    }
+
+    private ActivityHub hub(int maxSubscribers) {
+        return new ActivityHub(questionPersistence, answerPersistence, notePersistence, projectPersistence,
+                4, OverflowPolicy.DROP_OLDEST, Duration.ofMinutes(1), maxSubscribers, 1) {
+            @Override
+            SseEmitter newEmitter() {
+                return new RecordingEmitter();
+            }
+        };
+    }
+
+    private static ActivityEvent event(String id) {
+        return new ActivityEvent(AggregateType.NOTE, Kind.UPDATED, id, "p1", "w1", Instant.now());
+    }
+
+    /**
+     * Keeps what is sent instead of writing it to a response. Events are told apart by name, the
+     * heartbeat by its comment.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> names = new CopyOnWriteArrayList<>();
+        private final List<Object> data = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            String name = null;
+            for (var part : builder.build()) {
+                if (part.getData() instanceof String text) {
+                    if (text.contains("event:")) {
+                        name = text.substring(text.indexOf("event:") + 6, text.indexOf('\n', text.indexOf("event:")));
+                    } else if (name == null && text.startsWith(":heartbeat")) {
+                        name = "heartbeat";
+                    }
+                } else {
+                    data.add(part.getData());
+                }
+            }
+            if (name != null) {
+                names.add(name);
+            }
+        }
+
+        List<String> names() {
+            return names;
+        }
+
+        List<Object> data() {
+            return data;
+        }
+
+        Object awaitData(int count) {
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (data.size() < count && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertTrue(data.size() >= count, "Expected " + count + " events, got " + data.size());
+            return data.get(count - 1);
+        }
+    }
+}
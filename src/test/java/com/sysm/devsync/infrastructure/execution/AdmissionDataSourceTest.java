@@ -0,0 +1,89 @@
+package com.sysm.devsync.infrastructure.execution;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+    @Mock
+    private Connection connection;
+
+    private DatabaseAdmission admission;
+    private AdmissionDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        admission = new DatabaseAdmission(1, 0, Duration.ofMillis(10), new SimpleMeterRegistry());
+        dataSource = new AdmissionDataSource(pool, admission);
+    }
+
+    @Test
+    @DisplayName("Should hold the place while the connection is open and give it back once when closed")
+    void getConnection_shouldReleaseOnClose() throws Exception {
+        // Arrange
+        when(pool.getConnection()).thenReturn(connection);
+
+        // Act
+        Connection admitted = dataSource.getConnection();
+        assertThat(admission.active()).isEqualTo(1);
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(DatabaseBusyException.class);
+        admitted.close();
+        admitted.close();
+
+        // Assert
+        verify(connection, times(2)).close();
+        assertThat(admission.active()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should delegate to the pooled connection")
+    void getConnection_shouldDelegate() throws Exception {
+        // Arrange
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        // Act
+        Connection admitted = dataSource.getConnection();
+
+        // Assert
+        assertThat(admitted.getAutoCommit()).isFalse();
+        assertThat(admitted).isEqualTo(admitted).isNotEqualTo(connection);
+        admitted.close();
+    }
+
+    @Test
+    @DisplayName("Should give the place back when the pool fails to hand out a connection")
+    void getConnection_shouldRelease_whenPoolFails() throws Exception {
+        // Arrange
+        when(pool.getConnection()).thenThrow(new SQLException("Connection is not available"));
+
+        // Act & Assert
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLException.class)
+                .hasMessage("Connection is not available");
+        assertThat(admission.active()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the pool as its target, for the pool metrics to find it")
+    void getTargetDataSource_shouldBeThePool() throws Exception {
+        assertThat(dataSource.getTargetDataSource()).isSameAs(pool);
+    }
+}
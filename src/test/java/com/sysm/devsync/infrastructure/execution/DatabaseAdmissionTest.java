@@ -0,0 +1,109 @@
+package com.sysm.devsync.infrastructure.execution;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class DatabaseAdmissionTest {
+
+    private SimpleMeterRegistry registry;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        callers = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should queue a caller past the size and admit it when a place is released")
+    void acquire_shouldQueueUntilReleased() throws Exception {
+        // Arrange
+        var admission = new DatabaseAdmission(1, 10, Duration.ofSeconds(5), registry);
+        admission.acquire();
+
+        // Act
+        Future<?> waiting = callers.submit(() -> {
+            admission.acquire();
+            return null;
+        });
+        await().atMost(2, TimeUnit.SECONDS).until(() -> admission.queued() == 1);
+        admission.release();
+
+        // Assert
+        waiting.get(2, TimeUnit.SECONDS);
+        assertThat(admission.active()).isEqualTo(1);
+        assertThat(admission.queued()).isZero();
+        assertThat(registry.get("devsync.db.admission.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should refuse at once when the queue is full")
+    void acquire_shouldRefuse_whenQueueIsFull() throws Exception {
+        // Arrange
+        var admission = new DatabaseAdmission(1, 1, Duration.ofSeconds(5), registry);
+        admission.acquire();
+        var blocked = new CountDownLatch(1);
+        callers.submit(() -> {
+            blocked.countDown();
+            admission.acquire();
+            return null;
+        });
+        blocked.await();
+        await().atMost(2, TimeUnit.SECONDS).until(() -> admission.queued() == 1);
+
+        // Act & Assert
+        assertThatThrownBy(admission::acquire)
+                .isInstanceOf(DatabaseBusyException.class)
+                .hasMessage("Database busy, 1 callers are already waiting");
+        assertThat(registry.get("devsync.db.admission.rejected").tag("reason", "queue-full").counter().count())
+                .isEqualTo(1);
+        assertThat(admission.queued()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse a caller that waited longer than the timeout")
+    void acquire_shouldRefuse_whenTimeoutElapses() throws Exception {
+        // Arrange
+        var admission = new DatabaseAdmission(1, 10, Duration.ofMillis(50), registry);
+        admission.acquire();
+
+        // Act & Assert
+        assertThatThrownBy(admission::acquire)
+                .isInstanceOf(DatabaseBusyException.class)
+                .hasMessage("Database busy, no connection within 50 ms");
+        assertThat(registry.get("devsync.db.admission.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1);
+        assertThat(admission.queued()).isZero();
+        assertThat(admission.active()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should publish the callers holding and waiting for a connection")
+    void gauges_shouldReportActiveAndQueued() throws Exception {
+        var admission = new DatabaseAdmission(3, 10, Duration.ofSeconds(5), registry);
+        admission.acquire();
+        admission.acquire();
+
+        assertThat(registry.get("devsync.db.admission.active").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("devsync.db.admission.queued").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,86 @@
+package com.sysm.devsync.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryBudgetFilterTest {
+
+    private SimpleMeterRegistry registry;
+    private QueryBudgetFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new QueryBudgetFilter(registry, true, 5, 2);
+    }
+
+    @Test
+    @DisplayName("Should count a request that repeats the same statement over the budget, as an N+1")
+    void doFilter_shouldCountRepeatedStatements() throws Exception {
+        // Act
+        var request = run(3, "select t.tag_id from question_tags t where t.question_id = ?");
+
+        // Assert
+        var report = (RequestQueries.Report) request.getAttribute(QueryBudgetFilter.REPORT_ATTRIBUTE);
+        assertThat(report.statements()).isEqualTo(3);
+        assertThat(report.repeats()).isEqualTo(3);
+        assertThat(registry.get(QueryBudgetFilter.EXCEEDED_COUNTER)
+                .tag("uri", "/questions")
+                .tag("reason", "repeats")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count a request that runs more statements than the budget")
+    void doFilter_shouldCountTooManyStatements() throws Exception {
+        // Act
+        run(6, null);
+
+        // Assert
+        assertThat(registry.get(QueryBudgetFilter.EXCEEDED_COUNTER)
+                .tag("reason", "statements")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not count a request within budget")
+    void doFilter_shouldNotCountWithinBudget() throws Exception {
+        // Act
+        var request = run(2, null);
+
+        // Assert
+        assertThat(request.getAttribute(QueryBudgetFilter.REPORT_ATTRIBUTE)).isNotNull();
+        assertThat(registry.find(QueryBudgetFilter.EXCEEDED_COUNTER).counter()).isNull();
+    }
+
+    /**
+     * Sends a request whose handler prepares the statement the given number of times, or as many
+     * different statements when it is null.
+     */
+    private MockHttpServletRequest run(int statements, String sql) throws Exception {
+        var request = new MockHttpServletRequest("GET", "/questions");
+        var servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/questions");
+                for (int i = 0; i < statements; i++) {
+                    RequestQueries.prepared(sql != null ? sql : "select * from table_" + (char) ('a' + i));
+                }
+            }
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(servlet));
+        return request;
+    }
+}
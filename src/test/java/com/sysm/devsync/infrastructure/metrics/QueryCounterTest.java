@@ -0,0 +1,54 @@
+package com.sysm.devsync.infrastructure.metrics;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryCounterTest extends AbstractRepositoryTest {
+
+    @BeforeEach
+    void setUp() {
+        clearRepositories();
+        flushAndClear();
+    }
+
+    @Test
+    @DisplayName("Should count the statements Hibernate executes on the current thread")
+    void snapshot_shouldCountStatementsSinceItWasTaken() {
+        // Arrange
+        QueryCounter.Snapshot outer = QueryCounter.snapshot();
+        entityManager.persist(UserJpaEntity.fromModel(User.create("Counted", "counted@example.com", UserRole.MEMBER)));
+        flushAndClear();
+
+        // Act
+        QueryCounter.Snapshot inner = QueryCounter.snapshot();
+        userJpaRepository.findAll();
+        userJpaRepository.count();
+
+        // Assert
+        assertThat(inner.statementsSince()).isEqualTo(2);
+        assertThat(outer.statementsSince()).isEqualTo(3);
+        assertThat(outer.nanosSince()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should not count statements executed on other threads")
+    void snapshot_shouldIgnoreOtherThreads() {
+        // Arrange
+        QueryCounter.Snapshot snapshot = QueryCounter.snapshot();
+
+        // Act
+        CompletableFuture.runAsync(() -> QueryCounter.executed(1_000)).join();
+
+        // Assert
+        assertThat(snapshot.statementsSince()).isZero();
+    }
+}
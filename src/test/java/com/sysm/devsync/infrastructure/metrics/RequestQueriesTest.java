@@ -0,0 +1,55 @@
+package com.sysm.devsync.infrastructure.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestQueriesTest {
+
+    @Test
+    @DisplayName("Should give the same shape to statements that differ by literals or IN list length")
+    void shapeOf_shouldIgnoreLiteralsAndInListLength() {
+        assertThat(RequestQueries.shapeOf("select t.id from tags t where t.id in (?, ?, ?)"))
+                .isEqualTo(RequestQueries.shapeOf("select t.id from tags t where t.id in (?)"));
+        assertThat(RequestQueries.shapeOf("select q1_0.id from questions q1_0 where q1_0.status='OPEN' fetch first 10 rows only"))
+                .isEqualTo("select q1_0.id from questions q1_0 where q1_0.status=? fetch first ? rows only");
+        assertThat(RequestQueries.shapeOf("select u.id\n  from users u"))
+                .isEqualTo("select u.id from users u");
+    }
+
+    @Test
+    @DisplayName("Should report the shape prepared most often, and only while tracking")
+    void report_shouldCountRepeatedShapes() {
+        RequestQueries.prepared("select 1 from users where id = ?");
+
+        RequestQueries.Report report;
+        try (var tracker = RequestQueries.start()) {
+            RequestQueries.prepared("select p.id from projects p");
+            for (int i = 0; i < 3; i++) {
+                RequestQueries.prepared("select t.tag_id from question_tags t where t.question_id = ?");
+            }
+            report = tracker.report();
+        }
+        RequestQueries.prepared("select 1 from users where id = ?");
+
+        assertThat(report.statements()).isEqualTo(4);
+        assertThat(report.shapes()).isEqualTo(2);
+        assertThat(report.repeats()).isEqualTo(3);
+        assertThat(report.repeated()).isEqualTo("select t.tag_id from question_tags t where t.question_id = ?");
+    }
+
+    @Test
+    @DisplayName("Should resume the outer tracker when a nested one is closed")
+    void start_shouldNest() {
+        try (var outer = RequestQueries.start()) {
+            try (var inner = RequestQueries.start()) {
+                RequestQueries.prepared("select 1");
+                assertThat(inner.report().statements()).isEqualTo(1);
+            }
+            RequestQueries.prepared("select 2");
+
+            assertThat(outer.report().statements()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.sysm.devsync.infrastructure.repositories;
+
+import com.sysm.devsync.domain.enums.QuestionStatus;
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.RecordingStatementInspector;
+import com.sysm.devsync.infrastructure.repositories.entities.QuestionJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Builds the schema with the migrations instead of Hibernate. Starting the context proves the
+ * migrated schema matches the mappings (ddl-auto validate), the plan checks prove every
+ * repository query reaches the large tables through an index.
+ */
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sysm.devsync.infrastructure.RecordingStatementInspector"
+})
+public class SchemaMigrationTest extends AbstractRepositoryTest {
+
+    // Tables that grow with usage, a full scan on any of them does not survive production volumes
+    private static final Set<String> LARGE_TABLES = Set.of(
+            "projects", "questions", "question_tags", "answers", "notes", "note_tags", "comments", "workspace_members",
+            "tombstones"
+    );
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("(\\w+)\\.tableScan", Pattern.CASE_INSENSITIVE);
+    private static final String ID = "id-1";
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Should apply every migration in version order")
+    void migrate_shouldApplyAllVersions() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(applied).extracting(info -> info.getVersion().getVersion()).containsExactly("1", "2", "3", "4", "5", "6");
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should baseline a database created before the migrations and apply the later versions")
+    void migrate_shouldBaselineExistingSchema() throws SQLException {
+        String url = "jdbc:h2:mem:baseline;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        try (Connection existing = DriverManager.getConnection(url, "sa", "sa")) {
+            // The schema Hibernate used to create, without a migration history
+            existing.createStatement().execute("RUNSCRIPT FROM 'classpath:db/pre_migration_schema.sql'");
+            existing.createStatement().execute("""
+                    INSERT INTO users (id, name, email, role, created_at, updated_at) VALUES
+                        ('u1', 'Owner', 'owner@test.com', 'ADMIN', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+                        ('u2', 'Member', 'member@test.com', 'MEMBER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+                    INSERT INTO workspaces (id, name, owner_id, is_private, created_at, updated_at)
+                        VALUES ('w1', 'Workspace', 'u1', false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+                    INSERT INTO workspace_members (workspace_id, user_id) VALUES ('w1', 'u1'), ('w1', 'u2');
+                    """);
+
+            Flyway legacy = Flyway.configure()
+                    .configuration(flyway.getConfiguration())
+                    .dataSource(url, "sa", "sa")
+                    .load();
+            legacy.migrate();
+
+            MigrationInfo[] applied = legacy.info().applied();
+            assertThat(applied[0].getType().isBaseline()).isTrue();
+            assertThat(applied).extracting(info -> info.getVersion().getVersion()).containsExactly("1", "2", "3", "4", "5", "6");
+            assertThat(legacy.info().pending()).isEmpty();
+
+            // Columns added since the baseline exist and are filled from the existing rows
+            try (ResultSet rs = existing.createStatement().executeQuery("SELECT member_count, version FROM workspaces WHERE id = 'w1'")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getInt("member_count")).isEqualTo(2);
+                assertThat(rs.getInt("version")).isEqualTo(1);
+            }
+            assertThat(columns(existing)).isEqualTo(columns(connection()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should create the filter indexes declared on the entities")
+    void migrate_shouldCreateFilterIndexes() throws SQLException {
+        List<String> indexes = new ArrayList<>();
+        try (var statement = connection().prepareStatement("SELECT index_name FROM information_schema.indexes");
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                indexes.add(rs.getString(1).toLowerCase(Locale.ROOT));
+            }
+        }
+
+        assertThat(indexes).contains(
+                "idx_workspaces_owner_id",
+                "idx_workspace_members_workspace_id",
+                "idx_projects_workspace_id",
+                "idx_questions_project_status",
+                "idx_questions_author_id",
+                "idx_question_tags_tag_id",
+                "idx_note_tags_tag_id",
+                "idx_answers_question_id",
+                "idx_answers_author_id",
+                "idx_notes_project_id",
+                "idx_notes_author_id",
+                "idx_comments_target",
+                "idx_comments_author_id",
+                "idx_questions_updated_at",
+                "idx_answers_updated_at",
+                "idx_comments_updated_at",
+                "idx_notes_updated_at",
+                "idx_tombstones_deleted_at"
+        );
+    }
+
+    @Test
+    @DisplayName("Repository queries should not scan a large table")
+    void repositoryQueries_shouldUseIndexes() throws SQLException {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("answers by question", () -> answerJpaRepository.findAllByQuestion_Id(ID, PAGE));
+        queries.put("answers by author", () -> answerJpaRepository.findByAuthorId(ID));
+        queries.put("answers delete by question", () -> answerJpaRepository.deleteAllByQuestion_Id(ID));
+        queries.put("answers by questions", () -> answerJpaRepository.findAllByQuestion_IdIn(List.of(ID, "id-2")));
+        queries.put("answer author", () -> answerJpaRepository.findAuthorIdById(ID));
+        queries.put("answer question", () -> answerJpaRepository.findQuestionIdById(ID));
+        queries.put("answers filtered by question", () -> answerJpaRepository.findAll(
+                (root, query, cb) -> cb.equal(root.get("question").get("id"), ID), PAGE));
+
+        queries.put("comments by target", () -> commentJpaRepository.findAllByTargetTypeAndTargetId(TargetType.QUESTION, ID, PAGE));
+        queries.put("comments delete by target", () -> commentJpaRepository.deleteAllByTargetTypeAndTargetId(TargetType.QUESTION, ID));
+        queries.put("comments delete on answers of question", () -> commentJpaRepository.deleteAllOnAnswersOfQuestion(ID));
+        queries.put("comments by targets", () -> commentJpaRepository.findAllByTargetTypeAndTargetIdIn(TargetType.QUESTION, List.of(ID, "id-2")));
+        queries.put("comments on answers of questions", () -> commentJpaRepository.findAllOnAnswersOfQuestions(List.of(ID, "id-2")));
+        queries.put("comment author", () -> commentJpaRepository.findAuthorIdById(ID));
+
+        queries.put("notes by project", () -> noteJpaRepository.findAllByProject_Id(ID, PAGE));
+        queries.put("note tags", () -> noteJpaRepository.findTagIdsByNoteIdIn(List.of(ID, "id-2")));
+        queries.put("note author", () -> noteJpaRepository.findAuthorIdById(ID));
+        queries.put("notes stream by project", () -> noteJpaRepository.streamAllByProjectId(ID).close());
+        queries.put("note tags by id", () -> noteJpaRepository.findTagIdsByNoteId(ID));
+
+        queries.put("project with workspace", () -> projectJpaRepository.findWithWorkspaceById(ID));
+        queries.put("projects exist in workspace", () -> projectJpaRepository.existsByWorkspaceId(ID));
+        queries.put("projects count in workspace", () -> projectJpaRepository.countByWorkspaceId(ID));
+        queries.put("projects existing", () -> projectJpaRepository.findExistingIds(List.of(ID, "id-2")));
+        queries.put("projects count per workspace", () -> projectJpaRepository.countProjectsByWorkspaceIdIn(List.of(ID, "id-2")));
+
+        queries.put("questions by project", () -> questionJpaRepository.findAllByProject_Id(ID, PAGE));
+        queries.put("question tags", () -> questionJpaRepository.findTagIdsByQuestionIdIn(List.of(ID, "id-2")));
+        queries.put("question tag ids", () -> questionJpaRepository.findTagIdsByQuestionId(ID));
+        queries.put("questions stream by project", () -> questionJpaRepository.streamAllByProjectId(ID).close());
+        queries.put("question delete", () -> questionJpaRepository.deleteInBulkById(ID));
+        queries.put("question author", () -> questionJpaRepository.findAuthorIdById(ID));
+        queries.put("questions filtered by project and status", () -> questionJpaRepository.findAll(
+                Specification.<QuestionJpaEntity>where((root, query, cb) -> cb.equal(root.get("project").get("id"), ID))
+                        .and((root, query, cb) -> cb.equal(root.get("status"), QuestionStatus.OPEN)), PAGE));
+
+        queries.put("tag increment", () -> tagJpaRepository.incrementUse(ID));
+        queries.put("tags decrement", () -> tagJpaRepository.decrementUseByIdIn(List.of(ID, "id-2")));
+        queries.put("tags usage flush", () -> tagJpaRepository.addUse(2, List.of(ID, "id-2")));
+        queries.put("tags usage after", () -> tagJpaRepository.findUsageAfter(ID, PAGE));
+        queries.put("tags question uses", () -> tagJpaRepository.countQuestionUsesByTagIdIn(List.of(ID, "id-2")));
+        queries.put("tags note uses", () -> tagJpaRepository.countNoteUsesByTagIdIn(List.of(ID, "id-2")));
+        queries.put("tags existing", () -> tagJpaRepository.findExistingIds(List.of(ID, "id-2")));
+        queries.put("users existing", () -> userJpaRepository.findExistingIds(List.of(ID, "id-2")));
+        queries.put("user names", () -> userJpaRepository.userIdXUseName(List.of(ID, "id-2")));
+
+        queries.put("workspace with members", () -> workspaceJpaRepository.findWithMembersById(ID));
+        queries.put("workspace has members", () -> workspaceJpaRepository.hasMembers(ID));
+        queries.put("workspace member check", () -> workspaceJpaRepository.isMember(ID, "id-2"));
+        queries.put("workspace owner names", () -> workspaceJpaRepository.findOwnerNamesByWorkspaceIdIn(List.of(ID, "id-2")));
+        queries.put("workspace member rows", () -> workspaceJpaRepository.findMembersByWorkspaceIdIn(List.of(ID, "id-2")));
+        queries.put("workspace members page", () -> workspaceJpaRepository.findMembersByWorkspaceId(ID, PAGE));
+        queries.put("workspace members insert", () -> workspaceJpaRepository.insertMembers(ID, List.of("id-2")));
+        queries.put("workspace members delete", () -> workspaceJpaRepository.deleteMembers(ID, List.of("id-2")));
+        queries.put("workspace member count", () -> workspaceJpaRepository.adjustMemberCount(ID, 1, Instant.now()));
+        queries.put("workspace member count within update", () -> workspaceJpaRepository.adjustMemberCountKeepingVersion(ID, 1));
+        queries.put("workspaces filtered by member", () -> workspaceJpaRepository.findAll(
+                (root, query, cb) -> cb.equal(root.<WorkspaceJpaEntity, Object>join("members").get("id"), ID), PAGE));
+
+        Instant at = Instant.now();
+        queries.put("questions changed", () -> questionJpaRepository.findChangedAfter(at, ID, at, PAGE));
+        queries.put("answers changed", () -> answerJpaRepository.findChangedAfter(at, ID, at, PAGE));
+        queries.put("comments changed", () -> commentJpaRepository.findChangedAfter(at, ID, at, PAGE));
+        queries.put("notes changed", () -> noteJpaRepository.findChangedAfter(at, ID, at, PAGE));
+        queries.put("question revision", () -> questionJpaRepository.findRevisionById(ID));
+        queries.put("note revision", () -> noteJpaRepository.findRevisionById(ID));
+        queries.put("tombstones deleted", () -> tombstoneJpaRepository.findDeletedAfter(at, ID, at, PAGE));
+        queries.put("tombstones of comments", () -> tombstoneJpaRepository.recordComments(TargetType.QUESTION, ID, at));
+        queries.put("tombstones of comments on answers", () -> tombstoneJpaRepository.recordCommentsOnAnswersOfQuestion(ID, at));
+        queries.put("tombstones of answers", () -> tombstoneJpaRepository.recordAnswersOfQuestion(ID, at));
+
+        List<String> scans = new ArrayList<>();
+        for (var query : queries.entrySet()) {
+            RecordingStatementInspector.clear();
+            query.getValue().run();
+            for (String sql : RecordingStatementInspector.statements()) {
+                String plan = explain(sql);
+                Matcher matcher = TABLE_SCAN.matcher(plan);
+                while (matcher.find()) {
+                    if (LARGE_TABLES.contains(matcher.group(1).toLowerCase(Locale.ROOT))) {
+                        scans.add(query.getKey() + ": " + plan);
+                    }
+                }
+            }
+        }
+
+        assertThat(scans).isEmpty();
+    }
+
+    private String explain(String sql) throws SQLException {
+        // H2 plans a statement without its parameter values, the ? placeholders can stay unbound
+        try (var statement = connection().prepareStatement("EXPLAIN " + sql);
+             ResultSet rs = statement.executeQuery()) {
+            List<String> lines = new ArrayList<>();
+            while (rs.next()) {
+                lines.add(rs.getString(1));
+            }
+            return String.join(" ", lines);
+        }
+    }
+
+    private static Map<String, Set<String>> columns(Connection connection) throws SQLException {
+        Map<String, Set<String>> columns = new TreeMap<>();
+        try (var statement = connection.prepareStatement("""
+                SELECT table_name, column_name FROM information_schema.columns
+                WHERE table_schema = ? AND table_name <> 'flyway_schema_history'
+                """)) {
+            statement.setString(1, connection.getSchema());
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    columns.computeIfAbsent(rs.getString(1).toLowerCase(Locale.ROOT), table -> new TreeSet<>())
+                            .add(rs.getString(2).toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return columns;
+    }
+
+    private Connection connection() {
+        // The connection of the test transaction, so the plans see the same schema and session
+        return DataSourceUtils.getConnection(dataSource);
+    }
+}
@@ -23,7 +23,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
 
-import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
@@ -129,6 +128,18 @@ public class AnswerPersistenceTest extends AbstractRepositoryTest {
             assertThat(foundAnswer).isPresent();
             assertThat(foundAnswer.get().getContent()).isEqualTo(answer1Domain.getContent());
         }
+
+        @Test
+        @DisplayName("should insert without selecting the answer, its question or author")
+        void create_shouldNotSelectBeforeInsert() {
+            var statistics = resetStatistics();
+
+            answerPersistence.create(answer1Domain);
+            entityManager.flush();
+
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
     }
 
     @Nested
@@ -140,19 +151,12 @@ public class AnswerPersistenceTest extends AbstractRepositoryTest {
             // Arrange: First, create the answer
             create(answer1Domain);
 
-            // Build updated domain model
-            Answer updatedDomainAnswer = Answer.build(
-                    answer1Domain.getId(),
-                    answer1Domain.getQuestionId(),
-                    answer1Domain.getAuthorId(),
-                    answer1Domain.getCreatedAt(),
-                    "Updated: This is the first answer for question 1.", // Change content
-                    true, // Change accepted status
-                    Instant.now()
-            );
+            Answer loadedAnswer = answerPersistence.findById(answer1Domain.getId()).orElseThrow();
+            loadedAnswer.update("Updated: This is the first answer for question 1."); // Change content
+            loadedAnswer.accept(); // Change accepted status
 
             // Act
-            assertDoesNotThrow(() -> update(updatedDomainAnswer));
+            assertDoesNotThrow(() -> update(loadedAnswer));
 
             // Assert
             Optional<Answer> foundAnswerOpt = answerPersistence.findById(answer1Domain.getId());
@@ -290,6 +294,30 @@ public class AnswerPersistenceTest extends AbstractRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("ownership projection Tests")
+    class OwnershipTests {
+        @Test
+        @DisplayName("findAuthorId and findQuestionId should read ids without loading the answer")
+        void findAuthorIdAndQuestionId_shouldReturnIds() {
+            create(answer1Domain);
+
+            var statistics = resetStatistics();
+            assertThat(answerPersistence.findAuthorId(answer1Domain.getId())).contains(authorUserJpa.getId());
+            assertThat(answerPersistence.findQuestionId(answer1Domain.getId())).contains(question1Jpa.getId());
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("findAuthorId should return empty for an unknown answer")
+        void findAuthorId_unknownAnswer_shouldReturnEmpty() {
+            assertThat(answerPersistence.findAuthorId("unknown-answer")).isEmpty();
+            assertThat(answerPersistence.findQuestionId("unknown-answer")).isEmpty();
+        }
+    }
+
     private void create(Answer entity) {
         answerPersistence.create(entity);
         flushAndClear();
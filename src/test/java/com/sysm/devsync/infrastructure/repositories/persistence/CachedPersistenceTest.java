@@ -0,0 +1,108 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
+import com.sysm.devsync.infrastructure.cache.CacheStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({UserPersistence.class, WorkspacePersistence.class})
+@TestPropertySource(properties = {
+        "dev-sync.cache.enabled=true",
+        "dev-sync.cache.workspaces.enabled=false"
+})
+public class CachedPersistenceTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private UserPersistence userPersistence;
+
+    @Autowired
+    private WorkspacePersistence workspacePersistence;
+
+    @Autowired
+    private AggregateCaches caches;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        clearRepositories();
+        caches.invalidateAll();
+
+        user = User.create("John Doe", "john.doe@example.com", UserRole.MEMBER);
+        userPersistence.create(user);
+        flushAndClear();
+    }
+
+    @Test
+    @DisplayName("findById and existsById should hit the database only once for a cached user")
+    void findById_shouldAnswerRepeatedReadsFromCache() {
+        long hitsBefore = stats("users").hits();
+        var statistics = resetStatistics();
+
+        userPersistence.findById(user.getId());
+        userPersistence.findById(user.getId());
+        assertThat(userPersistence.existsById(user.getId())).isTrue();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(stats("users").hits() - hitsBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("update should invalidate the cached user")
+    void update_shouldInvalidateCachedUser() {
+        userPersistence.findById(user.getId());
+
+        var changed = userPersistence.findById(user.getId()).orElseThrow();
+        changed.update("Johnny", "johnny@example.com", UserRole.MEMBER);
+        userPersistence.update(changed);
+        flushAndClear();
+
+        assertThat(userPersistence.findById(user.getId()).orElseThrow().getName()).isEqualTo("Johnny");
+    }
+
+    @Test
+    @DisplayName("deleteById should invalidate a cached existence check")
+    void deleteById_shouldInvalidateExistence() {
+        assertThat(userPersistence.existsById(user.getId())).isTrue();
+
+        userPersistence.deleteById(user.getId());
+        flushAndClear();
+
+        assertThat(userPersistence.existsById(user.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("a cache switched off for one aggregate should always read the database")
+    void disabledAggregate_shouldNotCache() {
+        var workspace = Workspace.create("Workspace", "Description", false, user.getId());
+        workspacePersistence.create(workspace);
+        workspacePersistence.addMembers(workspace.getId(), List.of(user.getId()));
+        flushAndClear();
+
+        var statistics = resetStatistics();
+        workspacePersistence.findById(workspace.getId());
+        workspacePersistence.findById(workspace.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(stats("workspaces").enabled()).isFalse();
+    }
+
+    private CacheStats stats(String name) {
+        return caches.stats().stream()
+                .filter(stats -> stats.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
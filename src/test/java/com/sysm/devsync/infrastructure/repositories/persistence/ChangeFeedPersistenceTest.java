@@ -0,0 +1,220 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.BusinessException;
+import com.sysm.devsync.domain.enums.AggregateType;
+import com.sysm.devsync.domain.enums.QuestionStatus;
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Change;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Changes;
+import com.sysm.devsync.domain.persistence.ChangeFeedPort.Kind;
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.repositories.entities.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Import(ChangeFeedPersistence.class)
+public class ChangeFeedPersistenceTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private ChangeFeedPersistence changeFeedPersistence;
+
+    private UserJpaEntity author;
+    private ProjectJpaEntity project;
+    private Instant base;
+
+    @BeforeEach
+    void setUp() {
+        clearRepositories();
+
+        author = UserJpaEntity.fromModel(User.create("Sync Author", "sync.author@example.com", UserRole.MEMBER));
+        entityPersist(author);
+
+        Workspace workspace = Workspace.create("Sync Workspace", "Desc", false, author.getId());
+        WorkspaceJpaEntity workspaceJpa = new WorkspaceJpaEntity(workspace.getId());
+        workspaceJpa.setName(workspace.getName());
+        workspaceJpa.setOwner(author);
+        workspaceJpa.setCreatedAt(workspace.getCreatedAt());
+        workspaceJpa.setUpdatedAt(workspace.getUpdatedAt());
+        entityPersist(workspaceJpa);
+
+        Project projectDomain = Project.create("Sync Project", "Desc", workspaceJpa.getId());
+        project = new ProjectJpaEntity(projectDomain.getId());
+        project.setName(projectDomain.getName());
+        project.setWorkspace(workspaceJpa);
+        project.setCreatedAt(projectDomain.getCreatedAt());
+        project.setUpdatedAt(projectDomain.getUpdatedAt());
+        entityPersist(project);
+
+        // Stored times have microsecond precision
+        base = Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @Test
+    @DisplayName("Should merge the changes of every source in time order")
+    void readChanges_shouldMergeSourcesInTimeOrder() {
+        // Arrange
+        QuestionJpaEntity question = question(base.plusSeconds(1));
+        NoteJpaEntity note = note(base.plusSeconds(2));
+        AnswerJpaEntity answer = answer(question, base.plusSeconds(3));
+        CommentJpaEntity comment = comment(note, base.plusSeconds(4));
+        tombstoneJpaRepository.record(AggregateType.NOTE, "gone-note", base.plusSeconds(5));
+        flushAndClear();
+
+        // Act
+        Changes changes = changeFeedPersistence.readChanges(null, Instant.now(), 10);
+
+        // Assert
+        assertThat(changes.changes())
+                .extracting(Change::type, Change::kind, Change::id)
+                .containsExactly(
+                        tuple(AggregateType.QUESTION, Kind.CREATED, question.getId()),
+                        tuple(AggregateType.NOTE, Kind.CREATED, note.getId()),
+                        tuple(AggregateType.ANSWER, Kind.CREATED, answer.getId()),
+                        tuple(AggregateType.COMMENT, Kind.CREATED, comment.getId()),
+                        tuple(AggregateType.NOTE, Kind.DELETED, "gone-note"));
+        assertThat(changes.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should resume after the cursor without repeating or skipping changes made at the same time")
+    void readChanges_shouldResumeAfterCursor() {
+        // Arrange: every source has changes at the same instant
+        Instant at = base.plusSeconds(1);
+        QuestionJpaEntity question = question(at);
+        question(at);
+        answer(question, at);
+        NoteJpaEntity note = note(at);
+        note(at);
+        comment(note, at);
+        tombstoneJpaRepository.record(AggregateType.ANSWER, "gone-answer", at);
+        question(base.plusSeconds(2));
+        flushAndClear();
+        List<Change> all = changeFeedPersistence.readChanges(null, Instant.now(), 100).changes();
+
+        // Act
+        List<Change> paged = new ArrayList<>();
+        String cursor = null;
+        Changes changes;
+        do {
+            changes = changeFeedPersistence.readChanges(cursor, Instant.now(), 2);
+            paged.addAll(changes.changes());
+            cursor = changes.cursor();
+        } while (changes.hasMore());
+
+        // Assert
+        assertThat(all).hasSize(8);
+        assertThat(paged).containsExactlyElementsOf(all);
+        assertThat(changeFeedPersistence.readChanges(cursor, Instant.now(), 2).changes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report a change as updated when the row was created before the cursor")
+    void readChanges_shouldReportUpdated_whenCreatedBeforeCursor() {
+        // Arrange
+        QuestionJpaEntity question = question(base.plusSeconds(1));
+        flushAndClear();
+        String cursor = changeFeedPersistence.readChanges(null, Instant.now(), 10).cursor();
+
+        QuestionJpaEntity loaded = entityManager.find(QuestionJpaEntity.class, question.getId());
+        loaded.setUpdatedAt(base.plusSeconds(2));
+        flushAndClear();
+
+        // Act
+        Changes changes = changeFeedPersistence.readChanges(cursor, Instant.now(), 10);
+
+        // Assert
+        assertThat(changes.changes())
+                .extracting(Change::kind, Change::id)
+                .containsExactly(tuple(Kind.UPDATED, question.getId()));
+    }
+
+    @Test
+    @DisplayName("Should leave out changes after until and keep the cursor when nothing is returned")
+    void readChanges_shouldStopAtUntil() {
+        // Arrange
+        note(base.plusSeconds(10));
+        flushAndClear();
+
+        // Act
+        Changes changes = changeFeedPersistence.readChanges(null, base.plusSeconds(5), 10);
+
+        // Assert
+        assertThat(changes.changes()).isEmpty();
+        assertThat(changes.hasMore()).isFalse();
+        assertThat(changeFeedPersistence.readChanges(changes.cursor(), Instant.now(), 10).changes()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor it did not issue")
+    void readChanges_shouldThrow_whenCursorIsInvalid() {
+        assertThatThrownBy(() -> changeFeedPersistence.readChanges("not-a-cursor", Instant.now(), 10))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Invalid sync cursor");
+    }
+
+    private QuestionJpaEntity question(Instant at) {
+        QuestionJpaEntity question = new QuestionJpaEntity(UUID.randomUUID().toString());
+        question.setTitle("Question");
+        question.setDescription("Desc");
+        question.setStatus(QuestionStatus.OPEN);
+        question.setAuthor(author);
+        question.setProject(project);
+        question.setCreatedAt(at);
+        question.setUpdatedAt(at);
+        entityManager.persist(question);
+        return question;
+    }
+
+    private AnswerJpaEntity answer(QuestionJpaEntity question, Instant at) {
+        AnswerJpaEntity answer = new AnswerJpaEntity(UUID.randomUUID().toString());
+        answer.setContent("Answer");
+        answer.setQuestion(question);
+        answer.setAuthor(author);
+        answer.setCreatedAt(at);
+        answer.setUpdatedAt(at);
+        entityManager.persist(answer);
+        return answer;
+    }
+
+    private NoteJpaEntity note(Instant at) {
+        NoteJpaEntity note = new NoteJpaEntity(UUID.randomUUID().toString());
+        note.setTitle("Note");
+        note.setContent("Content");
+        note.setAuthor(author);
+        note.setProject(project);
+        note.setVersion(1);
+        note.setCreatedAt(at);
+        note.setUpdatedAt(at);
+        entityManager.persist(note);
+        return note;
+    }
+
+    private CommentJpaEntity comment(NoteJpaEntity note, Instant at) {
+        CommentJpaEntity comment = new CommentJpaEntity(UUID.randomUUID().toString());
+        comment.setContent("Comment");
+        comment.setTargetType(TargetType.NOTE);
+        comment.setTargetId(note.getId());
+        comment.setAuthor(author);
+        comment.setCreatedAt(at);
+        comment.setUpdatedAt(at);
+        entityManager.persist(comment);
+        return comment;
+    }
+}
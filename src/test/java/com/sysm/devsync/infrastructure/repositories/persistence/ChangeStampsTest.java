@@ -0,0 +1,63 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeStampsTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("stamp should let a transaction commit within the settle time")
+    void stamp_shouldAllowTimelyCommit() {
+        var stamps = new ChangeStamps(Duration.ofMinutes(1));
+        TransactionSynchronizationManager.initSynchronization();
+
+        var at = stamps.stamp();
+        stamps.stamp();
+
+        assertEquals(at, at.truncatedTo(ChronoUnit.MILLIS));
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+        assertDoesNotThrow(() -> TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.beforeCommit(false)));
+    }
+
+    @Test
+    @DisplayName("stamp should fail a commit later than the settle time after the first stamp")
+    void stamp_shouldRejectLateCommit() throws InterruptedException {
+        var stamps = new ChangeStamps(Duration.ofMillis(20));
+        TransactionSynchronizationManager.initSynchronization();
+
+        stamps.stamp();
+        Thread.sleep(40);
+
+        assertThrows(LateCommitException.class, () -> TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.beforeCommit(false)));
+    }
+
+    @Test
+    @DisplayName("stamp should not check commits when the settle time is zero or there is no transaction")
+    void stamp_shouldNotCheckWithoutSettleTimeOrTransaction() {
+        assertNotNull(new ChangeStamps(Duration.ofMinutes(1)).stamp());
+
+        TransactionSynchronizationManager.initSynchronization();
+        new ChangeStamps(Duration.ZERO).stamp();
+
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+}
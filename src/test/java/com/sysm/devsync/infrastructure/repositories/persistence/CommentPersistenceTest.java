@@ -163,19 +163,11 @@ public class CommentPersistenceTest extends AbstractRepositoryTest {
             create(comment1OnQuestion);
             sleep(10);
 
-            // Build updated domain model
-            Comment updatedDomainComment = Comment.build(
-                    comment1OnQuestion.getId(),
-                    comment1OnQuestion.getTargetType(),
-                    comment1OnQuestion.getTargetId(),
-                    comment1OnQuestion.getAuthorId(),
-                    comment1OnQuestion.getCreatedAt(),
-                    "Updated: This is the first comment.", // Change content
-                    Instant.now() // New updatedAt
-            );
+            Comment loadedComment = commentPersistence.findById(comment1OnQuestion.getId()).orElseThrow();
+            loadedComment.update("Updated: This is the first comment."); // Change content
 
             // Act
-            update(updatedDomainComment);
+            update(loadedComment);
 
             // Assert
             Optional<Comment> foundCommentOpt = commentPersistence.findById(comment1OnQuestion.getId());
@@ -0,0 +1,120 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.Question;
+import com.sysm.devsync.domain.models.Tag;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.repositories.entities.ProjectJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.QuestionJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.TagJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares inserting questions through the merge behind {@code repository.save} with the persist
+ * path of {@link QuestionPersistence#create}. Each insert is flushed on its own, as it would be at
+ * the end of its transaction, and the statement counts and average latency of both are logged.
+ */
+@Import({QuestionPersistence.class, AnswerPersistence.class, CommentPersistence.class, TagPersistence.class})
+public class CreateLatencyBenchmarkTest extends AbstractRepositoryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CreateLatencyBenchmarkTest.class);
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private QuestionPersistence questionPersistence;
+
+    private String authorId;
+    private String projectId;
+    private String tag1Id;
+    private String tag2Id;
+
+    @BeforeEach
+    void setUp() {
+        clearRepositories();
+
+        UserJpaEntity author = UserJpaEntity.fromModel(User.create("Author", "bench.author@example.com", UserRole.MEMBER));
+        entityPersist(author);
+        WorkspaceJpaEntity workspace = WorkspaceJpaEntity.fromModel(Workspace.create("Bench", "Bench", false, author.getId()));
+        entityPersist(workspace);
+        ProjectJpaEntity project = ProjectJpaEntity.fromModel(Project.create("Bench", "Bench", workspace.getId()));
+        entityPersist(project);
+        TagJpaEntity tag1 = TagJpaEntity.fromModel(Tag.create("bench-1", "#FF0000", "Bench"));
+        entityPersist(tag1);
+        TagJpaEntity tag2 = TagJpaEntity.fromModel(Tag.create("bench-2", "#00FF00", "Bench"));
+        entityPersist(tag2);
+
+        authorId = author.getId();
+        projectId = project.getId();
+        tag1Id = tag1.getId();
+        tag2Id = tag2.getId();
+    }
+
+    @Test
+    @DisplayName("persisting new questions should run fewer statements than saving them")
+    void persist_shouldRunFewerStatementsThanSave() {
+        Result save = measure("save", question -> questionJpaRepository.save(QuestionJpaEntity.fromModel(question)));
+        Result persist = measure("persist", questionPersistence::create);
+
+        log.info("Question insert: {} | {} | {}x faster", save, persist,
+                String.format("%.2f", (double) save.averageNanos() / persist.averageNanos()));
+
+        assertThat(persist.statementsPerInsert()).isLessThan(save.statementsPerInsert());
+        assertThat(persist.loadsPerInsert()).isZero();
+    }
+
+    private Result measure(String name, Consumer<Question> insert) {
+        for (int i = 0; i < WARMUP; i++) {
+            insertOne(insert);
+        }
+
+        Statistics statistics = resetStatistics();
+        long elapsed = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            elapsed += insertOne(insert);
+        }
+        return new Result(name,
+                (double) statistics.getPrepareStatementCount() / ITERATIONS,
+                (double) statistics.getEntityLoadCount() / ITERATIONS,
+                elapsed / ITERATIONS);
+    }
+
+    private long insertOne(Consumer<Question> insert) {
+        Question question = Question.create("Benchmark question", "Description", projectId, authorId);
+        question.addTag(tag1Id);
+        question.addTag(tag2Id);
+
+        long start = System.nanoTime();
+        insert.accept(question);
+        entityManager.flush();
+        long elapsed = System.nanoTime() - start;
+
+        entityManager.clear();
+        return elapsed;
+    }
+
+    private record Result(String name, double statementsPerInsert, double loadsPerInsert, long averageNanos) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: %.1f statements, %.1f loads, %d us", name, statementsPerInsert, loadsPerInsert, averageNanos / 1000);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.sysm.devsync.infrastructure.repositories.persistence;
 
 import com.sysm.devsync.domain.BusinessException;
+import com.sysm.devsync.domain.ConflictException;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.Revision;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.AggregateType;
 import com.sysm.devsync.domain.enums.QueryType;
 import com.sysm.devsync.domain.enums.UserRole;
 import com.sysm.devsync.domain.models.Note;
@@ -21,6 +24,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -31,7 +36,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
-@Import(NotePersistence.class) // Import the class under test
+@Import({NotePersistence.class, TagPersistence.class}) // Import the class under test
 public class NotePersistenceTest extends AbstractRepositoryTest {
 
     @Autowired
@@ -143,20 +148,13 @@ public class NotePersistenceTest extends AbstractRepositoryTest {
             create(note1Domain);
             sleep(10); // Ensure updatedAt will be different
 
-            Note updatedDomainNote = Note.build(
-                    note1Domain.getId(),
-                    note1Domain.getCreatedAt(),
-                    Instant.now(),
-                    "Updated: First Note Title",
-                    "Updated content.",
-                    Set.of(tagJpaJpa.getId()), // Change tags
-                    project2Jpa.getId(), // Change project
-                    authorUserJpa.getId(),
-                    note1Domain.getVersion()
-            );
+            Note loadedNote = notePersistence.findById(note1Domain.getId()).orElseThrow();
+            loadedNote.update("Updated: First Note Title", "Updated content.");
+            Set.copyOf(loadedNote.getTagsId()).forEach(loadedNote::removeTag);
+            loadedNote.addTag(tagJpaJpa.getId()); // Change tags
 
             // Act
-            update(updatedDomainNote);
+            update(loadedNote);
 
             // Assert
             Optional<Note> foundNoteOpt = notePersistence.findById(note1Domain.getId());
@@ -164,14 +162,185 @@ public class NotePersistenceTest extends AbstractRepositoryTest {
             Note foundNote = foundNoteOpt.get();
 
             assertThat(foundNote.getTitle()).isEqualTo("Updated: First Note Title");
+            assertThat(foundNote.getContent()).isEqualTo("Updated content.");
             assertThat(foundNote.getTagsId()).containsExactly(tagJpaJpa.getId());
-            assertThat(foundNote.getProjectId()).isEqualTo(project2Jpa.getId());
             assertThat(foundNote.getUpdatedAt()).isAfter(note1Domain.getUpdatedAt());
         }
+
+        @Test
+        @DisplayName("should write a content edit with one narrow UPDATE and no SELECT")
+        void update_shouldWriteOnlyChangedColumns() {
+            create(note1Domain);
+            Note note = notePersistence.findById(note1Domain.getId()).orElseThrow();
+            note.updateContent("Edited content.");
+            var statistics = resetStatistics();
+
+            update(note);
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(note.hasChanges()).isFalse();
+            Note found = notePersistence.findById(note1Domain.getId()).orElseThrow();
+            assertThat(found.getContent()).isEqualTo("Edited content.");
+            assertThat(found.getTitle()).isEqualTo(note1Domain.getTitle());
+            assertThat(found.getVersion()).isEqualTo(note1Domain.getVersion() + 1);
+            assertThat(found.getTagsId()).hasSameElementsAs(note1Domain.getTagsId());
+        }
+
+        @Test
+        @DisplayName("should stamp the time of the write, not the time of the edit")
+        void update_shouldStampTheWriteTime() {
+            create(note1Domain);
+            Note note = notePersistence.findById(note1Domain.getId()).orElseThrow();
+            note.updateContent("Edited content.");
+            Instant edited = note.getUpdatedAt();
+            sleep(20); // e.g. waiting for a connection
+
+            Instant beforeWrite = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+            update(note);
+
+            Note found = notePersistence.findById(note1Domain.getId()).orElseThrow();
+            assertThat(found.getUpdatedAt()).isAfterOrEqualTo(beforeWrite).isAfter(edited);
+            assertThat(note.getUpdatedAt()).isEqualTo(found.getUpdatedAt());
+        }
+
+        @Test
+        @DisplayName("should write only the tag links that changed")
+        void update_shouldWriteTagDelta() {
+            create(note1Domain);
+            Note note = notePersistence.findById(note1Domain.getId()).orElseThrow();
+            note.removeTag(tagJavaJpa.getId());
+            note.addTag(tagJpaJpa.getId());
+            var statistics = resetStatistics();
+
+            update(note);
+
+            // The version UPDATE of the note row, then one DELETE and one INSERT on note_tags
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+            assertThat(notePersistence.findById(note1Domain.getId()).orElseThrow().getTagsId())
+                    .containsExactlyInAnyOrder(tagSpringJpa.getId(), tagJpaJpa.getId());
+        }
+
+        @Test
+        @DisplayName("should stamp updatedAt when only the tags changed")
+        void update_shouldStampUpdatedAt_whenOnlyTagsChanged() {
+            create(note1Domain);
+            Note note = notePersistence.findById(note1Domain.getId()).orElseThrow();
+            Instant before = note.getUpdatedAt();
+            sleep(5);
+            note.addTag(tagJpaJpa.getId());
+
+            update(note);
+
+            // The change feed finds changed rows by updated_at
+            assertThat(noteJpaRepository.findById(note1Domain.getId()).orElseThrow().getUpdatedAt()).isAfter(before);
+        }
+
+        @Test
+        @DisplayName("should reject a change based on a version that is no longer stored")
+        void update_shouldThrowConflict_whenVersionIsStale() {
+            create(note1Domain);
+            Note first = notePersistence.findById(note1Domain.getId()).orElseThrow();
+            Note second = notePersistence.findById(note1Domain.getId()).orElseThrow();
+            first.updateContent("First edit.");
+            update(first);
+
+            second.updateContent("Second edit.");
+
+            assertThatThrownBy(() -> update(second))
+                    .isInstanceOf(ConflictException.class);
+            Note found = notePersistence.findById(note1Domain.getId()).orElseThrow();
+            assertThat(found.getContent()).isEqualTo("First edit.");
+            assertThat(found.getVersion()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("createAll Method Tests")
+    class CreateAllTests {
+        @Test
+        @DisplayName("should insert every note with its tag links without reading anything first")
+        void createAll_shouldInsertWithoutSelects() {
+            // Arrange
+            var statistics = resetStatistics();
+
+            // Act
+            notePersistence.createAll(List.of(note1Domain, note2Domain, note3Domain));
+            flushAndClear();
+
+            // Assert
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+            assertThat(noteJpaRepository.findTagIdsByNoteId(note2Domain.getId()))
+                    .containsExactlyInAnyOrderElementsOf(note2Domain.getTagsId());
+        }
     }
 
     // --- Other basic tests (delete, findById, existsById) are also correct ---
 
+    @Nested
+    @DisplayName("deleteById Method Tests")
+    class DeleteByIdTests {
+        @Test
+        @DisplayName("should delete the note and release one use of each of its tags")
+        void deleteById_shouldDecrementTagUsage() {
+            // Arrange
+            create(note1Domain); // java, spring
+            tagJpaRepository.incrementUse(tagJavaJpa.getId());
+            tagJpaRepository.incrementUse(tagSpringJpa.getId());
+            tagJpaRepository.incrementUse(tagSpringJpa.getId());
+
+            // Act
+            deleteById(note1Domain.getId());
+
+            // Assert
+            assertThat(noteJpaRepository.existsById(note1Domain.getId())).isFalse();
+            assertThat(tagJpaRepository.findById(tagJavaJpa.getId()).orElseThrow().getAmountUsed()).isZero();
+            assertThat(tagJpaRepository.findById(tagSpringJpa.getId()).orElseThrow().getAmountUsed()).isEqualTo(1);
+            assertThat(tagJpaRepository.findById(tagJpaJpa.getId()).orElseThrow().getAmountUsed()).isZero();
+        }
+
+        @Test
+        @DisplayName("should leave a tombstone for the change feed")
+        void deleteById_shouldRecordTombstone() {
+            create(note1Domain);
+
+            deleteById(note1Domain.getId());
+
+            var tombstone = tombstoneJpaRepository.findById(note1Domain.getId()).orElseThrow();
+            assertThat(tombstone.getAggregateType()).isEqualTo(AggregateType.NOTE);
+            assertThat(tombstone.getDeletedAt()).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("findRevision Method Tests")
+    class FindRevisionTests {
+        @Test
+        @DisplayName("should read the version and update time with one query and no entity")
+        void findRevision_shouldNotLoadTheNote() {
+            create(note1Domain);
+            Note note = notePersistence.findById(note1Domain.getId()).orElseThrow();
+            note.updateContent("Edited content.");
+            update(note);
+            var statistics = resetStatistics();
+
+            Optional<Revision> revision = notePersistence.findRevision(note1Domain.getId());
+
+            assertThat(revision).isPresent();
+            assertThat(revision.get().version()).isEqualTo(2);
+            assertThat(revision.get().updatedAt()).isEqualTo(note.getUpdatedAt());
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should be empty for an unknown note")
+        void findRevision_shouldBeEmpty_whenNoteDoesNotExist() {
+            assertThat(notePersistence.findRevision("unknown-id")).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("findAllByProjectId Method Tests")
     class FindAllByProjectIdTests {
@@ -0,0 +1,171 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Answer;
+import com.sysm.devsync.domain.models.Comment;
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.Question;
+import com.sysm.devsync.domain.models.Tag;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.domain.persistence.ProjectExportPort;
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.repositories.entities.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Import(ProjectExportPersistence.class)
+public class ProjectExportPersistenceTest extends AbstractRepositoryTest {
+
+    private static final int QUESTIONS = 20;
+    private static final int NOTES = 10;
+
+    @Autowired
+    private ProjectExportPersistence exportPersistence; // The class under test
+
+    private UserJpaEntity author;
+    private ProjectJpaEntity project;
+    private ProjectJpaEntity otherProject;
+    private TagJpaEntity tag;
+
+    @BeforeEach
+    void setUp() {
+        clearRepositories();
+
+        author = UserJpaEntity.fromModel(User.create("Author", "export.author@example.com", UserRole.MEMBER));
+        entityPersist(author);
+        var workspace = WorkspaceJpaEntity.fromModel(Workspace.create("Workspace", "Description", false, author.getId()));
+        entityPersist(workspace);
+        project = ProjectJpaEntity.fromModel(Project.create("Exported", "Description", workspace.getId()));
+        entityPersist(project);
+        otherProject = ProjectJpaEntity.fromModel(Project.create("Other", "Description", workspace.getId()));
+        entityPersist(otherProject);
+        tag = TagJpaEntity.fromModel(Tag.create("java", "Blue"));
+        entityPersist(tag);
+
+        for (int i = 0; i < QUESTIONS; i++) {
+            var question = Question.create("Question " + i, "Description", project.getId(), author.getId());
+            question.addTag(tag.getId());
+            entityPersist(QuestionJpaEntity.fromModel(question));
+            comment(TargetType.QUESTION, question.getId());
+            for (int j = 0; j < 2; j++) {
+                var answer = Answer.create("Answer " + j, question.getId(), author.getId());
+                entityPersist(AnswerJpaEntity.fromModel(answer));
+                comment(TargetType.ANSWER, answer.getId());
+            }
+        }
+        for (int i = 0; i < NOTES; i++) {
+            var note = Note.create("Note " + i, "Content", project.getId(), author.getId());
+            note.addTag(tag.getId());
+            entityPersist(NoteJpaEntity.fromModel(note));
+            comment(TargetType.NOTE, note.getId());
+        }
+
+        // Content of another project must not leak into the export
+        entityPersist(QuestionJpaEntity.fromModel(Question.create("Other", "Description", otherProject.getId(), author.getId())));
+        entityPersist(NoteJpaEntity.fromModel(Note.create("Other", "Content", otherProject.getId(), author.getId())));
+    }
+
+    @Test
+    @DisplayName("export should hand over every question with its answers and comments, then every note")
+    void export_shouldStreamTheWholeProject() {
+        var sink = new RecordingSink();
+
+        exportPersistence.export(project.getId(), sink);
+
+        assertThat(sink.questions).hasSize(QUESTIONS);
+        assertThat(sink.notes).hasSize(NOTES);
+        assertThat(sink.questions).allSatisfy(entry -> {
+            assertThat(entry.question().getProjectId()).isEqualTo(project.getId());
+            assertThat(entry.question().getTagsId()).containsExactly(tag.getId());
+            assertThat(entry.comments()).singleElement()
+                    .extracting(Comment::getTargetId).isEqualTo(entry.question().getId());
+            assertThat(entry.answers()).hasSize(2).allSatisfy(answer -> {
+                assertThat(answer.answer().getQuestionId()).isEqualTo(entry.question().getId());
+                assertThat(answer.comments()).singleElement()
+                        .extracting(Comment::getTargetId).isEqualTo(answer.answer().getId());
+            });
+        });
+        assertThat(sink.notes).allSatisfy(entry -> {
+            assertThat(entry.note().getTagsId()).containsExactly(tag.getId());
+            assertThat(entry.comments()).hasSize(1);
+        });
+        assertThat(sink.events).first().isEqualTo("question");
+        assertThat(sink.events).last().isEqualTo("end");
+    }
+
+    @Test
+    @DisplayName("export should read the children of a chunk with one query per kind")
+    void export_shouldNotQueryPerRow() {
+        var statistics = resetStatistics();
+
+        exportPersistence.export(project.getId(), new RecordingSink());
+
+        // Questions: stream, tags, answers, question comments, answer comments. Notes: stream, tags, comments
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("export should hand nothing over for a project without content")
+    void export_shouldBeEmpty_whenProjectHasNoContent() {
+        var empty = ProjectJpaEntity.fromModel(Project.create("Empty", "Description", project.getWorkspace().getId()));
+        entityPersist(empty);
+        var sink = new RecordingSink();
+
+        exportPersistence.export(empty.getId(), sink);
+
+        assertThat(sink.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("export should throw IllegalArgumentException for a null project ID")
+    void export_shouldThrow_whenIdIsNull() {
+        assertThatThrownBy(() -> exportPersistence.export(null, new RecordingSink()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Project ID must not be null or empty");
+    }
+
+    private void comment(TargetType targetType, String targetId) {
+        entityPersist(CommentJpaEntity.fromModel(Comment.create(targetType, targetId, author.getId(), "Comment")));
+    }
+
+    private static class RecordingSink implements ProjectExportPort.Sink {
+
+        private final List<ProjectExportPort.QuestionEntry> questions = new ArrayList<>();
+        private final List<ProjectExportPort.NoteEntry> notes = new ArrayList<>();
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void project(Project project) {
+            events.add("project");
+        }
+
+        @Override
+        public void question(ProjectExportPort.QuestionEntry entry) {
+            questions.add(entry);
+            events.add("question");
+        }
+
+        @Override
+        public void note(ProjectExportPort.NoteEntry entry) {
+            notes.add(entry);
+            events.add("note");
+        }
+
+        @Override
+        public void endOfChunk() {
+            events.add("end");
+        }
+    }
+}
@@ -124,17 +124,12 @@ public class ProjectPersistenceTest extends AbstractRepositoryTest {
             create(project1Domain);
             sleep(10); // Ensure updatedAt will be different
 
-            Project updatedDomainProject = Project.build(
-                    project1Domain.getId(),
-                    "Project Alpha Updated",
-                    "Updated Alpha Description",
-                    workspace2Jpa.getId(), // Change workspace
-                    project1Domain.getCreatedAt(), // Keep original createdAt
-                    Instant.now() // New updatedAt
-            );
+            Project loadedProject = projectPersistence.findById(project1Domain.getId()).orElseThrow();
+            loadedProject.update("Project Alpha Updated", "Updated Alpha Description");
+            loadedProject.changeWorkspace(workspace2Jpa.getId()); // Change workspace
 
             // Act
-            update(updatedDomainProject);
+            update(loadedProject);
 
             // Assert
             Optional<Project> foundProjectOpt = projectPersistence.findById(project1Domain.getId());
@@ -148,6 +143,32 @@ public class ProjectPersistenceTest extends AbstractRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findExistingIds Method Tests")
+    class FindExistingIdsTests {
+        @Test
+        @DisplayName("should return only the ids of existing projects, with one query")
+        void findExistingIds_shouldFilterUnknownIds() {
+            create(project1Domain);
+            create(project2Domain);
+            var statistics = resetStatistics();
+
+            var existing = projectPersistence.findExistingIds(List.of(project1Domain.getId(), project2Domain.getId(), "missing"));
+
+            assertThat(existing).containsExactlyInAnyOrder(project1Domain.getId(), project2Domain.getId());
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should not query for an empty collection")
+        void findExistingIds_shouldReturnEmpty_whenNoIds() {
+            var statistics = resetStatistics();
+
+            assertThat(projectPersistence.findExistingIds(List.of())).isEmpty();
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+        }
+    }
+
     // --- Other basic tests (delete, findById, existsById) are also correct ---
 
     @Nested
@@ -4,9 +4,13 @@ import com.sysm.devsync.domain.BusinessException;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
 import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountType;
 import com.sysm.devsync.domain.enums.QueryType;
 import com.sysm.devsync.domain.enums.QuestionStatus;
+import com.sysm.devsync.domain.enums.TargetType;
 import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Answer;
+import com.sysm.devsync.domain.models.Comment;
 import com.sysm.devsync.domain.models.Project;
 import com.sysm.devsync.domain.models.Question;
 import com.sysm.devsync.domain.models.Tag;
@@ -21,7 +25,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
-import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -29,7 +32,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
-@Import(QuestionPersistence.class)
+@Import({QuestionPersistence.class, AnswerPersistence.class, CommentPersistence.class, TagPersistence.class})
 public class QuestionPersistenceTest extends AbstractRepositoryTest {
 
     @Autowired
@@ -117,6 +120,48 @@ public class QuestionPersistenceTest extends AbstractRepositoryTest {
             assertThat(foundInDb.getTags().stream().map(TagJpaEntity::getId).collect(Collectors.toSet()))
                     .hasSameElementsAs(question1Domain.getTagsId());
         }
+
+        @Test
+        @DisplayName("should insert without selecting the question, its author, project or tags")
+        void create_shouldNotSelectBeforeInsert() {
+            var statistics = resetStatistics();
+
+            questionPersistence.create(question1Domain);
+            entityManager.flush();
+
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+            // The question row and its tag links
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("createAll Method Tests")
+    class CreateAllTests {
+        @Test
+        @DisplayName("should insert every question with its tag links without reading anything first")
+        void createAll_shouldInsertWithoutSelects() {
+            var statistics = resetStatistics();
+
+            questionPersistence.createAll(List.of(question1Domain, question2Domain, question3Domain));
+            flushAndClear();
+
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+            QuestionJpaEntity foundInDb = entityManager.find(QuestionJpaEntity.class, question1Domain.getId());
+            assertThat(foundInDb.getProject().getId()).isEqualTo(question1Domain.getProjectId());
+            assertThat(foundInDb.getTags().stream().map(TagJpaEntity::getId).collect(Collectors.toSet()))
+                    .hasSameElementsAs(question1Domain.getTagsId());
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException for a null list")
+        void createAll_shouldThrow_whenNull() {
+            assertThatThrownBy(() -> questionPersistence.createAll(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Question models must not be null");
+        }
     }
 
     @Nested
@@ -127,26 +172,37 @@ public class QuestionPersistenceTest extends AbstractRepositoryTest {
         void update_shouldModifyExistingQuestion() {
             create(question1Domain);
 
-            Question updatedDomainQuestion = Question.build(
-                    question1Domain.getId(),
-                    question1Domain.getCreatedAt(),
-                    Instant.now(),
-                    "Updated Title",
-                    "Updated description",
-                    Set.of(tagJpa.getId()), // Change tags
-                    project2Jpa.getId(), // Change project
-                    authorUserJpa.getId(),
-                    QuestionStatus.CLOSED // Change status
-            );
+            Question loadedQuestion = questionPersistence.findById(question1Domain.getId()).orElseThrow();
+            loadedQuestion.update("Updated Title", "Updated description");
+            Set.copyOf(loadedQuestion.getTagsId()).forEach(loadedQuestion::removeTag);
+            loadedQuestion.addTag(tagJpa.getId()); // Change tags
+            loadedQuestion.changeStatus(QuestionStatus.CLOSED); // Change status
 
-            assertDoesNotThrow(() -> update(updatedDomainQuestion));
+            assertDoesNotThrow(() -> update(loadedQuestion));
 
             Question foundQuestion = questionPersistence.findById(question1Domain.getId()).orElseThrow();
             assertThat(foundQuestion.getTitle()).isEqualTo("Updated Title");
             assertThat(foundQuestion.getTagsId()).containsExactly(tagJpa.getId());
-            assertThat(foundQuestion.getProjectId()).isEqualTo(project2Jpa.getId());
             assertThat(foundQuestion.getStatus()).isEqualTo(QuestionStatus.CLOSED);
         }
+
+        @Test
+        @DisplayName("should write a status flip with one narrow UPDATE and no SELECT")
+        void update_shouldWriteOnlyChangedColumns() {
+            create(question1Domain);
+            Question question = questionPersistence.findById(question1Domain.getId()).orElseThrow();
+            question.changeStatus(QuestionStatus.RESOLVED);
+            var statistics = resetStatistics();
+
+            update(question);
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            Question found = questionPersistence.findById(question1Domain.getId()).orElseThrow();
+            assertThat(found.getStatus()).isEqualTo(QuestionStatus.RESOLVED);
+            assertThat(found.getTitle()).isEqualTo(question1Domain.getTitle());
+            assertThat(found.getTagsId()).hasSameElementsAs(question1Domain.getTagsId());
+        }
     }
 
     @Nested
@@ -268,6 +324,256 @@ public class QuestionPersistenceTest extends AbstractRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAll Method Tests (Batched Associations)")
+    class FindAllBatchedTests {
+        @Test
+        @DisplayName("should load the tags of a whole page with a fixed number of statements")
+        void findAll_shouldNotRunOneQueryPerQuestion() {
+            create(question1Domain);
+            create(question2Domain);
+            create(question3Domain);
+            for (int i = 0; i < 10; i++) {
+                var question = Question.create("Question " + i, "Desc", project1Jpa.getId(), authorUserJpa.getId());
+                question.addTag(tagJava.getId());
+                create(question);
+            }
+
+            var statistics = resetStatistics();
+            var result = questionPersistence.findAll(SearchQuery.of(Page.of(0, 12, "title", "asc"), Map.of()));
+
+            assertThat(result.items()).hasSize(12);
+            // Page, count and one IN query for the tags
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+            var first = result.items().stream()
+                    .filter(q -> q.getId().equals(question1Domain.getId()))
+                    .findFirst().orElseThrow();
+            assertThat(first.getTagsId()).containsExactlyInAnyOrder(tagJava.getId(), tagSpring.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("findAll Method Tests (Count Strategy)")
+    class FindAllCountTypeTests {
+        @BeforeEach
+        void setUpFindAllCountType() {
+            create(question1Domain);
+            create(question2Domain);
+            create(question3Domain);
+        }
+
+        @Test
+        @DisplayName("EXACT should count and derive hasNext from the total")
+        void findAll_exactCount_shouldReturnTotalAndHasNext() {
+            var result = questionPersistence.findAll(
+                    SearchQuery.of(Page.of(0, 2, "title", "asc"), QueryType.OR, CountType.EXACT, Map.of()));
+
+            assertThat(result.total()).isEqualTo(3);
+            assertThat(result.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("NONE should skip the total and still tell whether there is a next page")
+        void findAll_noCount_shouldOnlyReturnHasNext() {
+            var first = questionPersistence.findAll(
+                    SearchQuery.of(Page.of(0, 2, "title", "asc"), QueryType.OR, CountType.NONE, Map.of()));
+            var last = questionPersistence.findAll(
+                    SearchQuery.of(Page.of(1, 2, "title", "asc"), QueryType.OR, CountType.NONE, Map.of()));
+
+            assertThat(first.total()).isEqualTo(Pagination.UNKNOWN_TOTAL);
+            assertThat(first.items()).hasSize(2);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(last.items()).extracting(Question::getTitle).containsExactly("Understanding JPA Fetch Types");
+            assertThat(last.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("ESTIMATED should serve the total from the cached count of the same filter")
+        void findAll_estimatedCount_shouldReuseCachedTotal() {
+            var query = SearchQuery.of(Page.of(0, 2, "title", "asc"), QueryType.OR, CountType.ESTIMATED, Map.of());
+            assertThat(questionPersistence.findAll(query).total()).isEqualTo(3);
+
+            create(Question.create("Another question", "Desc 4", project1Jpa.getId(), authorUserJpa.getId()));
+
+            // Still the cached value, the new row is not counted yet
+            assertThat(questionPersistence.findAll(query).total()).isEqualTo(3);
+
+            // Reading the last page yields the exact total and refreshes the cache
+            var lastPage = SearchQuery.of(Page.of(1, 2, "title", "asc"), QueryType.OR, CountType.ESTIMATED, Map.of());
+            assertThat(questionPersistence.findAll(lastPage).total()).isEqualTo(4);
+            assertThat(questionPersistence.findAll(query).total()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("ESTIMATED should keep totals of different filters apart")
+        void findAll_estimatedCount_shouldKeyByFilter() {
+            var all = SearchQuery.of(Page.of(0, 1), QueryType.OR, CountType.ESTIMATED, Map.of());
+            var resolved = SearchQuery.of(Page.of(0, 1), QueryType.OR, CountType.ESTIMATED, Map.of("status", "RESOLVED"));
+
+            assertThat(questionPersistence.findAll(all).total()).isEqualTo(3);
+            assertThat(questionPersistence.findAll(resolved).total()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("findAll Method Tests (Keyset Pagination)")
+    class FindAllKeysetTests {
+        @BeforeEach
+        void setUpFindAllKeyset() {
+            create(question1Domain);
+            create(question2Domain);
+            create(question3Domain);
+        }
+
+        @Test
+        @DisplayName("should scroll through all questions following the continuation cursor")
+        void findAll_withCursor_shouldScrollThroughPages() {
+            SearchQuery firstQuery = SearchQuery.of(Page.of(0, 2, "title", "asc", ""), Map.of());
+            Pagination<Question> first = questionPersistence.findAll(firstQuery);
+
+            assertThat(first.total()).isEqualTo(Pagination.UNKNOWN_TOTAL);
+            assertThat(first.items()).extracting(Question::getTitle)
+                    .containsExactly("Best practices for Spring Boot?", "How to test JPA ManyToMany?");
+            assertThat(first.nextCursor()).isNotBlank();
+            assertThat(first.hasNext()).isTrue();
+
+            // Sort and direction come from the cursor
+            SearchQuery secondQuery = SearchQuery.of(Page.after(first.nextCursor(), 2), Map.of());
+            Pagination<Question> second = questionPersistence.findAll(secondQuery);
+
+            assertThat(second.items()).extracting(Question::getTitle)
+                    .containsExactly("Understanding JPA Fetch Types");
+            assertThat(second.nextCursor()).isNull();
+            assertThat(second.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should break ties on the sort key by id")
+        void findAll_withCursorAndEqualSortKeys_shouldNotSkipOrRepeat() {
+            // All three questions share the same status
+            question3Domain.changeStatus(QuestionStatus.OPEN);
+            update(question3Domain);
+
+            List<String> seen = new ArrayList<>();
+            String cursor = "";
+            do {
+                var page = questionPersistence.findAll(SearchQuery.of(Page.of(0, 1, "status", "desc", cursor), Map.of()));
+                page.items().forEach(q -> seen.add(q.getId()));
+                cursor = page.nextCursor();
+            } while (cursor != null);
+
+            assertThat(seen).containsExactlyInAnyOrder(
+                    question1Domain.getId(), question2Domain.getId(), question3Domain.getId());
+        }
+
+        @Test
+        @DisplayName("should apply filters together with the cursor")
+        void findAll_withCursorAndFilter_shouldReturnOnlyMatching() {
+            var first = questionPersistence.findAll(
+                    SearchQuery.of(Page.of(0, 1, "title", "asc", ""), Map.of("projectId", project1Jpa.getId())));
+            var second = questionPersistence.findAll(
+                    SearchQuery.of(Page.after(first.nextCursor(), 1), Map.of("projectId", project1Jpa.getId())));
+
+            assertThat(first.items()).extracting(Question::getId).containsExactly(question2Domain.getId());
+            assertThat(second.items()).extracting(Question::getId).containsExactly(question1Domain.getId());
+            assertThat(second.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("should return a cursor with offset pages so a client can switch to keyset mode")
+        void findAll_offsetPage_shouldReturnNextCursor() {
+            var offsetPage = questionPersistence.findAll(SearchQuery.of(Page.of(0, 2, "createdAt", "desc"), Map.of()));
+            var keysetPage = questionPersistence.findAll(SearchQuery.of(Page.after(offsetPage.nextCursor(), 2), Map.of()));
+
+            assertThat(offsetPage.total()).isEqualTo(3);
+            assertThat(keysetPage.items()).hasSize(1);
+            assertThat(keysetPage.items().get(0).getId())
+                    .isNotIn(offsetPage.items().stream().map(Question::getId).toList());
+        }
+
+        @Test
+        @DisplayName("should throw BusinessException for a tampered cursor")
+        void findAll_withInvalidCursor_shouldThrowBusinessException() {
+            SearchQuery query = SearchQuery.of(Page.after("not-a-cursor", 2), Map.of());
+
+            assertThatThrownBy(() -> questionPersistence.findAll(query))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("Invalid pagination cursor");
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteWithDependents Method Tests")
+    class DeleteWithDependentsTests {
+
+        private static final int ANSWERS = 30;
+
+        @BeforeEach
+        void setUpDependents() {
+            create(question1Domain);
+            create(question2Domain);
+            // Usage as the tag endpoints keep it: java 1, spring 2, jpa 1
+            List.of(tagJava, tagSpring, tagSpring, tagJpa).forEach(tag -> tagJpaRepository.incrementUse(tag.getId()));
+
+            for (int i = 0; i < ANSWERS; i++) {
+                var answer = Answer.create("Answer " + i, question1Domain.getId(), authorUserJpa.getId());
+                entityPersist(AnswerJpaEntity.fromModel(answer));
+                entityPersist(CommentJpaEntity.fromModel(
+                        Comment.create(TargetType.ANSWER, answer.getId(), authorUserJpa.getId(), "On answer " + i)));
+            }
+            entityPersist(CommentJpaEntity.fromModel(
+                    Comment.create(TargetType.QUESTION, question1Domain.getId(), authorUserJpa.getId(), "On question")));
+
+            // Dependents of another question must survive
+            var otherAnswer = Answer.create("Other answer", question2Domain.getId(), authorUserJpa.getId());
+            entityPersist(AnswerJpaEntity.fromModel(otherAnswer));
+            entityPersist(CommentJpaEntity.fromModel(
+                    Comment.create(TargetType.ANSWER, otherAnswer.getId(), authorUserJpa.getId(), "On other answer")));
+        }
+
+        @Test
+        @DisplayName("should delete the question, its answers, the comments on both and its tag links")
+        void deleteWithDependents_shouldDeleteEverything() {
+            questionPersistence.deleteWithDependents(question1Domain.getId());
+            flushAndClear();
+
+            assertThat(questionJpaRepository.existsById(question1Domain.getId())).isFalse();
+            assertThat(answerJpaRepository.count()).isEqualTo(1);
+            assertThat(commentJpaRepository.count()).isEqualTo(1);
+            assertThat(entityManager.getEntityManager()
+                    .createNativeQuery("SELECT count(*) FROM question_tags WHERE question_id = :id")
+                    .setParameter("id", question1Domain.getId())
+                    .getSingleResult())
+                    .isEqualTo(0L);
+            assertThat(questionJpaRepository.existsById(question2Domain.getId())).isTrue();
+        }
+
+        @Test
+        @DisplayName("should release one use of each tag of the question")
+        void deleteWithDependents_shouldDecrementTagUsage() {
+            questionPersistence.deleteWithDependents(question1Domain.getId());
+            flushAndClear();
+
+            assertThat(tagJpaRepository.findById(tagJava.getId()).orElseThrow().getAmountUsed()).isZero();
+            assertThat(tagJpaRepository.findById(tagSpring.getId()).orElseThrow().getAmountUsed()).isEqualTo(1);
+            assertThat(tagJpaRepository.findById(tagJpa.getId()).orElseThrow().getAmountUsed()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should run a fixed number of statements whatever the number of answers")
+        void deleteWithDependents_shouldBeSetBased() {
+            var statistics = resetStatistics();
+
+            questionPersistence.deleteWithDependents(question1Domain.getId());
+            flushAndClear();
+
+            // Each bulk delete is preceded by the insert of its tombstones
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(12);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+    }
+
     // Helper methods
     private void create(Question entity) {
         questionPersistence.create(entity);
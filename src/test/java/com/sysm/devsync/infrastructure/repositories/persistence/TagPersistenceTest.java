@@ -80,23 +80,19 @@ public class TagPersistenceTest extends AbstractRepositoryTest {
             // Arrange
             entityPersist(tag1Jpa);
 
-            Tag updatedDomainTag = Tag.build(
-                    tag1Domain.getId(),
-                    "Java Updated",
-                    "Dark Blue",
-                    "Updated Desc",
-                    "Tech",
-                    1
-            );
+            Tag loadedTag = tagPersistence.findById(tag1Domain.getId()).orElseThrow();
+            loadedTag.update("Java Updated", "Dark Blue");
+            loadedTag.updateDescription("Updated Desc");
 
             // Act
-            update(updatedDomainTag);
+            update(loadedTag);
 
             // Assert
             Optional<Tag> foundTag = tagPersistence.findById(tag1Domain.getId());
             assertThat(foundTag).isPresent();
             assertThat(foundTag.get().getName()).isEqualTo("Java Updated");
             assertThat(foundTag.get().getColor()).isEqualTo("Dark Blue");
+            assertThat(foundTag.get().getDescription()).isEqualTo("Updated Desc");
         }
     }
 
@@ -300,6 +296,78 @@ public class TagPersistenceTest extends AbstractRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("usage counter Tests")
+    class UsageTests {
+
+        @BeforeEach
+        void setUpTags() {
+            entityPersist(tag1Jpa);
+            entityPersist(tag2Jpa);
+        }
+
+        @Test
+        @DisplayName("incrementUse should not touch the database before a flush")
+        void incrementUse_shouldBufferInMemory() {
+            var statistics = resetStatistics();
+
+            tagPersistence.incrementUse(tag1Jpa.getId());
+            tagPersistence.incrementUse(tag1Jpa.getId());
+
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+            assertThat(persistedUses(tag1Jpa.getId())).isZero();
+        }
+
+        @Test
+        @DisplayName("reads should return the persisted count plus the pending changes")
+        void reads_shouldIncludePendingChanges() {
+            tagPersistence.incrementUse(tag1Jpa.getId());
+            tagPersistence.incrementUse(tag1Jpa.getId());
+            tagPersistence.decrementUse(tag1Jpa.getId());
+
+            assertThat(tagPersistence.countUses(tag1Jpa.getId())).isEqualTo(1);
+            assertThat(tagPersistence.findById(tag1Jpa.getId()).orElseThrow().getAmountUsed()).isEqualTo(1);
+            assertThat(tagPersistence.findAll(SearchQuery.of(Page.of(0, 10), Map.of("name", "Java"))).items())
+                    .extracting(Tag::getAmountUsed)
+                    .containsExactly(1);
+        }
+
+        @Test
+        @DisplayName("flushUsage should write the coalesced deltas with one statement per distinct delta")
+        void flushUsage_shouldWriteCoalescedDeltas() {
+            for (int i = 0; i < 50; i++) {
+                tagPersistence.incrementUse(tag1Jpa.getId());
+                tagPersistence.incrementUse(tag2Jpa.getId());
+            }
+            var statistics = resetStatistics();
+
+            int written = tagPersistence.flushUsage();
+            flushAndClear();
+
+            assertThat(written).isEqualTo(2);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(persistedUses(tag1Jpa.getId())).isEqualTo(50);
+            assertThat(persistedUses(tag2Jpa.getId())).isEqualTo(50);
+            assertThat(tagPersistence.countUses(tag1Jpa.getId())).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("update should not overwrite the usage count")
+        void update_shouldKeepUsageCount() {
+            tagPersistence.incrementUse(tag1Jpa.getId());
+            tagPersistence.flushUsage();
+            flushAndClear();
+
+            update(Tag.build(tag1Jpa.getId(), "Java 21", "Blue", "Java Programming Language", "Programming", 0));
+
+            assertThat(persistedUses(tag1Jpa.getId())).isEqualTo(1);
+        }
+
+        private int persistedUses(String id) {
+            return tagJpaRepository.findById(id).orElseThrow().getAmountUsed();
+        }
+    }
+
     private void create(Tag entity) {
         tagPersistence.create(entity);
         flushAndClear();
@@ -0,0 +1,106 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagUsageCountersTest {
+
+    @Test
+    @DisplayName("flush should hand over the coalesced non-zero deltas and reset them")
+    void flush_shouldCoalesceDeltas() {
+        var counters = new TagUsageCounters();
+        counters.add("java", 1);
+        counters.add("java", 1);
+        counters.add("spring", 1);
+        counters.add("spring", -1);
+
+        Map<String, Long> written = new HashMap<>();
+        int tags = counters.flush(written::putAll);
+
+        assertEquals(1, tags);
+        assertEquals(Map.of("java", 2L), written);
+        assertEquals(0, counters.pending("java"));
+        assertEquals(0, counters.flush(deltas -> fail("Nothing should be left to write")));
+    }
+
+    @Test
+    @DisplayName("flush should keep the deltas when the writer fails")
+    void flush_shouldRestoreDeltasOnFailure() {
+        var counters = new TagUsageCounters();
+        counters.add("java", 3);
+
+        assertThrows(IllegalStateException.class, () -> counters.flush(deltas -> {
+            counters.add("java", 1); // Arrives while the flush is writing
+            throw new IllegalStateException("Database down");
+        }));
+
+        assertEquals(4, counters.pending("java"));
+    }
+
+    @Test
+    @DisplayName("correct should fold the corrections into the pending deltas")
+    void correct_shouldAddCorrectionsToPendingDeltas() {
+        var counters = new TagUsageCounters();
+        counters.add("java", 1); // Linked and counted, not flushed yet
+        long flushes = counters.flushes();
+
+        var corrected = counters.correct(flushes, Map.of("java", 5L, "spring", 2L, "kafka", 0L),
+                Map.of("java", 3L, "spring", 2L));
+
+        assertEquals(Optional.of(Set.of("java")), corrected);
+        assertEquals(-2, counters.pending("java"));
+        assertEquals(0, counters.pending("spring"));
+        assertEquals(0, counters.pending("kafka"));
+    }
+
+    @Test
+    @DisplayName("correct should change nothing when a flush ran since the counts were read")
+    void correct_shouldRejectCountsReadBeforeAFlush() {
+        var counters = new TagUsageCounters();
+        long flushes = counters.flushes();
+        counters.add("java", 1);
+        counters.flush(deltas -> { });
+
+        assertTrue(counters.correct(flushes, Map.of("java", 5L), Map.of("java", 3L)).isEmpty());
+        assertEquals(0, counters.pending("java"));
+    }
+
+    @Test
+    @DisplayName("add should not lose updates from concurrent taggers")
+    void add_shouldBeSafeUnderContention() throws InterruptedException {
+        var counters = new TagUsageCounters();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    counters.add("java", 1);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(80_000, counters.pending("java"));
+    }
+
+    @Test
+    @DisplayName("discard should drop the pending delta of a deleted tag")
+    void discard_shouldDropPendingDelta() {
+        var counters = new TagUsageCounters();
+        counters.add("java", 5);
+
+        counters.discard("java");
+
+        assertEquals(0, counters.pending("java"));
+    }
+}
@@ -0,0 +1,139 @@
+package com.sysm.devsync.infrastructure.repositories.persistence;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.Question;
+import com.sysm.devsync.domain.models.Tag;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import com.sysm.devsync.infrastructure.repositories.JobCheckpointJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({TagUsageReconciler.class, TagPersistence.class})
+@TestPropertySource(properties = "dev-sync.tag-usage.reconcile-chunk-size=2")
+public class TagUsageReconcilerTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private TagUsageReconciler reconciler; // The class under test
+
+    @Autowired
+    private TagPersistence tagPersistence;
+
+    @Autowired
+    private JobCheckpointJpaRepository checkpoints;
+
+    private UserJpaEntity author;
+    private ProjectJpaEntity project;
+
+    @BeforeEach
+    void setUp() {
+        clearRepositories();
+        checkpoints.deleteAllInBatch();
+
+        author = UserJpaEntity.fromModel(User.create("Author", "reconcile.author@example.com", UserRole.MEMBER));
+        entityPersist(author);
+        var workspace = WorkspaceJpaEntity.fromModel(Workspace.create("Workspace", "Description", false, author.getId()));
+        entityPersist(workspace);
+        project = ProjectJpaEntity.fromModel(Project.create("Project", "Description", workspace.getId()));
+        entityPersist(project);
+
+        // Stored counts as a drifted database would have them, ids sorted so chunks of two are predictable
+        List.of(tag("tag-a", 0), tag("tag-b", 9), tag("tag-c", 2), tag("tag-d", 1), tag("tag-e", 4))
+                .forEach(this::entityPersist);
+
+        question("tag-a", "tag-b");
+        question("tag-a");
+        note("tag-a", "tag-c");
+        note("tag-c");
+    }
+
+    @Test
+    @DisplayName("reconcile should set every count to the number of question and note links")
+    void reconcile_shouldCorrectDriftedCounts() {
+        int corrected = reconciler.reconcile();
+        flushAndClear();
+
+        assertThat(corrected).isEqualTo(4);
+        assertThat(persistedUses("tag-a")).isEqualTo(3);
+        assertThat(persistedUses("tag-b")).isEqualTo(1);
+        assertThat(persistedUses("tag-c")).isEqualTo(2);
+        assertThat(persistedUses("tag-d")).isZero();
+        assertThat(persistedUses("tag-e")).isZero();
+        assertThat(checkpoints.findById(TagUsageReconciler.JOB_NAME).orElseThrow().getLastKey()).isNull();
+    }
+
+    @Test
+    @DisplayName("reconcile should resume after the checkpoint of an interrupted pass")
+    void reconcile_shouldResumeFromCheckpoint() {
+        checkpoints.save(new JobCheckpointJpaEntity(TagUsageReconciler.JOB_NAME, "tag-c"));
+
+        int corrected = reconciler.reconcile();
+        flushAndClear();
+
+        assertThat(corrected).isEqualTo(2);
+        assertThat(persistedUses("tag-b")).isEqualTo(9);
+        assertThat(persistedUses("tag-d")).isZero();
+        assertThat(persistedUses("tag-e")).isZero();
+        assertThat(checkpoints.findById(TagUsageReconciler.JOB_NAME).orElseThrow().getLastKey()).isNull();
+    }
+
+    @Test
+    @DisplayName("reconcile should leave room for the pending deltas so live counts stay exact")
+    void reconcile_shouldAccountForPendingDeltas() {
+        // Linked in the database but not flushed yet, as after a tagging request
+        tagPersistence.incrementUse("tag-d");
+        question("tag-d");
+
+        reconciler.reconcile();
+        tagPersistence.flushUsage();
+        flushAndClear();
+
+        assertThat(persistedUses("tag-d")).isEqualTo(1);
+        assertThat(tagPersistence.countUses("tag-d")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("reconcile should not write anything when the counts are right")
+    void reconcile_shouldNotWrite_whenCountsAreExact() {
+        reconciler.reconcile();
+        flushAndClear();
+
+        assertThat(reconciler.reconcile()).isZero();
+    }
+
+    private int persistedUses(String id) {
+        return tagJpaRepository.findById(id).orElseThrow().getAmountUsed();
+    }
+
+    private static TagJpaEntity tag(String id, int amountUsed) {
+        return TagJpaEntity.fromModel(Tag.build(id, id, "Blue", null, null, amountUsed));
+    }
+
+    private void question(String... tagIds) {
+        var question = Question.create("Question", "Description", project.getId(), author.getId());
+        for (String tagId : tagIds) {
+            question.addTag(tagId);
+        }
+        entityPersist(QuestionJpaEntity.fromModel(question));
+    }
+
+    private void note(String... tagIds) {
+        var note = Note.create("Note", "Content", project.getId(), author.getId());
+        for (String tagId : tagIds) {
+            note.addTag(tagId);
+        }
+        entityPersist(NoteJpaEntity.fromModel(note));
+    }
+}
@@ -86,19 +86,13 @@ public class UserPersistenceTest extends AbstractRepositoryTest {
             entityPersist(user1Jpa);
             sleep(100);
             Instant originalCreatedAt = user1Domain.getCreatedAt();
-            User updatedDomainUser = User.build(
-                    user1Domain.getId(),
-                    originalCreatedAt,
-                    Instant.now(),
-                    "Johnathan Doe Updated",
-                    "john.doe.new@example.com",
-                    "newPasswordHash",
-                    "newProfilePic.jpg",
-                    UserRole.ADMIN
-            );
+            User loadedUser = userPersistence.findById(user1Domain.getId()).orElseThrow();
+            loadedUser.update("Johnathan Doe Updated", "john.doe.new@example.com", UserRole.ADMIN);
+            loadedUser.updatePassword("newPasswordHash");
+            loadedUser.updateProfilePicture("newProfilePic.jpg");
 
             // Act
-            update(updatedDomainUser);
+            update(loadedUser);
 
             // Assert
             Optional<User> foundUser = userPersistence.findById(user1Domain.getId());
@@ -112,6 +106,32 @@ public class UserPersistenceTest extends AbstractRepositoryTest {
             assertThat(retrievedUser.getCreatedAt()).isEqualTo(originalCreatedAt);
             assertThat(retrievedUser.getUpdatedAt()).isAfter(originalCreatedAt);
         }
+
+        @Test
+        @DisplayName("should write nothing for a model that tracked no change")
+        void update_shouldIgnoreUntrackedModel() {
+            // Arrange
+            entityPersist(user1Jpa);
+            User builtUser = User.build(
+                    user1Domain.getId(),
+                    user1Domain.getCreatedAt(),
+                    Instant.now(),
+                    "Stale Name",
+                    "stale@example.com",
+                    null,
+                    null,
+                    UserRole.MEMBER
+            );
+
+            // Act
+            update(builtUser);
+
+            // Assert: a built model is never merged whole over the stored row
+            User retrievedUser = userPersistence.findById(user1Domain.getId()).orElseThrow();
+            assertThat(retrievedUser.getName()).isEqualTo(user1Domain.getName());
+            assertThat(retrievedUser.getEmail()).isEqualTo(user1Domain.getEmail());
+            assertThat(retrievedUser.getVersion()).isEqualTo(user1Domain.getVersion());
+        }
     }
 
     @Nested
@@ -3,6 +3,7 @@ package com.sysm.devsync.infrastructure.repositories.persistence;
 import com.sysm.devsync.domain.BusinessException;
 import com.sysm.devsync.domain.Page;
 import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.Revision;
 import com.sysm.devsync.domain.SearchQuery;
 import com.sysm.devsync.domain.enums.QueryType;
 import com.sysm.devsync.domain.enums.UserRole;
@@ -101,6 +102,19 @@ public class WorkspacePersistenceTest extends AbstractRepositoryTest {
             assertThat(foundInDb.getMembers().stream().map(UserJpaEntity::getId).collect(Collectors.toSet()))
                     .isEqualTo(workspace1Domain.getMembersId());
         }
+
+        @Test
+        @DisplayName("should insert without selecting the workspace, its owner or members")
+        void create_shouldNotSelectBeforeInsert() {
+            var statistics = resetStatistics();
+
+            workspacePersistence.create(workspace1Domain);
+            entityManager.flush();
+
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            // The workspace row and its member links
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
     }
 
     @Nested
@@ -112,32 +126,43 @@ public class WorkspacePersistenceTest extends AbstractRepositoryTest {
             // Arrange
             create(workspace1Domain);
             sleep(10);
-            var originalWorkspace = workspacePersistence.findById(workspace1Domain.getId()).orElseThrow();
-            Instant originalCreatedAt = originalWorkspace.getCreatedAt();
-
-            Set<UserTO> updatedMembers = new HashSet<>(Collections.singletonList(UserTO.of(memberUser2.getId())));
-            Workspace updatedDomainWorkspace = Workspace.build(
-                    workspace1Domain.getId(),
-                    originalCreatedAt,
-                    Instant.now(),
-                    "Workspace Alpha Updated",
-                    "Updated Alpha Description",
-                    true,
-                    UserTO.of(memberUser1.getId()),
-                    updatedMembers
-            );
+            var loadedWorkspace = workspacePersistence.findById(workspace1Domain.getId()).orElseThrow();
+            Instant originalCreatedAt = loadedWorkspace.getCreatedAt();
+            loadedWorkspace.update("Workspace Alpha Updated", "Updated Alpha Description");
+            loadedWorkspace.changeOwner(memberUser1.getId());
+            Set.copyOf(loadedWorkspace.getMembersId()).forEach(loadedWorkspace::removeMember);
+            loadedWorkspace.addMember(memberUser2.getId());
 
             // Act
-            update(updatedDomainWorkspace);
+            update(loadedWorkspace);
 
             // Assert
             Workspace foundWorkspace = workspacePersistence.findById(workspace1Domain.getId()).orElseThrow();
             assertThat(foundWorkspace.getName()).isEqualTo("Workspace Alpha Updated");
-            assertThat(foundWorkspace.isPrivate()).isTrue();
+            assertThat(foundWorkspace.getDescription()).isEqualTo("Updated Alpha Description");
             assertThat(foundWorkspace.getOwner().id()).isEqualTo(memberUser1.getId());
-            assertThat(foundWorkspace.getMembersId()).isEqualTo(updatedMembers.stream().map(UserTO::id).collect(Collectors.toSet()));
+            assertThat(foundWorkspace.getMembersId()).containsExactly(memberUser2.getId());
             assertThat(foundWorkspace.getUpdatedAt()).isAfter(originalCreatedAt);
         }
+
+        @Test
+        @DisplayName("should move the version once for fields and members changed together")
+        void update_shouldMoveVersionOnce() {
+            // Arrange
+            create(workspace1Domain);
+            var loadedWorkspace = workspacePersistence.findById(workspace1Domain.getId()).orElseThrow();
+            int storedVersion = loadedWorkspace.getVersion();
+            loadedWorkspace.update("Workspace Alpha Updated", "Updated Alpha Description");
+            loadedWorkspace.addMember(memberUser2.getId());
+
+            // Act
+            update(loadedWorkspace);
+
+            // Assert: the model's version, the next If-Match, is the stored one
+            assertThat(loadedWorkspace.getVersion()).isEqualTo(storedVersion + 1);
+            assertThat(workspacePersistence.findRevision(workspace1Domain.getId()))
+                    .get().extracting(Revision::version).isEqualTo(loadedWorkspace.getVersion());
+        }
     }
 
     @Nested
@@ -288,6 +313,196 @@ public class WorkspacePersistenceTest extends AbstractRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAll Method Tests (Batched Associations)")
+    class FindAllBatchedTests {
+        @Test
+        @DisplayName("should load owners and members of a whole page with a fixed number of statements")
+        void findAll_shouldNotRunOneQueryPerWorkspace() {
+            create(workspace1Domain);
+            create(workspace2Domain);
+            create(workspace3Domain);
+
+            var statistics = resetStatistics();
+            var result = workspacePersistence.findAll(SearchQuery.of(Page.of(0, 10, "name", "asc"), Map.of()));
+
+            assertThat(result.items()).hasSize(3);
+            // Page, one IN query for the owners and one for the members (no count, the page is not full)
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+            var beta = result.items().get(1);
+            assertThat(beta.getOwner()).isEqualTo(UserTO.of(ownerUser.getId(), "Owner User"));
+            assertThat(beta.getMembersId()).containsExactlyInAnyOrder(memberUser1.getId(), memberUser2.getId());
+            assertThat(result.items().get(2).getOwner().name()).isEqualTo("Member One");
+            assertThat(result.items().get(2).getMembers()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllSummaries Method Tests")
+    class FindAllSummariesTests {
+        @Test
+        @DisplayName("should return member counts without reading the members")
+        void findAllSummaries_shouldReturnMemberCountsOnly() {
+            create(workspace1Domain);
+            create(workspace2Domain);
+            create(workspace3Domain);
+
+            var statistics = resetStatistics();
+            var result = workspacePersistence.findAllSummaries(SearchQuery.of(Page.of(0, 10, "name", "asc"), Map.of()));
+
+            // Page and one IN query for the owners
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(result.items()).extracting(Workspace::getMemberCount).containsExactly(1, 2, 0);
+            assertThat(result.items()).allSatisfy(ws -> assertThat(ws.getMembers()).isEmpty());
+            assertThat(result.items().get(0).getOwner()).isEqualTo(UserTO.of(ownerUser.getId(), "Owner User"));
+        }
+
+        @Test
+        @DisplayName("should keep the member count in sync when members change")
+        void update_shouldStoreNewMemberCount() {
+            create(workspace2Domain);
+
+            var workspace = workspacePersistence.findById(workspace2Domain.getId()).orElseThrow();
+            workspace.removeMember(memberUser2.getId());
+            update(workspace);
+
+            WorkspaceJpaEntity foundInDb = entityManager.find(WorkspaceJpaEntity.class, workspace2Domain.getId());
+            assertThat(foundInDb.getMemberCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("findMembers Method Tests")
+    class FindMembersTests {
+        @Test
+        @DisplayName("should return the members of one workspace page by page")
+        void findMembers_shouldPageThroughMembers() {
+            create(workspace2Domain);
+            create(workspace3Domain);
+
+            var first = workspacePersistence.findMembers(workspace2Domain.getId(), Page.of(0, 1, "name", "asc"));
+            var second = workspacePersistence.findMembers(workspace2Domain.getId(), Page.of(1, 1, "name", "asc"));
+
+            assertThat(first.total()).isEqualTo(2);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(first.items()).containsExactly(UserTO.of(memberUser1.getId(), "Member One"));
+            assertThat(second.items()).containsExactly(UserTO.of(memberUser2.getId(), "Member Two"));
+            assertThat(second.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should return an empty page for a workspace without members")
+        void findMembers_noMembers_shouldReturnEmptyPage() {
+            create(workspace3Domain);
+
+            var result = workspacePersistence.findMembers(workspace3Domain.getId(), Page.of(0, 10, "name", "asc"));
+
+            assertThat(result.total()).isZero();
+            assertThat(result.items()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should reject sort fields other than the member columns")
+        void findMembers_invalidSort_shouldThrowBusinessException() {
+            create(workspace2Domain);
+
+            assertThatThrownBy(() -> workspacePersistence.findMembers(workspace2Domain.getId(), Page.of(0, 10, "password", "asc")))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("Invalid sort field for members");
+        }
+    }
+
+    @Nested
+    @DisplayName("membership Method Tests")
+    class MembershipTests {
+        @Test
+        @DisplayName("addMembers should insert only new, existing users and move the member count")
+        void addMembers_shouldSkipUnknownAndExistingMembers() {
+            create(workspace1Domain); // memberUser1 is already a member
+
+            var statistics = resetStatistics();
+            int added = workspacePersistence.addMembers(workspace1Domain.getId(),
+                    List.of(memberUser1.getId(), memberUser2.getId(), ownerUser.getId(), "unknown-user"));
+            flushAndClear();
+
+            assertThat(added).isEqualTo(2);
+            // One insert for the chunk and one count update, the workspace is never selected
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+            WorkspaceJpaEntity foundInDb = entityManager.find(WorkspaceJpaEntity.class, workspace1Domain.getId());
+            assertThat(foundInDb.getMemberCount()).isEqualTo(3);
+            assertThat(foundInDb.getMembers()).extracting(UserJpaEntity::getId)
+                    .containsExactlyInAnyOrder(memberUser1.getId(), memberUser2.getId(), ownerUser.getId());
+        }
+
+        @Test
+        @DisplayName("removeMembers should delete only current members and move the member count")
+        void removeMembers_shouldSkipNonMembers() {
+            create(workspace2Domain); // memberUser1 and memberUser2
+
+            int removed = workspacePersistence.removeMembers(workspace2Domain.getId(),
+                    List.of(memberUser1.getId(), ownerUser.getId()));
+            flushAndClear();
+
+            assertThat(removed).isEqualTo(1);
+            WorkspaceJpaEntity foundInDb = entityManager.find(WorkspaceJpaEntity.class, workspace2Domain.getId());
+            assertThat(foundInDb.getMemberCount()).isEqualTo(1);
+            assertThat(foundInDb.getMembers()).extracting(UserJpaEntity::getId).containsExactly(memberUser2.getId());
+        }
+
+        @Test
+        @DisplayName("addMember and removeMember should report whether the membership changed")
+        void singleMemberOperations_shouldReportChange() {
+            create(workspace3Domain);
+
+            assertThat(workspacePersistence.addMember(workspace3Domain.getId(), memberUser2.getId())).isTrue();
+            assertThat(workspacePersistence.addMember(workspace3Domain.getId(), memberUser2.getId())).isFalse();
+            assertThat(workspacePersistence.isMember(workspace3Domain.getId(), memberUser2.getId())).isTrue();
+
+            assertThat(workspacePersistence.removeMember(workspace3Domain.getId(), memberUser2.getId())).isTrue();
+            assertThat(workspacePersistence.removeMember(workspace3Domain.getId(), memberUser2.getId())).isFalse();
+            assertThat(workspacePersistence.isMember(workspace3Domain.getId(), memberUser2.getId())).isFalse();
+        }
+
+        @Test
+        @DisplayName("addMember and removeMember should move the version and updatedAt, which GET serves as ETag and Last-Modified")
+        void singleMemberOperations_shouldMoveRevision() {
+            create(workspace3Domain);
+            Revision created = workspacePersistence.findRevision(workspace3Domain.getId()).orElseThrow();
+            sleep(10);
+
+            workspacePersistence.addMember(workspace3Domain.getId(), memberUser2.getId());
+            flushAndClear();
+            Revision added = workspacePersistence.findRevision(workspace3Domain.getId()).orElseThrow();
+            sleep(10);
+
+            workspacePersistence.removeMember(workspace3Domain.getId(), memberUser2.getId());
+            flushAndClear();
+            Revision removed = workspacePersistence.findRevision(workspace3Domain.getId()).orElseThrow();
+
+            assertThat(added.version()).isEqualTo(created.version() + 1);
+            assertThat(added.updatedAt()).isAfter(created.updatedAt());
+            assertThat(removed.version()).isEqualTo(added.version() + 1);
+            assertThat(removed.updatedAt()).isAfter(added.updatedAt());
+        }
+
+        @Test
+        @DisplayName("addMembers should handle more ids than fit in one statement")
+        void addMembers_manyIds_shouldBeChunked() {
+            create(workspace3Domain);
+            var ids = new ArrayList<String>();
+            for (int i = 0; i < 2500; i++) {
+                ids.add("unknown-" + i);
+            }
+            ids.add(memberUser2.getId());
+
+            int added = workspacePersistence.addMembers(workspace3Domain.getId(), ids);
+
+            assertThat(added).isEqualTo(1);
+        }
+    }
+
     private void create(Workspace entity) {
         workspacePersistence.create(entity);
         flushAndClear();
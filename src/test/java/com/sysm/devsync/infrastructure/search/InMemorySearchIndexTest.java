@@ -0,0 +1,144 @@
+package com.sysm.devsync.infrastructure.search;
+
+import com.sysm.devsync.domain.Page;
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.enums.TargetType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemorySearchIndexTest {
+
+    private InMemorySearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new InMemorySearchIndex();
+    }
+
+    @Test
+    @DisplayName("search should rank documents with more matching terms first")
+    void search_shouldRankDocumentsByRelevance() {
+        searchIndex.index(TargetType.NOTE, "n1", "p1", "Spring Boot", "Configuring the datasource");
+        searchIndex.index(TargetType.NOTE, "n2", "p1", "Spring cache", "Caching with Spring and Caffeine cache");
+        searchIndex.index(TargetType.NOTE, "n3", "p1", "Docker", "Running Postgres in a container");
+
+        Pagination<String> result = searchIndex.search(TargetType.NOTE, "spring cache", null, Page.of(0, 10));
+
+        assertEquals(2L, result.total());
+        assertEquals(List.of("n2", "n1"), result.items());
+    }
+
+    @Test
+    @DisplayName("search should be case insensitive and ignore stop words")
+    void search_shouldNormalizeTerms() {
+        searchIndex.index(TargetType.QUESTION, "q1", "p1", "How to map a ManyToMany relation?");
+
+        assertEquals(List.of("q1"), searchIndex.search(TargetType.QUESTION, "MANYTOMANY", null, null).items());
+        assertTrue(searchIndex.search(TargetType.QUESTION, "the to a", null, null).items().isEmpty());
+    }
+
+    @Test
+    @DisplayName("search should keep document types apart")
+    void search_shouldKeepTypesApart() {
+        searchIndex.index(TargetType.NOTE, "n1", "p1", "kafka consumer");
+
+        assertEquals(0L, searchIndex.search(TargetType.QUESTION, "kafka", null, null).total());
+        assertEquals(1L, searchIndex.search(TargetType.NOTE, "kafka", null, null).total());
+    }
+
+    @Test
+    @DisplayName("search with a scope should only return documents indexed with it")
+    void search_withScope_shouldOnlyReturnDocumentsOfThatScope() {
+        searchIndex.index(TargetType.NOTE, "n1", "p1", "kafka consumer");
+        searchIndex.index(TargetType.NOTE, "n2", "p2", "kafka producer");
+
+        Pagination<String> result = searchIndex.search(TargetType.NOTE, "kafka", "p2", null);
+
+        assertEquals(1L, result.total());
+        assertEquals(List.of("n2"), result.items());
+        assertEquals(0L, searchIndex.search(TargetType.NOTE, "kafka", "p3", null).total());
+    }
+
+    @Test
+    @DisplayName("index should replace the terms of an already indexed document")
+    void index_shouldReplaceExistingDocument() {
+        searchIndex.index(TargetType.NOTE, "n1", "p1", "old title");
+        searchIndex.index(TargetType.NOTE, "n1", "p1", "new title");
+
+        assertEquals(1, searchIndex.size(TargetType.NOTE));
+        assertTrue(searchIndex.search(TargetType.NOTE, "old", null, null).items().isEmpty());
+        assertEquals(List.of("n1"), searchIndex.search(TargetType.NOTE, "new", null, null).items());
+    }
+
+    @Test
+    @DisplayName("remove should drop the document from results")
+    void remove_shouldDropDocument() {
+        searchIndex.index(TargetType.ANSWER, "a1", "q1", "increase the pool size");
+        searchIndex.index(TargetType.ANSWER, "a2", "q1", "reduce the pool timeout");
+
+        searchIndex.remove(TargetType.ANSWER, "a1");
+
+        assertEquals(List.of("a2"), searchIndex.search(TargetType.ANSWER, "pool", null, null).items());
+        assertEquals(1, searchIndex.size(TargetType.ANSWER));
+    }
+
+    @Test
+    @DisplayName("removeByScope should drop every document of the scope")
+    void removeByScope_shouldDropScopeDocuments() {
+        searchIndex.index(TargetType.ANSWER, "a1", "q1", "use an index");
+        searchIndex.index(TargetType.ANSWER, "a2", "q1", "add an index");
+        searchIndex.index(TargetType.ANSWER, "a3", "q2", "index the column");
+
+        searchIndex.removeByScope(TargetType.ANSWER, "q1");
+
+        assertEquals(List.of("a3"), searchIndex.search(TargetType.ANSWER, "index", null, null).items());
+    }
+
+    @Test
+    @DisplayName("search should page through ranked results")
+    void search_shouldPaginate() {
+        for (int i = 0; i < 25; i++) {
+            searchIndex.index(TargetType.NOTE, "n" + i, "p1", "shared term " + "extra ".repeat(i));
+        }
+
+        Pagination<String> firstPage = searchIndex.search(TargetType.NOTE, "shared", null, Page.of(0, 10));
+        Pagination<String> lastPage = searchIndex.search(TargetType.NOTE, "shared", null, Page.of(2, 10));
+        Pagination<String> pastEnd = searchIndex.search(TargetType.NOTE, "shared", null, Page.of(3, 10));
+
+        assertEquals(25L, firstPage.total());
+        assertEquals(10, firstPage.items().size());
+        // Shorter documents score higher for the same term frequency
+        assertEquals("n0", firstPage.items().get(0));
+        assertEquals(5, lastPage.items().size());
+        assertTrue(pastEnd.items().isEmpty());
+        assertEquals(25L, pastEnd.total());
+    }
+
+    @Test
+    @DisplayName("search should merge the scores of documents matched by several terms")
+    void search_shouldMergeScoresAcrossTerms() {
+        for (int i = 0; i < 200; i++) {
+            searchIndex.index(TargetType.NOTE, "filler" + i, "p1", "unrelated content number " + i);
+        }
+        searchIndex.index(TargetType.NOTE, "both", "p1", "kafka streams");
+        searchIndex.index(TargetType.NOTE, "kafka", "p1", "kafka consumer groups");
+        searchIndex.index(TargetType.NOTE, "streams", "p1", "java streams api");
+
+        Pagination<String> result = searchIndex.search(TargetType.NOTE, "kafka streams", null, Page.of(0, 10));
+
+        assertEquals(3L, result.total());
+        assertEquals("both", result.items().get(0));
+    }
+
+    @Test
+    @DisplayName("index should reject missing type or id")
+    void index_shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> searchIndex.index(null, "n1", "p1", "text"));
+        assertThrows(IllegalArgumentException.class, () -> searchIndex.index(TargetType.NOTE, " ", "p1", "text"));
+    }
+}
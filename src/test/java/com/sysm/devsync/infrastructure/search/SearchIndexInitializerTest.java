@@ -0,0 +1,69 @@
+package com.sysm.devsync.infrastructure.search;
+
+import com.sysm.devsync.domain.Pagination;
+import com.sysm.devsync.domain.SearchQuery;
+import com.sysm.devsync.domain.enums.CountType;
+import com.sysm.devsync.domain.enums.TargetType;
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.persistence.AnswerPersistencePort;
+import com.sysm.devsync.domain.persistence.NotePersistencePort;
+import com.sysm.devsync.domain.persistence.QuestionPersistencePort;
+import com.sysm.devsync.domain.persistence.SearchIndexPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexInitializerTest {
+
+    @Mock
+    private SearchIndexPort searchIndex;
+    @Mock
+    private NotePersistencePort notePersistence;
+    @Mock
+    private QuestionPersistencePort questionPersistence;
+    @Mock
+    private AnswerPersistencePort answerPersistence;
+
+    @Test
+    @DisplayName("rebuild should scroll each table with keyset pages and no count")
+    void rebuild_shouldScrollWithKeysetPagesWithoutCount() {
+        Note first = Note.create("First", "content", "p1", "u1");
+        Note second = Note.create("Second", "content", "p1", "u1");
+        when(notePersistence.findAll(any()))
+                .thenReturn(new Pagination<>(0, 1, Pagination.UNKNOWN_TOTAL, List.of(first), true, "c1"))
+                .thenReturn(new Pagination<>(0, 1, Pagination.UNKNOWN_TOTAL, List.of(second), false, null));
+        when(questionPersistence.findAll(any())).thenReturn(new Pagination<>(0, 1, Pagination.UNKNOWN_TOTAL, List.of(), false, null));
+        when(answerPersistence.findAll(any())).thenReturn(new Pagination<>(0, 1, Pagination.UNKNOWN_TOTAL, List.of(), false, null));
+
+        new SearchIndexInitializer(searchIndex, notePersistence, questionPersistence, answerPersistence, true, 1).rebuild();
+
+        ArgumentCaptor<SearchQuery> queries = ArgumentCaptor.forClass(SearchQuery.class);
+        verify(notePersistence, times(2)).findAll(queries.capture());
+        List<SearchQuery> captured = queries.getAllValues();
+        assertEquals("", captured.get(0).page().cursor());
+        assertEquals("c1", captured.get(1).page().cursor());
+        assertTrue(captured.stream().allMatch(query -> query.page().isKeyset() && query.countType() == CountType.NONE));
+
+        verify(searchIndex).index(eq(TargetType.NOTE), eq(first.getId()), eq("p1"), any(String[].class));
+        verify(searchIndex).index(eq(TargetType.NOTE), eq(second.getId()), eq("p1"), any(String[].class));
+    }
+
+    @Test
+    @DisplayName("rebuild should do nothing when disabled")
+    void rebuild_shouldDoNothingWhenDisabled() {
+        new SearchIndexInitializer(searchIndex, notePersistence, questionPersistence, answerPersistence, false, 1).rebuild();
+
+        verifyNoInteractions(notePersistence, questionPersistence, answerPersistence, searchIndex);
+    }
+}
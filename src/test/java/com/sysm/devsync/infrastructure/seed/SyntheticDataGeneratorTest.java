@@ -0,0 +1,67 @@
+package com.sysm.devsync.infrastructure.seed;
+
+import com.sysm.devsync.infrastructure.AbstractRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SyntheticDataGeneratorTest extends AbstractRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private TransactionTemplate transactions;
+
+    @BeforeEach
+    void setUp() {
+        clearRepositories();
+    }
+
+    @Test
+    @DisplayName("Should insert the configured volumes with consistent counters and skewed popularity")
+    void generate_shouldInsertSkewedDataWithConsistentCounters() {
+        // Arrange
+        var generator = new SyntheticDataGenerator(jdbc, transactions,
+                200, 10, 20, 30, 500, 1000, 100, 2000, 1.1, 42, 64);
+
+        // Act
+        generator.generate();
+
+        // Assert
+        assertThat(count("users")).isEqualTo(200);
+        assertThat(count("workspaces")).isEqualTo(10);
+        assertThat(count("projects")).isEqualTo(20);
+        assertThat(count("tags")).isEqualTo(30);
+        assertThat(count("questions")).isEqualTo(500);
+        assertThat(count("answers")).isEqualTo(1000);
+        assertThat(count("notes")).isEqualTo(100);
+        assertThat(count("comments")).isEqualTo(2000);
+
+        assertThat(jdbc.queryForObject("""
+                SELECT COUNT(*) FROM workspaces w
+                WHERE w.member_count <> (SELECT COUNT(*) FROM workspace_members wm WHERE wm.workspace_id = w.id)""",
+                Long.class)).isZero();
+        assertThat(jdbc.queryForObject("""
+                SELECT COUNT(*) FROM tags t
+                WHERE t.amount_used <> (SELECT COUNT(*) FROM question_tags qt WHERE qt.tag_id = t.id)
+                                      + (SELECT COUNT(*) FROM note_tags nt WHERE nt.tag_id = t.id)""",
+                Long.class)).isZero();
+
+        // The first tag is a hot one, far more used than the last
+        List<Integer> usage = jdbc.queryForList("SELECT amount_used FROM tags WHERE name IN (?, ?) ORDER BY name",
+                Integer.class, SyntheticDataGenerator.TAG_PREFIX + "0", SyntheticDataGenerator.TAG_PREFIX + "29");
+        assertThat(usage.get(0)).isGreaterThan(usage.get(1) * 5);
+    }
+
+    private long count(String table) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
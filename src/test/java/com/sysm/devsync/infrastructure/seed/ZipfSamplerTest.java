@@ -0,0 +1,62 @@
+package com.sysm.devsync.infrastructure.seed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ZipfSamplerTest {
+
+    @Test
+    @DisplayName("Should pick the first indexes more often, in proportion to 1/k^skew")
+    void next_shouldFollowZipfDistribution() {
+        var sampler = new ZipfSampler(100, 1.0);
+        var random = new Random(7);
+        int[] hits = new int[100];
+
+        for (int i = 0; i < 200_000; i++) {
+            hits[sampler.next(random)]++;
+        }
+
+        // Index 0 is picked twice as often as index 1 and ten times as often as index 9
+        assertThat((double) hits[0] / hits[1]).isCloseTo(2.0, within(0.1));
+        assertThat((double) hits[0] / hits[9]).isCloseTo(10.0, within(0.8));
+        assertThat(hits[99]).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should pick uniformly with a skew of 0 and repeat the same picks for the same seed")
+    void next_shouldBeUniformWithoutSkew_andDeterministic() {
+        var sampler = new ZipfSampler(4, 0);
+        int[] hits = new int[4];
+        var random = new Random(7);
+        for (int i = 0; i < 40_000; i++) {
+            hits[sampler.next(random)]++;
+        }
+
+        for (int count : hits) {
+            assertThat(count).isBetween(9_500, 10_500);
+        }
+
+        var first = new Random(42);
+        var second = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            assertThat(sampler.next(first)).isEqualTo(sampler.next(second));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject an empty range or a negative skew")
+    void constructor_shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> new ZipfSampler(0, 1.0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Size must be at least 1");
+        assertThatThrownBy(() -> new ZipfSampler(10, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Skew must not be negative");
+    }
+}
@@ -0,0 +1,87 @@
+package com.sysm.devsync.integration;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.infrastructure.events.ActivityHub;
+import com.sysm.devsync.infrastructure.repositories.ProjectJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.UserJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.WorkspaceJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.ProjectJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class ActivityIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String FAKE_AUTHENTICATED_USER_ID = "036dc698-3b84-49e1-8999-25e57bcb7a8a";
+
+    @Autowired
+    private ActivityHub activityHub;
+    @Autowired
+    private ProjectJpaRepository projectJpaRepository;
+    @Autowired
+    private WorkspaceJpaRepository workspaceJpaRepository;
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    private WorkspaceJpaEntity workspace;
+    private ProjectJpaEntity project;
+
+    @BeforeEach
+    void setUp() {
+        projectJpaRepository.deleteAll();
+        workspaceJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+
+        var user = UserJpaEntity.fromModel(User.create("Following User", "follow@test.com", UserRole.ADMIN));
+        user.setId(FAKE_AUTHENTICATED_USER_ID);
+        userJpaRepository.saveAndFlush(user);
+
+        workspace = workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(
+                Workspace.create("Workspace", "Description", false, FAKE_AUTHENTICATED_USER_ID)));
+        project = projectJpaRepository.saveAndFlush(ProjectJpaEntity.fromModel(
+                Project.create("Project", "Description", workspace.getId())));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("GET /projects/{id}/events - should open an event stream")
+    void followProject_shouldOpenStream() throws Exception {
+        int before = activityHub.subscriberCount();
+
+        mockMvc.perform(get("/projects/{projectId}/events", project.getId()).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string(containsString(":connected")));
+
+        assertThat(activityHub.subscriberCount()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("GET /workspaces/{id}/events - should open an event stream")
+    void followWorkspace_shouldOpenStream() throws Exception {
+        mockMvc.perform(get("/workspaces/{workspaceId}/events", workspace.getId()).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("GET /projects/{id}/events - should return 404 for an unknown project")
+    void followProject_shouldReturnNotFound_whenProjectDoesNotExist() throws Exception {
+        mockMvc.perform(get("/projects/{projectId}/events", "unknown"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -123,6 +123,7 @@ public class AnswerIntegrationTest extends AbstractIntegrationTest {
 
         @Test
         @WithMockUser(username = ANOTHER_USER_ID, roles = "MEMBER") // Any authenticated member can search
+        @QueryBudget(statements = 1)
         @DisplayName("GET /answers - should return paginated and filtered answers")
         void searchAnswers_withFilters_shouldReturnFilteredResults() throws Exception {
             // Arrange
@@ -149,6 +150,7 @@ public class AnswerIntegrationTest extends AbstractIntegrationTest {
 
         @Test
         @WithMockUser(username = ANOTHER_USER_ID, roles = "MEMBER") // Any authenticated member can read
+        @QueryBudget(statements = 3)
         @DisplayName("GET /answers/questions/{qId} - should return paginated answers")
         void getAnswersByQuestionId_shouldReturnPaginatedResults() throws Exception {
             // Arrange
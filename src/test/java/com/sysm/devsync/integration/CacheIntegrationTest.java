@@ -0,0 +1,147 @@
+package com.sysm.devsync.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.infrastructure.cache.AggregateCaches;
+import com.sysm.devsync.infrastructure.cache.CacheStats;
+import com.sysm.devsync.infrastructure.controllers.dto.request.UserCreateUpdate;
+import com.sysm.devsync.infrastructure.repositories.UserJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.persistence.UserPersistence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs the user endpoints with the aggregate caches switched on, which the tests profile turns off.
+ * Requests are not wrapped in a test transaction, so every write commits or rolls back for real
+ * and the invalidation on transaction completion is exercised.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("tests")
+@TestPropertySource(properties = "dev-sync.cache.enabled=true")
+public class CacheIntegrationTest {
+
+    private static final String FAKE_AUTHENTICATED_USER_ID = "036dc698-3b84-49e1-8999-25e57bcb7a8a";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private UserPersistence userPersistence;
+
+    @Autowired
+    private AggregateCaches caches;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        userJpaRepository.deleteAll();
+        caches.invalidateAll();
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("GET /users/{id} - should serve repeated reads from the cache")
+    void getUser_shouldHitTheCache() throws Exception {
+        String id = createUser("Alice", "alice@example.com");
+        long hits = usersCache().hits();
+
+        getUser(id, "Alice");
+        getUser(id, "Alice");
+
+        assertThat(usersCache().hits()).isGreaterThan(hits);
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("PUT /users/{id} - should not serve the cached user after an update")
+    void updateUser_shouldNotServeStaleUser() throws Exception {
+        String id = createUser("Alice", "alice@example.com");
+        getUser(id, "Alice");
+
+        mockMvc.perform(put("/users/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserCreateUpdate("Alice Smith", "alice@example.com", null, UserRole.MEMBER))))
+                .andExpect(status().isNoContent());
+
+        getUser(id, "Alice Smith");
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("DELETE /users/{id} - should not serve the cached user after a delete")
+    void deleteUser_shouldNotServeDeletedUser() throws Exception {
+        String id = createUser("Alice", "alice@example.com");
+        getUser(id, "Alice");
+
+        mockMvc.perform(delete("/users/{id}", id))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/users/{id}", id))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("GET /users/{id} - should not serve a change cached by a transaction that rolled back")
+    void rolledBackUpdate_shouldNotStayCached() throws Exception {
+        String id = createUser("Alice", "alice@example.com");
+        getUser(id, "Alice");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userPersistence.findById(id).orElseThrow();
+            user.updateName("Uncommitted");
+            userPersistence.update(user);
+            // A read inside the transaction loads, and may cache, the uncommitted row
+            assertThat(userPersistence.findById(id)).get().extracting(User::getName).isEqualTo("Uncommitted");
+            status.setRollbackOnly();
+        });
+
+        getUser(id, "Alice");
+    }
+
+    private String createUser(String name, String email) throws Exception {
+        var response = mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserCreateUpdate(name, email, null, UserRole.MEMBER))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asText();
+    }
+
+    private void getUser(String id, String expectedName) throws Exception {
+        mockMvc.perform(get("/users/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(expectedName));
+    }
+
+    private CacheStats usersCache() {
+        return caches.stats().stream()
+                .filter(stats -> stats.name().equals("users"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
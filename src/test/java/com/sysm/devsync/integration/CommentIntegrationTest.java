@@ -109,6 +109,7 @@ public class CommentIntegrationTest extends AbstractIntegrationTest {
 
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @QueryBudget(statements = 1)
     @DisplayName("GET /comments - should return paginated and filtered comments")
     void searchComments_withFilters_shouldReturnFilteredResults() throws Exception {
         // Arrange
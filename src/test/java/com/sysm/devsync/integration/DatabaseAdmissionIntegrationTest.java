@@ -0,0 +1,171 @@
+package com.sysm.devsync.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.infrastructure.controllers.dto.request.NoteCreateUpdate;
+import com.sysm.devsync.infrastructure.repositories.NoteJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.ProjectJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.UserJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.WorkspaceJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.NoteJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.ProjectJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs requests through an admission queue of one connection and one waiting caller. The test
+ * holds the only place itself to make the requests queue. Requests are not wrapped in a test
+ * transaction, which would hold a connection of its own, and the sync feed settles after one second.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("tests")
+@TestPropertySource(properties = {
+        "dev-sync.db-admission.size=1",
+        "dev-sync.db-admission.max-queue=1",
+        "dev-sync.db-admission.timeout=10s",
+        "dev-sync.sync.settle-time=1s"
+})
+public class DatabaseAdmissionIntegrationTest {
+
+    private static final String FAKE_AUTHENTICATED_USER_ID = "036dc698-3b84-49e1-8999-25e57bcb7a8a";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private MeterRegistry registry;
+    @Autowired
+    private NoteJpaRepository noteJpaRepository;
+    @Autowired
+    private ProjectJpaRepository projectJpaRepository;
+    @Autowired
+    private WorkspaceJpaRepository workspaceJpaRepository;
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    private final ExecutorService clients = Executors.newSingleThreadExecutor();
+    private String projectId;
+
+    @BeforeEach
+    void setUp() {
+        var user = UserJpaEntity.fromModel(User.create("Queued User", "queued@test.com", UserRole.ADMIN));
+        user.setId(FAKE_AUTHENTICATED_USER_ID);
+        userJpaRepository.saveAndFlush(user);
+        var workspace = workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(
+                Workspace.create("Workspace", "Description", false, FAKE_AUTHENTICATED_USER_ID)));
+        projectId = projectJpaRepository.saveAndFlush(ProjectJpaEntity.fromModel(
+                Project.create("Project", "Description", workspace.getId()))).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+        noteJpaRepository.deleteAll();
+        projectJpaRepository.deleteAll();
+        workspaceJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After once the admission queue is full")
+    void fullQueue_shouldAnswerServiceUnavailable() throws Exception {
+        Future<MvcResult> queued;
+        try (Connection ignored = dataSource.getConnection()) {
+            queued = clients.submit(this::createNote);
+            awaitQueued();
+
+            mockMvc.perform(get("/notes/{id}", "any").with(user(FAKE_AUTHENTICATED_USER_ID).roles("ADMIN")))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        }
+
+        // The caller that was waiting gets the connection once it is given back
+        assertThat(queued.get(10, TimeUnit.SECONDS).getResponse().getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("Should stamp a write that waited longer than the settle time when it is admitted, so GET /sync returns it")
+    void queuedWrite_shouldStayInTheSyncFeed() throws Exception {
+        String cursor = objectMapper.readTree(mockMvc.perform(get("/sync").with(user(FAKE_AUTHENTICATED_USER_ID).roles("ADMIN")))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString())
+                .get("cursor").asText();
+
+        Future<MvcResult> queued;
+        Instant admitted;
+        try (Connection ignored = dataSource.getConnection()) {
+            queued = clients.submit(this::createNote);
+            awaitQueued();
+            // Longer than the settle time, a feed cursor issued now could already be past the request's start
+            Thread.sleep(1200);
+            admitted = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        }
+
+        MvcResult created = queued.get(10, TimeUnit.SECONDS);
+        assertThat(created.getResponse().getStatus()).isEqualTo(201);
+        String id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+        assertThat(noteJpaRepository.findById(id)).get()
+                .extracting(NoteJpaEntity::getUpdatedAt)
+                .satisfies(stamp -> assertThat(stamp).isAfterOrEqualTo(admitted));
+
+        Thread.sleep(1100);
+        mockMvc.perform(get("/sync").param("since", cursor).with(user(FAKE_AUTHENTICATED_USER_ID).roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[*].id", hasItem(id)));
+    }
+
+    private MvcResult createNote() throws Exception {
+        return mockMvc.perform(post("/notes")
+                        .with(user(FAKE_AUTHENTICATED_USER_ID).roles("ADMIN", "MEMBER"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new NoteCreateUpdate("Queued", "Content", projectId))))
+                .andReturn();
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("devsync.db.admission.queued").gauge().value() < 1) {
+            assertThat(System.nanoTime()).as("a request waiting for admission").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
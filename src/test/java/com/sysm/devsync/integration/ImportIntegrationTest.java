@@ -0,0 +1,132 @@
+package com.sysm.devsync.integration;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.Tag;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.infrastructure.repositories.*;
+import com.sysm.devsync.infrastructure.repositories.entities.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class ImportIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String FAKE_AUTHENTICATED_USER_ID = "036dc698-3b84-49e1-8999-25e57bcb7a8a";
+
+    @Autowired
+    private QuestionJpaRepository questionJpaRepository;
+    @Autowired
+    private NoteJpaRepository noteJpaRepository;
+    @Autowired
+    private ProjectJpaRepository projectJpaRepository;
+    @Autowired
+    private WorkspaceJpaRepository workspaceJpaRepository;
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+    @Autowired
+    private TagJpaRepository tagJpaRepository;
+
+    private UserJpaEntity author;
+    private ProjectJpaEntity project;
+    private TagJpaEntity tag;
+
+    @BeforeEach
+    void setUp() {
+        questionJpaRepository.deleteAll();
+        noteJpaRepository.deleteAll();
+        tagJpaRepository.deleteAll();
+        projectJpaRepository.deleteAll();
+        workspaceJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+
+        var importer = UserJpaEntity.fromModel(User.create("Importer", "importer@test.com", UserRole.ADMIN));
+        importer.setId(FAKE_AUTHENTICATED_USER_ID);
+        userJpaRepository.saveAndFlush(importer);
+        author = userJpaRepository.saveAndFlush(UserJpaEntity.fromModel(User.create("Author", "author@test.com", UserRole.MEMBER)));
+
+        var workspace = workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(
+                Workspace.create("Workspace", "Description", false, FAKE_AUTHENTICATED_USER_ID)));
+        project = projectJpaRepository.saveAndFlush(ProjectJpaEntity.fromModel(
+                Project.create("Project", "Description", workspace.getId())));
+        tag = tagJpaRepository.saveAndFlush(TagJpaEntity.fromModel(Tag.create("java", "Blue")));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("POST /imports - should import the valid lines and report the others by line number")
+    void importContent_shouldImportValidLinesAndReportErrors() throws Exception {
+        var body = String.join("\n",
+                """
+                {"type":"question","title":"Q1","description":"D1","projectId":"%s","authorId":"%s","tagsId":["%s"]}"""
+                        .formatted(project.getId(), author.getId(), tag.getId()),
+                """
+                {"type":"note","title":"N1","content":"C1","projectId":"%s"}""".formatted(project.getId()),
+                "",
+                """
+                {"type":"question","title":"Q2","description":"D2","projectId":"missing-project"}""",
+                "{not json");
+
+        mockMvc.perform(post("/imports")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(4))
+                .andExpect(jsonPath("$.errors[0].message").value("Project not found: missing-project"))
+                .andExpect(jsonPath("$.errors[1].line").value(5));
+
+        assertThat(questionJpaRepository.findAll())
+                .singleElement()
+                .satisfies(question -> {
+                    assertThat(question.getTitle()).isEqualTo("Q1");
+                    assertThat(question.getAuthor().getId()).isEqualTo(author.getId());
+                });
+        assertThat(noteJpaRepository.findAll())
+                .singleElement()
+                .satisfies(note -> assertThat(note.getAuthor().getId()).isEqualTo(FAKE_AUTHENTICATED_USER_ID));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("POST /imports - should skip the project line of a project export and import its questions")
+    void importContent_shouldSkipProjectLineOfExport() throws Exception {
+        var body = String.join("\n",
+                """
+                {"type":"project","id":"%s","name":"Exported","workspaceId":"w1"}""".formatted(project.getId()),
+                """
+                {"type":"question","id":"q1","title":"Q1","description":"D1","status":"OPEN","projectId":"%s","authorId":"%s",\
+                "comments":[],"answers":[{"id":"a1","content":"A1","comments":[]}]}"""
+                        .formatted(project.getId(), author.getId()));
+
+        mockMvc.perform(post("/imports")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.errors").isEmpty());
+
+        assertThat(questionJpaRepository.findAll())
+                .singleElement()
+                .satisfies(question -> assertThat(question.getTitle()).isEqualTo("Q1"));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"MEMBER"})
+    @DisplayName("POST /imports - should be forbidden for non admin users")
+    void importContent_shouldBeForbidden_forMembers() throws Exception {
+        mockMvc.perform(post("/imports")
+                        .contentType("application/x-ndjson")
+                        .content("{}"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -1,7 +1,9 @@
 package com.sysm.devsync.integration;
 
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,12 +19,15 @@ import java.lang.annotation.*;
  * - Auto-configure MockMvc for simulating HTTP requests (@AutoConfigureMockMvc).
  * - Run each test within a transaction that is rolled back by default (@Transactional),
  *   ensuring tests are isolated and do not affect each other.
+ * - Enforce the @QueryBudget of the test methods that declare one.
  */
 
 @Inherited
 @Transactional // Ensures each test runs in its own transaction and is rolled back
 @SpringBootTest
 @AutoConfigureMockMvc
+@ExtendWith(QueryBudgetExtension.class)
+@Import(QueryBudgetExtension.Config.class)
 @ActiveProfiles("tests") // Use a specific profile for tests, e.g., "tests" or "integration"
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 
@@ -154,6 +155,116 @@ public class NoteIntegrationTest extends AbstractIntegrationTest {
         assertThat(updatedNote.get().getVersion()).isEqualTo(2); // Version should increment
     }
 
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("GET then PUT /notes/{id} - should accept the ETag of the read in If-Match")
+    void updateNote_withCurrentIfMatch_shouldSucceed() throws Exception {
+        var noteModel = com.sysm.devsync.domain.models.Note.create("Title", "Content", testProject1.getId(), testAuthor1.getId());
+        var savedNote = noteJpaRepository.saveAndFlush(NoteJpaEntity.fromModel(noteModel));
+
+        String eTag = mockMvc.perform(get("/notes/{id}", savedNote.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        var requestJson = objectMapper.writeValueAsString(new NoteCreateUpdate("New Title", "New Content", testProject1.getId()));
+        mockMvc.perform(put("/notes/{id}", savedNote.getId())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/notes/{id}", savedNote.getId()))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("GET /notes/{id} - should answer 304 while the note is unchanged")
+    void getNote_withCurrentIfNoneMatch_shouldReturnNotModified() throws Exception {
+        var noteModel = com.sysm.devsync.domain.models.Note.create("Title", "Content", testProject1.getId(), testAuthor1.getId());
+        var savedNote = noteJpaRepository.saveAndFlush(NoteJpaEntity.fromModel(noteModel));
+
+        var response = mockMvc.perform(get("/notes/{id}", savedNote.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse();
+
+        mockMvc.perform(get("/notes/{id}", savedNote.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/notes/{id}", savedNote.getId())
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, response.getHeader(HttpHeaders.LAST_MODIFIED)))
+                .andExpect(status().isNotModified());
+
+        var requestJson = objectMapper.writeValueAsString(new NoteCreateUpdate("Title", "New Content", testProject1.getId()));
+        mockMvc.perform(patch("/notes/{id}/content", savedNote.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/notes/{id}", savedNote.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.content", is("New Content")));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("GET /notes - should answer 304 while the page is unchanged")
+    void searchNotes_withCurrentIfNoneMatch_shouldReturnNotModified() throws Exception {
+        var noteModel = com.sysm.devsync.domain.models.Note.create("Title", "Content", testProject1.getId(), testAuthor1.getId());
+        var savedNote = noteJpaRepository.saveAndFlush(NoteJpaEntity.fromModel(noteModel));
+
+        String eTag = mockMvc.perform(get("/notes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+
+        mockMvc.perform(get("/notes").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        var requestJson = objectMapper.writeValueAsString(new NoteCreateUpdate("New Title", "Content", testProject1.getId()));
+        mockMvc.perform(put("/notes/{id}", savedNote.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/notes").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title", is("New Title")));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("PUT /notes/{id} - should return 409 when If-Match holds an outdated version")
+    void updateNote_withStaleIfMatch_shouldReturnConflict() throws Exception {
+        var noteModel = com.sysm.devsync.domain.models.Note.create("Title", "Content", testProject1.getId(), testAuthor1.getId());
+        var savedNote = noteJpaRepository.saveAndFlush(NoteJpaEntity.fromModel(noteModel));
+
+        var requestJson = objectMapper.writeValueAsString(new NoteCreateUpdate("New Title", "New Content", testProject1.getId()));
+        mockMvc.perform(patch("/notes/{id}/content", savedNote.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(put("/notes/{id}", savedNote.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status", is(409)));
+
+        assertThat(noteJpaRepository.findById(savedNote.getId()).orElseThrow().getTitle()).isEqualTo("Title");
+    }
+
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
     @DisplayName("DELETE /notes/{id} - should delete an existing note")
@@ -214,6 +325,7 @@ public class NoteIntegrationTest extends AbstractIntegrationTest {
 
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @QueryBudget(statements = 3)
     @DisplayName("GET /notes - should return paginated list of notes")
     void searchNotes_shouldReturnPaginatedResults() throws Exception {
         // Arrange
@@ -0,0 +1,77 @@
+package com.sysm.devsync.integration;
+
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.infrastructure.repositories.ProjectJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.UserJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.WorkspaceJpaRepository;
+import com.sysm.devsync.infrastructure.repositories.entities.ProjectJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.UserJpaEntity;
+import com.sysm.devsync.infrastructure.repositories.entities.WorkspaceJpaEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class PerformanceIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String FAKE_AUTHENTICATED_USER_ID = "036dc698-3b84-49e1-8999-25e57bcb7a8a";
+
+    @Autowired
+    private ProjectJpaRepository projectJpaRepository;
+    @Autowired
+    private WorkspaceJpaRepository workspaceJpaRepository;
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    private WorkspaceJpaEntity workspace;
+
+    @BeforeEach
+    void setUp() {
+        projectJpaRepository.deleteAll();
+        workspaceJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+
+        var user = UserJpaEntity.fromModel(User.create("Measured User", "measured@test.com", UserRole.ADMIN));
+        user.setId(FAKE_AUTHENTICATED_USER_ID);
+        userJpaRepository.saveAndFlush(user);
+
+        workspace = workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(
+                Workspace.create("Workspace", "Description", false, FAKE_AUTHENTICATED_USER_ID)));
+        projectJpaRepository.saveAndFlush(ProjectJpaEntity.fromModel(
+                Project.create("Project", "Description", workspace.getId())));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("GET /actuator/perf - should report the timed controller and persistence calls with their query counts")
+    void perf_shouldReportTimedCallsWithQueryCounts() throws Exception {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/projects").param("workspaceId", workspace.getId()))
+                    .andExpect(status().isOk());
+        }
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/perf"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.controllers[?(@.name == 'ProjectController.searchProjects')].count",
+                        contains(greaterThanOrEqualTo(3))))
+                .andExpect(jsonPath("$.controllers[?(@.name == 'ProjectController.searchProjects')].p99Ms",
+                        contains(notNullValue())))
+                .andExpect(jsonPath("$.controllers[?(@.name == 'ProjectController.searchProjects')].queriesMax",
+                        contains(greaterThanOrEqualTo(1.0))))
+                .andExpect(jsonPath("$.persistence[?(@.name == 'ProjectPersistence.findAll')].queriesMax",
+                        contains(greaterThanOrEqualTo(1.0))))
+                .andExpect(jsonPath("$.pools[*].name", hasItem("master")))
+                .andExpect(jsonPath("$.caches[*].name", hasItems("projects", "workspaces")));
+    }
+}
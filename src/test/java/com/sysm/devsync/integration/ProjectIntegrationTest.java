@@ -106,6 +106,7 @@ public class ProjectIntegrationTest extends AbstractIntegrationTest {
 
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @QueryBudget(statements = 2)
     @DisplayName("GET /projects - should return paginated and filtered projects")
     void searchProjects_withFilters_shouldReturnFilteredResults() throws Exception {
         // Arrange
@@ -210,4 +211,37 @@ public class ProjectIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(status().isBadRequest());
 
     }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("GET /projects/{id}/export - should stream the project as newline-delimited JSON")
+    void exportProject_shouldStreamNdjson() throws Exception {
+        // Arrange
+        Project project = Project.create("Exported Project", "Desc", workspace1.getId());
+        projectJpaRepository.save(ProjectJpaEntity.fromModel(project));
+
+        // Act
+        var asyncResult = mockMvc.perform(get("/projects/{id}/export", project.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        var content = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        var firstLine = objectMapper.readTree(content.lines().findFirst().orElseThrow());
+        assertThat(firstLine.get("type").asText()).isEqualTo("project");
+        assertThat(firstLine.get("id").asText()).isEqualTo(project.getId());
+        assertThat(firstLine.get("workspaceId").asText()).isEqualTo(workspace1.getId());
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("GET /projects/{id}/export - should return 404 before streaming for a missing project")
+    void exportProject_shouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/projects/{id}/export", "non-existent-id"))
+                .andExpect(status().isNotFound());
+    }
 }
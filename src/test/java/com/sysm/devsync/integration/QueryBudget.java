@@ -0,0 +1,28 @@
+package com.sysm.devsync.integration;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test when any request it sends runs more statements than the budget, or prepares the
+ * same statement more than {@link #repeats()} times. Enforced by {@link QueryBudgetExtension}.
+ * <p>
+ * Entities created by the test are detached before every request, so lazy associations are loaded
+ * from the database as they would be in production.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * Statements one request may run.
+     */
+    int statements();
+
+    /**
+     * Times one request may prepare the same statement, literals and IN list lengths aside.
+     */
+    int repeats() default 1;
+}
@@ -0,0 +1,125 @@
+package com.sysm.devsync.integration;
+
+import com.sysm.devsync.infrastructure.metrics.QueryBudgetFilter;
+import com.sysm.devsync.infrastructure.metrics.RequestQueries;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Checks the {@link QueryBudget} of a test against the query report {@link QueryBudgetFilter}
+ * leaves on every request sent through MockMvc.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (budget(context) != null) {
+            recorder(context).start();
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryBudget budget = budget(context);
+        if (budget == null) {
+            return;
+        }
+        List<Request> requests = recorder(context).stop();
+        if (requests.isEmpty()) {
+            fail("@QueryBudget test sent no request");
+        }
+        List<String> violations = requests.stream()
+                .filter(request -> request.report().statements() > budget.statements()
+                                   || request.report().repeats() > budget.repeats())
+                .map(request -> "%s ran %d statements, one of them %d times: %s".formatted(request.name(),
+                        request.report().statements(), request.report().repeats(), request.report().repeated()))
+                .toList();
+        if (!violations.isEmpty()) {
+            fail("Query budget of %d statements, %d repeats exceeded:%n%s".formatted(budget.statements(),
+                    budget.repeats(), violations.stream().collect(Collectors.joining(System.lineSeparator()))));
+        }
+    }
+
+    private static QueryBudget budget(ExtensionContext context) {
+        return context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+    }
+
+    private static Recorder recorder(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(Recorder.class);
+    }
+
+    record Request(String name, RequestQueries.Report report) {
+    }
+
+    /**
+     * Collects the reports while a budgeted test runs.
+     */
+    static class Recorder {
+
+        private final EntityManager entityManager;
+        private List<Request> requests;
+
+        Recorder(EntityManager entityManager) {
+            this.entityManager = entityManager;
+        }
+
+        void start() {
+            requests = new ArrayList<>();
+        }
+
+        List<Request> stop() {
+            List<Request> recorded = requests;
+            requests = null;
+            return recorded;
+        }
+
+        void beforeRequest() {
+            if (requests != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                // The test transaction is shared with the request, its loaded entities would hide lazy loads
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        void afterRequest(MvcResult result) {
+            var report = (RequestQueries.Report) result.getRequest().getAttribute(QueryBudgetFilter.REPORT_ATTRIBUTE);
+            if (requests != null && report != null) {
+                requests.add(new Request(result.getRequest().getMethod() + " " + result.getRequest().getRequestURI(), report));
+            }
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class Config {
+
+        @Bean
+        Recorder queryBudgetRecorder(EntityManager entityManager) {
+            return new Recorder(entityManager);
+        }
+
+        @Bean
+        MockMvcBuilderCustomizer queryBudgetCustomizer(Recorder recorder) {
+            return builder -> builder
+                    .defaultRequest(get("/").with(request -> {
+                        recorder.beforeRequest();
+                        return request;
+                    }))
+                    .alwaysDo(recorder::afterRequest);
+        }
+    }
+}
@@ -130,6 +130,7 @@ public class QuestionIntegrationTest extends AbstractIntegrationTest {
 
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @QueryBudget(statements = 3)
     @DisplayName("GET /questions - should return paginated list of questions")
     void searchQuestions_withoutFilters_shouldReturnPaginatedAndSortedResults() throws Exception {
         // Arrange
@@ -153,6 +154,7 @@ public class QuestionIntegrationTest extends AbstractIntegrationTest {
 
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @QueryBudget(statements = 2)
     @DisplayName("GET /questions - should return questions filtered by query parameters")
     void searchQuestions_withFilters_shouldReturnFilteredResults() throws Exception {
         // Arrange
@@ -0,0 +1,140 @@
+package com.sysm.devsync.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sysm.devsync.domain.enums.UserRole;
+import com.sysm.devsync.domain.models.Note;
+import com.sysm.devsync.domain.models.Project;
+import com.sysm.devsync.domain.models.Question;
+import com.sysm.devsync.domain.models.User;
+import com.sysm.devsync.domain.models.Workspace;
+import com.sysm.devsync.infrastructure.repositories.*;
+import com.sysm.devsync.infrastructure.repositories.entities.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class SyncIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String FAKE_AUTHENTICATED_USER_ID = "036dc698-3b84-49e1-8999-25e57bcb7a8a";
+
+    @Autowired
+    private CommentJpaRepository commentJpaRepository;
+    @Autowired
+    private AnswerJpaRepository answerJpaRepository;
+    @Autowired
+    private QuestionJpaRepository questionJpaRepository;
+    @Autowired
+    private NoteJpaRepository noteJpaRepository;
+    @Autowired
+    private TombstoneJpaRepository tombstoneJpaRepository;
+    @Autowired
+    private ProjectJpaRepository projectJpaRepository;
+    @Autowired
+    private WorkspaceJpaRepository workspaceJpaRepository;
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    private NoteJpaEntity note;
+    private QuestionJpaEntity question;
+
+    @BeforeEach
+    void setUp() {
+        commentJpaRepository.deleteAll();
+        answerJpaRepository.deleteAll();
+        questionJpaRepository.deleteAll();
+        noteJpaRepository.deleteAll();
+        tombstoneJpaRepository.deleteAll();
+        projectJpaRepository.deleteAll();
+        workspaceJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+
+        var user = UserJpaEntity.fromModel(User.create("Syncing User", "sync@test.com", UserRole.ADMIN));
+        user.setId(FAKE_AUTHENTICATED_USER_ID);
+        userJpaRepository.saveAndFlush(user);
+
+        var workspace = workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(
+                Workspace.create("Workspace", "Description", false, FAKE_AUTHENTICATED_USER_ID)));
+        var project = projectJpaRepository.saveAndFlush(ProjectJpaEntity.fromModel(
+                Project.create("Project", "Description", workspace.getId())));
+
+        question = questionJpaRepository.saveAndFlush(QuestionJpaEntity.fromModel(
+                Question.create("Question", "Description", project.getId(), FAKE_AUTHENTICATED_USER_ID)));
+        note = noteJpaRepository.saveAndFlush(NoteJpaEntity.fromModel(
+                Note.create("Note", "Content", project.getId(), FAKE_AUTHENTICATED_USER_ID)));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @QueryBudget(statements = 9)
+    @DisplayName("GET /sync - should return the created aggregates with their data, then only what changed since")
+    void getChanges_shouldReturnChangesSinceCursor() throws Exception {
+        // Act: first sync
+        var first = mockMvc.perform(get("/sync"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(2)))
+                .andExpect(jsonPath("$.changes[*].kind", everyItem(is("CREATED"))))
+                .andExpect(jsonPath("$.changes[*].id", containsInAnyOrder(question.getId(), note.getId())))
+                .andExpect(jsonPath("$.changes[?(@.type == 'NOTE')].data.title", contains("Note")))
+                .andExpect(jsonPath("$.hasMore", is(false)))
+                .andReturn();
+        String cursor = cursorOf(first.getResponse().getContentAsString());
+
+        // Nothing changed in between
+        mockMvc.perform(get("/sync").param("since", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(0)))
+                .andExpect(jsonPath("$.cursor", is(cursor)));
+
+        mockMvc.perform(delete("/notes/{id}", note.getId()))
+                .andExpect(status().isNoContent());
+
+        // Act & Assert: the deletion follows the cursor
+        mockMvc.perform(get("/sync").param("since", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.changes[0].type", is("NOTE")))
+                .andExpect(jsonPath("$.changes[0].kind", is("DELETED")))
+                .andExpect(jsonPath("$.changes[0].id", is(note.getId())))
+                .andExpect(jsonPath("$.changes[0].data").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("GET /sync - should page through the changes with the limit")
+    void getChanges_shouldPageWithLimit() throws Exception {
+        var first = mockMvc.perform(get("/sync").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.hasMore", is(true)))
+                .andReturn();
+        String cursor = cursorOf(first.getResponse().getContentAsString());
+
+        mockMvc.perform(get("/sync").param("since", cursor).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.hasMore", is(false)));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN"})
+    @DisplayName("GET /sync - should return 400 for a cursor it did not issue or a limit out of range")
+    void getChanges_shouldRejectInvalidInput() throws Exception {
+        mockMvc.perform(get("/sync").param("since", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/sync").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String cursorOf(String json) throws Exception {
+        JsonNode body = objectMapper.readTree(json);
+        return body.get("cursor").asText();
+    }
+}
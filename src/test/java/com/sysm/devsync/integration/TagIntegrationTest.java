@@ -110,6 +110,7 @@ public class TagIntegrationTest extends AbstractIntegrationTest {
 
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @QueryBudget(statements = 2)
     @DisplayName("GET /tags - should return paginated list of tags")
     void searchTags_shouldReturnPaginatedResults() throws Exception {
         // Arrange
@@ -193,6 +193,7 @@ public class UserIntegrationTest extends AbstractIntegrationTest {
 
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @QueryBudget(statements = 2)
     @DisplayName("GET /users - should return paginated list of users")
     void searchUsers_shouldReturnPaginatedResults() throws Exception {
         // Arrange
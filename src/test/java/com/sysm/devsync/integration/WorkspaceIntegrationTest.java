@@ -5,6 +5,7 @@ import com.sysm.devsync.domain.models.Project;
 import com.sysm.devsync.domain.models.User;
 import com.sysm.devsync.domain.models.Workspace;
 import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceCreateUpdate;
+import com.sysm.devsync.infrastructure.controllers.dto.request.WorkspaceMembersUpdate;
 import com.sysm.devsync.infrastructure.repositories.ProjectJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.UserJpaRepository;
 import com.sysm.devsync.infrastructure.repositories.WorkspaceJpaRepository;
@@ -20,6 +21,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 
 import java.time.Instant;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -116,6 +118,7 @@ public class WorkspaceIntegrationTest extends AbstractIntegrationTest {
 
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @QueryBudget(statements = 4)
     @DisplayName("GET /workspaces - should return paginated and sorted results")
     void searchWorkspaces_shouldReturnPaginatedAndSortedResults() throws Exception {
         // Arrange
@@ -247,6 +250,110 @@ public class WorkspaceIntegrationTest extends AbstractIntegrationTest {
         assertThat(workspaceJpaRepository.existsById(savedWs.getId())).isFalse();
     }
 
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @QueryBudget(statements = 4)
+    @DisplayName("GET /workspaces - should return member counts in summary view and members in full view")
+    void searchWorkspaces_summaryAndFullViews() throws Exception {
+        // Arrange
+        UserJpaEntity member = userJpaRepository.saveAndFlush(UserJpaEntity.fromModel(User.create("Member One", "member1@test.com", UserRole.MEMBER)));
+        Workspace ws = Workspace.create("Team Workspace", "...", false, FAKE_AUTHENTICATED_USER_ID);
+        ws.addMember(member.getId());
+        workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(ws));
+
+        // Act & Assert
+        mockMvc.perform(get("/workspaces"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].memberCount").value(1))
+                .andExpect(jsonPath("$.items[0].members").doesNotExist());
+
+        mockMvc.perform(get("/workspaces").param("view", "full"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].memberCount").value(1))
+                .andExpect(jsonPath("$.items[0].members[0].id").value(member.getId()));
+
+        mockMvc.perform(get("/workspaces").param("view", "everything"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("GET /workspaces/{id}/members - should return members page by page")
+    void getMembers_shouldReturnPagedMembers() throws Exception {
+        // Arrange
+        UserJpaEntity member1 = userJpaRepository.saveAndFlush(UserJpaEntity.fromModel(User.create("Alice", "alice@test.com", UserRole.MEMBER)));
+        UserJpaEntity member2 = userJpaRepository.saveAndFlush(UserJpaEntity.fromModel(User.create("Bob", "bob@test.com", UserRole.MEMBER)));
+        Workspace ws = Workspace.create("Team Workspace", "...", false, FAKE_AUTHENTICATED_USER_ID);
+        ws.addMember(member1.getId());
+        ws.addMember(member2.getId());
+        WorkspaceJpaEntity savedWs = workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(ws));
+
+        // Act & Assert
+        mockMvc.perform(get("/workspaces/{id}/members", savedWs.getId())
+                        .param("pageSize", "1")
+                        .param("pageNumber", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(member2.getId()))
+                .andExpect(jsonPath("$.items[0].name").value("Bob"));
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("GET /workspaces/{id}/members - should return 404 for unknown workspace")
+    void getMembers_unknownWorkspace_shouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/workspaces/{id}/members", "non-existent-id"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("POST and DELETE /workspaces/{id}/members - should add and remove many members at once")
+    void bulkMembers_shouldAddAndRemoveMembers() throws Exception {
+        // Arrange
+        UserJpaEntity member1 = userJpaRepository.saveAndFlush(UserJpaEntity.fromModel(User.create("Alice", "alice@test.com", UserRole.MEMBER)));
+        UserJpaEntity member2 = userJpaRepository.saveAndFlush(UserJpaEntity.fromModel(User.create("Bob", "bob@test.com", UserRole.MEMBER)));
+        Workspace ws = Workspace.create("Team Workspace", "...", false, FAKE_AUTHENTICATED_USER_ID);
+        WorkspaceJpaEntity savedWs = workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(ws));
+        var addJson = objectMapper.writeValueAsString(
+                new WorkspaceMembersUpdate(Set.of(member1.getId(), member2.getId(), "unknown-user")));
+
+        // Act & Assert
+        mockMvc.perform(post("/workspaces/{id}/members", savedWs.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(addJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.changed").value(2));
+
+        var removeJson = objectMapper.writeValueAsString(new WorkspaceMembersUpdate(Set.of(member1.getId())));
+        mockMvc.perform(delete("/workspaces/{id}/members", savedWs.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(removeJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(1));
+
+        // Verify DB state
+        WorkspaceJpaEntity updatedWs = workspaceJpaRepository.findById(savedWs.getId()).orElseThrow();
+        assertThat(updatedWs.getMemberCount()).isEqualTo(1);
+        assertThat(workspaceJpaRepository.isMember(savedWs.getId(), member2.getId())).isTrue();
+        assertThat(workspaceJpaRepository.isMember(savedWs.getId(), member1.getId())).isFalse();
+    }
+
+    @Test
+    @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
+    @DisplayName("POST /workspaces/{id}/members - should fail with 400 for an empty list")
+    void bulkAddMembers_emptyList_shouldReturnBadRequest() throws Exception {
+        Workspace ws = Workspace.create("Team Workspace", "...", false, FAKE_AUTHENTICATED_USER_ID);
+        WorkspaceJpaEntity savedWs = workspaceJpaRepository.saveAndFlush(WorkspaceJpaEntity.fromModel(ws));
+
+        mockMvc.perform(post("/workspaces/{id}/members", savedWs.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberIds\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = FAKE_AUTHENTICATED_USER_ID, roles = {"ADMIN", "MEMBER"})
     @DisplayName("POST /workspaces/{id}/members/{memberId} - should add a member")
@@ -0,0 +1,184 @@
+-- Frozen copy of the schema Hibernate created from the entities before the migrations were introduced.
+-- SchemaMigrationTest baselines it to check that the migrations after V1 bring it up to date.
+
+create table answers (
+    is_accepted boolean not null,
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    content varchar(4000) not null,
+    author_id varchar(255) not null,
+    id varchar(255) not null,
+    question_id varchar(255) not null,
+    primary key (id)
+);
+
+create table comments (
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    author_id varchar(255) not null,
+    content TEXT not null,
+    id varchar(255) not null,
+    target_id varchar(255) not null,
+    target_type enum ('ANSWER','NOTE','QUESTION') not null,
+    primary key (id)
+);
+
+create table note_tags (
+    note_id varchar(255) not null,
+    tag_id varchar(255) not null,
+    primary key (note_id, tag_id)
+);
+
+create table notes (
+    version integer not null,
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    author_id varchar(255) not null,
+    content TEXT not null,
+    id varchar(255) not null,
+    project_id varchar(255) not null,
+    title varchar(255) not null,
+    primary key (id)
+);
+
+create table projects (
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    description varchar(500),
+    id varchar(255) not null,
+    name varchar(255) not null unique,
+    workspace_id varchar(255) not null,
+    primary key (id)
+);
+
+create table question_tags (
+    question_id varchar(255) not null,
+    tag_id varchar(255) not null,
+    primary key (question_id, tag_id)
+);
+
+create table questions (
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    description varchar(4000) not null,
+    author_id varchar(255) not null,
+    id varchar(255) not null,
+    project_id varchar(255) not null,
+    title varchar(255) not null,
+    status enum ('CLOSED','OPEN','RESOLVED') not null,
+    primary key (id)
+);
+
+create table tags (
+    amount_used integer not null,
+    category varchar(100),
+    description varchar(500),
+    color varchar(255),
+    id varchar(255) not null,
+    name varchar(255) not null unique,
+    primary key (id)
+);
+
+create table users (
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    email varchar(255) not null unique,
+    id varchar(255) not null,
+    name varchar(255) not null,
+    password_hash varchar(255),
+    profile_picture_url varchar(255),
+    role enum ('ADMIN','MEMBER') not null,
+    primary key (id)
+);
+
+create table workspace_members (
+    user_id varchar(255) not null,
+    workspace_id varchar(255) not null,
+    primary key (user_id, workspace_id)
+);
+
+create table workspaces (
+    is_private boolean,
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    description varchar(500),
+    id varchar(255) not null,
+    name varchar(255) not null unique,
+    owner_id varchar(255) not null,
+    primary key (id)
+);
+
+alter table if exists answers 
+   add constraint FKaih8gs2e2ii62666wr3b91ulf 
+   foreign key (author_id) 
+   references users;
+
+alter table if exists answers 
+   add constraint FK3erw1a3t0r78st8ty27x6v3g1 
+   foreign key (question_id) 
+   references questions;
+
+alter table if exists comments 
+   add constraint FKn2na60ukhs76ibtpt9burkm27 
+   foreign key (author_id) 
+   references users;
+
+alter table if exists note_tags 
+   add constraint FK8babdwu6uqiu4rdkeuy8dkna0 
+   foreign key (tag_id) 
+   references tags;
+
+alter table if exists note_tags 
+   add constraint FKb15yxop81senc5xs5tjrsy4k4 
+   foreign key (note_id) 
+   references notes;
+
+alter table if exists notes 
+   add constraint FKeequ6tj8iu98mxv7jr0nrb98n 
+   foreign key (author_id) 
+   references users;
+
+alter table if exists notes 
+   add constraint FKf5kwkuxo55mgr2vkluhrh7tth 
+   foreign key (project_id) 
+   references projects;
+
+alter table if exists projects 
+   add constraint FKpc7qv7bnsq7dm17g0tb0a60of 
+   foreign key (workspace_id) 
+   references workspaces;
+
+alter table if exists question_tags 
+   add constraint FK4s4qdqgvc98lx55s3hu9vqam7 
+   foreign key (tag_id) 
+   references tags;
+
+alter table if exists question_tags 
+   add constraint FKee6kn1hbh2ka2qj64bv30esbw 
+   foreign key (question_id) 
+   references questions;
+
+alter table if exists questions 
+   add constraint FKii8pqtr2qjv47ht06bg8vtl9n 
+   foreign key (author_id) 
+   references users;
+
+alter table if exists questions 
+   add constraint FKsawvciw2vf51vpswv49odfo6k 
+   foreign key (project_id) 
+   references projects;
+
+alter table if exists workspace_members 
+   add constraint FK6vtnpc3eexk504u61uepn40p1 
+   foreign key (user_id) 
+   references users;
+
+alter table if exists workspace_members 
+   add constraint FKw9hq87n3rvq2c4j47qo78i5r 
+   foreign key (workspace_id) 
+   references workspaces;
+
+alter table if exists workspaces 
+   add constraint FK58ks96jjlsbhsh21cen7hr59h 
+   foreign key (owner_id) 
+   references users;